@@ -0,0 +1,79 @@
+package benchmarks;
+
+import enums.Operation;
+import factory.ExpressionFactory;
+import models.ComplexAccumulator;
+import models.ComplexExpression;
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the allocation-free {@link ComplexAccumulator} evaluation path with a fold over immutable
+ * {@link ComplexNumber}s. Run with the GC profiler: {@code executeInto} should report zero bytes per operation in
+ * steady state, {@code execute} only the final result, and {@code immutableFold} one object per operand.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class AccumulatorBenchmark {
+
+    /** Number of arguments of the expression */
+    @Param({"16", "1000"})
+    public int operandCount;
+
+    /** Operation applied on the arguments */
+    @Param({"ADDITION", "SUBTRACTION", "MULTIPLICATION", "DIVISION"})
+    public Operation operation;
+
+    private final ComplexAccumulator accumulator = new ComplexAccumulator();
+    private ComplexNumber[] operands;
+    private ComplexExpression expression;
+
+    @Setup
+    public void setUp() {
+        operands = ExpressionGenerator.operands(operandCount);
+        expression = ExpressionFactory.getInstance().createExpression(operation, operands);
+    }
+
+    @Benchmark
+    public ComplexAccumulator executeInto() {
+        return expression.executeInto(accumulator);
+    }
+
+    @Benchmark
+    public ComplexNumber execute() {
+        return expression.execute();
+    }
+
+    @Benchmark
+    public ComplexNumber immutableFold() {
+        ComplexNumber result = operands[0];
+
+        for (int i = 1; i < operands.length; i++) {
+            result = switch (operation) {
+                case ADDITION -> result.add(operands[i]);
+                case SUBTRACTION -> result.subtract(operands[i]);
+                case MULTIPLICATION -> result.multiply(operands[i]);
+                case DIVISION -> result.divide(operands[i]);
+                case POWER -> result.power(operands[i]);
+            };
+        }
+
+        return result;
+    }
+}
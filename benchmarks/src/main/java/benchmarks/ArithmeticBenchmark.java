@@ -0,0 +1,116 @@
+package benchmarks;
+
+import kernels.ComplexKernels;
+import kernels.ScalarComplexKernels;
+import models.ComplexArray;
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link ComplexNumber} operators one pair at a time, and the same operations in bulk through the scalar
+ * and the preferred (vectorized when available) {@link ComplexKernels}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ArithmeticBenchmark {
+
+    /** Number of operand pairs */
+    @Param({"1024", "1048576"})
+    public int size;
+
+    private final ComplexKernels scalar = new ScalarComplexKernels();
+    private final ComplexKernels preferred = ComplexKernels.preferred();
+
+    private ComplexNumber[] left;
+    private ComplexNumber[] right;
+    private ComplexArray leftArray;
+    private ComplexArray rightArray;
+    private ComplexArray out;
+
+    @Setup
+    public void setUp() {
+        left = ExpressionGenerator.operands(size);
+        right = ExpressionGenerator.operands(size + 1);
+        System.arraycopy(right, 1, right, 0, size);
+
+        leftArray = ComplexArray.fromComplexNumbers(left);
+        rightArray = ComplexArray.fromComplexNumbers(right);
+        out = new ComplexArray(size);
+    }
+
+    @Benchmark
+    public void objectAdd(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(left[i].add(right[i]));
+        }
+    }
+
+    @Benchmark
+    public void objectMultiply(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(left[i].multiply(right[i]));
+        }
+    }
+
+    @Benchmark
+    public void objectDivide(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            blackhole.consume(left[i].divide(right[i]));
+        }
+    }
+
+    @Benchmark
+    public ComplexArray scalarMultiply() {
+        scalar.multiply(leftArray.realParts(), leftArray.imaginaryParts(), rightArray.realParts(),
+                rightArray.imaginaryParts(), out.realParts(), out.imaginaryParts());
+        return out;
+    }
+
+    @Benchmark
+    public ComplexArray preferredMultiply() {
+        preferred.multiply(leftArray.realParts(), leftArray.imaginaryParts(), rightArray.realParts(),
+                rightArray.imaginaryParts(), out.realParts(), out.imaginaryParts());
+        return out;
+    }
+
+    @Benchmark
+    public ComplexArray scalarDivide() {
+        scalar.divide(leftArray.realParts(), leftArray.imaginaryParts(), rightArray.realParts(),
+                rightArray.imaginaryParts(), out.realParts(), out.imaginaryParts());
+        return out;
+    }
+
+    @Benchmark
+    public ComplexArray preferredDivide() {
+        preferred.divide(leftArray.realParts(), leftArray.imaginaryParts(), rightArray.realParts(),
+                rightArray.imaginaryParts(), out.realParts(), out.imaginaryParts());
+        return out;
+    }
+
+    @Benchmark
+    public ComplexNumber scalarProduct() {
+        return scalar.product(leftArray.realParts(), leftArray.imaginaryParts(), size);
+    }
+
+    @Benchmark
+    public ComplexNumber preferredProduct() {
+        return preferred.product(leftArray.realParts(), leftArray.imaginaryParts(), size);
+    }
+}
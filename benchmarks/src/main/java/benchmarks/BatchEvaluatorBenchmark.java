@@ -0,0 +1,69 @@
+package benchmarks;
+
+import batch.BatchEvaluator;
+import batch.BatchResult;
+import models.ExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the throughput of {@link BatchEvaluator} scales with the number of workers. Each operation evaluates
+ * the whole batch, so the score multiplied by the batch size gives expressions per second; with independent
+ * expressions it should grow close to linearly up to the number of physical cores.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class BatchEvaluatorBenchmark {
+
+    /** Number of expressions in the batch */
+    @Param({"10000"})
+    public int batchSize;
+
+    /** Number of worker threads of the pool */
+    @Param({"1", "2", "4", "8"})
+    public int parallelism;
+
+    private final List<String> expressions = new ArrayList<>();
+    private ForkJoinPool pool;
+    private BatchEvaluator evaluator;
+
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < batchSize; i++) {
+            // Vary the length so that the chunks differ in cost, as in real batches
+            expressions.add(ExpressionGenerator.textExpression(2 + i % 16, "MIXED"));
+        }
+
+        pool = new ForkJoinPool(parallelism);
+        evaluator = new BatchEvaluator(new ExpressionParser(), pool, BatchEvaluator.DEFAULT_CHUNK_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public BatchResult evaluateAll() {
+        return evaluator.evaluateAll(expressions);
+    }
+}
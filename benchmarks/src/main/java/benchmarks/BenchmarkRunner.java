@@ -0,0 +1,47 @@
+package benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmark suite.
+ * <p>
+ * Runs the selected benchmarks in throughput mode with the GC profiler, so every result also reports the allocation
+ * rate ({@code gc.alloc.rate.norm}, in bytes per operation), and writes the results as JSON to
+ * {@code jmh-result.json} so they can be diffed between releases. Any standard JMH command line option (benchmark
+ * filter, {@code -p}, {@code -f}, {@code -rff}, ...) overrides these defaults.
+ */
+public class BenchmarkRunner {
+
+    /** Default file receiving the JSON results */
+    private static final String RESULT_FILE = "jmh-result.json";
+
+    /**
+     * Runs the benchmark suite.
+     *
+     * @param args standard JMH command line options
+     * @throws CommandLineOptionException if the options are invalid
+     * @throws RunnerException if a benchmark fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .parent(commandLine);
+
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (commandLine.getResultFormat().hasValue() || commandLine.getResult().hasValue()) {
+            new Runner(options.build()).run();
+            return;
+        }
+
+        new Runner(options.resultFormat(ResultFormatType.JSON).result(RESULT_FILE).build()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package benchmarks;
+
+import cache.EvaluationCache;
+import models.ComplexNumber;
+import models.ExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing and evaluating a repeating set of expressions with and without an {@link EvaluationCache}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    /** Number of distinct expressions in the repeating workload */
+    @Param({"16", "4096"})
+    public int distinctExpressions;
+
+    /** Number of operands per expression */
+    @Param({"11", "1001"})
+    public int operandCount;
+
+    private final ExpressionParser uncached = new ExpressionParser();
+    private final ExpressionParser cached = new ExpressionParser(new EvaluationCache(1024));
+    private String[] expressions;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        expressions = new String[distinctExpressions];
+
+        for (int i = 0; i < distinctExpressions; i++) {
+            expressions[i] = ExpressionGenerator.textExpression(operandCount, "MIXED") + " + " + i;
+        }
+    }
+
+    @Benchmark
+    public ComplexNumber uncached() {
+        return uncached.parse(nextExpression());
+    }
+
+    @Benchmark
+    public ComplexNumber cached() {
+        return cached.parse(nextExpression());
+    }
+
+    /**
+     * Returns the next expression of the repeating workload.
+     *
+     * @return the expression text
+     */
+    private String nextExpression() {
+        next = next + 1 == expressions.length ? 0 : next + 1;
+        return expressions[next];
+    }
+}
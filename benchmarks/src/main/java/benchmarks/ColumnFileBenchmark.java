@@ -0,0 +1,119 @@
+package benchmarks;
+
+import enums.Operation;
+import io.ColumnEvaluator;
+import io.ComplexColumnReader;
+import io.ComplexColumnWriter;
+import models.ComplexAccumulator;
+import models.ComplexArray;
+import models.ComplexNumber;
+import models.ExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing and summing a dataset through a binary column file with the round trip through the textual
+ * {@link ComplexNumber#toString()} form, one complex number per line, parsed back by the {@link ExpressionParser}.
+ * The files live in the temporary directory and stay in the page cache, so the reads measure decoding, not the disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ColumnFileBenchmark {
+
+    /** Number of complex numbers in the dataset */
+    @Param({"1000000"})
+    public int length;
+
+    private ComplexArray numbers;
+    private ExpressionParser parser;
+    private Path binary;
+    private Path text;
+    private Path output;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+
+        numbers = new ComplexArray(length);
+        for (int i = 0; i < length; i++) {
+            numbers.set(i, random.nextInt(2001) - 1000, random.nextInt(2001) - 1000);
+        }
+
+        parser = new ExpressionParser();
+        binary = Files.createTempFile("complex", ".bin");
+        text = Files.createTempFile("complex", ".txt");
+        output = Files.createTempFile("complex", ".out");
+
+        ComplexColumnWriter.write(binary, numbers);
+        writeText(text);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(binary);
+        Files.deleteIfExists(text);
+        Files.deleteIfExists(output);
+    }
+
+    @Benchmark
+    public void writeBinary() throws IOException {
+        ComplexColumnWriter.write(output, numbers);
+    }
+
+    @Benchmark
+    public void writeText() throws IOException {
+        writeText(output);
+    }
+
+    @Benchmark
+    public ComplexNumber sumBinary() throws IOException {
+        try (ComplexColumnReader reader = new ComplexColumnReader(binary)) {
+            return ColumnEvaluator.reduce(reader, Operation.ADDITION);
+        }
+    }
+
+    @Benchmark
+    public ComplexNumber sumText() throws IOException {
+        ComplexAccumulator sum = new ComplexAccumulator();
+
+        try (BufferedReader reader = Files.newBufferedReader(text, StandardCharsets.US_ASCII)) {
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                sum.addInPlace(parser.parse(line));
+            }
+        }
+
+        return sum.toComplexNumber();
+    }
+
+    private void writeText(Path path) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.US_ASCII)) {
+            for (int i = 0; i < length; i++) {
+                writer.write(numbers.get(i).toString());
+                writer.newLine();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package benchmarks;
+
+import enums.NumericMode;
+import enums.Operation;
+import factory.ExpressionFactory;
+import models.ComplexExpression;
+import numeric.ComplexArithmetic;
+import numeric.RationalArithmetic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of exact division on chains of quotients. The truncating {@code int} and tiered arithmetics
+ * quickly reach zero on such chains, while the rational arithmetic keeps the exact quotient, whose denominator grows
+ * with every step; the normalization interval decides how often its parts are reduced, and only applies to the
+ * rational mode.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class DivisionChainBenchmark {
+
+    /** Number of operands of the chain */
+    @Param({"16", "1000"})
+    public int operandCount;
+
+    /** Numeric mode of the evaluation */
+    @Param({"INTEGER", "TIERED", "RATIONAL"})
+    public NumericMode mode;
+
+    /** Number of operations between two reductions of a rational result */
+    @Param({"1", "8"})
+    public int normalizationInterval;
+
+    private ComplexArithmetic<?> arithmetic;
+    private ComplexExpression expression;
+
+    @Setup
+    public void setUp() {
+        arithmetic = mode == NumericMode.RATIONAL ? RationalArithmetic.withNormalizationInterval(normalizationInterval)
+                : ComplexArithmetic.forMode(mode);
+        expression = ExpressionFactory.getInstance().createExpression(Operation.DIVISION,
+                ExpressionGenerator.operands(operandCount));
+    }
+
+    @Benchmark
+    public Object execute() {
+        return expression.execute(arithmetic);
+    }
+}
@@ -0,0 +1,58 @@
+package benchmarks;
+
+import enums.Operation;
+import factory.ExpressionFactory;
+import models.ComplexExpression;
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ComplexExpression#execute()} and {@link ComplexExpression#executeParallel()} over short and very
+ * long argument lists.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ExecuteBenchmark {
+
+    /** Number of arguments of the expression */
+    @Param({"3", "1000", "1000000"})
+    public int operandCount;
+
+    /** Operation applied on the arguments */
+    @Param({"ADDITION", "SUBTRACTION", "MULTIPLICATION", "DIVISION"})
+    public Operation operation;
+
+    private ComplexExpression expression;
+
+    @Setup
+    public void setUp() {
+        ComplexNumber[] operands = ExpressionGenerator.operands(operandCount);
+        expression = ExpressionFactory.getInstance().createExpression(operation, operands);
+    }
+
+    @Benchmark
+    public ComplexNumber execute() {
+        return expression.execute();
+    }
+
+    @Benchmark
+    public ComplexNumber executeParallel() {
+        return expression.executeParallel();
+    }
+}
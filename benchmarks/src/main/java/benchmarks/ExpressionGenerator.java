@@ -0,0 +1,103 @@
+package benchmarks;
+
+import models.ComplexNumber;
+
+import java.util.Random;
+
+/**
+ * Generates reproducible random expressions and operands for the benchmarks.
+ * <p>
+ * Operands are small non-zero complex numbers, so division never fails and the results stay meaningful for the
+ * supported operation mixes.
+ */
+final class ExpressionGenerator {
+
+    /** Seed shared by all benchmarks so runs are comparable */
+    private static final long SEED = 42;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ExpressionGenerator() {}
+
+    /**
+     * Generates an expression in the CLI form, one operand or operator per argument.
+     *
+     * @param operandCount the number of operands
+     * @param mix the operation mix: {@code ADDITION}, {@code MULTIPLICATION} or {@code MIXED}
+     * @return the expression arguments
+     */
+    static String[] cliExpression(int operandCount, String mix) {
+        Random random = new Random(SEED);
+        String[] args = new String[2 * operandCount - 1];
+
+        for (int i = 0; i < operandCount; i++) {
+            args[2 * i] = operand(random).toString();
+
+            if (i > 0) {
+                args[2 * i - 1] = operator(random, mix);
+            }
+        }
+
+        return args;
+    }
+
+    /**
+     * Generates an expression as a single line of text.
+     *
+     * @param operandCount the number of operands
+     * @param mix the operation mix: {@code ADDITION}, {@code MULTIPLICATION} or {@code MIXED}
+     * @return the expression text
+     */
+    static String textExpression(int operandCount, String mix) {
+        return String.join(" ", cliExpression(operandCount, mix));
+    }
+
+    /**
+     * Generates an array of operands.
+     *
+     * @param count the number of operands
+     * @return the operands
+     */
+    static ComplexNumber[] operands(int count) {
+        Random random = new Random(SEED);
+        ComplexNumber[] operands = new ComplexNumber[count];
+
+        for (int i = 0; i < count; i++) {
+            operands[i] = operand(random);
+        }
+
+        return operands;
+    }
+
+    /**
+     * Generates a random non-zero operand with small parts.
+     *
+     * @param random the source of randomness
+     * @return the operand
+     */
+    private static ComplexNumber operand(Random random) {
+        return new ComplexNumber(random.nextInt(9) + 1, random.nextInt(19) - 9);
+    }
+
+    /**
+     * Picks an operator according to the operation mix.
+     *
+     * @param random the source of randomness
+     * @param mix the operation mix
+     * @return the operator symbol
+     */
+    private static String operator(Random random, String mix) {
+        return switch (mix) {
+            case "ADDITION" -> "+";
+            case "MULTIPLICATION" -> "*";
+            case "MIXED" -> switch (random.nextInt(4)) {
+                case 0 -> "+";
+                case 1 -> "-";
+                case 2 -> "*";
+                default -> "/";
+            };
+            default -> throw new IllegalArgumentException("Unknown operation mix: " + mix);
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package benchmarks;
+
+import enums.Operation;
+import factory.ExpressionFactory;
+import models.ComplexExpression;
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the dispatch cost of {@link ExpressionFactory#createExpression(Operation, ComplexNumber[])}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class FactoryBenchmark {
+
+    /** Operation dispatched by the factory */
+    @Param({"ADDITION", "SUBTRACTION", "MULTIPLICATION", "DIVISION"})
+    public Operation operation;
+
+    private ComplexNumber[] operands;
+
+    @Setup
+    public void setUp() {
+        operands = ExpressionGenerator.operands(2);
+    }
+
+    @Benchmark
+    public ComplexExpression createExpression() {
+        return ExpressionFactory.getInstance().createExpression(operation, operands);
+    }
+}
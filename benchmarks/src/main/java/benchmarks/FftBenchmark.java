@@ -0,0 +1,99 @@
+package benchmarks;
+
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import transform.Convolution;
+import transform.FastFourierTransform;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the Fourier transform engine with the {@code O(n^2)} loops of {@link ComplexNumber#multiply} and
+ * {@link ComplexNumber#add} it replaces. Lengths of 1000 go through Bluestein's algorithm, the others through the
+ * radix-2 transform; the parallel variant only splits lengths above {@link FastFourierTransform#BLOCK_SIZE}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class FftBenchmark {
+
+    /** Length of the transformed and convolved sequences */
+    @Param({"1000", "1024", "16384"})
+    public int length;
+
+    private double[] sourceRe;
+    private double[] sourceIm;
+    private double[] re;
+    private double[] im;
+    private ComplexNumber[] a;
+    private ComplexNumber[] b;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        sourceRe = random.doubles(length, -1, 1).toArray();
+        sourceIm = random.doubles(length, -1, 1).toArray();
+        re = new double[length];
+        im = new double[length];
+
+        a = new ComplexNumber[length];
+        b = new ComplexNumber[length];
+        for (int i = 0; i < length; i++) {
+            a[i] = new ComplexNumber(random.nextInt(2001) - 1000, random.nextInt(2001) - 1000);
+            b[i] = new ComplexNumber(random.nextInt(2001) - 1000, random.nextInt(2001) - 1000);
+        }
+    }
+
+    @Benchmark
+    public double[] transform() {
+        System.arraycopy(sourceRe, 0, re, 0, length);
+        System.arraycopy(sourceIm, 0, im, 0, length);
+        FastFourierTransform.transform(re, im);
+
+        return re;
+    }
+
+    @Benchmark
+    public double[] transformParallel() {
+        System.arraycopy(sourceRe, 0, re, 0, length);
+        System.arraycopy(sourceIm, 0, im, 0, length);
+        FastFourierTransform.transformParallel(re, im);
+
+        return re;
+    }
+
+    @Benchmark
+    public ComplexNumber[] convolve() {
+        return Convolution.convolve(a, b);
+    }
+
+    @Benchmark
+    public ComplexNumber[] convolveNaive() {
+        ComplexNumber[] result = new ComplexNumber[2 * length - 1];
+        Arrays.fill(result, new ComplexNumber(0, 0));
+
+        for (int i = 0; i < length; i++) {
+            for (int j = 0; j < length; j++) {
+                result[i + j] = result[i + j].add(a[i].multiply(b[j]));
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import enums.FractalPrecision;
+import fractal.FractalImage;
+import fractal.FractalRenderer;
+import fractal.FractalView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the {@link FractalRenderer} on the whole Mandelbrot set, where about a third of the pixels are inside the
+ * set and run the maximum number of iterations unless the interior checks detect them. Each operation renders the
+ * whole view, so the score times the number of pixels, divided by 10^6 and by the parallelism, gives megapixels per
+ * second per core.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class FractalBenchmark {
+
+    /** Width of the view, in pixels; the height is two thirds of it */
+    @Param({"960"})
+    public int width;
+
+    /** Escape time of the points inside the set */
+    @Param({"1000"})
+    public int maxIterations;
+
+    /** Number format of the iteration */
+    @Param({"DOUBLE", "FIXED_POINT"})
+    public FractalPrecision precision;
+
+    /** Whether the cardioid, bulb and periodicity checks are enabled */
+    @Param({"true", "false"})
+    public boolean interiorChecks;
+
+    private FractalView view;
+    private ForkJoinPool pool;
+    private FractalRenderer renderer;
+
+    @Setup
+    public void setUp() {
+        view = FractalView.mandelbrot(width, width * 2 / 3);
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        renderer = new FractalRenderer(maxIterations, precision, interiorChecks, pool);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public FractalImage renderMandelbrot() {
+        return renderer.renderMandelbrot(view);
+    }
+}
@@ -0,0 +1,78 @@
+package benchmarks;
+
+import enums.Operation;
+import factory.ExpressionFactory;
+import models.ComplexExpression;
+import models.ComplexNumber;
+import models.IncrementalExpression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares replacing one operand of a long expression and reading the result through an
+ * {@link IncrementalExpression} with re-executing the whole {@link ComplexExpression}. Operands are replaced at random
+ * positions, so a division resumes its fold from the middle of the operands on average.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class IncrementalBenchmark {
+
+    /** Number of operands of the expression */
+    @Param({"1000", "100000"})
+    public int operands;
+
+    /** Operation of the expression */
+    @Param({"ADDITION", "DIVISION"})
+    public Operation operation;
+
+    private ComplexNumber[] args;
+    private ComplexExpression expression;
+    private IncrementalExpression incremental;
+    private Random random;
+
+    @Setup
+    public void setUp() {
+        random = new Random(42);
+
+        // Non-zero operands, so that no division fails
+        args = new ComplexNumber[operands];
+        for (int i = 0; i < operands; i++) {
+            args[i] = nextOperand();
+        }
+
+        expression = ExpressionFactory.getInstance().createExpression(operation, args);
+        incremental = new IncrementalExpression(operation, args);
+    }
+
+    @Benchmark
+    public ComplexNumber updateIncremental() {
+        incremental.set(random.nextInt(operands), nextOperand());
+        return incremental.result();
+    }
+
+    @Benchmark
+    public ComplexNumber updateExecute() {
+        args[random.nextInt(operands)] = nextOperand();
+        return expression.execute();
+    }
+
+    private ComplexNumber nextOperand() {
+        return new ComplexNumber(random.nextInt(1000) + 1, random.nextInt(1000));
+    }
+}
@@ -0,0 +1,114 @@
+package benchmarks;
+
+import enums.MatrixProduct;
+import models.ComplexMatrix;
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the tiled, parallel {@link ComplexMatrix} product with the naive triple loop of
+ * {@link ComplexNumber#multiply} and {@link ComplexNumber#add}, which allocates two objects per step. The naive loop
+ * stops at 1024, as larger sizes take minutes per operation; the score multiplied by {@code size^3} gives complex
+ * multiply-adds per second.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class MatrixBenchmark {
+
+    /**
+     * Square matrices for the tiled products.
+     */
+    @State(Scope.Benchmark)
+    public static class Matrices {
+
+        /** Number of rows and columns of the matrices */
+        @Param({"64", "256", "1024", "4096"})
+        public int size;
+
+        /** Algorithm of the complex products */
+        @Param({"STANDARD", "GAUSS"})
+        public MatrixProduct product;
+
+        private ComplexMatrix left;
+        private ComplexMatrix right;
+
+        @Setup
+        public void setUp() {
+            left = randomMatrix(size, 1);
+            right = randomMatrix(size, 2);
+        }
+    }
+
+    /**
+     * Square matrices of complex number objects for the naive product.
+     */
+    @State(Scope.Benchmark)
+    public static class NaiveMatrices {
+
+        /** Number of rows and columns of the matrices */
+        @Param({"64", "256", "1024"})
+        public int size;
+
+        private ComplexNumber[][] left;
+        private ComplexNumber[][] right;
+
+        @Setup
+        public void setUp() {
+            left = randomMatrix(size, 1).toComplexNumbers();
+            right = randomMatrix(size, 2).toComplexNumbers();
+        }
+    }
+
+    @Benchmark
+    public ComplexMatrix multiply(Matrices matrices) {
+        return matrices.left.multiply(matrices.right, matrices.product);
+    }
+
+    @Benchmark
+    public ComplexNumber[][] multiplyNaive(NaiveMatrices matrices) {
+        int size = matrices.size;
+        ComplexNumber[][] result = new ComplexNumber[size][size];
+
+        for (int i = 0; i < size; i++) {
+            for (int j = 0; j < size; j++) {
+                ComplexNumber sum = new ComplexNumber(0, 0);
+
+                for (int k = 0; k < size; k++) {
+                    sum = sum.add(matrices.left[i][k].multiply(matrices.right[k][j]));
+                }
+                result[i][j] = sum;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a square matrix of random elements.
+     *
+     * @param size the number of rows and columns
+     * @param seed the seed of the random elements
+     * @return the matrix
+     */
+    private static ComplexMatrix randomMatrix(int size, long seed) {
+        Random random = new Random(seed);
+
+        return new ComplexMatrix(size, size, random.ints(size * size).toArray(), random.ints(size * size).toArray());
+    }
+}
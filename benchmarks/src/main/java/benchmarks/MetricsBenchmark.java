@@ -0,0 +1,68 @@
+package benchmarks;
+
+import metrics.EvaluationMetrics;
+import models.ComplexNumber;
+import models.ExpressionParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the {@link EvaluationMetrics} instrumentation on parsing and evaluating expressions, with
+ * recording disabled and enabled. Short expressions show the fixed per-call cost (clock reads, histogram records);
+ * the multi-threaded variant shows whether recording contends between threads.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    /** Number of operands of the expression */
+    @Param({"4", "64"})
+    public int operandCount;
+
+    /** Whether the metrics are recorded */
+    @Param({"false", "true"})
+    public boolean enabled;
+
+    private final ExpressionParser parser = new ExpressionParser();
+    private String expression;
+
+    @Setup
+    public void setUp() {
+        expression = ExpressionGenerator.textExpression(operandCount, "MIXED");
+        EvaluationMetrics.getInstance().setEnabled(enabled);
+    }
+
+    @TearDown
+    public void tearDown() {
+        EvaluationMetrics.getInstance().setEnabled(false);
+        EvaluationMetrics.getInstance().reset();
+    }
+
+    @Benchmark
+    public ComplexNumber parseAndEvaluate() {
+        return parser.parse(expression);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public ComplexNumber parseAndEvaluateContended() {
+        return parser.parse(expression);
+    }
+}
@@ -0,0 +1,73 @@
+package benchmarks;
+
+import compiler.CompiledExpression;
+import compiler.ExpressionCompiler;
+import compiler.ExpressionOptimizer;
+import compiler.OptimizedExpression;
+import models.ComplexNumber;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares evaluating a compiled expression with evaluating it after an {@link ExpressionOptimizer} pass, and
+ * measures the cost of the pass itself. The expressions repeat factors, multiply by one and add constants, as
+ * generated expressions often do.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class OptimizerBenchmark {
+
+    /** Expression to evaluate */
+    @Param({
+            "z*z*z*z*z*z*z*z*z*z*z*z*z*z*z*z",
+            "(z*1+0)*(w*1+0) + 2*3*z - 4 - 5 + 0*w*z",
+            "z*z*z*w*w + z*z*w*w*w + 1*z*z*z*z*w/1"
+    })
+    public String expression;
+
+    private ExpressionOptimizer optimizer;
+    private CompiledExpression original;
+    private CompiledExpression optimized;
+    private Map<String, ComplexNumber> bindings;
+
+    @Setup
+    public void setUp() {
+        ExpressionCompiler compiler = new ExpressionCompiler();
+        optimizer = new ExpressionOptimizer();
+
+        original = compiler.compile(expression);
+        optimized = compiler.compile(optimizer.optimize(expression).getRoot());
+        bindings = Map.of("z", new ComplexNumber(3, -2), "w", new ComplexNumber(-5, 7));
+    }
+
+    @Benchmark
+    public ComplexNumber evaluateOriginal() {
+        return original.evaluate(bindings);
+    }
+
+    @Benchmark
+    public ComplexNumber evaluateOptimized() {
+        return optimized.evaluate(bindings);
+    }
+
+    @Benchmark
+    public OptimizedExpression optimize() {
+        return optimizer.optimize(expression);
+    }
+}
@@ -0,0 +1,62 @@
+package benchmarks;
+
+import models.ExpressionParser;
+import nodes.ExpressionNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link ExpressionParser} on CLI-sized and very long expressions, with and without evaluation.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class ParserBenchmark {
+
+    /** Number of operands in the expression: CLI-sized up to very long chains */
+    @Param({"3", "101", "10001"})
+    public int operandCount;
+
+    /** Operators used between the operands */
+    @Param({"ADDITION", "MULTIPLICATION", "MIXED"})
+    public String mix;
+
+    private final ExpressionParser parser = new ExpressionParser();
+    private String[] cliExpression;
+    private String textExpression;
+
+    @Setup
+    public void setUp() {
+        cliExpression = ExpressionGenerator.cliExpression(operandCount, mix);
+        textExpression = ExpressionGenerator.textExpression(operandCount, mix);
+    }
+
+    @Benchmark
+    public ExpressionNode parseCli() {
+        return parser.parseExpression(cliExpression);
+    }
+
+    @Benchmark
+    public ExpressionNode parseText() {
+        return parser.parseExpression(textExpression);
+    }
+
+    @Benchmark
+    public Object parseAndEvaluateCli() {
+        return parser.parse(cliExpression);
+    }
+}
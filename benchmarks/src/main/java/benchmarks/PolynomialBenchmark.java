@@ -0,0 +1,106 @@
+package benchmarks;
+
+import models.AdditionExpression;
+import models.ComplexArray;
+import models.ComplexNumber;
+import models.ComplexPolynomial;
+import models.MultiplicationExpression;
+import models.PolynomialRoots;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the evaluation of a {@link ComplexPolynomial} at a million points with the per-term chaining of
+ * {@link MultiplicationExpression} and {@link AdditionExpression} it replaces, and measures the root search. With
+ * {@code -prof gc}, the array evaluations should report no allocation beyond the JMH overhead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class PolynomialBenchmark {
+
+    /** Number of points of the evaluations */
+    private static final int POINT_COUNT = 1_000_000;
+
+    /** Degree of the polynomial */
+    @Param({"4", "16", "64"})
+    public int degree;
+
+    private ComplexPolynomial polynomial;
+    private ComplexNumber[] coefficients;
+    private ComplexArray points;
+    private ComplexArray values;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        int[] re = random.ints(degree + 1, -100, 101).toArray();
+        int[] im = random.ints(degree + 1, -100, 101).toArray();
+
+        // A non-zero leading coefficient keeps the degree as requested
+        re[degree] = 1;
+
+        polynomial = new ComplexPolynomial(re, im);
+        coefficients = new ComplexNumber[degree + 1];
+        for (int k = 0; k <= degree; k++) {
+            coefficients[k] = new ComplexNumber(re[k], im[k]);
+        }
+
+        points = new ComplexArray(random.ints(POINT_COUNT).toArray(), random.ints(POINT_COUNT).toArray());
+        values = new ComplexArray(POINT_COUNT);
+    }
+
+    @Benchmark
+    public ComplexArray evaluate() {
+        polynomial.evaluate(points, values);
+
+        return values;
+    }
+
+    @Benchmark
+    public ComplexArray evaluateParallel() {
+        polynomial.evaluateParallel(points, values);
+
+        return values;
+    }
+
+    @Benchmark
+    public ComplexArray evaluateChained() {
+        for (int i = 0; i < POINT_COUNT; i++) {
+            ComplexNumber z = points.get(i);
+            ComplexNumber sum = coefficients[0];
+            ComplexNumber power = z;
+
+            for (int k = 1; k <= degree; k++) {
+                ComplexNumber term = new MultiplicationExpression(new ComplexNumber[]{coefficients[k], power}).execute();
+
+                sum = new AdditionExpression(new ComplexNumber[]{sum, term}).execute();
+                power = power.multiply(z);
+            }
+
+            values.set(i, sum);
+        }
+
+        return values;
+    }
+
+    @Benchmark
+    public PolynomialRoots roots() {
+        return polynomial.roots();
+    }
+}
@@ -0,0 +1,70 @@
+package benchmarks;
+
+import enums.NumericMode;
+import enums.Operation;
+import factory.ExpressionFactory;
+import models.ComplexExpression;
+import models.ExpressionParser;
+import nodes.ExpressionNode;
+import numeric.ComplexArithmetic;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the wrapping {@code int} arithmetic with the exact tiered arithmetic. Sums and quotients of the small
+ * generated operands stay on the {@code int} tier, which measures the cost of the overflow checks on the common path;
+ * long products outgrow it, which measures the cost of the promotion to {@code long} and arbitrary precision.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class TieredBenchmark {
+
+    /** Number of operands of the expression */
+    @Param({"16", "1000"})
+    public int operandCount;
+
+    /** Operation applied on the operands */
+    @Param({"ADDITION", "MULTIPLICATION", "DIVISION"})
+    public Operation operation;
+
+    /** Numeric mode of the evaluation */
+    @Param({"INTEGER", "TIERED"})
+    public NumericMode mode;
+
+    private ComplexArithmetic<?> arithmetic;
+    private ComplexExpression expression;
+    private ExpressionNode tree;
+
+    @Setup
+    public void setUp() {
+        arithmetic = ComplexArithmetic.forMode(mode);
+        expression = ExpressionFactory.getInstance().createExpression(operation,
+                ExpressionGenerator.operands(operandCount));
+        tree = new ExpressionParser().parseExpression(ExpressionGenerator.textExpression(operandCount, "MIXED"));
+    }
+
+    @Benchmark
+    public Object execute() {
+        return expression.execute(arithmetic);
+    }
+
+    @Benchmark
+    public Object evaluateTree() {
+        return tree.evaluate(arithmetic);
+    }
+}
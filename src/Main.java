@@ -1,14 +1,87 @@
-import models.ComplexNumber;
+import batch.BatchRunner;
+import batch.BatchSummary;
+import enums.FractalPrecision;
+import enums.NumericMode;
+import fractal.FractalImage;
+import fractal.FractalRenderer;
+import fractal.FractalSummary;
+import fractal.FractalView;
+import metrics.EvaluationMetrics;
+import metrics.MetricsReporter;
+import models.DoubleComplexNumber;
 import models.ExpressionParser;
+import numeric.ComplexArithmetic;
 import org.jetbrains.annotations.NotNull;
+import server.EvaluationClient;
+import server.EvaluationServer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.SocketAddress;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Main class to execute the complex number calculator. This class serves as the entry point for the application.
  */
 public class Main {
 
+    /** Option selecting the batch mode */
+    private static final String BATCH_OPTION = "--batch";
+
+    /** Option selecting the numeric mode */
+    private static final String MODE_OPTION = "--mode";
+
+    /** Option selecting the server mode */
+    private static final String SERVER_OPTION = "--server";
+
+    /** Option evaluating locally even when a server is running */
+    private static final String LOCAL_OPTION = "--local";
+
+    /** Option selecting the fractal renderer */
+    private static final String FRACTAL_OPTION = "--fractal";
+
+    /** System property overriding the address of the server the calculator forwards to */
+    private static final String SERVER_PROPERTY = "complex.server";
+
+    /** Maximum time waited for a server to accept the connection and give its first reply before evaluating locally */
+    private static final long PROBE_TIMEOUT_MILLIS = 100;
+
+    /** Maximum time waited for the server at each step of a forwarded evaluation before evaluating locally */
+    private static final long FORWARD_TIMEOUT_MILLIS = 10_000;
+
+    /** Size of the output buffer used in batch mode, in characters */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
     /**
      * The main method that runs the complex number calculator.
+     * <p>
+     * With {@code --batch [file]} the calculator evaluates one expression per line of the given file (or of the
+     * standard input when no file or {@code -} is given) instead of a single expression from the arguments. Both,
+     * and the server, can be preceded by {@code --mode <integer|tiered|rational>}, where {@code tiered} evaluates
+     * exactly, promoting values to {@code long} and arbitrary precision instead of letting {@code int} arithmetic wrap
+     * around, and {@code rational} also divides exactly, giving fractional parts instead of truncating them.
+     * <p>
+     * Options precede the command or the expression, in any order. Combinations where an option would be ignored,
+     * such as {@code --mode} with {@code --fractal} or {@code --local} with any command, are rejected.
+     * <p>
+     * With {@code --server [address]} the calculator runs as a long-lived evaluation server. A single expression is
+     * forwarded to the server at {@code -Dcomplex.server} (by default {@value EvaluationServer#DEFAULT_ADDRESS}) when
+     * one is running, which avoids the JVM startup and warm-up cost, and evaluated locally otherwise or with
+     * {@code --local}.
+     * <p>
+     * With {@code --fractal <output|-> [width] [height] [iterations] [double|fixed_point] [re im]} the calculator
+     * renders the Mandelbrot set, or the Julia set of {@code re + im * i}, to a PGM file (or PPM if the output ends
+     * with {@code .ppm}, nothing for {@code -}) and reports the rendering throughput in megapixels per second per core.
+     * <p>
+     * With {@code -Dcomplex.metrics=true} the calculator records hot-path metrics, exposes them over JMX and, with
+     * {@code -Dcomplex.metrics.dumpInterval=<seconds>}, dumps them periodically to the standard error.
      *
      * @param args command line arguments that represent the complex number expression
      */
@@ -19,16 +92,247 @@ public class Main {
             return;
         }
 
-        // Create an instance of models.ExpressionParser to handle the parsing and evaluation
-        ExpressionParser parser = new ExpressionParser();
+        try {
+            MetricsReporter.configureFromSystemProperties();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+            return;
+        }
+
+        // The options come first, in any order, followed by a command or the expression
+        NumericMode mode = null;
+        boolean local = false;
+        int start = 0;
+
+        while (start < args.length && (args[start].equals(MODE_OPTION) || args[start].equals(LOCAL_OPTION))) {
+            if (args[start].equals(LOCAL_OPTION)) {
+                if (local) {
+                    System.err.println("[ERROR] Duplicate option: " + LOCAL_OPTION);
+                    return;
+                }
+
+                local = true;
+                start++;
+                continue;
+            }
+
+            if (mode != null) {
+                System.err.println("[ERROR] Duplicate option: " + MODE_OPTION);
+                return;
+            }
+
+            if (start + 1 == args.length) {
+                System.err.println("[ERROR] No numeric mode provided");
+                return;
+            }
+
+            try {
+                mode = NumericMode.valueOf(args[start + 1].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                System.err.println("[ERROR] Unknown numeric mode: " + args[start + 1]);
+                return;
+            }
+
+            start += 2;
+        }
+
+        if (start == args.length) {
+            System.err.println("[ERROR] No input provided");
+            return;
+        }
+
+        String command = args[start];
+        boolean isCommand = command.equals(BATCH_OPTION) || command.equals(SERVER_OPTION)
+                || command.equals(FRACTAL_OPTION);
+
+        // Reject the options that the command would otherwise silently ignore
+        if (isCommand && local) {
+            System.err.println("[ERROR] " + LOCAL_OPTION + " cannot be combined with " + command);
+            return;
+        }
+
+        if (command.equals(FRACTAL_OPTION) && mode != null) {
+            System.err.println("[ERROR] " + MODE_OPTION + " cannot be combined with " + command);
+            return;
+        }
+
+        mode = mode == null ? NumericMode.INTEGER : mode;
+        args = Arrays.copyOfRange(args, isCommand ? start + 1 : start, args.length);
+
+        if (command.equals(BATCH_OPTION)) {
+            runBatch(args.length > 0 ? args[0] : null, mode);
+            return;
+        }
+
+        if (command.equals(FRACTAL_OPTION)) {
+            runFractal(args);
+            return;
+        }
+
+        if (command.equals(SERVER_OPTION)) {
+            runServer(args.length > 0 ? args[0] : EvaluationServer.DEFAULT_ADDRESS, mode);
+            return;
+        }
 
         try {
-            // Parse the expression and calculate the result
-            ComplexNumber result = parser.parse(args);
+            // Let a running server evaluate the expression, or parse the expression and calculate the result
+            Object result = local ? null : forward(args, mode);
+
+            if (result == null) {
+                // Create an instance of models.ExpressionParser to handle the parsing and evaluation
+                ExpressionParser parser = new ExpressionParser();
+
+                result = mode == NumericMode.INTEGER ? parser.parse(args)
+                        : parser.parse(args, ComplexArithmetic.forMode(mode));
+            }
 
             System.out.println("\nExpression result = " + result);
         } catch (Exception e) {
             System.err.println("[ERROR] " + e.getMessage());
         }
     }
+
+    /**
+     * Evaluates an expression on a running server.
+     *
+     * @param args CLI arguments containing the complex number expression
+     * @param mode the numeric mode of the evaluation
+     * @return the result computed by the server, or {@code null} if no server is running, answering in time or
+     *         accepting more work
+     * @throws IllegalArgumentException with the message of the server if the evaluation fails, or if the expression
+     *                                  is not ASCII
+     */
+    private static String forward(String[] args, NumericMode mode) {
+        SocketAddress address = EvaluationServer.parseAddress(System.getProperty(SERVER_PROPERTY,
+                EvaluationServer.DEFAULT_ADDRESS));
+
+        try (EvaluationClient client = EvaluationClient.connect(address, PROBE_TIMEOUT_MILLIS)) {
+            // Setting the mode, even the default one, gets a quick first reply that tells a server from an unrelated
+            // listener, before waiting longer for the evaluation itself
+            client.setMode(mode);
+            client.setTimeout(FORWARD_TIMEOUT_MILLIS);
+
+            return client.evaluate(String.join(" ", args));
+        } catch (IOException e) {
+            // No server, an unrelated listener, or an overloaded server
+            return null;
+        }
+    }
+
+    /**
+     * Runs the evaluation server until the JVM is shut down.
+     *
+     * @param address the address to listen on
+     * @param mode the initial numeric mode of each connection
+     */
+    private static void runServer(String address, NumericMode mode) {
+        EvaluationServer server = new EvaluationServer(new ExpressionParser(), mode);
+
+        try {
+            SocketAddress localAddress = server.bind(EvaluationServer.parseAddress(address));
+
+            // Answer the requests already received before exiting, e.g. on Ctrl+C or SIGTERM
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+
+            System.err.println("[INFO] Listening on " + localAddress + " using "
+                    + (server.usesVirtualThreads() ? "virtual" : "platform") + " threads");
+            server.serve();
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+            server.close();
+        }
+    }
+
+    /**
+     * Evaluates one expression per line of the input, writing one result per line to the standard output and a
+     * throughput summary to the standard error.
+     *
+     * @param path the path of the input file, or {@code null} / {@code "-"} for the standard input
+     * @param mode the numeric mode in which each line is evaluated
+     */
+    private static void runBatch(String path, NumericMode mode) {
+        BatchRunner runner = new BatchRunner(new ExpressionParser(), mode);
+        Writer output = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.US_ASCII),
+                OUTPUT_BUFFER_SIZE);
+
+        try (ReadableByteChannel input = BatchRunner.openInput(path)) {
+            BatchSummary summary = runner.run(input, output, System.err);
+
+            System.err.println("[INFO] " + summary);
+
+            if (EvaluationMetrics.getInstance().isEnabled()) {
+                System.err.println(EvaluationMetrics.getInstance());
+            }
+        } catch (IOException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+        }
+    }
+
+    /**
+     * Renders a fractal once on all cores, writing the image to a file and the rendering throughput to the standard
+     * error. {@code FractalBenchmark} measures the throughput after the JIT compiler has warmed up instead.
+     *
+     * @param args the output file ({@code -} for none), then optionally the width, the height, the maximum number of
+     *             iterations, the precision and the real and imaginary parts of a Julia constant, given together
+     */
+    private static void runFractal(String[] args) {
+        if (args.length == 0) {
+            System.err.println("[ERROR] No output provided");
+            return;
+        }
+
+        if (args.length == 6 || args.length > 7) {
+            // A lone real part or trailing arguments would otherwise be silently ignored
+            System.err.println("[ERROR] Expected at most 5 fractal arguments, or 7 with both parts of a Julia constant, "
+                    + "but got " + args.length);
+            return;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+        try {
+            int width = args.length > 1 ? Integer.parseInt(args[1]) : 1920;
+            int height = args.length > 2 ? Integer.parseInt(args[2]) : 1080;
+            int iterations = args.length > 3 ? Integer.parseInt(args[3]) : 1000;
+            FractalPrecision precision = args.length > 4 ? parsePrecision(args[4]) : FractalPrecision.DOUBLE;
+            DoubleComplexNumber julia = args.length == 7
+                    ? new DoubleComplexNumber(Double.parseDouble(args[5]), Double.parseDouble(args[6])) : null;
+
+            FractalRenderer renderer = new FractalRenderer(iterations, precision, true, pool);
+            FractalView view = julia == null ? FractalView.mandelbrot(width, height)
+                    : FractalView.spanning(width, height, new DoubleComplexNumber(0, 0), 4);
+            long start = System.nanoTime();
+            FractalImage image = julia == null ? renderer.renderMandelbrot(view) : renderer.renderJulia(view, julia);
+            long elapsed = System.nanoTime() - start;
+
+            if (!args[0].equals("-")) {
+                if (args[0].endsWith(".ppm")) {
+                    image.writePpm(Path.of(args[0]));
+                } else {
+                    image.writePgm(Path.of(args[0]));
+                }
+            }
+
+            System.err.println("[INFO] " + new FractalSummary(image, pool.getParallelism(), elapsed));
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("[ERROR] " + e.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Parses the name of a fractal precision, ignoring case.
+     *
+     * @param name the name of the precision
+     * @return the precision
+     * @throws IllegalArgumentException if no precision has the given name
+     */
+    private static FractalPrecision parsePrecision(String name) {
+        try {
+            return FractalPrecision.valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown fractal precision: " + name);
+        }
+    }
 }
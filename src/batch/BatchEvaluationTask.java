@@ -0,0 +1,88 @@
+package batch;
+
+import models.ComplexNumber;
+import models.ExpressionParser;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task that evaluates a range of the expressions of a batch.
+ * <p>
+ * Ranges larger than the chunk size are split in two halves evaluated concurrently, so idle workers steal the
+ * remaining halves and the load balances even when expressions differ widely in cost. Every expression writes its own
+ * slots of the output arrays, so the tasks share no mutable state.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class BatchEvaluationTask extends RecursiveAction {
+    private final ExpressionParser parser;  // Parser shared by all tasks
+    private final List<? extends CharSequence> expressions;  // Expressions of the batch
+    private final ComplexNumber[] results;  // Result of each expression, null for failed ones
+    private final int[] re;  // Real part of each result, zero for failed ones
+    private final int[] im;  // Imaginary part of each result, zero for failed ones
+    private final String[] errors;  // Error message of each failed expression
+    private final int from;  // Index of the first expression, inclusive
+    private final int to;  // Index of the last expression, exclusive
+    private final int chunkSize;  // Maximum range size evaluated sequentially
+
+    /**
+     * Constructs a task evaluating the expressions in the range {@code [from, to)}.
+     *
+     * @param parser the parser shared by all tasks
+     * @param expressions the expressions of the batch
+     * @param results the array receiving the result of each expression
+     * @param re the array receiving the real part of each result
+     * @param im the array receiving the imaginary part of each result
+     * @param errors the array receiving the error message of each failed expression
+     * @param from the index of the first expression, inclusive
+     * @param to the index of the last expression, exclusive
+     * @param chunkSize the maximum range size evaluated sequentially
+     */
+    BatchEvaluationTask(ExpressionParser parser, List<? extends CharSequence> expressions, ComplexNumber[] results,
+                        int[] re, int[] im, String[] errors, int from, int to, int chunkSize) {
+        this.parser = parser;
+        this.expressions = expressions;
+        this.results = results;
+        this.re = re;
+        this.im = im;
+        this.errors = errors;
+        this.from = from;
+        this.to = to;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluates the range, splitting it when it is larger than the chunk size.
+     */
+    @Override
+    protected void compute() {
+        if (to - from <= chunkSize) {
+            for (int i = from; i < to; i++) {
+                evaluate(i);
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+
+        invokeAll(new BatchEvaluationTask(parser, expressions, results, re, im, errors, from, middle, chunkSize),
+                new BatchEvaluationTask(parser, expressions, results, re, im, errors, middle, to, chunkSize));
+    }
+
+    /**
+     * Evaluates a single expression, capturing its error if it fails.
+     *
+     * @param index the index of the expression
+     */
+    private void evaluate(int index) {
+        try {
+            ComplexNumber result = parser.parse(expressions.get(index));
+
+            results[index] = result;
+            re[index] = result.getRe();
+            im[index] = result.getIm();
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            errors[index] = String.valueOf(e.getMessage());
+        }
+    }
+}
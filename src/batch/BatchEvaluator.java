@@ -0,0 +1,75 @@
+package batch;
+
+import models.ComplexArray;
+import models.ComplexNumber;
+import models.ExpressionParser;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Evaluates an in-memory batch of expressions on all cores.
+ * <p>
+ * The batch is split recursively into chunks evaluated on a work-stealing {@link ForkJoinPool}, all sharing the same
+ * thread-safe {@link ExpressionParser}. Results come back in input order, and an expression that fails is recorded with
+ * its error message instead of aborting the batch. Since expressions are independent, throughput scales with the
+ * number of workers of the pool.
+ */
+public class BatchEvaluator {
+
+    /** Default maximum number of expressions evaluated sequentially by a single task */
+    public static final int DEFAULT_CHUNK_SIZE = 64;
+
+    private final ExpressionParser parser;  // Parser shared by all workers
+    private final ForkJoinPool pool;  // Pool running the evaluation tasks
+    private final int chunkSize;  // Maximum number of expressions evaluated sequentially by a single task
+
+    /**
+     * Constructs an evaluator running on the common {@link ForkJoinPool} with the default chunk size.
+     *
+     * @param parser the parser used to evaluate each expression
+     */
+    public BatchEvaluator(@NotNull ExpressionParser parser) {
+        this(parser, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * Constructs an evaluator running on the given pool with the given chunk size.
+     *
+     * @param parser the parser used to evaluate each expression
+     * @param pool the pool running the evaluation tasks
+     * @param chunkSize the maximum number of expressions evaluated sequentially by a single task
+     * @throws IllegalArgumentException if the chunk size is less than one
+     */
+    public BatchEvaluator(@NotNull ExpressionParser parser, @NotNull ForkJoinPool pool, int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive: " + chunkSize);
+        }
+
+        this.parser = parser;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluates every expression of the list in parallel.
+     *
+     * @param expressions the expressions to evaluate; the list must support fast random access and must not be
+     *                    modified during the evaluation
+     * @return the outcome of each expression, in input order
+     */
+    public BatchResult evaluateAll(@NotNull List<? extends CharSequence> expressions) {
+        int size = expressions.size();
+        ComplexNumber[] results = new ComplexNumber[size];
+        int[] re = new int[size];
+        int[] im = new int[size];
+        String[] errors = new String[size];
+
+        if (size > 0) {
+            pool.invoke(new BatchEvaluationTask(parser, expressions, results, re, im, errors, 0, size, chunkSize));
+        }
+
+        return new BatchResult(results, new ComplexArray(re, im), errors);
+    }
+}
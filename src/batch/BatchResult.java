@@ -0,0 +1,115 @@
+package batch;
+
+import models.ComplexArray;
+import models.ComplexNumber;
+
+/**
+ * Results of evaluating a list of expressions with a {@link BatchEvaluator}, in input order.
+ * <p>
+ * Every expression has either a result or an error message. Results are available as {@link ComplexNumber} objects
+ * and as a primitive {@link ComplexArray}, where the elements of failed expressions are zero.
+ */
+public class BatchResult {
+    private final ComplexNumber[] results;  // Result of each expression, null for failed ones
+    private final ComplexArray values;  // Result of each expression in primitive form, zero for failed ones
+    private final String[] errors;  // Error message of each failed expression, null for successful ones
+    private final int errorCount;  // Number of failed expressions
+
+    /**
+     * Constructs a result from the per-expression outcomes. The arrays are not copied.
+     *
+     * @param results the result of each expression, null for failed ones
+     * @param values the result of each expression in primitive form, zero for failed ones
+     * @param errors the error message of each failed expression, null for successful ones
+     */
+    BatchResult(ComplexNumber[] results, ComplexArray values, String[] errors) {
+        this.results = results;
+        this.values = values;
+        this.errors = errors;
+
+        int failures = 0;
+        for (String error : errors) {
+            if (error != null) {
+                failures++;
+            }
+        }
+        this.errorCount = failures;
+    }
+
+    /**
+     * Returns the number of evaluated expressions.
+     *
+     * @return the number of expressions
+     */
+    public int size() {
+        return results.length;
+    }
+
+    /**
+     * Returns the number of expressions that failed.
+     *
+     * @return the number of errors
+     */
+    public int getErrorCount() {
+        return errorCount;
+    }
+
+    /**
+     * Checks if the expression at the given index failed.
+     *
+     * @param index the index of the expression in the input
+     * @return true if the expression failed, false otherwise
+     */
+    public boolean isError(int index) {
+        return errors[index] != null;
+    }
+
+    /**
+     * Returns the result of the expression at the given index.
+     *
+     * @param index the index of the expression in the input
+     * @return the result, or {@code null} if the expression failed
+     */
+    public ComplexNumber getResult(int index) {
+        return results[index];
+    }
+
+    /**
+     * Returns the error message of the expression at the given index.
+     *
+     * @param index the index of the expression in the input
+     * @return the error message, or {@code null} if the expression succeeded
+     */
+    public String getError(int index) {
+        return errors[index];
+    }
+
+    /**
+     * Returns the results of all expressions, in input order.
+     *
+     * @return a copy of the results, with {@code null} for failed expressions
+     */
+    public ComplexNumber[] getResults() {
+        return results.clone();
+    }
+
+    /**
+     * Returns the results of all expressions as a primitive array, in input order. Changes to the returned array are
+     * reflected in this result.
+     *
+     * @return the results, with zero for failed expressions
+     */
+    public ComplexArray getValues() {
+        return values;
+    }
+
+    /**
+     * Returns a summary of the outcome.
+     *
+     * @return a string in the form "n expressions (e errors)"
+     */
+    @Override
+    public String toString() {
+        return size() + " expressions (" + errorCount + " errors)";
+    }
+}
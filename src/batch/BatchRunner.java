@@ -0,0 +1,246 @@
+package batch;
+
+import enums.NumericMode;
+import models.ExpressionParser;
+import numeric.ComplexArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Streams expressions, one per line, from a channel and writes one result line per input line.
+ * <p>
+ * Input is read through a single large direct buffer and decoded byte by byte into a reused line buffer, which is
+ * handed to the {@link ExpressionParser} as a {@link CharSequence}. Memory use is therefore bounded by the buffer size
+ * and the longest accepted line, regardless of the input size. Expressions are expected to be ASCII text; both
+ * {@code \n} and {@code \r\n} line endings are accepted.
+ * <p>
+ * For every input line the output receives the result, an empty line for a blank input line, or {@code ERROR} for a
+ * line that fails, so output line {@code n} always corresponds to input line {@code n}. Failures are also reported,
+ * with their line numbers, to the error stream, and processing continues with the next line.
+ * <p>
+ * Lines are evaluated in the given {@link NumericMode}; the default {@link NumericMode#INTEGER INTEGER} mode goes
+ * through the parser's regular (and possibly cached) evaluation.
+ */
+public class BatchRunner {
+
+    /** Default size of the input buffer, in bytes */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 20;
+
+    /** Default maximum accepted line length, in characters */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1 << 20;
+
+    /** Placeholder written to the output for a line that fails */
+    private static final String ERROR_RESULT = "ERROR";
+
+    private final ExpressionParser parser;  // Parser used to evaluate each line
+    private final NumericMode mode;  // Numeric mode in which each line is evaluated
+    private final ComplexArithmetic<?> arithmetic;  // Arithmetic of the numeric mode
+    private final int bufferSize;  // Size of the input buffer, in bytes
+    private final int maxLineLength;  // Maximum accepted line length, in characters
+
+    /**
+     * Constructs a runner with the default buffer size and maximum line length.
+     *
+     * @param parser the parser used to evaluate each line
+     */
+    public BatchRunner(@NotNull ExpressionParser parser) {
+        this(parser, NumericMode.INTEGER);
+    }
+
+    /**
+     * Constructs a runner evaluating each line in the given numeric mode, with the default buffer size and maximum
+     * line length.
+     *
+     * @param parser the parser used to evaluate each line
+     * @param mode the numeric mode in which each line is evaluated
+     */
+    public BatchRunner(@NotNull ExpressionParser parser, @NotNull NumericMode mode) {
+        this(parser, mode, DEFAULT_BUFFER_SIZE, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Constructs a runner with the given buffer size and maximum line length.
+     *
+     * @param parser the parser used to evaluate each line
+     * @param mode the numeric mode in which each line is evaluated
+     * @param bufferSize the size of the input buffer, in bytes
+     * @param maxLineLength the maximum accepted line length, in characters; longer lines are reported as errors
+     * @throws IllegalArgumentException if the buffer size or the maximum line length is not positive
+     */
+    public BatchRunner(@NotNull ExpressionParser parser, @NotNull NumericMode mode, int bufferSize,
+                       int maxLineLength) {
+        if (bufferSize <= 0 || maxLineLength <= 0) {
+            throw new IllegalArgumentException("Buffer size and maximum line length must be positive");
+        }
+
+        this.parser = parser;
+        this.mode = mode;
+        this.arithmetic = ComplexArithmetic.forMode(mode);
+        this.bufferSize = bufferSize;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Opens the input to process: the given file, or standard input for {@code null} or {@code "-"}.
+     *
+     * @param path the path of the input file, or {@code null} / {@code "-"} for standard input
+     * @return a channel reading the input
+     * @throws IOException if the file cannot be opened
+     */
+    public static ReadableByteChannel openInput(String path) throws IOException {
+        if (path == null || path.equals("-")) {
+            return Channels.newChannel(System.in);
+        }
+
+        return FileChannel.open(Path.of(path), StandardOpenOption.READ);
+    }
+
+    /**
+     * Processes every line of the input.
+     *
+     * @param input the channel to read expressions from; it is not closed
+     * @param output the writer receiving one result line per input line; it is flushed but not closed
+     * @param errors the stream receiving one message per failing line
+     * @return the statistics of the run
+     * @throws IOException if reading the input or writing the output fails
+     */
+    public BatchSummary run(@NotNull ReadableByteChannel input, @NotNull Writer output, @NotNull PrintStream errors)
+            throws IOException {
+        long start = System.nanoTime();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bufferSize);
+        StringBuilder line = new StringBuilder();
+
+        long lines = 0;
+        long failures = 0;
+        long bytes = 0;
+        boolean overflow = false;  // Whether the current line exceeded the maximum length
+        boolean pending = false;  // Whether a line has been started but not yet terminated
+
+        try {
+            while (input.read(buffer) != -1) {
+                buffer.flip();
+                bytes += buffer.remaining();
+
+                while (buffer.hasRemaining()) {
+                    byte b = buffer.get();
+
+                    if (b == '\n') {
+                        lines++;
+                        if (!processLine(line, overflow, lines, output, errors)) {
+                            failures++;
+                        }
+
+                        line.setLength(0);
+                        overflow = false;
+                        pending = false;
+                    } else {
+                        pending = true;
+
+                        if (line.length() < maxLineLength) {
+                            line.append((char) (b & 0xFF));
+                        } else {
+                            overflow = true;
+                        }
+                    }
+                }
+
+                buffer.clear();
+            }
+
+            // The last line may not be terminated by a line separator
+            if (pending) {
+                lines++;
+                if (!processLine(line, overflow, lines, output, errors)) {
+                    failures++;
+                }
+            }
+        } finally {
+            // Keep the results of the lines already processed even if the run fails
+            output.flush();
+        }
+
+        return new BatchSummary(lines, failures, bytes, System.nanoTime() - start);
+    }
+
+    /**
+     * Evaluates a single line and writes its result.
+     *
+     * @param line the content of the line, without the line separator
+     * @param overflow whether the line exceeded the maximum length
+     * @param number the line number, starting from one
+     * @param output the writer receiving the result
+     * @param errors the stream receiving the error message, if any
+     * @return true if the line succeeded or was blank, false if it failed
+     * @throws IOException if writing the output fails
+     */
+    private boolean processLine(StringBuilder line, boolean overflow, long number, Writer output, PrintStream errors)
+            throws IOException {
+        // Drop the carriage return of a CRLF line ending
+        if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+
+        if (overflow) {
+            return fail("Line longer than " + maxLineLength + " characters", number, output, errors);
+        }
+
+        if (isBlank(line)) {
+            output.write('\n');
+            return true;
+        }
+
+        try {
+            Object result = mode == NumericMode.INTEGER ? parser.parse(line) : parser.parse(line, arithmetic);
+
+            output.write(result.toString());
+            output.write('\n');
+
+            return true;
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return fail(e.getMessage(), number, output, errors);
+        }
+    }
+
+    /**
+     * Reports a failing line.
+     *
+     * @param message the error message
+     * @param number the line number, starting from one
+     * @param output the writer receiving the error placeholder
+     * @param errors the stream receiving the error message
+     * @return false
+     * @throws IOException if writing the output fails
+     */
+    private static boolean fail(String message, long number, Writer output, PrintStream errors) throws IOException {
+        errors.println("[ERROR] Line " + number + ": " + message);
+        output.write(ERROR_RESULT);
+        output.write('\n');
+
+        return false;
+    }
+
+    /**
+     * Checks if the line contains only whitespace.
+     *
+     * @param line the line to check
+     * @return true if the line is blank, false otherwise
+     */
+    private static boolean isBlank(CharSequence line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (!Character.isWhitespace(line.charAt(i))) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,91 @@
+package batch;
+
+/**
+ * Statistics collected while processing a batch of expressions.
+ */
+public class BatchSummary {
+    private final long lines;  // Number of lines read
+    private final long errors;  // Number of lines that failed to parse or evaluate
+    private final long bytes;  // Number of bytes read
+    private final long elapsedNanos;  // Wall-clock processing time
+
+    /**
+     * Constructs a summary with the given statistics.
+     *
+     * @param lines the number of lines read
+     * @param errors the number of lines that failed to parse or evaluate
+     * @param bytes the number of bytes read
+     * @param elapsedNanos the wall-clock processing time, in nanoseconds
+     */
+    public BatchSummary(long lines, long errors, long bytes, long elapsedNanos) {
+        this.lines = lines;
+        this.errors = errors;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Returns the number of lines read.
+     *
+     * @return the number of lines
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * Returns the number of lines that failed to parse or evaluate.
+     *
+     * @return the number of errors
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of bytes read.
+     *
+     * @return the number of bytes
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Returns the wall-clock processing time.
+     *
+     * @return the elapsed time, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the processing throughput in lines per second.
+     *
+     * @return the number of lines processed per second
+     */
+    public double linesPerSecond() {
+        return elapsedNanos == 0 ? 0 : lines * 1e9 / elapsedNanos;
+    }
+
+    /**
+     * Returns the processing throughput in megabytes (10^6 bytes) per second.
+     *
+     * @return the number of megabytes processed per second
+     */
+    public double megabytesPerSecond() {
+        return elapsedNanos == 0 ? 0 : bytes * 1e3 / elapsedNanos;
+    }
+
+    /**
+     * Returns a one-line, human-readable summary.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%d lines (%d errors), %d bytes in %.3f s: %.0f lines/s, %.2f MB/s", lines, errors, bytes,
+                elapsedNanos / 1e9, linesPerSecond(), megabytesPerSecond());
+    }
+}
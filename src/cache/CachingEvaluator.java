@@ -0,0 +1,101 @@
+package cache;
+
+import metrics.EvaluationMetrics;
+import models.ComplexNumber;
+import nodes.ExpressionNode;
+import nodes.ExpressionVisitor;
+import nodes.NumberNode;
+import nodes.OperationNode;
+import nodes.VariableNode;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Evaluates an expression tree, computing each distinct sub-expression only once and sharing results of whole
+ * expressions through an {@link EvaluationCache}.
+ * <p>
+ * The root is looked up in the shared cache, and on a miss every operation node is looked up among the
+ * sub-expressions already computed for the current expression before being evaluated. Only roots are stored in the
+ * shared cache, so that one large expression cannot evict the working set with its sub-expressions nor keep them
+ * alive as keys. A new evaluator must be used per expression, since the sub-expression memo is not thread-safe and
+ * grows with the evaluated tree.
+ * <p>
+ * Evaluations failing with an {@link ArithmeticException} are recorded in the {@link EvaluationMetrics} if enabled.
+ */
+public class CachingEvaluator implements ExpressionVisitor<ComplexNumber> {
+    private final EvaluationCache cache;  // Results shared between expressions
+    private final Map<ExpressionNode, ComplexNumber> computed = new HashMap<>();  // Results within this expression
+
+    /**
+     * Constructs an evaluator sharing results through the given cache.
+     *
+     * @param cache the cache shared between expressions
+     */
+    public CachingEvaluator(@NotNull EvaluationCache cache) {
+        this.cache = cache;
+    }
+
+    /**
+     * Evaluates an expression tree.
+     *
+     * @param expression the root of the expression tree
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the expression contains a variable
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber evaluate(@NotNull ExpressionNode expression) {
+        try {
+            // Literals and variables are cheaper to evaluate than to look up
+            if (!(expression instanceof OperationNode)) {
+                return expression.accept(this);
+            }
+
+            ComplexNumber result = cache.get(expression);
+            if (result == null) {
+                // Failing expressions throw before anything is stored, so errors are never cached
+                result = expression.accept(this);
+                cache.put(expression, result);
+            }
+
+            return result;
+        } catch (ArithmeticException e) {
+            EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+            if (metrics.isEnabled()) {
+                metrics.recordArithmeticError(e);
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public ComplexNumber visitNumber(@NotNull NumberNode node) {
+        return node.getValue();
+    }
+
+    @Override
+    public ComplexNumber visitVariable(@NotNull VariableNode node) {
+        return node.evaluate();
+    }
+
+    @Override
+    public ComplexNumber visitOperation(@NotNull OperationNode node) {
+        ComplexNumber result = computed.get(node);
+        if (result != null) {
+            return result;
+        }
+
+        ExpressionNode[] operands = node.getOperands();
+        ComplexNumber[] values = new ComplexNumber[operands.length];
+
+        for (int i = 0; i < operands.length; i++) {
+            values[i] = operands[i].accept(this);
+        }
+
+        result = node.apply(values);
+        computed.put(node, result);
+
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+package cache;
+
+import models.ComplexNumber;
+import nodes.ExpressionNode;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of evaluation results, keyed on the canonical form of parsed expressions.
+ * <p>
+ * Keys are expression trees, which compare structurally, so two expressions share an entry exactly when they have the
+ * same canonical form. A tree fully determines its value (it only contains literals), so a cached result can never be
+ * stale: expressions whose operands differ are different keys. When the cache is full, the least recently used entry
+ * is evicted.
+ * <p>
+ * All methods are thread-safe. Lookups take a short lock (a hit updates the recency order), while hit, miss and
+ * eviction counters are updated without locking.
+ */
+public class EvaluationCache {
+    private final int maximumSize;  // Maximum number of entries
+    private final Map<ExpressionNode, ComplexNumber> entries;  // Entries, in least recently used first order
+
+    private final LongAdder hits = new LongAdder();  // Number of lookups that found an entry
+    private final LongAdder misses = new LongAdder();  // Number of lookups that found no entry
+    private final LongAdder evictions = new LongAdder();  // Number of entries evicted to respect the size bound
+
+    /**
+     * Constructs an empty cache holding at most the given number of entries.
+     *
+     * @param maximumSize the maximum number of entries
+     * @throws IllegalArgumentException if the maximum size is not positive
+     */
+    public EvaluationCache(int maximumSize) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum cache size must be positive: " + maximumSize);
+        }
+
+        this.maximumSize = maximumSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ExpressionNode, ComplexNumber> eldest) {
+                if (size() > EvaluationCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached result of the given expression, marking it as recently used.
+     *
+     * @param expression the expression tree
+     * @return the cached result, or {@code null} if the expression is not cached
+     */
+    public ComplexNumber get(@NotNull ExpressionNode expression) {
+        ComplexNumber result;
+
+        synchronized (entries) {
+            result = entries.get(expression);
+        }
+
+        if (result == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+
+        return result;
+    }
+
+    /**
+     * Stores the result of the given expression, evicting the least recently used entry if the cache is full.
+     *
+     * @param expression the expression tree
+     * @param result the result of the expression
+     */
+    public void put(@NotNull ExpressionNode expression, @NotNull ComplexNumber result) {
+        synchronized (entries) {
+            entries.put(expression, result);
+        }
+    }
+
+    /**
+     * Removes all entries. The counters are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the number of entries
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Returns the maximum number of entries.
+     *
+     * @return the maximum number of entries
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of lookups that found an entry.
+     *
+     * @return the number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found no entry.
+     *
+     * @return the number of misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of entries evicted to respect the size bound.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Returns the size and the counters of the cache.
+     *
+     * @return a string in the form "size=s/max, hits=h, misses=m, evictions=e"
+     */
+    @Override
+    public String toString() {
+        return "size=" + size() + "/" + maximumSize + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", evictions=" + getEvictions();
+    }
+}
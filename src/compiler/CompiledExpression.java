@@ -0,0 +1,324 @@
+package compiler;
+
+import enums.Operation;
+import metrics.EvaluationMetrics;
+import models.ComplexAccumulator;
+import models.ComplexArray;
+import models.ComplexNumber;
+import nodes.OperationNode;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expression compiled once by the {@link ExpressionCompiler} and evaluated many times with different variable
+ * bindings.
+ * <p>
+ * Variables are identified by their index in {@link #getVariables()}. Instances are immutable and can be evaluated
+ * concurrently from several threads.
+ * <p>
+ * The closures never touch the {@link EvaluationMetrics}; instead, the operations of the expression are tallied once
+ * at compile time and, when metrics are enabled, added once per call for all its successful evaluations, so disabled
+ * metrics cost a single check per call. Calls failing with an {@link ArithmeticException} are recorded as errors.
+ */
+public class CompiledExpression {
+    private final Evaluator evaluator;  // Closure evaluating the root of the expression
+    private final PartEvaluator partEvaluator;  // Closure evaluating the root of the expression on integer parts
+    private final int registerCount;  // Number of registers needed by the part closures
+    private final List<String> variables;  // Variable names, by index
+    private final Operation[] operations;  // Distinct operations applied by every evaluation, for the metrics
+    private final int[] operandCounts;  // Number of operands of each distinct operation
+    private final int[] nodeCounts;  // Number of nodes applying each distinct operation on that many operands
+
+    /**
+     * Constructs a compiled expression from the closures of its root, its variable names and its operation nodes.
+     *
+     * @param evaluator the closure evaluating the root of the expression
+     * @param partEvaluator the closure evaluating the root of the expression on integer parts, into register zero
+     * @param registerCount the number of registers needed by the part closures
+     * @param variables the variable names, by index
+     * @param operations the operation nodes of the expression
+     */
+    CompiledExpression(@NotNull Evaluator evaluator, @NotNull PartEvaluator partEvaluator, int registerCount,
+                       @NotNull List<String> variables, OperationNode @NotNull [] operations) {
+        this.evaluator = evaluator;
+        this.partEvaluator = partEvaluator;
+        this.registerCount = registerCount;
+        this.variables = List.copyOf(variables);
+
+        // Groups the nodes by operation and operand count, so that recording costs one update per group
+        Operation[] groupOperations = new Operation[operations.length];
+        int[] groupOperandCounts = new int[operations.length];
+        int[] groupNodeCounts = new int[operations.length];
+        int groups = 0;
+
+        for (OperationNode node : operations) {
+            int group = 0;
+            while (group < groups && (groupOperations[group] != node.getOperation()
+                    || groupOperandCounts[group] != node.getOperandCount())) {
+                group++;
+            }
+
+            if (group == groups) {
+                groupOperations[group] = node.getOperation();
+                groupOperandCounts[group] = node.getOperandCount();
+                groups++;
+            }
+
+            groupNodeCounts[group]++;
+        }
+
+        this.operations = Arrays.copyOf(groupOperations, groups);
+        this.operandCounts = Arrays.copyOf(groupOperandCounts, groups);
+        this.nodeCounts = Arrays.copyOf(groupNodeCounts, groups);
+    }
+
+    /**
+     * Returns the names of the variables of the expression, in the order of their first occurrence.
+     *
+     * @return the variable names, by index
+     */
+    public List<String> getVariables() {
+        return variables;
+    }
+
+    /**
+     * Evaluates the expression with the given variable values.
+     *
+     * @param bindings the values of the variables, in the order of {@link #getVariables()}
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the number of values does not match the number of variables
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber evaluate(ComplexNumber @NotNull ... bindings) {
+        checkArity(bindings.length);
+
+        ComplexNumber result = evaluate(evaluator, bindings);
+        recordOperations(1);
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression with the given variable values.
+     *
+     * @param bindings the values of the variables, by name
+     * @return the value of the expression
+     * @throws IllegalArgumentException if a variable has no value
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber evaluate(@NotNull Map<String, ComplexNumber> bindings) {
+        ComplexNumber[] values = new ComplexNumber[variables.size()];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = bindings.get(variables.get(i));
+
+            if (values[i] == null) {
+                throw new IllegalArgumentException("Unbound variable: " + variables.get(i));
+            }
+        }
+
+        ComplexNumber result = evaluate(evaluator, values);
+        recordOperations(1);
+
+        return result;
+    }
+
+    /**
+     * Evaluates the expression once per row of bindings.
+     *
+     * @param bindings one array of variable values per evaluation, in the order of {@link #getVariables()}
+     * @return the values of the expression, one per row
+     * @throws IllegalArgumentException if a row does not match the number of variables
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber[] evaluateAll(ComplexNumber[] @NotNull [] bindings) {
+        ComplexNumber[] results = new ComplexNumber[bindings.length];
+
+        for (ComplexNumber[] row : bindings) {
+            checkArity(row.length);
+        }
+
+        int completed = 0;
+
+        try {
+            for (; completed < bindings.length; completed++) {
+                results[completed] = evaluator.evaluate(bindings[completed]);
+            }
+        } catch (ArithmeticException e) {
+            recordError(e);
+            throw e;
+        } finally {
+            recordOperations(completed);
+        }
+
+        return results;
+    }
+
+    /**
+     * Evaluates the expression once per element of the given columns, with one column per variable.
+     *
+     * @param columns the values of the variables, one column per variable in the order of {@link #getVariables()}
+     * @param length the number of evaluations, used when the expression has no variables
+     * @return the values of the expression, one per element
+     * @throws IllegalArgumentException if the number of columns does not match the number of variables, or if a
+     *                                  column is shorter than the number of evaluations
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexArray evaluateAll(ComplexArray @NotNull [] columns, int length) {
+        int[][] re = new int[columns.length][];
+        int[][] im = new int[columns.length][];
+
+        for (int j = 0; j < columns.length; j++) {
+            re[j] = columns[j].realParts();
+            im[j] = columns[j].imaginaryParts();
+        }
+
+        ComplexArray results = new ComplexArray(length);
+        evaluateAll(re, im, length, results.realParts(), results.imaginaryParts());
+
+        return results;
+    }
+
+    /**
+     * Evaluates the expression once per row of the given columns of parts, with one column per variable, and
+     * stores the results in the given output parts. No object is allocated per row.
+     * <p>
+     * Each row is read before its result is written, so the output may be one of the input columns. If an evaluation
+     * fails, the rows before it hold their results.
+     *
+     * @param re the real parts of the variables, one column per variable in the order of {@link #getVariables()}
+     * @param im the imaginary parts of the variables, in the same order
+     * @param length the number of evaluations, used when the expression has no variables
+     * @param resultRe the array receiving the real parts of the results
+     * @param resultIm the array receiving the imaginary parts of the results
+     * @throws IllegalArgumentException if the number of columns does not match the number of variables, or if a
+     *                                  column or an output array is shorter than the number of evaluations
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public void evaluateAll(int[] @NotNull [] re, int[] @NotNull [] im, int length, int @NotNull [] resultRe,
+                            int @NotNull [] resultIm) {
+        checkArity(re.length);
+        checkArity(im.length);
+        checkLength(resultRe, length);
+        checkLength(resultIm, length);
+
+        for (int j = 0; j < re.length; j++) {
+            checkLength(re[j], length);
+            checkLength(im[j], length);
+        }
+
+        // Registers are local to the call, so that concurrent evaluations do not share them
+        ComplexAccumulator[] registers = new ComplexAccumulator[registerCount];
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = new ComplexAccumulator();
+        }
+
+        ComplexAccumulator result = registers[0];
+        int completed = 0;
+
+        try {
+            for (; completed < length; completed++) {
+                partEvaluator.evaluate(re, im, completed, registers);
+                resultRe[completed] = result.getRe();
+                resultIm[completed] = result.getIm();
+            }
+        } catch (ArithmeticException e) {
+            recordError(e);
+            throw e;
+        } finally {
+            recordOperations(completed);
+        }
+    }
+
+    /**
+     * Evaluates the expression once per element of the given columns, with one column per variable.
+     *
+     * @param columns the values of the variables, one column of equal length per variable
+     * @return the values of the expression, one per element
+     * @throws IllegalArgumentException if the number of columns does not match the number of variables, or if the
+     *                                  expression has no variables
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexArray evaluateAll(ComplexArray @NotNull ... columns) {
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("No columns given; use evaluateAll(columns, length)");
+        }
+
+        return evaluateAll(columns, columns[0].length());
+    }
+
+    /**
+     * Evaluates the given closure, recording its arithmetic errors in the {@link EvaluationMetrics} if enabled.
+     *
+     * @param evaluator the closure to evaluate
+     * @param bindings the values of the variables
+     * @return the value of the closure
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    private static ComplexNumber evaluate(@NotNull Evaluator evaluator, ComplexNumber @NotNull [] bindings) {
+        try {
+            return evaluator.evaluate(bindings);
+        } catch (ArithmeticException e) {
+            recordError(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Records an arithmetic error in the {@link EvaluationMetrics} if enabled.
+     *
+     * @param error the error an evaluation failed with
+     */
+    private static void recordError(@NotNull ArithmeticException error) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (metrics.isEnabled()) {
+            metrics.recordArithmeticError(error);
+        }
+    }
+
+    /**
+     * Records the operations of the given number of successful evaluations in the {@link EvaluationMetrics} if
+     * enabled.
+     *
+     * @param evaluations the number of successful evaluations
+     */
+    private void recordOperations(int evaluations) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (!metrics.isEnabled() || evaluations == 0) {
+            return;
+        }
+
+        for (int i = 0; i < operations.length; i++) {
+            metrics.recordOperations(operations[i], operandCounts[i], (long) nodeCounts[i] * evaluations);
+        }
+    }
+
+    /**
+     * Checks that the given column holds at least the given number of elements.
+     *
+     * @param column the column
+     * @param length the number of evaluations
+     * @throws IllegalArgumentException if the column is shorter
+     */
+    private static void checkLength(int @NotNull [] column, int length) {
+        if (column.length < length) {
+            throw new IllegalArgumentException("Column shorter than " + length + ": " + column.length);
+        }
+    }
+
+    /**
+     * Checks that the given number of values matches the number of variables.
+     *
+     * @param count the number of values
+     * @throws IllegalArgumentException if the numbers differ
+     */
+    private void checkArity(int count) {
+        if (count != variables.size()) {
+            throw new IllegalArgumentException("Expected " + variables.size() + " variable values " + variables
+                    + " but got " + count);
+        }
+    }
+}
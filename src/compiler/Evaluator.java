@@ -0,0 +1,19 @@
+package compiler;
+
+import models.ComplexNumber;
+
+/**
+ * Closure evaluating one node of a compiled expression tree against an array of variable bindings.
+ */
+@FunctionalInterface
+interface Evaluator {
+
+    /**
+     * Evaluates the compiled node.
+     *
+     * @param bindings the values of the variables, indexed by their position in the compiled expression
+     * @return the value of the node
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    ComplexNumber evaluate(ComplexNumber[] bindings);
+}
@@ -0,0 +1,254 @@
+package compiler;
+
+import models.ComplexAccumulator;
+import models.ComplexNumber;
+import models.ExpressionParser;
+import nodes.ExpressionNode;
+import nodes.ExpressionVisitor;
+import nodes.NumberNode;
+import nodes.OperationNode;
+import nodes.VariableNode;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compiles expression trees into reusable {@link CompiledExpression}s.
+ * <p>
+ * Compilation walks the tree once and replaces every node by a closure that calls the {@link ComplexNumber}
+ * arithmetic directly: variables become indexed reads from the bindings array and operations become loops over the
+ * closures of their operands. Evaluating the result therefore involves no parsing, no tree dispatch and no
+ * {@link factory.ExpressionFactory} lookups.
+ * <p>
+ * A second set of closures works on integer parts and preallocated {@link ComplexAccumulator} registers, so that
+ * evaluating whole columns does not allocate per row.
+ */
+public class ExpressionCompiler {
+
+    /** Parser used by {@link #compile(CharSequence)} */
+    private final ExpressionParser parser = new ExpressionParser();
+
+    /**
+     * Parses and compiles an expression, e.g. {@code z*w+3+2*i}.
+     *
+     * @param expression the expression, optionally containing variables
+     * @return the compiled expression
+     * @throws IllegalArgumentException if the input format is invalid
+     */
+    public CompiledExpression compile(@NotNull CharSequence expression) {
+        return compile(parser.parseExpression(expression));
+    }
+
+    /**
+     * Compiles an expression tree. Variables are numbered in the order of their first occurrence.
+     *
+     * @param root the root of the expression tree
+     * @return the compiled expression
+     */
+    public CompiledExpression compile(@NotNull ExpressionNode root) {
+        ClosureBuilder builder = new ClosureBuilder();
+        Evaluator evaluator = root.accept(builder);
+        PartClosureBuilder partBuilder = new PartClosureBuilder(builder.indices);
+        PartEvaluator partEvaluator = root.accept(partBuilder);
+
+        return new CompiledExpression(evaluator, partEvaluator, partBuilder.registerCount, builder.variables,
+                builder.operations.toArray(new OperationNode[0]));
+    }
+
+    /**
+     * Visitor turning each node into its closure and collecting the variable names and the operation nodes.
+     */
+    private static class ClosureBuilder implements ExpressionVisitor<Evaluator> {
+        private final List<String> variables = new ArrayList<>();  // Variable names, by index
+        private final Map<String, Integer> indices = new HashMap<>();  // Variable indices, by name
+        private final List<OperationNode> operations = new ArrayList<>();  // Operation nodes, in compilation order
+
+        @Override
+        public Evaluator visitNumber(@NotNull NumberNode node) {
+            ComplexNumber value = node.getValue();
+
+            return bindings -> value;
+        }
+
+        @Override
+        public Evaluator visitVariable(@NotNull VariableNode node) {
+            int index = indices.computeIfAbsent(node.getName(), name -> {
+                variables.add(name);
+                return variables.size() - 1;
+            });
+
+            return bindings -> bindings[index];
+        }
+
+        @Override
+        public Evaluator visitOperation(@NotNull OperationNode node) {
+            ExpressionNode[] operands = node.getOperands();
+            operations.add(node);
+
+            Evaluator[] evaluators = new Evaluator[operands.length];
+
+            for (int i = 0; i < operands.length; i++) {
+                evaluators[i] = operands[i].accept(this);
+            }
+
+            // Binary operations are the common case, so they get closures without a loop
+            if (evaluators.length == 2) {
+                Evaluator left = evaluators[0];
+                Evaluator right = evaluators[1];
+
+                return switch (node.getOperation()) {
+                    case ADDITION -> bindings -> left.evaluate(bindings).add(right.evaluate(bindings));
+                    case SUBTRACTION -> bindings -> left.evaluate(bindings).subtract(right.evaluate(bindings));
+                    case MULTIPLICATION -> bindings -> left.evaluate(bindings).multiply(right.evaluate(bindings));
+                    case DIVISION -> bindings -> left.evaluate(bindings).divide(right.evaluate(bindings));
+                    case POWER -> bindings -> left.evaluate(bindings).power(right.evaluate(bindings));
+                };
+            }
+
+            return switch (node.getOperation()) {
+                case ADDITION -> bindings -> {
+                    ComplexNumber result = evaluators[0].evaluate(bindings);
+                    for (int i = 1; i < evaluators.length; i++) {
+                        result = result.add(evaluators[i].evaluate(bindings));
+                    }
+                    return result;
+                };
+                case SUBTRACTION -> bindings -> {
+                    ComplexNumber result = evaluators[0].evaluate(bindings);
+                    for (int i = 1; i < evaluators.length; i++) {
+                        result = result.subtract(evaluators[i].evaluate(bindings));
+                    }
+                    return result;
+                };
+                case MULTIPLICATION -> bindings -> {
+                    ComplexNumber result = evaluators[0].evaluate(bindings);
+                    for (int i = 1; i < evaluators.length; i++) {
+                        result = result.multiply(evaluators[i].evaluate(bindings));
+                    }
+                    return result;
+                };
+                case DIVISION -> bindings -> {
+                    ComplexNumber result = evaluators[0].evaluate(bindings);
+                    for (int i = 1; i < evaluators.length; i++) {
+                        result = result.divide(evaluators[i].evaluate(bindings));
+                    }
+                    return result;
+                };
+                case POWER -> bindings -> {
+                    ComplexNumber result = evaluators[0].evaluate(bindings);
+                    for (int i = 1; i < evaluators.length; i++) {
+                        result = result.power(evaluators[i].evaluate(bindings));
+                    }
+                    return result;
+                };
+            };
+        }
+    }
+
+    /**
+     * Visitor turning each node into its closure over integer parts, given the variable indices found by the
+     * {@link ClosureBuilder}. Every node writes its value into the register of its depth.
+     */
+    private static class PartClosureBuilder implements ExpressionVisitor<PartEvaluator> {
+        private final Map<String, Integer> indices;  // Variable indices, by name
+        private int depth;  // Register of the node being compiled
+        private int registerCount = 1;  // Number of registers needed by the compiled tree
+
+        /**
+         * Constructs a builder reading the variables at the given indices.
+         *
+         * @param indices the variable indices, by name
+         */
+        private PartClosureBuilder(@NotNull Map<String, Integer> indices) {
+            this.indices = indices;
+        }
+
+        @Override
+        public PartEvaluator visitNumber(@NotNull NumberNode node) {
+            ComplexNumber value = node.getValue();
+            int re = value.getRe();
+            int im = value.getIm();
+            int register = depth;
+
+            return (reParts, imParts, row, registers) -> registers[register].set(re, im);
+        }
+
+        @Override
+        public PartEvaluator visitVariable(@NotNull VariableNode node) {
+            int index = indices.get(node.getName());
+            int register = depth;
+
+            return (reParts, imParts, row, registers) -> registers[register].set(reParts[index][row],
+                    imParts[index][row]);
+        }
+
+        @Override
+        public PartEvaluator visitOperation(@NotNull OperationNode node) {
+            ExpressionNode[] operands = node.getOperands();
+            int register = depth;
+            PartEvaluator first = operands[0].accept(this);
+            PartEvaluator[] rest = new PartEvaluator[operands.length - 1];
+
+            // The first operand accumulates in the register of this node, the others go through the next one
+            depth = register + 1;
+            registerCount = Math.max(registerCount, depth + 1);
+
+            for (int i = 1; i < operands.length; i++) {
+                rest[i - 1] = operands[i].accept(this);
+            }
+
+            depth = register;
+
+            return switch (node.getOperation()) {
+                case ADDITION -> (re, im, row, registers) -> {
+                    first.evaluate(re, im, row, registers);
+                    ComplexAccumulator result = registers[register];
+                    ComplexAccumulator operand = registers[register + 1];
+                    for (PartEvaluator evaluator : rest) {
+                        evaluator.evaluate(re, im, row, registers);
+                        result.addInPlace(operand.getRe(), operand.getIm());
+                    }
+                };
+                case SUBTRACTION -> (re, im, row, registers) -> {
+                    first.evaluate(re, im, row, registers);
+                    ComplexAccumulator result = registers[register];
+                    ComplexAccumulator operand = registers[register + 1];
+                    for (PartEvaluator evaluator : rest) {
+                        evaluator.evaluate(re, im, row, registers);
+                        result.subtractInPlace(operand.getRe(), operand.getIm());
+                    }
+                };
+                case MULTIPLICATION -> (re, im, row, registers) -> {
+                    first.evaluate(re, im, row, registers);
+                    ComplexAccumulator result = registers[register];
+                    ComplexAccumulator operand = registers[register + 1];
+                    for (PartEvaluator evaluator : rest) {
+                        evaluator.evaluate(re, im, row, registers);
+                        result.multiplyInPlace(operand.getRe(), operand.getIm());
+                    }
+                };
+                case DIVISION -> (re, im, row, registers) -> {
+                    first.evaluate(re, im, row, registers);
+                    ComplexAccumulator result = registers[register];
+                    ComplexAccumulator operand = registers[register + 1];
+                    for (PartEvaluator evaluator : rest) {
+                        evaluator.evaluate(re, im, row, registers);
+                        result.divideInPlace(operand.getRe(), operand.getIm());
+                    }
+                };
+                case POWER -> (re, im, row, registers) -> {
+                    first.evaluate(re, im, row, registers);
+                    ComplexAccumulator result = registers[register];
+                    ComplexAccumulator operand = registers[register + 1];
+                    for (PartEvaluator evaluator : rest) {
+                        evaluator.evaluate(re, im, row, registers);
+                        result.powerInPlace(operand.getRe(), operand.getIm());
+                    }
+                };
+            };
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package compiler;
+
+import enums.NumericTier;
+import enums.Operation;
+import models.ComplexNumber;
+import models.ExpressionParser;
+import nodes.ExpressionNode;
+import nodes.ExpressionVisitor;
+import nodes.NumberNode;
+import nodes.OperationNode;
+import nodes.VariableNode;
+import numeric.IntegerArithmetic;
+import numeric.RationalArithmetic;
+import numeric.RationalComplexNumber;
+import numeric.TieredArithmetic;
+import numeric.TieredComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optimization pass simplifying expression trees before they are evaluated or compiled.
+ * <p>
+ * The pass rewrites the tree bottom-up and:
+ * <ul>
+ *     <li>flattens nested sums and products, and nested differences and quotients such as {@code (a / b) / c};</li>
+ *     <li>folds constant operands: all constants of a sum or a product, the constant subtrahends of a difference,
+ *     and the leading constants of a quotient or a power;</li>
+ *     <li>removes identities: {@code + 0}, {@code - 0}, {@code * 1}, {@code / 1} and {@code ^ 1};</li>
+ *     <li>turns repeated multiplication by the same operand into a power, e.g. {@code z * z * z} into
+ *     {@code z ^ 3};</li>
+ *     <li>short-circuits a product with a zero factor, and a power with a zero exponent.</li>
+ * </ul>
+ * The simplified tree evaluates to the same result as the original one in every {@link enums.NumericMode}: constants
+ * are only folded when the wrapping {@code int}, the exact tiered and the exact rational arithmetic all agree on the
+ * result, so a division or a negative power is only folded when it is exact, and operands that may fail, such as
+ * divisions, are never dropped, so a division by zero still fails. Operands may be
+ * reordered within a sum or a product, so when several of them fail, another one may be reported.
+ * <p>
+ * Variables that only appear in dropped operands, as in {@code z * 0}, are no longer part of the simplified tree,
+ * so the {@link CompiledExpression} built from it does not bind them.
+ */
+public class ExpressionOptimizer {
+
+    /** Largest exponent of a folded constant power; higher powers overflow an int unless the base is trivial */
+    private static final int MAX_FOLDED_EXPONENT = 64;
+
+    /** The literal zero */
+    private static final TieredComplexNumber ZERO = TieredComplexNumber.valueOf(0, 0);
+
+    /** The literal one */
+    private static final TieredComplexNumber ONE = TieredComplexNumber.valueOf(1, 0);
+
+    /** Parser used by {@link #optimize(CharSequence)} */
+    private final ExpressionParser parser = new ExpressionParser();
+
+    /**
+     * Parses and optimizes an expression, e.g. {@code z*z*z + 0*w}.
+     *
+     * @param expression the expression, optionally containing variables
+     * @return the simplified expression and the number of saved operations
+     * @throws IllegalArgumentException if the input format is invalid
+     */
+    public OptimizedExpression optimize(@NotNull CharSequence expression) {
+        return optimize(parser.parseExpression(expression));
+    }
+
+    /**
+     * Optimizes an expression tree. The given tree is left unchanged, since nodes are immutable.
+     *
+     * @param root the root of the expression tree
+     * @return the simplified expression and the number of saved operations
+     */
+    public OptimizedExpression optimize(@NotNull ExpressionNode root) {
+        ExpressionNode simplified = root.accept(new Simplifier());
+
+        return new OptimizedExpression(simplified, countOperations(root), countOperations(simplified));
+    }
+
+    /**
+     * Counts the binary operations performed when evaluating an expression tree, an operation node over {@code n}
+     * operands counting as {@code n - 1} operations.
+     *
+     * @param root the root of the expression tree
+     * @return the number of operations
+     */
+    public static int countOperations(@NotNull ExpressionNode root) {
+        if (!(root instanceof OperationNode node)) {
+            return 0;
+        }
+
+        ExpressionNode[] operands = node.getOperands();
+        int count = operands.length - 1;
+
+        for (ExpressionNode operand : operands) {
+            count += countOperations(operand);
+        }
+
+        return count;
+    }
+
+    /**
+     * Visitor rebuilding each node from its simplified operands.
+     */
+    private static class Simplifier implements ExpressionVisitor<ExpressionNode> {
+
+        @Override
+        public ExpressionNode visitNumber(@NotNull NumberNode node) {
+            return node;
+        }
+
+        @Override
+        public ExpressionNode visitVariable(@NotNull VariableNode node) {
+            return node;
+        }
+
+        @Override
+        public ExpressionNode visitOperation(@NotNull OperationNode node) {
+            Operation operation = node.getOperation();
+            List<ExpressionNode> operands = new ArrayList<>();
+
+            for (ExpressionNode operand : node.getOperands()) {
+                ExpressionNode simplified = operand.accept(this);
+
+                // Sums and products are associative, differences and quotients only fold their first operand further;
+                // powers are not flattened, since the parser reads a ^ b ^ c as a ^ (b ^ c)
+                boolean flatten = operation == Operation.ADDITION || operation == Operation.MULTIPLICATION
+                        || operands.isEmpty() && operation != Operation.POWER;
+
+                if (flatten && simplified instanceof OperationNode inner && inner.getOperation() == operation) {
+                    operands.addAll(List.of(inner.getOperands()));
+                } else {
+                    operands.add(simplified);
+                }
+            }
+
+            return switch (operation) {
+                case ADDITION -> simplifySum(operands);
+                case SUBTRACTION -> simplifyDifference(operands);
+                case MULTIPLICATION -> simplifyProduct(operands);
+                case DIVISION, POWER -> simplifyFold(operation, operands);
+            };
+        }
+
+        /**
+         * Folds the constants of a sum into one trailing constant, dropped if zero.
+         *
+         * @param operands the flattened operands
+         * @return the simplified sum
+         */
+        private ExpressionNode simplifySum(List<ExpressionNode> operands) {
+            List<ExpressionNode> terms = new ArrayList<>();
+            List<NumberNode> constants = new ArrayList<>();
+
+            for (ExpressionNode operand : operands) {
+                if (operand instanceof NumberNode number) {
+                    constants.add(number);
+                } else {
+                    terms.add(operand);
+                }
+            }
+
+            for (NumberNode constant : foldAll(Operation.ADDITION, constants)) {
+                if (!constant.getLiteral().equals(ZERO)) {
+                    terms.add(constant);
+                }
+            }
+
+            return build(Operation.ADDITION, terms, ZERO);
+        }
+
+        /**
+         * Folds the constant subtrahends of a difference into one trailing constant, dropped if zero, and into the
+         * minuend if it is a constant too.
+         *
+         * @param operands the operands, the first one being the minuend
+         * @return the simplified difference
+         */
+        private ExpressionNode simplifyDifference(List<ExpressionNode> operands) {
+            List<ExpressionNode> terms = new ArrayList<>();
+            List<NumberNode> constants = new ArrayList<>();
+
+            terms.add(operands.get(0));
+
+            for (ExpressionNode operand : operands.subList(1, operands.size())) {
+                if (operand instanceof NumberNode number) {
+                    constants.add(number);
+                } else {
+                    terms.add(operand);
+                }
+            }
+
+            // Since a - b - c equals a - (b + c), the constant subtrahends can be summed first
+            for (NumberNode constant : foldAll(Operation.ADDITION, constants)) {
+                NumberNode difference = terms.get(0) instanceof NumberNode minuend
+                        ? fold(Operation.SUBTRACTION, minuend, constant) : null;
+
+                if (difference != null) {
+                    terms.set(0, difference);
+                } else if (!constant.getLiteral().equals(ZERO)) {
+                    terms.add(constant);
+                }
+            }
+
+            return build(Operation.SUBTRACTION, terms, ZERO);
+        }
+
+        /**
+         * Folds the constants of a product into one trailing constant, dropped if one, replaces the product by zero
+         * if a factor is zero and no other factor may fail, and turns repeated factors into powers.
+         *
+         * @param operands the flattened operands
+         * @return the simplified product
+         */
+        private ExpressionNode simplifyProduct(List<ExpressionNode> operands) {
+            Map<ExpressionNode, Integer> multiplicities = new LinkedHashMap<>();
+            List<NumberNode> constants = new ArrayList<>();
+            boolean zero = false;
+            boolean failing = false;
+
+            for (ExpressionNode operand : operands) {
+                if (operand instanceof NumberNode number) {
+                    constants.add(number);
+                    zero |= number.getLiteral().equals(ZERO);
+                } else {
+                    multiplicities.merge(operand, 1, Integer::sum);
+                }
+
+                failing |= mayFail(operand);
+            }
+
+            if (zero && !failing) {
+                return new NumberNode(ZERO);
+            }
+
+            List<ExpressionNode> factors = new ArrayList<>();
+
+            multiplicities.forEach((factor, multiplicity) -> factors.add(multiplicity == 1 ? factor
+                    : new OperationNode(Operation.POWER, List.of(factor, number(multiplicity)))));
+
+            for (NumberNode constant : foldAll(Operation.MULTIPLICATION, constants)) {
+                if (!constant.getLiteral().equals(ONE)) {
+                    factors.add(constant);
+                }
+            }
+
+            return build(Operation.MULTIPLICATION, factors, ONE);
+        }
+
+        /**
+         * Folds the leading constants of a quotient or a power, drops the divisors and exponents equal to one after
+         * the first operand, and replaces a power by one at a zero exponent if the operands before it may not fail.
+         *
+         * @param operation the division or the power
+         * @param operands the operands, in evaluation order
+         * @return the simplified quotient or power
+         */
+        private ExpressionNode simplifyFold(Operation operation, List<ExpressionNode> operands) {
+            List<ExpressionNode> terms = new ArrayList<>();
+
+            for (ExpressionNode operand : operands) {
+                TieredComplexNumber literal = operand instanceof NumberNode number ? number.getLiteral() : null;
+                NumberNode folded = terms.size() == 1 && terms.get(0) instanceof NumberNode left
+                        && literal != null ? fold(operation, left, (NumberNode) operand) : null;
+
+                if (folded != null) {
+                    terms.set(0, folded);
+                } else if (terms.isEmpty() || !ONE.equals(literal)) {
+                    terms.add(operand);
+                }
+
+                // Any power with a zero exponent is one, so the operands before it are not needed
+                if (operation == Operation.POWER && terms.size() > 1 && ZERO.equals(literal)
+                        && !mayFail(build(operation, terms.subList(0, terms.size() - 1), ONE))) {
+                    terms.clear();
+                    terms.add(new NumberNode(ONE));
+                }
+            }
+
+            return build(operation, terms, ONE);
+        }
+
+        /**
+         * Folds a list of constants from left to right, keeping the partial results that cannot be folded further.
+         *
+         * @param operation the operation applied between the constants
+         * @param constants the constants
+         * @return the folded constants, usually a single one
+         */
+        private List<NumberNode> foldAll(Operation operation, List<NumberNode> constants) {
+            List<NumberNode> folded = new ArrayList<>();
+
+            for (NumberNode constant : constants) {
+                NumberNode result = folded.isEmpty() ? null : fold(operation, folded.get(folded.size() - 1), constant);
+
+                if (result != null) {
+                    folded.set(folded.size() - 1, result);
+                } else {
+                    folded.add(constant);
+                }
+            }
+
+            return folded;
+        }
+
+        /**
+         * Folds two constants if the {@code int}, the tiered and the rational arithmetic all give the same {@code int}
+         * result; the truncating arithmetics and the rational one differ on inexact divisions and negative powers.
+         *
+         * @param operation the operation
+         * @param left the left operand
+         * @param right the right operand
+         * @return the folded constant, or null if the operation fails, overflows or is too expensive to evaluate
+         */
+        private NumberNode fold(Operation operation, NumberNode left, NumberNode right) {
+            if (!isInt(left) || !isInt(right) || operation == Operation.POWER
+                    && Math.abs((long) right.getValue().getRe()) > MAX_FOLDED_EXPONENT) {
+                return null;
+            }
+
+            try {
+                ComplexNumber value = IntegerArithmetic.getInstance().apply(operation, left.getValue(),
+                        right.getValue());
+                TieredComplexNumber exact = TieredArithmetic.getInstance().apply(operation, left.getLiteral(),
+                        right.getLiteral());
+
+                if (exact.getTier() != NumericTier.INT || !exact.toComplexNumber().equals(value)) {
+                    return null;
+                }
+
+                RationalComplexNumber fraction = RationalArithmetic.getInstance().apply(operation,
+                        RationalComplexNumber.valueOf(left.getLiteral()),
+                        RationalComplexNumber.valueOf(right.getLiteral()));
+
+                return fraction.equals(RationalComplexNumber.valueOf(value)) ? new NumberNode(value) : null;
+            } catch (ArithmeticException e) {
+                // Leave the failure to the evaluation
+                return null;
+            }
+        }
+
+        /**
+         * Checks if evaluating a node may fail: divisions, powers with an exponent other than the constants zero and
+         * one, and literals out of the {@code int} range.
+         *
+         * @param node the node to check
+         * @return true if evaluating the node may throw an exception, false otherwise
+         */
+        private boolean mayFail(ExpressionNode node) {
+            if (node instanceof NumberNode number) {
+                return !isInt(number);
+            }
+
+            if (!(node instanceof OperationNode operation)) {
+                return false;
+            }
+
+            ExpressionNode[] operands = operation.getOperands();
+
+            for (int i = 0; i < operands.length; i++) {
+                if (mayFail(operands[i])) {
+                    return true;
+                }
+
+                // The exact arithmetics reject powers above ComplexArithmetic.MAX_POWER_BITS, so only the exponents
+                // zero and one never fail whatever the base
+                boolean safeExponent = operands[i] instanceof NumberNode exponent
+                        && exponent.getValue().getIm() == 0 && (exponent.getValue().getRe() & ~1) == 0;
+
+                if (i > 0 && (operation.getOperation() == Operation.DIVISION
+                        || operation.getOperation() == Operation.POWER && !safeExponent)) {
+                    return true;
+                }
+            }
+
+            return false;
+        }
+
+        /**
+         * Checks if a node is a literal in the {@code int} range.
+         *
+         * @param node the node to check
+         * @return true if the node is an {@code int} literal, false otherwise
+         */
+        private static boolean isInt(ExpressionNode node) {
+            return node instanceof NumberNode number && number.getLiteral().getTier() == NumericTier.INT;
+        }
+
+        /**
+         * Creates a real {@code int} literal.
+         *
+         * @param value the value of the literal
+         * @return the literal node
+         */
+        private static NumberNode number(int value) {
+            return new NumberNode(new ComplexNumber(value, 0));
+        }
+
+        /**
+         * Builds the node applying the operation on the remaining operands.
+         *
+         * @param operation the operation
+         * @param operands the remaining operands
+         * @param identity the result if no operand remains
+         * @return the single remaining operand, the identity, or a new operation node
+         */
+        private static ExpressionNode build(Operation operation, List<ExpressionNode> operands,
+                                            TieredComplexNumber identity) {
+            return switch (operands.size()) {
+                case 0 -> new NumberNode(identity);
+                case 1 -> operands.get(0);
+                default -> new OperationNode(operation, operands);
+            };
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package compiler;
+
+import nodes.ExpressionNode;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Result of an {@link ExpressionOptimizer} pass: the simplified expression tree and the number of operations it
+ * saves.
+ * <p>
+ * Operations are counted as binary steps, so an operation node over {@code n} operands counts as {@code n - 1}
+ * operations. Instances are immutable.
+ */
+public class OptimizedExpression {
+    private final ExpressionNode root;  // Root of the simplified expression tree
+    private final int operationsBefore;  // Number of operations of the original tree
+    private final int operationsAfter;  // Number of operations of the simplified tree
+
+    /**
+     * Constructs the result of an optimization pass.
+     *
+     * @param root the root of the simplified expression tree
+     * @param operationsBefore the number of operations of the original tree
+     * @param operationsAfter the number of operations of the simplified tree
+     */
+    OptimizedExpression(@NotNull ExpressionNode root, int operationsBefore, int operationsAfter) {
+        this.root = root;
+        this.operationsBefore = operationsBefore;
+        this.operationsAfter = operationsAfter;
+    }
+
+    /**
+     * Returns the root of the simplified expression tree.
+     *
+     * @return the root node
+     */
+    public ExpressionNode getRoot() {
+        return root;
+    }
+
+    /**
+     * Returns the number of operations of the original expression tree.
+     *
+     * @return the number of operations before the optimization
+     */
+    public int getOperationsBefore() {
+        return operationsBefore;
+    }
+
+    /**
+     * Returns the number of operations of the simplified expression tree.
+     *
+     * @return the number of operations after the optimization
+     */
+    public int getOperationsAfter() {
+        return operationsAfter;
+    }
+
+    /**
+     * Returns the number of operations saved by the optimization.
+     *
+     * @return the difference between the operations before and after the optimization
+     */
+    public int getSavedOperations() {
+        return operationsBefore - operationsAfter;
+    }
+
+    /**
+     * Returns the simplified expression and the number of saved operations.
+     *
+     * @return a string in the form "(a op b) [saved n of m operations]"
+     */
+    @Override
+    public String toString() {
+        return root + " [saved " + getSavedOperations() + " of " + operationsBefore + " operations]";
+    }
+}
@@ -0,0 +1,25 @@
+package compiler;
+
+import models.ComplexAccumulator;
+
+/**
+ * Closure evaluating one node of a compiled expression tree for one row of variable columns, working on the integer
+ * parts directly so that no {@link models.ComplexNumber} is allocated.
+ * <p>
+ * Each closure owns one register, given by the depth of its node: it evaluates its first operand into its own
+ * register, every further operand into the next one, and folds the latter into the former.
+ */
+@FunctionalInterface
+interface PartEvaluator {
+
+    /**
+     * Evaluates the compiled node for one row and leaves its value in the register of the node.
+     *
+     * @param re the real parts of the variables, one column per variable in the order of the compiled expression
+     * @param im the imaginary parts of the variables, in the same order
+     * @param row the index of the row in the columns
+     * @param registers the registers of the evaluation, one per depth of the compiled tree
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    void evaluate(int[][] re, int[][] im, int row, ComplexAccumulator[] registers);
+}
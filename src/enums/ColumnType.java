@@ -0,0 +1,64 @@
+package enums;
+
+/**
+ * Enum representing the types of the parts of complex numbers stored in a binary column file.
+ * <p>
+ * Each type has the tag identifying it in the file header and the size of one part, in bytes. {@link #INT32} stores
+ * the parts of {@link models.ComplexNumber}s, {@link #FLOAT64} the parts of {@link models.DoubleComplexNumber}s.
+ */
+public enum ColumnType {
+    INT32(1, Integer.BYTES),
+    FLOAT64(2, Double.BYTES);
+
+    /** The tag identifying the type in the file header */
+    private final int tag;
+
+    /** The size of one real or imaginary part, in bytes */
+    private final int elementSize;
+
+    /**
+     * Constructs a column type with the given tag and element size.
+     *
+     * @param tag the tag identifying the type in the file header
+     * @param elementSize the size of one real or imaginary part, in bytes
+     */
+    ColumnType(int tag, int elementSize) {
+        this.tag = tag;
+        this.elementSize = elementSize;
+    }
+
+    /**
+     * Returns the tag identifying the type in the file header.
+     *
+     * @return the tag
+     */
+    public int getTag() {
+        return tag;
+    }
+
+    /**
+     * Returns the size of one real or imaginary part, in bytes.
+     *
+     * @return the element size
+     */
+    public int getElementSize() {
+        return elementSize;
+    }
+
+    /**
+     * Returns the column type identified by the given header tag.
+     *
+     * @param tag the tag read from a file header
+     * @return the column type with that tag
+     * @throws IllegalArgumentException if no column type has that tag
+     */
+    public static ColumnType fromTag(int tag) {
+        for (ColumnType type : values()) {
+            if (type.tag == tag) {
+                return type;
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown column type tag: " + tag);
+    }
+}
@@ -0,0 +1,13 @@
+package enums;
+
+/**
+ * Enum representing the number formats in which the fractal renderer iterates {@code z = z * z + c}.
+ * <p>
+ * {@link #DOUBLE} iterates in {@code double} precision. {@link #FIXED_POINT} iterates on {@code int} parts with 28
+ * fraction bits, squaring through {@code long} products, which is exact and deterministic on every platform but
+ * limits the zoom to pixels of about {@code 2^-28}.
+ */
+public enum FractalPrecision {
+    DOUBLE,
+    FIXED_POINT
+}
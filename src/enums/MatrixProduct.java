@@ -0,0 +1,15 @@
+package enums;
+
+/**
+ * Enum representing the algorithms for the products of complex matrices.
+ * <p>
+ * {@link #STANDARD} computes each complex product with four real multiplications. {@link #GAUSS} uses Gauss's trick,
+ * {@code (a + b * i) * (c + d * i) = (ac - bd) + ((a + b)(c + d) - ac - bd) * i}, which trades one of the four
+ * multiplications for additions. Both give identical results, since {@code int} arithmetic wraps around exactly. On
+ * hardware where vector {@code int} multiplication is as cheap as addition, the extra additions and input stream of
+ * Gauss's product make it no faster than the standard one.
+ */
+public enum MatrixProduct {
+    STANDARD,
+    GAUSS
+}
@@ -0,0 +1,15 @@
+package enums;
+
+/**
+ * Enum representing the numeric modes in which complex arithmetic expressions can be evaluated.
+ * <p>
+ * {@link #INTEGER} is the default {@code int} arithmetic, which wraps around on overflow. {@link #TIERED} is exact
+ * integer arithmetic that starts on {@code int} values and promotes them to {@code long} and then to arbitrary
+ * precision only when an operation would overflow. {@link #RATIONAL} is exact rational arithmetic, whose divisions
+ * never truncate.
+ */
+public enum NumericMode {
+    INTEGER,
+    TIERED,
+    RATIONAL
+}
@@ -0,0 +1,13 @@
+package enums;
+
+/**
+ * Enum representing the storage tiers of an exact complex number, from the cheapest to the most general: parts that
+ * fit in an {@code int}, parts that fit in a {@code long}, and arbitrary-precision parts.
+ * <p>
+ * This enum is used to tell which arithmetic path a tiered complex number is on.
+ */
+public enum NumericTier {
+    INT,
+    LONG,
+    BIG
+}
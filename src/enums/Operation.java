@@ -1,14 +1,36 @@
 package enums;
 
 /**
- * Enum representing the four basic arithmetic operations that can be performed on complex numbers: addition,
- * subtraction, multiplication, and division.
+ * Enum representing the arithmetic operations that can be performed on complex numbers: addition, subtraction,
+ * multiplication, division, and raising to an integer power.
  * <p>
  * This enum is used to distinguish between different operations when creating complex arithmetic expressions.
  */
 public enum Operation {
-    ADDITION,
-    SUBTRACTION,
-    MULTIPLICATION,
-    DIVISION
+    ADDITION("+"),
+    SUBTRACTION("-"),
+    MULTIPLICATION("*"),
+    DIVISION("/"),
+    POWER("^");
+
+    /** The operator symbol used for the operation in expressions */
+    private final String symbol;
+
+    /**
+     * Constructs an operation with the given operator symbol.
+     *
+     * @param symbol the operator symbol
+     */
+    Operation(String symbol) {
+        this.symbol = symbol;
+    }
+
+    /**
+     * Returns the operator symbol used for the operation in expressions.
+     *
+     * @return the operator symbol
+     */
+    public String getSymbol() {
+        return symbol;
+    }
 }
@@ -0,0 +1,19 @@
+package enums;
+
+/**
+ * Enum representing the types of tokens produced when scanning a complex number expression.
+ * <p>
+ * This enum is used by the lexer to tell the parser what kind of token it has just read.
+ */
+public enum TokenType {
+    NUMBER,
+    VARIABLE,
+    PLUS,
+    MINUS,
+    STAR,
+    SLASH,
+    CARET,
+    LEFT_PARENTHESIS,
+    RIGHT_PARENTHESIS,
+    END
+}
@@ -1,6 +1,7 @@
 package factory;
 
 import enums.Operation;
+import metrics.EvaluationMetrics;
 import models.*;
 import org.jetbrains.annotations.NotNull;
 
@@ -9,12 +10,10 @@ import org.jetbrains.annotations.NotNull;
  * <p>
  * It ensures that only one instance of {@code ExpressionFactory} is created during the application's lifetime
  * and provides a method to generate different types of complex arithmetic expressions based on the input operation.
+ * The factory is stateless, so the single instance can be used from any number of threads.
  */
 public class ExpressionFactory {
 
-    /** The single instance of the factory  */
-    private static ExpressionFactory instance = null;
-
     /**
      * Private constructor to prevent external instantiation. This ensures that the class can only be instantiated
      * within itself.
@@ -24,23 +23,21 @@ public class ExpressionFactory {
     /**
      * Returns the single instance of the {@code ExpressionFactory} class.
      * <p>
-     * This method ensures lazy initialization. The instance is created only when it is first requested.
+     * This method ensures lazy initialization. The instance is created only when it is first requested, by the
+     * initialization of {@link Holder}, which the JVM performs exactly once even when several threads request the
+     * instance at the same time.
      *
      * @return the singleton instance of {@code ExpressionFactory}
      */
     public static ExpressionFactory getInstance() {
-        if (instance == null) {
-            instance = new ExpressionFactory();
-        }
-
-        return instance;
+        return Holder.INSTANCE;
     }
 
     /**
      * Creates a {@link ComplexExpression} based on the provided {@link Operation} and complex number arguments.
      * <p>
      * This method uses a {@code switch} expression to determine which type of {@link ComplexExpression}
-     * to create.
+     * to create. The operation and the number of arguments are recorded in the {@link EvaluationMetrics} if enabled.
      *
      * @param operation the arithmetic operation to be performed
      * @param args the array of {@link ComplexNumber} objects involved in the operation
@@ -48,12 +45,27 @@ public class ExpressionFactory {
      * @throws IllegalArgumentException if the operation is unknown or not supported
      */
     public ComplexExpression createExpression(@NotNull Operation operation, ComplexNumber[] args) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (metrics.isEnabled()) {
+            metrics.recordOperation(operation, args.length);
+        }
+
         return switch (operation) {
             case ADDITION -> new AdditionExpression(args);
             case SUBTRACTION -> new SubtractionExpression(args);
             case MULTIPLICATION -> new MultiplicationExpression(args);
             case DIVISION -> new DivisionExpression(args);
+            case POWER -> new PowerExpression(args);
             default -> throw new IllegalArgumentException("Unknown operation");
         };
     }
+
+    /**
+     * Holder of the single instance, initialized on the first call to {@link #getInstance()}.
+     */
+    private static class Holder {
+
+        /** The single instance of the factory */
+        private static final ExpressionFactory INSTANCE = new ExpressionFactory();
+    }
 }
@@ -0,0 +1,184 @@
+package fractal;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Escape times of the pixels of a rendered fractal, with writers for the binary PGM (grayscale) and PPM (color)
+ * formats.
+ * <p>
+ * The escape time of a pixel is the number of iterations after which its orbit left the disk of radius 2, or the
+ * maximum number of iterations for points considered inside the set. Escape times are stored row by row, from the top
+ * left pixel.
+ */
+public class FractalImage {
+
+    /** Size of the output buffer used by the writers, in bytes */
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    private final int width;  // Number of columns of pixels
+    private final int height;  // Number of rows of pixels
+    private final int maxIterations;  // Escape time of the points inside the set
+    private final int[] escapeTimes;  // Escape time of each pixel, row by row
+
+    /**
+     * Constructs an image of the given size with all escape times set to zero.
+     *
+     * @param width the number of columns of pixels
+     * @param height the number of rows of pixels
+     * @param maxIterations the escape time of the points inside the set
+     * @throws IllegalArgumentException if a dimension or the maximum number of iterations is not positive, or if the
+     *                                  image has more than {@link Integer#MAX_VALUE} pixels
+     */
+    public FractalImage(int width, int height, int maxIterations) {
+        if (width < 1 || height < 1 || (long) width * height > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid image dimensions: " + width + "x" + height);
+        }
+
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Maximum number of iterations must be positive: " + maxIterations);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.maxIterations = maxIterations;
+        this.escapeTimes = new int[width * height];
+    }
+
+    /**
+     * Returns the number of columns of pixels.
+     *
+     * @return the width of the image
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows of pixels.
+     *
+     * @return the height of the image
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the escape time of the points inside the set.
+     *
+     * @return the maximum number of iterations
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Returns the escape time of a pixel.
+     *
+     * @param column the column of the pixel, from {@code 0} on the left
+     * @param row the row of the pixel, from {@code 0} at the top
+     * @return the escape time, {@link #getMaxIterations()} for points inside the set
+     * @throws IndexOutOfBoundsException if the pixel is outside the image
+     */
+    public int getEscapeTime(int column, int row) {
+        if (column < 0 || column >= width || row < 0 || row >= height) {
+            throw new IndexOutOfBoundsException("Pixel (" + column + ", " + row + ") out of bounds for " + width + "x"
+                    + height);
+        }
+
+        return escapeTimes[row * width + column];
+    }
+
+    /**
+     * Returns the escape times of all pixels, row by row. The array is not copied, so renderers can write into it.
+     *
+     * @return the escape times
+     */
+    public int[] escapeTimes() {
+        return escapeTimes;
+    }
+
+    /**
+     * Returns the total number of iterations of the image, i.e. the sum of the escape times.
+     *
+     * @return the number of iterations
+     */
+    public long totalIterations() {
+        long total = 0;
+
+        for (int escapeTime : escapeTimes) {
+            total += escapeTime;
+        }
+
+        return total;
+    }
+
+    /**
+     * Writes the image in the binary PGM format, black inside the set and brighter the later a point escapes.
+     *
+     * @param path the file to write; created or truncated
+     * @throws IOException if writing the file fails
+     */
+    public void writePgm(@NotNull Path path) throws IOException {
+        byte[] palette = new byte[maxIterations + 1];
+
+        for (int i = 0; i < maxIterations; i++) {
+            // The square root spreads the many early escapes over more gray levels
+            palette[i] = (byte) Math.round(255 * Math.sqrt((double) i / maxIterations));
+        }
+
+        write(path, "P5", palette, 1);
+    }
+
+    /**
+     * Writes the image in the binary PPM format, black inside the set and colored by escape time outside.
+     *
+     * @param path the file to write; created or truncated
+     * @throws IOException if writing the file fails
+     */
+    public void writePpm(@NotNull Path path) throws IOException {
+        byte[] palette = new byte[3 * (maxIterations + 1)];
+
+        for (int i = 0; i < maxIterations; i++) {
+            double t = (double) i / maxIterations;
+
+            // Bernstein polynomials: dark blue for early escapes, through orange, to dark red near the set
+            palette[3 * i] = (byte) Math.round(255 * 9 * (1 - t) * t * t * t);
+            palette[3 * i + 1] = (byte) Math.round(255 * 15 * (1 - t) * (1 - t) * t * t);
+            palette[3 * i + 2] = (byte) Math.round(255 * 8.5 * (1 - t) * (1 - t) * (1 - t) * t);
+        }
+
+        write(path, "P6", palette, 3);
+    }
+
+    /**
+     * Writes the image in the format of the given PNM magic number, mapping each escape time through a palette.
+     *
+     * @param path the file to write; created or truncated
+     * @param magic the magic number of the format
+     * @param palette the bytes of each escape time, {@code channels} bytes per escape time
+     * @param channels the number of bytes per pixel
+     * @throws IOException if writing the file fails
+     */
+    private void write(Path path, String magic, byte[] palette, int channels) throws IOException {
+        byte[] row = new byte[width * channels];
+
+        try (OutputStream output = new BufferedOutputStream(Files.newOutputStream(path), OUTPUT_BUFFER_SIZE)) {
+            output.write((magic + "\n" + width + " " + height + "\n255\n").getBytes(StandardCharsets.US_ASCII));
+
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    System.arraycopy(palette, escapeTimes[y * width + x] * channels, row, x * channels, channels);
+                }
+
+                output.write(row);
+            }
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package fractal;
+
+import enums.FractalPrecision;
+import models.ComplexNumber;
+import models.DoubleComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Renders the Mandelbrot set and Julia sets by iterating {@code z = z * z + c} for every pixel until {@code |z| > 2}.
+ * <p>
+ * The square is the {@link ComplexNumber#multiply(ComplexNumber)} formula with equal operands,
+ * {@code (a + b * i)^2 = (a^2 - b^2) + 2ab * i}, computed on primitive parts so the inner loop allocates nothing, in
+ * the {@link FractalPrecision precision} chosen at construction. The image is split into tiles of
+ * {@value #TILE_SIZE} pixels rendered by fork-join tasks; since points near the set take many more iterations than
+ * points far from it, idle workers steal the pending tiles of busy ones and the load stays balanced.
+ * <p>
+ * With interior checks enabled, two shortcuts skip most of the work spent on points inside the set, which otherwise
+ * run the maximum number of iterations:
+ * <ul>
+ *     <li>for the Mandelbrot set, points of the main cardioid and of the period-2 bulb are recognized by a closed
+ *     formula without iterating;</li>
+ *     <li>for both kinds of sets, the orbit is compared with a checkpoint that moves at exponentially growing
+ *     intervals (Brent's cycle detection), and the iteration stops as soon as the orbit repeats exactly.</li>
+ * </ul>
+ * An orbit that repeats exactly never escapes, so the periodicity check does not change any escape time; the
+ * cardioid and bulb checks may only change the escape times of points within rounding distance of their boundaries.
+ * Instances are immutable and can render several images concurrently.
+ */
+public class FractalRenderer {
+
+    /** Side of the square tiles rendered sequentially by a single task, in pixels */
+    public static final int TILE_SIZE = 32;
+
+    /** Number of fraction bits of the fixed-point parts, which leaves a range of {@code [-8, 8)} */
+    static final int FRACTION_BITS = 28;
+
+    /** Square of the escape radius in fixed point */
+    private static final long FIXED_FOUR = 4L << FRACTION_BITS;
+
+    /** Number of iterations before the first periodicity checkpoint moves */
+    private static final int FIRST_PERIOD = 8;
+
+    private final int maxIterations;  // Escape time of the points considered inside the set
+    private final FractalPrecision precision;  // Number format of the iteration
+    private final boolean interiorChecks;  // Whether the cardioid, bulb and periodicity checks are enabled
+    private final ForkJoinPool pool;  // Pool running the tile tasks
+
+    /**
+     * Constructs a renderer with interior checks, running on the common {@link ForkJoinPool}.
+     *
+     * @param maxIterations the escape time of the points considered inside the set
+     * @param precision the number format of the iteration
+     * @throws IllegalArgumentException if the maximum number of iterations is not positive
+     */
+    public FractalRenderer(int maxIterations, @NotNull FractalPrecision precision) {
+        this(maxIterations, precision, true, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a renderer running on the given pool.
+     *
+     * @param maxIterations the escape time of the points considered inside the set
+     * @param precision the number format of the iteration
+     * @param interiorChecks whether the cardioid, bulb and periodicity checks are enabled
+     * @param pool the pool running the tile tasks
+     * @throws IllegalArgumentException if the maximum number of iterations is not positive
+     */
+    public FractalRenderer(int maxIterations, @NotNull FractalPrecision precision, boolean interiorChecks,
+                           @NotNull ForkJoinPool pool) {
+        if (maxIterations < 1) {
+            throw new IllegalArgumentException("Maximum number of iterations must be positive: " + maxIterations);
+        }
+
+        this.maxIterations = maxIterations;
+        this.precision = precision;
+        this.interiorChecks = interiorChecks;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the escape time of the points considered inside the set.
+     *
+     * @return the maximum number of iterations
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Returns the number format of the iteration.
+     *
+     * @return the precision
+     */
+    public FractalPrecision getPrecision() {
+        return precision;
+    }
+
+    /**
+     * Returns whether the cardioid, bulb and periodicity checks are enabled.
+     *
+     * @return true if interior points are detected early, false otherwise
+     */
+    public boolean hasInteriorChecks() {
+        return interiorChecks;
+    }
+
+    /**
+     * Returns the pool running the tile tasks.
+     *
+     * @return the pool
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Renders the Mandelbrot set, iterating from {@code z = 0} with {@code c} the sample point of each pixel.
+     *
+     * @param view the rectangle of the complex plane to render
+     * @return the escape time of each pixel
+     * @throws IllegalArgumentException if the view has more than {@link Integer#MAX_VALUE} pixels
+     */
+    public FractalImage renderMandelbrot(@NotNull FractalView view) {
+        return render(view, false, 0, 0);
+    }
+
+    /**
+     * Renders the Julia set of the given constant, iterating from {@code z} the sample point of each pixel.
+     *
+     * @param view the rectangle of the complex plane to render
+     * @param c the constant added at every iteration
+     * @return the escape time of each pixel
+     * @throws IllegalArgumentException if the view has more than {@link Integer#MAX_VALUE} pixels, or if the
+     *                                  precision is fixed-point and a part of the constant is outside {@code [-2, 2]}
+     */
+    public FractalImage renderJulia(@NotNull FractalView view, @NotNull DoubleComplexNumber c) {
+        // Keeps every iterate within the fixed-point range: |z^2| <= 4 before escaping, plus at most 2 per part
+        if (precision == FractalPrecision.FIXED_POINT && !(Math.abs(c.getRe()) <= 2 && Math.abs(c.getIm()) <= 2)) {
+            throw new IllegalArgumentException("Julia constant out of the fixed-point range: " + c);
+        }
+
+        return render(view, true, c.getRe(), c.getIm());
+    }
+
+    /**
+     * Renders a view on the pool, one task per tile.
+     *
+     * @param view the rectangle of the complex plane to render
+     * @param julia whether a Julia set is rendered rather than the Mandelbrot set
+     * @param cRe the real part of the Julia constant
+     * @param cIm the imaginary part of the Julia constant
+     * @return the escape time of each pixel
+     */
+    private FractalImage render(FractalView view, boolean julia, double cRe, double cIm) {
+        FractalImage image = new FractalImage(view.getWidth(), view.getHeight(), maxIterations);
+
+        pool.invoke(new FractalTileTask(this, view, image, julia, cRe, cIm, 0, view.getHeight(), 0,
+                view.getWidth()));
+
+        return image;
+    }
+
+    /**
+     * Renders the rows {@code [rowFrom, rowTo)} and columns {@code [columnFrom, columnTo)} of a view sequentially.
+     *
+     * @param view the rectangle of the complex plane to render
+     * @param image the image receiving the escape times
+     * @param julia whether a Julia set is rendered rather than the Mandelbrot set
+     * @param cRe the real part of the Julia constant
+     * @param cIm the imaginary part of the Julia constant
+     * @param rowFrom the first row of the rectangle, inclusive
+     * @param rowTo the last row of the rectangle, exclusive
+     * @param columnFrom the first column of the rectangle, inclusive
+     * @param columnTo the last column of the rectangle, exclusive
+     */
+    void renderTile(FractalView view, FractalImage image, boolean julia, double cRe, double cIm, int rowFrom,
+                    int rowTo, int columnFrom, int columnTo) {
+        int[] escapeTimes = image.escapeTimes();
+        int width = view.getWidth();
+
+        for (int row = rowFrom; row < rowTo; row++) {
+            double im = view.im(row);
+
+            for (int column = columnFrom; column < columnTo; column++) {
+                double re = view.re(column);
+
+                escapeTimes[row * width + column] = julia ? escapeTime(re, im, cRe, cIm)
+                        : mandelbrotEscapeTime(re, im);
+            }
+        }
+    }
+
+    /**
+     * Returns the escape time of a point of the Mandelbrot set.
+     *
+     * @param cRe the real part of the point
+     * @param cIm the imaginary part of the point
+     * @return the escape time, {@link #maxIterations} for points considered inside the set
+     */
+    private int mandelbrotEscapeTime(double cRe, double cIm) {
+        if (interiorChecks) {
+            double x = cRe - 0.25;
+            double q = x * x + cIm * cIm;
+
+            // Main cardioid, then period-2 bulb centered on -1 with radius 1/4
+            if (q * (q + x) <= 0.25 * cIm * cIm || (cRe + 1) * (cRe + 1) + cIm * cIm <= 0.0625) {
+                return maxIterations;
+            }
+        }
+
+        // The first iterate is c itself, which escapes at once if a part is outside [-2, 2]
+        if (!(Math.abs(cRe) <= 2 && Math.abs(cIm) <= 2)) {
+            return 1;
+        }
+
+        return escapeTime(0, 0, cRe, cIm);
+    }
+
+    /**
+     * Returns the escape time of the orbit of {@code z} under {@code z = z * z + c}, in the precision of this
+     * renderer.
+     *
+     * @param zRe the real part of the first iterate
+     * @param zIm the imaginary part of the first iterate
+     * @param cRe the real part of the constant, within {@code [-2, 2]} in fixed point
+     * @param cIm the imaginary part of the constant, within {@code [-2, 2]} in fixed point
+     * @return the escape time, {@link #maxIterations} for points considered inside the set
+     */
+    private int escapeTime(double zRe, double zIm, double cRe, double cIm) {
+        // A part outside [-2, 2] puts the first iterate outside the escape radius
+        if (!(Math.abs(zRe) <= 2 && Math.abs(zIm) <= 2)) {
+            return 0;
+        }
+
+        return switch (precision) {
+            case DOUBLE -> iterateDouble(zRe, zIm, cRe, cIm, maxIterations, interiorChecks);
+            case FIXED_POINT -> iterateFixed(toFixed(zRe), toFixed(zIm), toFixed(cRe), toFixed(cIm), maxIterations,
+                    interiorChecks);
+        };
+    }
+
+    /**
+     * Iterates {@code z = z * z + c} in {@code double} precision until {@code |z| > 2}.
+     *
+     * @param zRe the real part of the first iterate
+     * @param zIm the imaginary part of the first iterate
+     * @param cRe the real part of the constant
+     * @param cIm the imaginary part of the constant
+     * @param maxIterations the maximum number of iterations
+     * @param periodicity whether to stop when the orbit repeats exactly
+     * @return the number of iterations before escaping, or {@code maxIterations}
+     */
+    static int iterateDouble(double zRe, double zIm, double cRe, double cIm, int maxIterations,
+                             boolean periodicity) {
+        double checkRe = zRe;
+        double checkIm = zIm;
+        int period = 0;
+        int limit = FIRST_PERIOD;
+
+        for (int n = 0; n < maxIterations; n++) {
+            double re2 = zRe * zRe;
+            double im2 = zIm * zIm;
+
+            if (re2 + im2 > 4) {
+                return n;
+            }
+
+            zIm = 2 * zRe * zIm + cIm;
+            zRe = re2 - im2 + cRe;
+
+            if (periodicity) {
+                if (zRe == checkRe && zIm == checkIm) {
+                    return maxIterations;
+                }
+
+                // Move the checkpoint at doubling intervals, so that a cycle of any length is eventually caught
+                if (++period == limit) {
+                    period = 0;
+                    limit <<= 1;
+                    checkRe = zRe;
+                    checkIm = zIm;
+                }
+            }
+        }
+
+        return maxIterations;
+    }
+
+    /**
+     * Iterates {@code z = z * z + c} in fixed point until {@code |z| > 2}. Parts have {@value #FRACTION_BITS}
+     * fraction bits and products are computed on {@code long}s, then truncated back to the same scale.
+     *
+     * @param zRe the real part of the first iterate, within {@code [-2, 2]}
+     * @param zIm the imaginary part of the first iterate, within {@code [-2, 2]}
+     * @param cRe the real part of the constant, within {@code [-2, 2]}
+     * @param cIm the imaginary part of the constant, within {@code [-2, 2]}
+     * @param maxIterations the maximum number of iterations
+     * @param periodicity whether to stop when the orbit repeats exactly
+     * @return the number of iterations before escaping, or {@code maxIterations}
+     */
+    static int iterateFixed(int zRe, int zIm, int cRe, int cIm, int maxIterations, boolean periodicity) {
+        int checkRe = zRe;
+        int checkIm = zIm;
+        int period = 0;
+        int limit = FIRST_PERIOD;
+
+        for (int n = 0; n < maxIterations; n++) {
+            long re2 = (long) zRe * zRe >> FRACTION_BITS;
+            long im2 = (long) zIm * zIm >> FRACTION_BITS;
+
+            if (re2 + im2 > FIXED_FOUR) {
+                return n;
+            }
+
+            // Before escaping |z^2| <= 4, so both parts stay within [-6, 6] after adding c
+            zIm = (int) (((long) zRe * zIm >> (FRACTION_BITS - 1)) + cIm);
+            zRe = (int) (re2 - im2 + cRe);
+
+            if (periodicity) {
+                if (zRe == checkRe && zIm == checkIm) {
+                    return maxIterations;
+                }
+
+                if (++period == limit) {
+                    period = 0;
+                    limit <<= 1;
+                    checkRe = zRe;
+                    checkIm = zIm;
+                }
+            }
+        }
+
+        return maxIterations;
+    }
+
+    /**
+     * Converts a number within the fixed-point range to the nearest fixed-point value.
+     *
+     * @param value the number to convert
+     * @return the fixed-point value
+     */
+    static int toFixed(double value) {
+        return (int) Math.round(value * (1 << FRACTION_BITS));
+    }
+}
@@ -0,0 +1,105 @@
+package fractal;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Statistics collected while rendering a fractal image.
+ */
+public class FractalSummary {
+    private final long pixels;  // Number of pixels rendered
+    private final long iterations;  // Sum of the escape times of the pixels
+    private final int cores;  // Number of workers rendering the image
+    private final long elapsedNanos;  // Wall-clock rendering time
+
+    /**
+     * Constructs a summary with the given statistics.
+     *
+     * @param pixels the number of pixels rendered
+     * @param iterations the sum of the escape times of the pixels
+     * @param cores the number of workers rendering the image
+     * @param elapsedNanos the wall-clock rendering time, in nanoseconds
+     */
+    public FractalSummary(long pixels, long iterations, int cores, long elapsedNanos) {
+        this.pixels = pixels;
+        this.iterations = iterations;
+        this.cores = cores;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Constructs the summary of a rendered image.
+     *
+     * @param image the rendered image
+     * @param cores the number of workers rendering the image
+     * @param elapsedNanos the wall-clock rendering time, in nanoseconds
+     */
+    public FractalSummary(@NotNull FractalImage image, int cores, long elapsedNanos) {
+        this((long) image.getWidth() * image.getHeight(), image.totalIterations(), cores, elapsedNanos);
+    }
+
+    /**
+     * Returns the number of pixels rendered.
+     *
+     * @return the number of pixels
+     */
+    public long getPixels() {
+        return pixels;
+    }
+
+    /**
+     * Returns the sum of the escape times of the pixels, an upper bound of the iterations actually computed when
+     * interior points are detected early.
+     *
+     * @return the number of iterations
+     */
+    public long getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the number of workers rendering the image.
+     *
+     * @return the number of cores
+     */
+    public int getCores() {
+        return cores;
+    }
+
+    /**
+     * Returns the wall-clock rendering time.
+     *
+     * @return the elapsed time, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the rendering throughput in megapixels (10^6 pixels) per second.
+     *
+     * @return the number of megapixels rendered per second
+     */
+    public double megapixelsPerSecond() {
+        return elapsedNanos == 0 ? 0 : pixels * 1e3 / elapsedNanos;
+    }
+
+    /**
+     * Returns the rendering throughput in megapixels per second and per core.
+     *
+     * @return the number of megapixels rendered per second by each core
+     */
+    public double megapixelsPerSecondPerCore() {
+        return megapixelsPerSecond() / cores;
+    }
+
+    /**
+     * Returns a one-line, human-readable summary.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%d pixels, %d iterations in %.3f s on %d cores: %.2f MP/s, %.2f MP/s per core", pixels,
+                iterations, elapsedNanos / 1e9, cores, megapixelsPerSecond(), megapixelsPerSecondPerCore());
+    }
+}
@@ -0,0 +1,96 @@
+package fractal;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task that renders a rectangle of tiles of a {@link FractalImage}.
+ * <p>
+ * Rectangles spanning more than one tile are split in two along their longer side, on a tile boundary, and the halves
+ * are rendered concurrently. Escape times vary widely between tiles, so the halves are usually uneven; workers that
+ * run out of tiles steal the pending halves of the others. Every pixel belongs to exactly one tile, so the tasks never
+ * write the same escape time.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class FractalTileTask extends RecursiveAction {
+    private final FractalRenderer renderer;  // Renderer computing the escape times
+    private final FractalView view;  // Rectangle of the complex plane being rendered
+    private final FractalImage image;  // Image receiving the escape times
+    private final boolean julia;  // Whether a Julia set is rendered rather than the Mandelbrot set
+    private final double cRe;  // Real part of the Julia constant
+    private final double cIm;  // Imaginary part of the Julia constant
+    private final int rowFrom;  // First row of the rectangle, inclusive
+    private final int rowTo;  // Last row of the rectangle, exclusive
+    private final int columnFrom;  // First column of the rectangle, inclusive
+    private final int columnTo;  // Last column of the rectangle, exclusive
+
+    /**
+     * Constructs a task rendering the rows {@code [rowFrom, rowTo)} and columns {@code [columnFrom, columnTo)} of a
+     * view.
+     *
+     * @param renderer the renderer computing the escape times
+     * @param view the rectangle of the complex plane being rendered
+     * @param image the image receiving the escape times
+     * @param julia whether a Julia set is rendered rather than the Mandelbrot set
+     * @param cRe the real part of the Julia constant
+     * @param cIm the imaginary part of the Julia constant
+     * @param rowFrom the first row of the rectangle, inclusive
+     * @param rowTo the last row of the rectangle, exclusive
+     * @param columnFrom the first column of the rectangle, inclusive
+     * @param columnTo the last column of the rectangle, exclusive
+     */
+    FractalTileTask(FractalRenderer renderer, FractalView view, FractalImage image, boolean julia, double cRe,
+                    double cIm, int rowFrom, int rowTo, int columnFrom, int columnTo) {
+        this.renderer = renderer;
+        this.view = view;
+        this.image = image;
+        this.julia = julia;
+        this.cRe = cRe;
+        this.cIm = cIm;
+        this.rowFrom = rowFrom;
+        this.rowTo = rowTo;
+        this.columnFrom = columnFrom;
+        this.columnTo = columnTo;
+    }
+
+    /**
+     * Renders the rectangle, splitting it when it spans more than one tile.
+     */
+    @Override
+    protected void compute() {
+        int height = rowTo - rowFrom;
+        int width = columnTo - columnFrom;
+
+        if (height <= FractalRenderer.TILE_SIZE && width <= FractalRenderer.TILE_SIZE) {
+            renderer.renderTile(view, image, julia, cRe, cIm, rowFrom, rowTo, columnFrom, columnTo);
+            return;
+        }
+
+        if (height >= width) {
+            int middle = rowFrom + split(height);
+
+            invokeAll(new FractalTileTask(renderer, view, image, julia, cRe, cIm, rowFrom, middle, columnFrom,
+                            columnTo),
+                    new FractalTileTask(renderer, view, image, julia, cRe, cIm, middle, rowTo, columnFrom,
+                            columnTo));
+        } else {
+            int middle = columnFrom + split(width);
+
+            invokeAll(new FractalTileTask(renderer, view, image, julia, cRe, cIm, rowFrom, rowTo, columnFrom,
+                            middle),
+                    new FractalTileTask(renderer, view, image, julia, cRe, cIm, rowFrom, rowTo, middle,
+                            columnTo));
+        }
+    }
+
+    /**
+     * Returns the offset of the tile boundary closest to the middle of a span of more than one tile.
+     *
+     * @param span the length of the span
+     * @return the offset of the split, a positive multiple of the tile size below the span
+     */
+    private static int split(int span) {
+        int tiles = (span + FractalRenderer.TILE_SIZE - 1) / FractalRenderer.TILE_SIZE;
+
+        return tiles / 2 * FractalRenderer.TILE_SIZE;
+    }
+}
@@ -0,0 +1,149 @@
+package fractal;
+
+import models.DoubleComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Rectangle of the complex plane sampled on a grid of pixels.
+ * <p>
+ * Pixels are square and centered on their sample point; column {@code 0} is on the left and row {@code 0} at the top,
+ * so the imaginary part decreases from the first row to the last. Instances are immutable.
+ */
+public class FractalView {
+
+    /** Distance between the left and the right edges of the view of the whole Mandelbrot set */
+    public static final double MANDELBROT_SPAN = 3.5;
+
+    /** The center of the view of the whole Mandelbrot set */
+    public static final DoubleComplexNumber MANDELBROT_CENTER = new DoubleComplexNumber(-0.75, 0);
+
+    private final int width;  // Number of columns of pixels
+    private final int height;  // Number of rows of pixels
+    private final DoubleComplexNumber center;  // Complex number at the center of the view
+    private final double pixelSize;  // Distance between the sample points of adjacent pixels
+
+    /**
+     * Constructs a view of the given size around the given center.
+     *
+     * @param width the number of columns of pixels
+     * @param height the number of rows of pixels
+     * @param center the complex number at the center of the view
+     * @param pixelSize the distance between the sample points of adjacent pixels
+     * @throws IllegalArgumentException if a dimension or the pixel size is not positive
+     */
+    public FractalView(int width, int height, @NotNull DoubleComplexNumber center, double pixelSize) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("View dimensions must be positive: " + width + "x" + height);
+        }
+
+        if (!(pixelSize > 0) || Double.isInfinite(pixelSize)) {
+            throw new IllegalArgumentException("Pixel size must be positive: " + pixelSize);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.center = center;
+        this.pixelSize = pixelSize;
+    }
+
+    /**
+     * Creates a view of the given size around the given center, spanning the given distance horizontally.
+     *
+     * @param width the number of columns of pixels
+     * @param height the number of rows of pixels
+     * @param center the complex number at the center of the view
+     * @param span the distance between the left and the right edges of the view
+     * @return the view
+     * @throws IllegalArgumentException if a dimension or the span is not positive
+     */
+    public static FractalView spanning(int width, int height, @NotNull DoubleComplexNumber center, double span) {
+        return new FractalView(width, height, center, span / Math.max(width, 1));
+    }
+
+    /**
+     * Creates a view of the given size showing the whole Mandelbrot set.
+     *
+     * @param width the number of columns of pixels
+     * @param height the number of rows of pixels
+     * @return the view
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public static FractalView mandelbrot(int width, int height) {
+        return spanning(width, height, MANDELBROT_CENTER, MANDELBROT_SPAN);
+    }
+
+    /**
+     * Returns the number of columns of pixels.
+     *
+     * @return the width of the view
+     */
+    public int getWidth() {
+        return width;
+    }
+
+    /**
+     * Returns the number of rows of pixels.
+     *
+     * @return the height of the view
+     */
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Returns the complex number at the center of the view.
+     *
+     * @return the center
+     */
+    public DoubleComplexNumber getCenter() {
+        return center;
+    }
+
+    /**
+     * Returns the distance between the sample points of adjacent pixels.
+     *
+     * @return the pixel size
+     */
+    public double getPixelSize() {
+        return pixelSize;
+    }
+
+    /**
+     * Returns the number of pixels of the view.
+     *
+     * @return the width times the height
+     */
+    public long pixels() {
+        return (long) width * height;
+    }
+
+    /**
+     * Returns the real part of the sample points of a column.
+     *
+     * @param column the column, from {@code 0} on the left
+     * @return the real part
+     */
+    public double re(int column) {
+        return center.getRe() + (column - (width - 1) / 2.0) * pixelSize;
+    }
+
+    /**
+     * Returns the imaginary part of the sample points of a row.
+     *
+     * @param row the row, from {@code 0} at the top
+     * @return the imaginary part
+     */
+    public double im(int row) {
+        return center.getIm() - (row - (height - 1) / 2.0) * pixelSize;
+    }
+
+    /**
+     * Returns a string representation of the view.
+     *
+     * @return a string in the form "width x height around center, pixel size"
+     */
+    @Override
+    public String toString() {
+        return width + "x" + height + " around " + center + ", pixel size " + pixelSize;
+    }
+}
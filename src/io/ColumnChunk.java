@@ -0,0 +1,214 @@
+package io;
+
+import enums.ColumnType;
+import models.ComplexArray;
+import models.ComplexNumber;
+import models.DoubleComplexNumber;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.IntBuffer;
+
+/**
+ * Zero-copy view of a contiguous range of the complex numbers of a column file.
+ * <p>
+ * The view wraps two read-only little-endian buffers, usually mapped straight from the file by a
+ * {@link ComplexColumnReader}, holding the real and the imaginary parts of the range. Reading an element or taking a
+ * typed view of the columns never copies the data; the pages are loaded by the operating system on first access and
+ * may be evicted again under memory pressure, so ranges larger than the available RAM can be processed.
+ */
+public class ColumnChunk {
+    private final ColumnType type;  // Type of the real and imaginary parts
+    private final long offset;  // Index of the first complex number of the chunk in the file
+    private final int length;  // Number of complex numbers in the chunk
+    private final ByteBuffer re;  // Real parts, little-endian, from index zero
+    private final ByteBuffer im;  // Imaginary parts, little-endian, from index zero
+
+    /**
+     * Constructs a view over the given buffers of parts.
+     *
+     * @param type the type of the real and imaginary parts
+     * @param offset the index of the first complex number of the chunk in the file
+     * @param length the number of complex numbers in the chunk
+     * @param re the real parts, from index zero of the buffer
+     * @param im the imaginary parts, from index zero of the buffer
+     */
+    ColumnChunk(ColumnType type, long offset, int length, ByteBuffer re, ByteBuffer im) {
+        this.type = type;
+        this.offset = offset;
+        this.length = length;
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Returns the type of the real and imaginary parts.
+     *
+     * @return the column type
+     */
+    public ColumnType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index of the first complex number of this chunk in the file.
+     *
+     * @return the offset of the chunk
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Returns the number of complex numbers in this chunk.
+     *
+     * @return the length of the chunk
+     */
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the raw bytes of the real parts, a read-only little-endian buffer whose element {@code i} starts at
+     * byte {@code i * getType().getElementSize()}. Each call returns an independent duplicate of the same memory.
+     *
+     * @return the buffer of the real parts
+     */
+    public ByteBuffer realBytes() {
+        return re.duplicate().order(re.order());
+    }
+
+    /**
+     * Returns the raw bytes of the imaginary parts, a read-only little-endian buffer whose element {@code i} starts at
+     * byte {@code i * getType().getElementSize()}. Each call returns an independent duplicate of the same memory.
+     *
+     * @return the buffer of the imaginary parts
+     */
+    public ByteBuffer imaginaryBytes() {
+        return im.duplicate().order(im.order());
+    }
+
+    /**
+     * Returns a zero-copy view of the real parts of an {@link ColumnType#INT32 INT32} chunk.
+     *
+     * @return the real parts
+     * @throws IllegalStateException if the chunk does not hold {@code int} parts
+     */
+    public IntBuffer realInts() {
+        checkType(ColumnType.INT32);
+        return re.asIntBuffer();
+    }
+
+    /**
+     * Returns a zero-copy view of the imaginary parts of an {@link ColumnType#INT32 INT32} chunk.
+     *
+     * @return the imaginary parts
+     * @throws IllegalStateException if the chunk does not hold {@code int} parts
+     */
+    public IntBuffer imaginaryInts() {
+        checkType(ColumnType.INT32);
+        return im.asIntBuffer();
+    }
+
+    /**
+     * Returns a zero-copy view of the real parts of a {@link ColumnType#FLOAT64 FLOAT64} chunk.
+     *
+     * @return the real parts
+     * @throws IllegalStateException if the chunk does not hold {@code double} parts
+     */
+    public DoubleBuffer realDoubles() {
+        checkType(ColumnType.FLOAT64);
+        return re.asDoubleBuffer();
+    }
+
+    /**
+     * Returns a zero-copy view of the imaginary parts of a {@link ColumnType#FLOAT64 FLOAT64} chunk.
+     *
+     * @return the imaginary parts
+     * @throws IllegalStateException if the chunk does not hold {@code double} parts
+     */
+    public DoubleBuffer imaginaryDoubles() {
+        checkType(ColumnType.FLOAT64);
+        return im.asDoubleBuffer();
+    }
+
+    /**
+     * Returns the complex number at the given index of an {@link ColumnType#INT32 INT32} chunk.
+     *
+     * @param index the index within the chunk
+     * @return the complex number at that index
+     * @throws IllegalStateException if the chunk does not hold {@code int} parts
+     * @throws IndexOutOfBoundsException if the index is outside the chunk
+     */
+    public ComplexNumber get(int index) {
+        checkType(ColumnType.INT32);
+        checkIndex(index);
+
+        return new ComplexNumber(re.getInt(index * Integer.BYTES), im.getInt(index * Integer.BYTES));
+    }
+
+    /**
+     * Returns the complex number at the given index of a {@link ColumnType#FLOAT64 FLOAT64} chunk.
+     *
+     * @param index the index within the chunk
+     * @return the complex number at that index
+     * @throws IllegalStateException if the chunk does not hold {@code double} parts
+     * @throws IndexOutOfBoundsException if the index is outside the chunk
+     */
+    public DoubleComplexNumber getDouble(int index) {
+        checkType(ColumnType.FLOAT64);
+        checkIndex(index);
+
+        return new DoubleComplexNumber(re.getDouble(index * Double.BYTES), im.getDouble(index * Double.BYTES));
+    }
+
+    /**
+     * Copies the parts of an {@link ColumnType#INT32 INT32} chunk into a new array, e.g. to run the element-wise
+     * operations of {@link ComplexArray} on it.
+     *
+     * @return a new array holding the complex numbers of the chunk
+     * @throws IllegalStateException if the chunk does not hold {@code int} parts
+     */
+    public ComplexArray toComplexArray() {
+        ComplexArray array = new ComplexArray(length);
+
+        realInts().get(array.realParts());
+        imaginaryInts().get(array.imaginaryParts());
+
+        return array;
+    }
+
+    /**
+     * Returns a string representation of the chunk.
+     *
+     * @return a string in the form "TYPE[offset, offset + length)"
+     */
+    @Override
+    public String toString() {
+        return type + "[" + offset + ", " + (offset + length) + ")";
+    }
+
+    /**
+     * Checks that the chunk holds parts of the given type.
+     *
+     * @param expected the expected column type
+     * @throws IllegalStateException if the chunk holds parts of another type
+     */
+    private void checkType(ColumnType expected) {
+        if (type != expected) {
+            throw new IllegalStateException("Chunk holds " + type + " parts, not " + expected);
+        }
+    }
+
+    /**
+     * Checks that the given index lies within the chunk.
+     *
+     * @param index the index to check
+     * @throws IndexOutOfBoundsException if the index is outside the chunk
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= length) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + length);
+        }
+    }
+}
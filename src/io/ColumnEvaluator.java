@@ -0,0 +1,344 @@
+package io;
+
+import compiler.CompiledExpression;
+import enums.ColumnType;
+import enums.Operation;
+import kernels.ComplexKernels;
+import models.ComplexAccumulator;
+import models.ComplexArray;
+import models.ComplexExpression;
+import models.ComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Bulk evaluation of complex expressions over the memory-mapped columns of {@link ColumnType#INT32 INT32} column
+ * files.
+ * <p>
+ * Files are processed chunk by chunk, so memory use is bounded by the chunk length regardless of the file size.
+ * Reductions run the {@link ComplexKernels#preferred() preferred} kernels straight over the mapped bytes, without
+ * copying them; element-wise operations copy each pair of input chunks into reused {@link ComplexArray}s, combine
+ * them in place and stream the results into a new column file. Whole {@link CompiledExpression}s are evaluated the same
+ * way, with one input file per variable. Results are identical to the corresponding {@link ComplexExpression},
+ * {@link ComplexArray} and {@link CompiledExpression} operations, including {@code int} wrap-around and truncating
+ * division.
+ */
+public final class ColumnEvaluator {
+
+    /** The arithmetic kernels used for all bulk operations */
+    private static final ComplexKernels KERNELS = ComplexKernels.preferred();
+
+    /**
+     * Prevents instantiation of this utility class.
+     */
+    private ColumnEvaluator() {}
+
+    /**
+     * Folds all complex numbers of the file from left to right using the given operation, with chunks of the
+     * {@link ComplexColumnReader#DEFAULT_CHUNK_LENGTH default length}.
+     *
+     * @param input the file to reduce
+     * @param operation the operation to apply between consecutive complex numbers
+     * @return the result of the fold
+     * @throws IOException if mapping the file fails
+     * @throws IllegalStateException if the file is empty or does not hold {@code int} parts
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     * @see #reduce(ComplexColumnReader, Operation, int)
+     */
+    public static ComplexNumber reduce(@NotNull ComplexColumnReader input, @NotNull Operation operation)
+            throws IOException {
+        return reduce(input, operation, ComplexColumnReader.DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * Folds all complex numbers of the file from left to right using the given operation.
+     * <p>
+     * The result is identical to executing the {@link ComplexExpression} created for the same operation over all
+     * complex numbers of the file. Sums, products and differences run the vectorized reductions over each mapped
+     * chunk; since wrapping {@code int} arithmetic is exact, {@code a - b - c - ...} is computed as
+     * {@code a - (b + c + ...)}. Quotients and powers depend on the order of the operands and are folded element by
+     * element.
+     *
+     * @param input the file to reduce
+     * @param operation the operation to apply between consecutive complex numbers
+     * @param chunkLength the number of complex numbers mapped at once
+     * @return the result of the fold
+     * @throws IOException if mapping the file fails
+     * @throws IllegalStateException if the file is empty or does not hold {@code int} parts
+     * @throws IllegalArgumentException if the chunk length is not positive
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public static ComplexNumber reduce(@NotNull ComplexColumnReader input, @NotNull Operation operation,
+                                       int chunkLength) throws IOException {
+        checkType(input);
+
+        if (input.length() == 0) {
+            throw new IllegalStateException("Cannot reduce an empty column file");
+        }
+
+        ComplexAccumulator result = new ComplexAccumulator();
+        boolean first = true;
+
+        try {
+            for (ColumnChunk chunk : input.chunks(chunkLength)) {
+                ByteBuffer re = chunk.realBytes();
+                ByteBuffer im = chunk.imaginaryBytes();
+                int length = chunk.length();
+
+                switch (operation) {
+                    case ADDITION -> result.addInPlace(KERNELS.sum(re, im, length));
+                    case SUBTRACTION -> {
+                        ComplexNumber sum = KERNELS.sum(re, im, length);
+
+                        // Start from twice the minuend, since the sum of the first chunk subtracts it once
+                        if (first) {
+                            result.set(re.getInt(0), im.getInt(0)).addInPlace(re.getInt(0), im.getInt(0));
+                        }
+
+                        result.subtractInPlace(sum);
+                    }
+                    case MULTIPLICATION -> {
+                        if (first) {
+                            result.set(1, 0);
+                        }
+
+                        result.multiplyInPlace(KERNELS.product(re, im, length));
+                    }
+                    case DIVISION -> {
+                        int i = 0;
+
+                        if (first) {
+                            result.set(re.getInt(0), im.getInt(0));
+                            i = 1;
+                        }
+
+                        for (; i < length; i++) {
+                            result.divideInPlace(re.getInt(i * Integer.BYTES), im.getInt(i * Integer.BYTES));
+                        }
+                    }
+                    case POWER -> {
+                        int i = 0;
+
+                        if (first) {
+                            result.set(re.getInt(0), im.getInt(0));
+                            i = 1;
+                        }
+
+                        for (; i < length; i++) {
+                            result.powerInPlace(new ComplexNumber(re.getInt(i * Integer.BYTES),
+                                    im.getInt(i * Integer.BYTES)));
+                        }
+                    }
+                }
+
+                first = false;
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        return result.toComplexNumber();
+    }
+
+    /**
+     * Applies the given operation element by element to two files of the same length, writing
+     * {@code output[i] = left[i] op right[i]} to a new {@link ColumnType#INT32 INT32} column file, with chunks of the
+     * {@link ComplexColumnReader#DEFAULT_CHUNK_LENGTH default length}.
+     *
+     * @param operation the operation to apply
+     * @param left the file of left-hand operands
+     * @param right the file of right-hand operands
+     * @param output the file receiving the results; created or truncated
+     * @throws IOException if mapping the inputs or writing the output fails
+     * @throws IllegalStateException if an input does not hold {@code int} parts
+     * @throws IllegalArgumentException if the inputs differ in length
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     * @see #apply(Operation, ComplexColumnReader, ComplexColumnReader, Path, int)
+     */
+    public static void apply(@NotNull Operation operation, @NotNull ComplexColumnReader left,
+                             @NotNull ComplexColumnReader right, @NotNull Path output) throws IOException {
+        apply(operation, left, right, output, ComplexColumnReader.DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * Applies the given operation element by element to two files of the same length, writing
+     * {@code output[i] = left[i] op right[i]} to a new {@link ColumnType#INT32 INT32} column file.
+     * <p>
+     * The output file may not be one of the inputs. If an operation fails, the output file is left incomplete.
+     *
+     * @param operation the operation to apply
+     * @param left the file of left-hand operands
+     * @param right the file of right-hand operands
+     * @param output the file receiving the results; created or truncated
+     * @param chunkLength the number of complex numbers processed at once
+     * @throws IOException if mapping the inputs or writing the output fails
+     * @throws IllegalStateException if an input does not hold {@code int} parts
+     * @throws IllegalArgumentException if the inputs differ in length or the chunk length is not positive
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public static void apply(@NotNull Operation operation, @NotNull ComplexColumnReader left,
+                             @NotNull ComplexColumnReader right, @NotNull Path output, int chunkLength)
+            throws IOException {
+        checkType(left);
+        checkType(right);
+
+        if (left.length() != right.length()) {
+            throw new IllegalArgumentException("Column files differ in length: " + left.length() + " != "
+                    + right.length());
+        }
+
+        Iterator<ColumnChunk> leftChunks = left.chunks(chunkLength).iterator();
+        Iterator<ColumnChunk> rightChunks = right.chunks(chunkLength).iterator();
+        int capacity = (int) Math.min(chunkLength, left.length());
+        ComplexArray operands = new ComplexArray(capacity);
+        ComplexArray others = new ComplexArray(capacity);
+
+        try (ComplexColumnWriter writer = new ComplexColumnWriter(output, ColumnType.INT32, left.length())) {
+            while (leftChunks.hasNext()) {
+                ColumnChunk leftChunk = leftChunks.next();
+                ColumnChunk rightChunk = rightChunks.next();
+
+                // Bulk operations work on whole arrays, so the shorter last chunk gets arrays of its own length
+                if (leftChunk.length() != operands.length()) {
+                    operands = new ComplexArray(leftChunk.length());
+                    others = new ComplexArray(leftChunk.length());
+                }
+
+                leftChunk.realInts().get(operands.realParts());
+                leftChunk.imaginaryInts().get(operands.imaginaryParts());
+                rightChunk.realInts().get(others.realParts());
+                rightChunk.imaginaryInts().get(others.imaginaryParts());
+
+                switch (operation) {
+                    case ADDITION -> operands.addInPlace(others);
+                    case SUBTRACTION -> operands.subtractInPlace(others);
+                    case MULTIPLICATION -> operands.multiplyInPlace(others);
+                    case DIVISION -> operands.divideInPlace(others);
+                    case POWER -> operands.powerInPlace(others);
+                }
+
+                writer.write(operands);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Evaluates a compiled expression element by element over files of the same length, one per variable, writing
+     * {@code output[i] = expression(columns[0][i], columns[1][i], ...)} to a new {@link ColumnType#INT32 INT32} column
+     * file, with chunks of the {@link ComplexColumnReader#DEFAULT_CHUNK_LENGTH default length}.
+     *
+     * @param expression the expression to evaluate
+     * @param columns the files of the variable values, one per variable in the order of
+     *                {@link CompiledExpression#getVariables()}
+     * @param output the file receiving the results; created or truncated
+     * @throws IOException if mapping the inputs or writing the output fails
+     * @throws IllegalStateException if an input does not hold {@code int} parts
+     * @throws IllegalArgumentException if the number of files does not match the number of variables, if the
+     *                                  expression has no variables, or if the inputs differ in length
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     * @see #evaluate(CompiledExpression, ComplexColumnReader[], Path, int)
+     */
+    public static void evaluate(@NotNull CompiledExpression expression,
+                                @NotNull ComplexColumnReader @NotNull [] columns, @NotNull Path output)
+            throws IOException {
+        evaluate(expression, columns, output, ComplexColumnReader.DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * Evaluates a compiled expression element by element over files of the same length, one per variable, writing
+     * {@code output[i] = expression(columns[0][i], columns[1][i], ...)} to a new {@link ColumnType#INT32 INT32} column
+     * file.
+     * <p>
+     * The parts of each chunk are copied from the mapped {@code int} views into arrays reused for the whole file, and
+     * evaluated with {@link CompiledExpression#evaluateAll(int[][], int[][], int, int[], int[])}, which allocates
+     * nothing per element. The output file may not be one of the inputs. If an evaluation fails, the output file is
+     * left incomplete.
+     *
+     * @param expression the expression to evaluate
+     * @param columns the files of the variable values, one per variable in the order of
+     *                {@link CompiledExpression#getVariables()}
+     * @param output the file receiving the results; created or truncated
+     * @param chunkLength the number of complex numbers processed at once
+     * @throws IOException if mapping the inputs or writing the output fails
+     * @throws IllegalStateException if an input does not hold {@code int} parts
+     * @throws IllegalArgumentException if the number of files does not match the number of variables, if the
+     *                                  expression has no variables, if the inputs differ in length or if the chunk
+     *                                  length is not positive
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public static void evaluate(@NotNull CompiledExpression expression,
+                                @NotNull ComplexColumnReader @NotNull [] columns, @NotNull Path output,
+                                int chunkLength) throws IOException {
+        if (columns.length != expression.getVariables().size()) {
+            throw new IllegalArgumentException("Expected " + expression.getVariables().size() + " column files "
+                    + expression.getVariables() + " but got " + columns.length);
+        }
+
+        // Without variables, there is no file to take the length from
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("Cannot evaluate an expression without variables over column files");
+        }
+
+        for (ComplexColumnReader column : columns) {
+            checkType(column);
+
+            if (column.length() != columns[0].length()) {
+                throw new IllegalArgumentException("Column files differ in length: " + columns[0].length() + " != "
+                        + column.length());
+            }
+        }
+
+        List<Iterator<ColumnChunk>> chunks = new ArrayList<>(columns.length);
+        for (ComplexColumnReader column : columns) {
+            chunks.add(column.chunks(chunkLength).iterator());
+        }
+
+        int capacity = (int) Math.min(chunkLength, columns[0].length());
+        int[][] re = new int[columns.length][capacity];
+        int[][] im = new int[columns.length][capacity];
+        int[] resultRe = new int[capacity];
+        int[] resultIm = new int[capacity];
+
+        try (ComplexColumnWriter writer = new ComplexColumnWriter(output, ColumnType.INT32, columns[0].length())) {
+            while (chunks.get(0).hasNext()) {
+                int length = 0;
+
+                for (int j = 0; j < columns.length; j++) {
+                    ColumnChunk chunk = chunks.get(j).next();
+                    length = chunk.length();
+
+                    chunk.realInts().get(re[j], 0, length);
+                    chunk.imaginaryInts().get(im[j], 0, length);
+                }
+
+                // The arrays may be longer than the last chunk, since only the first length elements are evaluated
+                expression.evaluateAll(re, im, length, resultRe, resultIm);
+                writer.write(resultRe, resultIm, 0, length);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Checks that the file holds {@code int} parts.
+     *
+     * @param input the file to check
+     * @throws IllegalStateException if the file holds parts of another type
+     */
+    private static void checkType(ComplexColumnReader input) {
+        if (input.getType() != ColumnType.INT32) {
+            throw new IllegalStateException("Column file holds " + input.getType() + " parts, not "
+                    + ColumnType.INT32);
+        }
+    }
+}
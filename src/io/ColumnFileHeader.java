@@ -0,0 +1,173 @@
+package io;
+
+import enums.ColumnType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Header of a binary column file of complex numbers.
+ * <p>
+ * A column file starts with a {@value #SIZE}-byte little-endian header: the magic number {@code "CPLX"}, the format
+ * version as a {@code short}, the {@link ColumnType} tag as a {@code short}, the number of complex numbers as a
+ * {@code long}, and reserved zero bytes. The header is followed by the column of all real parts and then by the column
+ * of all imaginary parts, both contiguous and little-endian, so the file size is fully determined by the header.
+ */
+public class ColumnFileHeader {
+
+    /** Size of the header, in bytes; the real column starts right after it */
+    public static final int SIZE = 32;
+
+    /** Magic number opening every column file, the ASCII bytes {@code "CPLX"} read as a little-endian int */
+    public static final int MAGIC = 0x584C5043;
+
+    /** Version of the format written by this class */
+    public static final int VERSION = 1;
+
+    private final ColumnType type;  // Type of the real and imaginary parts
+    private final long length;  // Number of complex numbers in the file
+
+    /**
+     * Constructs the header of a file holding the given number of complex numbers of the given type.
+     *
+     * @param type the type of the real and imaginary parts
+     * @param length the number of complex numbers
+     * @throws IllegalArgumentException if the length is negative or the columns would not fit in a file
+     */
+    public ColumnFileHeader(@NotNull ColumnType type, long length) {
+        if (length < 0 || length > (Long.MAX_VALUE - SIZE) / (2L * type.getElementSize())) {
+            throw new IllegalArgumentException("Invalid column length: " + length);
+        }
+
+        this.type = type;
+        this.length = length;
+    }
+
+    /**
+     * Decodes a header from the next {@value #SIZE} bytes of the given buffer, advancing its position.
+     *
+     * @param buffer the buffer holding the header
+     * @return the decoded header
+     * @throws IOException if the bytes are not the header of a supported column file
+     */
+    public static ColumnFileHeader readFrom(@NotNull ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < SIZE) {
+            throw new IOException("Not a column file: shorter than its header");
+        }
+
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            int start = buffer.position();
+
+            if (buffer.getInt() != MAGIC) {
+                throw new IOException("Not a column file: bad magic number");
+            }
+
+            int version = Short.toUnsignedInt(buffer.getShort());
+            if (version != VERSION) {
+                throw new IOException("Unsupported column file version: " + version);
+            }
+
+            ColumnType type = ColumnType.fromTag(Short.toUnsignedInt(buffer.getShort()));
+            long length = buffer.getLong();
+
+            buffer.position(start + SIZE);
+            return new ColumnFileHeader(type, length);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt column file header: " + e.getMessage(), e);
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Encodes this header into the next {@value #SIZE} bytes of the given buffer, advancing its position.
+     *
+     * @param buffer the buffer receiving the header
+     */
+    public void writeTo(@NotNull ByteBuffer buffer) {
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+
+        buffer.putInt(MAGIC);
+        buffer.putShort((short) VERSION);
+        buffer.putShort((short) type.getTag());
+        buffer.putLong(length);
+
+        // Zero the reserved bytes
+        while (buffer.position() - start < SIZE) {
+            buffer.put((byte) 0);
+        }
+
+        buffer.order(order);
+    }
+
+    /**
+     * Returns the type of the real and imaginary parts.
+     *
+     * @return the column type
+     */
+    public ColumnType getType() {
+        return type;
+    }
+
+    /**
+     * Returns the number of complex numbers in the file.
+     *
+     * @return the length
+     */
+    public long getLength() {
+        return length;
+    }
+
+    /**
+     * Returns the size of one column, in bytes.
+     *
+     * @return the number of bytes holding all real (or all imaginary) parts
+     */
+    public long columnSize() {
+        return length * type.getElementSize();
+    }
+
+    /**
+     * Returns the file offset of the first real part.
+     *
+     * @return the offset of the real column
+     */
+    public long realOffset() {
+        return SIZE;
+    }
+
+    /**
+     * Returns the file offset of the first imaginary part.
+     *
+     * @return the offset of the imaginary column
+     */
+    public long imaginaryOffset() {
+        return SIZE + columnSize();
+    }
+
+    /**
+     * Returns the size of the whole file, in bytes.
+     *
+     * @return the size of the header and both columns
+     */
+    public long fileSize() {
+        return SIZE + 2 * columnSize();
+    }
+
+    /**
+     * Returns a string representation of the header.
+     *
+     * @return a string in the form "TYPE[length]"
+     */
+    @Override
+    public String toString() {
+        return type + "[" + length + "]";
+    }
+}
@@ -0,0 +1,213 @@
+package io;
+
+import enums.ColumnType;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads a binary column file (see {@link ColumnFileHeader} for the layout) by memory-mapping its columns.
+ * <p>
+ * The columns are never copied onto the Java heap: every {@link ColumnChunk} wraps read-only windows mapped straight
+ * from the file with {@link FileChannel#map}, whose pages the operating system loads on first access and may evict
+ * again. A file whose columns fit in a single mapping (below 2 GiB each) can be viewed at once with {@link #view()};
+ * larger files, including files larger than the available RAM, are processed window by window with
+ * {@link #chunks(int)}, which maps each chunk only when the iteration reaches it.
+ * <p>
+ * Mapped windows stay valid after the reader is closed, until they are garbage collected.
+ */
+public class ComplexColumnReader implements Closeable {
+
+    /** Default number of complex numbers per chunk, 4 MiB of {@code int} parts per column */
+    public static final int DEFAULT_CHUNK_LENGTH = 1 << 20;
+
+    private final FileChannel channel;  // Channel of the file being read
+    private final ColumnFileHeader header;  // Header declaring the type and the length of the file
+
+    /**
+     * Opens the given column file and validates its header against the file size.
+     *
+     * @param path the file to read
+     * @throws IOException if the file cannot be read, is not a column file, or is truncated
+     */
+    public ComplexColumnReader(@NotNull Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(ColumnFileHeader.SIZE);
+
+            // Read until the header is complete or the file ends; a short header is rejected when decoded
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    break;
+                }
+            }
+
+            this.header = ColumnFileHeader.readFrom(buffer.flip());
+
+            if (channel.size() < header.fileSize()) {
+                throw new IOException("Column file truncated: " + channel.size() + " of " + header.fileSize()
+                        + " bytes");
+            }
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the header of the file.
+     *
+     * @return the header
+     */
+    public ColumnFileHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the type of the real and imaginary parts.
+     *
+     * @return the column type
+     */
+    public ColumnType getType() {
+        return header.getType();
+    }
+
+    /**
+     * Returns the number of complex numbers in the file.
+     *
+     * @return the length
+     */
+    public long length() {
+        return header.getLength();
+    }
+
+    /**
+     * Maps the whole file as a single chunk.
+     *
+     * @return a zero-copy view of all complex numbers of the file
+     * @throws IOException if mapping the file fails
+     * @throws IllegalStateException if a column does not fit in a single mapping; use {@link #chunks(int)} instead
+     */
+    public ColumnChunk view() throws IOException {
+        if (header.columnSize() > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Column file too large for a single view: " + header);
+        }
+
+        return map(0, (int) header.getLength());
+    }
+
+    /**
+     * Maps the given range of complex numbers as a chunk.
+     *
+     * @param offset the index of the first complex number
+     * @param length the number of complex numbers
+     * @return a zero-copy view of the range
+     * @throws IOException if mapping the file fails
+     * @throws IndexOutOfBoundsException if the range is not within the file
+     * @throws IllegalArgumentException if a column of the range does not fit in a single mapping
+     */
+    public ColumnChunk map(long offset, int length) throws IOException {
+        if (offset < 0 || length < 0 || offset > header.getLength() - length) {
+            throw new IndexOutOfBoundsException("Range [" + offset + ", " + (offset + length)
+                    + ") out of bounds for length " + header.getLength());
+        }
+
+        int elementSize = header.getType().getElementSize();
+        if ((long) length * elementSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk too large for a single mapping: " + length);
+        }
+
+        int size = length * elementSize;
+        long position = offset * elementSize;
+
+        return new ColumnChunk(header.getType(), offset, length, mapWindow(header.realOffset() + position, size),
+                mapWindow(header.imaginaryOffset() + position, size));
+    }
+
+    /**
+     * Returns the chunks of the file with the {@link #DEFAULT_CHUNK_LENGTH default length}.
+     *
+     * @return the chunks of the file, in order
+     * @see #chunks(int)
+     */
+    public Iterable<ColumnChunk> chunks() {
+        return chunks(DEFAULT_CHUNK_LENGTH);
+    }
+
+    /**
+     * Returns the chunks of the file, in order, each holding the given number of complex numbers except possibly the
+     * last one. Each chunk is mapped when the iteration reaches it and can be dropped once processed, so the file is
+     * never resident in memory as a whole. Every chunk costs two mappings, so chunks should span many pages. Since the
+     * iterator cannot throw {@link IOException}, mapping failures are rethrown as {@link UncheckedIOException}.
+     *
+     * @param chunkLength the number of complex numbers per chunk
+     * @return the chunks of the file, in order
+     * @throws IllegalArgumentException if the chunk length is not positive
+     */
+    public Iterable<ColumnChunk> chunks(int chunkLength) {
+        if (chunkLength <= 0) {
+            throw new IllegalArgumentException("Chunk length must be positive: " + chunkLength);
+        }
+
+        return () -> new Iterator<>() {
+            private long offset;  // Index of the first complex number of the next chunk
+
+            @Override
+            public boolean hasNext() {
+                return offset < header.getLength();
+            }
+
+            @Override
+            public ColumnChunk next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                int length = (int) Math.min(chunkLength, header.getLength() - offset);
+
+                try {
+                    ColumnChunk chunk = map(offset, length);
+                    offset += length;
+                    return chunk;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+    }
+
+    /**
+     * Closes the file. Chunks mapped before remain readable.
+     *
+     * @throws IOException if closing the file fails
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Maps a read-only little-endian window of the file.
+     *
+     * @param position the file position of the window
+     * @param size the size of the window, in bytes
+     * @return the mapped window
+     * @throws IOException if mapping the file fails
+     */
+    private ByteBuffer mapWindow(long position, int size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+
+        return buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,360 @@
+package io;
+
+import enums.ColumnType;
+import models.ComplexArray;
+import models.ComplexNumber;
+import models.DoubleComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes complex numbers to a binary column file (see {@link ColumnFileHeader} for the layout).
+ * <p>
+ * The number of complex numbers is declared up front, since it fixes the offset of the imaginary column. Complex
+ * numbers are then appended in order, through two direct little-endian buffers that are flushed to their columns with
+ * positional writes, so memory use is bounded by the buffer size regardless of the file size. Bulk writes of whole
+ * {@code int[]} ranges are copied into the buffers without per-element work.
+ * <p>
+ * Closing the writer fails if fewer complex numbers were written than declared, since the file would be truncated.
+ */
+public class ComplexColumnWriter implements Closeable {
+
+    /** Default size of each column buffer, in bytes */
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private final FileChannel channel;  // Channel of the file being written
+    private final ColumnFileHeader header;  // Header declaring the type and the length of the file
+    private final ByteBuffer re;  // Buffered real parts not yet written to the file
+    private final ByteBuffer im;  // Buffered imaginary parts not yet written to the file
+    private long written;  // Number of complex numbers appended so far
+    private long flushed;  // Number of complex numbers already written to the file
+
+    /**
+     * Creates (or truncates) the given file and writes the header for the given number of complex numbers.
+     *
+     * @param path the file to write
+     * @param type the type of the real and imaginary parts
+     * @param length the number of complex numbers that will be written
+     * @throws IOException if the file cannot be created or written
+     * @throws IllegalArgumentException if the length is negative
+     */
+    public ComplexColumnWriter(@NotNull Path path, @NotNull ColumnType type, long length) throws IOException {
+        this(path, type, length, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Creates (or truncates) the given file and writes the header for the given number of complex numbers, buffering
+     * each column with a buffer of the given size.
+     *
+     * @param path the file to write
+     * @param type the type of the real and imaginary parts
+     * @param length the number of complex numbers that will be written
+     * @param bufferSize the size of each column buffer, in bytes
+     * @throws IOException if the file cannot be created or written
+     * @throws IllegalArgumentException if the length is negative or the buffer cannot hold a single part
+     */
+    public ComplexColumnWriter(@NotNull Path path, @NotNull ColumnType type, long length, int bufferSize)
+            throws IOException {
+        if (bufferSize < type.getElementSize()) {
+            throw new IllegalArgumentException("Buffer size too small: " + bufferSize);
+        }
+
+        this.header = new ColumnFileHeader(type, length);
+
+        // Round the buffers down to whole parts so both columns always flush the same number of complex numbers
+        int capacity = bufferSize / type.getElementSize() * type.getElementSize();
+        this.re = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+        this.im = ByteBuffer.allocateDirect(capacity).order(ByteOrder.LITTLE_ENDIAN);
+
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(ColumnFileHeader.SIZE);
+            header.writeTo(buffer);
+            writeFully(buffer.flip(), 0);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes the given array to a new {@link ColumnType#INT32 INT32} column file.
+     *
+     * @param path the file to write
+     * @param array the complex numbers to write
+     * @throws IOException if the file cannot be created or written
+     */
+    public static void write(@NotNull Path path, @NotNull ComplexArray array) throws IOException {
+        try (ComplexColumnWriter writer = new ComplexColumnWriter(path, ColumnType.INT32, array.length())) {
+            writer.write(array);
+        }
+    }
+
+    /**
+     * Writes the given parts to a new {@link ColumnType#FLOAT64 FLOAT64} column file.
+     *
+     * @param path the file to write
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @throws IOException if the file cannot be created or written
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public static void write(@NotNull Path path, double @NotNull [] re, double @NotNull [] im) throws IOException {
+        checkLengths(re.length, im.length);
+
+        try (ComplexColumnWriter writer = new ComplexColumnWriter(path, ColumnType.FLOAT64, re.length)) {
+            writer.write(re, im, 0, re.length);
+        }
+    }
+
+    /**
+     * Returns the header written at the start of the file.
+     *
+     * @return the header
+     */
+    public ColumnFileHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * Returns the number of complex numbers appended so far.
+     *
+     * @return the number of complex numbers written
+     */
+    public long getWritten() {
+        return written;
+    }
+
+    /**
+     * Appends a complex number with the given {@code int} parts.
+     *
+     * @param realPart the real part
+     * @param imaginaryPart the imaginary part
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code int} parts or is already full
+     */
+    public void write(int realPart, int imaginaryPart) throws IOException {
+        reserve(ColumnType.INT32, 1);
+
+        if (!re.hasRemaining()) {
+            flush();
+        }
+
+        re.putInt(realPart);
+        im.putInt(imaginaryPart);
+        written++;
+    }
+
+    /**
+     * Appends the given complex number.
+     *
+     * @param number the complex number to write
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code int} parts or is already full
+     */
+    public void write(@NotNull ComplexNumber number) throws IOException {
+        write(number.getRe(), number.getIm());
+    }
+
+    /**
+     * Appends all complex numbers of the given array.
+     *
+     * @param array the complex numbers to write
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code int} parts or has no room for the array
+     */
+    public void write(@NotNull ComplexArray array) throws IOException {
+        write(array.realParts(), array.imaginaryParts(), 0, array.length());
+    }
+
+    /**
+     * Appends the complex numbers with the given {@code int} parts in the range {@code [from, to)}.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param from the index of the first complex number, inclusive
+     * @param to the index of the last complex number, exclusive
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code int} parts or has no room for the range
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public void write(int @NotNull [] re, int @NotNull [] im, int from, int to) throws IOException {
+        checkLengths(re.length, im.length);
+        reserve(ColumnType.INT32, to - from);
+
+        while (from < to) {
+            if (!this.re.hasRemaining()) {
+                flush();
+            }
+
+            int count = Math.min(to - from, this.re.remaining() / Integer.BYTES);
+
+            // The int views share the memory of the byte buffers, so only the positions need advancing afterwards
+            this.re.asIntBuffer().put(re, from, count);
+            this.im.asIntBuffer().put(im, from, count);
+            this.re.position(this.re.position() + count * Integer.BYTES);
+            this.im.position(this.im.position() + count * Integer.BYTES);
+
+            from += count;
+            written += count;
+        }
+    }
+
+    /**
+     * Appends a complex number with the given {@code double} parts.
+     *
+     * @param realPart the real part
+     * @param imaginaryPart the imaginary part
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code double} parts or is already full
+     */
+    public void write(double realPart, double imaginaryPart) throws IOException {
+        reserve(ColumnType.FLOAT64, 1);
+
+        if (!re.hasRemaining()) {
+            flush();
+        }
+
+        re.putDouble(realPart);
+        im.putDouble(imaginaryPart);
+        written++;
+    }
+
+    /**
+     * Appends the given complex number.
+     *
+     * @param number the complex number to write
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code double} parts or is already full
+     */
+    public void write(@NotNull DoubleComplexNumber number) throws IOException {
+        write(number.getRe(), number.getIm());
+    }
+
+    /**
+     * Appends the complex numbers with the given {@code double} parts in the range {@code [from, to)}.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param from the index of the first complex number, inclusive
+     * @param to the index of the last complex number, exclusive
+     * @throws IOException if writing to the file fails
+     * @throws IllegalStateException if the file does not hold {@code double} parts or has no room for the range
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public void write(double @NotNull [] re, double @NotNull [] im, int from, int to) throws IOException {
+        checkLengths(re.length, im.length);
+        reserve(ColumnType.FLOAT64, to - from);
+
+        while (from < to) {
+            if (!this.re.hasRemaining()) {
+                flush();
+            }
+
+            int count = Math.min(to - from, this.re.remaining() / Double.BYTES);
+
+            this.re.asDoubleBuffer().put(re, from, count);
+            this.im.asDoubleBuffer().put(im, from, count);
+            this.re.position(this.re.position() + count * Double.BYTES);
+            this.im.position(this.im.position() + count * Double.BYTES);
+
+            from += count;
+            written += count;
+        }
+    }
+
+    /**
+     * Writes the buffered parts to their columns and closes the file.
+     *
+     * @throws IOException if writing fails, or if fewer complex numbers were written than declared in the header
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) {
+            return;
+        }
+
+        try (channel) {
+            flush();
+        }
+
+        if (written != header.getLength()) {
+            throw new IOException("Column file truncated: wrote " + written + " of " + header.getLength()
+                    + " complex numbers");
+        }
+    }
+
+    /**
+     * Writes the buffered parts to their columns and empties the buffers.
+     *
+     * @throws IOException if writing to the file fails
+     */
+    private void flush() throws IOException {
+        long position = flushed * header.getType().getElementSize();
+
+        writeFully(re.flip(), header.realOffset() + position);
+        writeFully(im.flip(), header.imaginaryOffset() + position);
+
+        re.clear();
+        im.clear();
+        flushed = written;
+    }
+
+    /**
+     * Writes all remaining bytes of the buffer at the given file position.
+     *
+     * @param buffer the bytes to write
+     * @param position the file position of the first byte
+     * @throws IOException if writing to the file fails
+     */
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Checks that the file holds parts of the given type and has room for the given number of complex numbers.
+     *
+     * @param type the type of the parts about to be written
+     * @param count the number of complex numbers about to be written
+     * @throws IllegalStateException if the type differs from the declared one or the file has no room left
+     * @throws IllegalArgumentException if the count is negative
+     */
+    private void reserve(ColumnType type, int count) {
+        if (type != header.getType()) {
+            throw new IllegalStateException("Column file holds " + header.getType() + " parts, not " + type);
+        }
+
+        if (count < 0) {
+            throw new IllegalArgumentException("Invalid range length: " + count);
+        }
+
+        if (count > header.getLength() - written) {
+            throw new IllegalStateException("Column file is full: " + header.getLength() + " complex numbers");
+        }
+    }
+
+    /**
+     * Checks that the real and imaginary part arrays have the same length.
+     *
+     * @param realLength the length of the real parts
+     * @param imaginaryLength the length of the imaginary parts
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    private static void checkLengths(int realLength, int imaginaryLength) {
+        if (realLength != imaginaryLength) {
+            throw new IllegalArgumentException("Real and imaginary parts differ in length: " + realLength + " != "
+                    + imaginaryLength);
+        }
+    }
+}
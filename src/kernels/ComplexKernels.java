@@ -0,0 +1,181 @@
+package kernels;
+
+import models.ComplexNumber;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Element-wise arithmetic kernels over complex numbers stored as parallel primitive arrays of real and imaginary parts.
+ * <p>
+ * Every implementation must produce results identical to the corresponding {@link ComplexNumber} methods, including
+ * {@code int} overflow wrap-around, the truncating integer division of {@link ComplexNumber#divide(ComplexNumber)}
+ * and the {@link ArithmeticException} thrown on division by zero. Output arrays may alias either input, and all
+ * methods operate on the first {@code outRe.length} elements.
+ */
+public interface ComplexKernels {
+
+    /**
+     * Returns the fastest kernels supported by the running JVM.
+     * <p>
+     * The vectorized implementation is used when the {@code jdk.incubator.vector} module is available (e.g. when the
+     * JVM is started with {@code --add-modules jdk.incubator.vector}), otherwise the scalar implementation is used.
+     * Setting the system property {@code complex.kernels=scalar} forces the scalar implementation.
+     *
+     * @return the preferred kernel implementation
+     */
+    static ComplexKernels preferred() {
+        return KernelSelection.PREFERRED;
+    }
+
+    /**
+     * Returns the name of this implementation, for diagnostics.
+     *
+     * @return the implementation name
+     */
+    String name();
+
+    /**
+     * Computes {@code out[i] = a[i] + b[i]}.
+     *
+     * @param aRe the real parts of the first operands
+     * @param aIm the imaginary parts of the first operands
+     * @param bRe the real parts of the second operands
+     * @param bIm the imaginary parts of the second operands
+     * @param outRe the real parts of the results
+     * @param outIm the imaginary parts of the results
+     */
+    void add(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm);
+
+    /**
+     * Computes {@code out[i] = a[i] - b[i]}.
+     *
+     * @param aRe the real parts of the first operands
+     * @param aIm the imaginary parts of the first operands
+     * @param bRe the real parts of the second operands
+     * @param bIm the imaginary parts of the second operands
+     * @param outRe the real parts of the results
+     * @param outIm the imaginary parts of the results
+     */
+    void subtract(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm);
+
+    /**
+     * Computes {@code out[i] = a[i] * b[i]}.
+     *
+     * @param aRe the real parts of the first operands
+     * @param aIm the imaginary parts of the first operands
+     * @param bRe the real parts of the second operands
+     * @param bIm the imaginary parts of the second operands
+     * @param outRe the real parts of the results
+     * @param outIm the imaginary parts of the results
+     */
+    void multiply(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm);
+
+    /**
+     * Computes {@code out[i] = a[i] / b[i]}. All divisors are validated before any output element is written.
+     *
+     * @param aRe the real parts of the dividends
+     * @param aIm the imaginary parts of the dividends
+     * @param bRe the real parts of the divisors
+     * @param bIm the imaginary parts of the divisors
+     * @param outRe the real parts of the results
+     * @param outIm the imaginary parts of the results
+     * @throws ArithmeticException if any divisor is zero
+     */
+    void divide(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm);
+
+    /**
+     * Returns the sum of the first {@code length} complex numbers.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param length the number of elements to sum
+     * @return the sum, or zero if the length is zero
+     */
+    ComplexNumber sum(int[] re, int[] im, int length);
+
+    /**
+     * Returns the product of the first {@code length} complex numbers.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param length the number of elements to multiply
+     * @return the product, or one if the length is zero
+     */
+    ComplexNumber product(int[] re, int[] im, int length);
+
+    /**
+     * Returns the sum of the first {@code length} complex numbers stored as consecutive {@code int}s, in the byte order
+     * of each buffer, from index zero of the buffers (e.g. memory-mapped columns). The positions of the buffers are
+     * ignored and left unchanged.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param length the number of elements to sum
+     * @return the sum, or zero if the length is zero
+     */
+    ComplexNumber sum(ByteBuffer re, ByteBuffer im, int length);
+
+    /**
+     * Returns the product of the first {@code length} complex numbers stored as consecutive {@code int}s, in the byte
+     * order of each buffer, from index zero of the buffers. The positions of the buffers are ignored and left
+     * unchanged.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param length the number of elements to multiply
+     * @return the product, or one if the length is zero
+     */
+    ComplexNumber product(ByteBuffer re, ByteBuffer im, int length);
+
+    /**
+     * Computes {@code out[outOffset + j] += x * b[bOffset + j]} for {@code j} below {@code length}, the inner step of
+     * a matrix product. Unlike the element-wise kernels, this method works on ranges given by offsets and a length.
+     *
+     * @param xRe the real part of the scalar factor
+     * @param xIm the imaginary part of the scalar factor
+     * @param bRe the real parts of the vector factor
+     * @param bIm the imaginary parts of the vector factor
+     * @param bOffset the index of the first element of the vector factor
+     * @param outRe the real parts of the accumulators
+     * @param outIm the imaginary parts of the accumulators
+     * @param outOffset the index of the first accumulator
+     * @param length the number of elements to accumulate
+     */
+    void multiplyAccumulate(int xRe, int xIm, int[] bRe, int[] bIm, int bOffset, int[] outRe, int[] outIm,
+                            int outOffset, int length);
+
+    /**
+     * Computes the same accumulation as {@link #multiplyAccumulate} with Gauss's three-multiplication product:
+     * {@code out.re += p - q} and {@code out.im += (x.re + x.im) * bSum - p - q}, with {@code p = x.re * b.re},
+     * {@code q = x.im * b.im} and the precomputed {@code bSum = b.re + b.im}. Since {@code int} arithmetic wraps around
+     * exactly, the results are identical.
+     *
+     * @param xRe the real part of the scalar factor
+     * @param xIm the imaginary part of the scalar factor
+     * @param bRe the real parts of the vector factor
+     * @param bIm the imaginary parts of the vector factor
+     * @param bSum the sums of the real and imaginary parts of the vector factor
+     * @param bOffset the index of the first element of the vector factor
+     * @param outRe the real parts of the accumulators
+     * @param outIm the imaginary parts of the accumulators
+     * @param outOffset the index of the first accumulator
+     * @param length the number of elements to accumulate
+     */
+    void multiplyAccumulateGauss(int xRe, int xIm, int[] bRe, int[] bIm, int[] bSum, int bOffset, int[] outRe,
+                                 int[] outIm, int outOffset, int length);
+
+    /**
+     * Computes {@code acc[i] = acc[i] * z[i] + c} for {@code i} in {@code [from, to)}, one step of Horner's scheme
+     * evaluating a polynomial at many points.
+     *
+     * @param accRe the real parts of the accumulators
+     * @param accIm the imaginary parts of the accumulators
+     * @param zRe the real parts of the points
+     * @param zIm the imaginary parts of the points
+     * @param cRe the real part of the coefficient
+     * @param cIm the imaginary part of the coefficient
+     * @param from the index of the first element, inclusive
+     * @param to the index of the last element, exclusive
+     */
+    void multiplyAdd(int[] accRe, int[] accIm, int[] zRe, int[] zIm, int cRe, int cIm, int from, int to);
+}
@@ -0,0 +1,39 @@
+package kernels;
+
+/**
+ * Holder for the kernel implementation selected at class initialization time.
+ */
+final class KernelSelection {
+
+    /** The name of the optional module providing the Vector API */
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+    /** The kernels returned by {@link ComplexKernels#preferred()} */
+    static final ComplexKernels PREFERRED = select();
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private KernelSelection() {}
+
+    /**
+     * Selects the vectorized kernels if the Vector API module is present and not disabled, otherwise the scalar
+     * kernels.
+     *
+     * @return the selected kernel implementation
+     */
+    private static ComplexKernels select() {
+        if ("scalar".equals(System.getProperty("complex.kernels"))
+                || ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return new ScalarComplexKernels();
+        }
+
+        try {
+            // Loaded reflectively so that this class never links against the incubator module when it is missing
+            return (ComplexKernels) Class.forName("kernels.VectorComplexKernels").getDeclaredConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return new ScalarComplexKernels();
+        }
+    }
+}
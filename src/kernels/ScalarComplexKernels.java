@@ -0,0 +1,160 @@
+package kernels;
+
+import models.ComplexNumber;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Portable scalar implementation of {@link ComplexKernels}, processing one complex number per loop iteration with the
+ * same formulas as {@link ComplexNumber}.
+ */
+public class ScalarComplexKernels implements ComplexKernels {
+
+    @Override
+    public String name() {
+        return "scalar";
+    }
+
+    @Override
+    public void add(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        for (int i = 0; i < outRe.length; i++) {
+            outRe[i] = aRe[i] + bRe[i];
+            outIm[i] = aIm[i] + bIm[i];
+        }
+    }
+
+    @Override
+    public void subtract(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        for (int i = 0; i < outRe.length; i++) {
+            outRe[i] = aRe[i] - bRe[i];
+            outIm[i] = aIm[i] - bIm[i];
+        }
+    }
+
+    @Override
+    public void multiply(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        for (int i = 0; i < outRe.length; i++) {
+            int realPart = aRe[i] * bRe[i] - aIm[i] * bIm[i];
+            int imaginaryPart = aRe[i] * bIm[i] + aIm[i] * bRe[i];
+
+            outRe[i] = realPart;
+            outIm[i] = imaginaryPart;
+        }
+    }
+
+    @Override
+    public void divide(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        // Validate divisors first so a failing division leaves the output untouched
+        for (int i = 0; i < outRe.length; i++) {
+            if (bRe[i] * bRe[i] + bIm[i] * bIm[i] == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+        }
+
+        for (int i = 0; i < outRe.length; i++) {
+            int denominator = bRe[i] * bRe[i] + bIm[i] * bIm[i];
+            int realPart = (aRe[i] * bRe[i] + aIm[i] * bIm[i]) / denominator;
+            int imaginaryPart = (aIm[i] * bRe[i] - aRe[i] * bIm[i]) / denominator;
+
+            outRe[i] = realPart;
+            outIm[i] = imaginaryPart;
+        }
+    }
+
+    @Override
+    public ComplexNumber sum(int[] re, int[] im, int length) {
+        int sumRe = 0;
+        int sumIm = 0;
+
+        for (int i = 0; i < length; i++) {
+            sumRe += re[i];
+            sumIm += im[i];
+        }
+
+        return new ComplexNumber(sumRe, sumIm);
+    }
+
+    @Override
+    public ComplexNumber product(int[] re, int[] im, int length) {
+        int productRe = 1;
+        int productIm = 0;
+
+        for (int i = 0; i < length; i++) {
+            int realPart = productRe * re[i] - productIm * im[i];
+            int imaginaryPart = productRe * im[i] + productIm * re[i];
+
+            productRe = realPart;
+            productIm = imaginaryPart;
+        }
+
+        return new ComplexNumber(productRe, productIm);
+    }
+
+    @Override
+    public ComplexNumber sum(ByteBuffer re, ByteBuffer im, int length) {
+        int sumRe = 0;
+        int sumIm = 0;
+
+        for (int i = 0; i < length; i++) {
+            sumRe += re.getInt(i * Integer.BYTES);
+            sumIm += im.getInt(i * Integer.BYTES);
+        }
+
+        return new ComplexNumber(sumRe, sumIm);
+    }
+
+    @Override
+    public ComplexNumber product(ByteBuffer re, ByteBuffer im, int length) {
+        int productRe = 1;
+        int productIm = 0;
+
+        for (int i = 0; i < length; i++) {
+            int xr = re.getInt(i * Integer.BYTES);
+            int xi = im.getInt(i * Integer.BYTES);
+            int realPart = productRe * xr - productIm * xi;
+            int imaginaryPart = productRe * xi + productIm * xr;
+
+            productRe = realPart;
+            productIm = imaginaryPart;
+        }
+
+        return new ComplexNumber(productRe, productIm);
+    }
+
+    @Override
+    public void multiplyAccumulate(int xRe, int xIm, int[] bRe, int[] bIm, int bOffset, int[] outRe, int[] outIm,
+                                   int outOffset, int length) {
+        for (int j = 0; j < length; j++) {
+            int br = bRe[bOffset + j];
+            int bi = bIm[bOffset + j];
+
+            outRe[outOffset + j] += xRe * br - xIm * bi;
+            outIm[outOffset + j] += xRe * bi + xIm * br;
+        }
+    }
+
+    @Override
+    public void multiplyAccumulateGauss(int xRe, int xIm, int[] bRe, int[] bIm, int[] bSum, int bOffset, int[] outRe,
+                                        int[] outIm, int outOffset, int length) {
+        int xSum = xRe + xIm;
+
+        for (int j = 0; j < length; j++) {
+            int p = xRe * bRe[bOffset + j];
+            int q = xIm * bIm[bOffset + j];
+
+            outRe[outOffset + j] += p - q;
+            outIm[outOffset + j] += xSum * bSum[bOffset + j] - p - q;
+        }
+    }
+
+    @Override
+    public void multiplyAdd(int[] accRe, int[] accIm, int[] zRe, int[] zIm, int cRe, int cIm, int from, int to) {
+        for (int i = from; i < to; i++) {
+            int realPart = accRe[i] * zRe[i] - accIm[i] * zIm[i] + cRe;
+            int imaginaryPart = accRe[i] * zIm[i] + accIm[i] * zRe[i] + cIm;
+
+            accRe[i] = realPart;
+            accIm[i] = imaginaryPart;
+        }
+    }
+}
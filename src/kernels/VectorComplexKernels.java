@@ -0,0 +1,329 @@
+package kernels;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import models.ComplexNumber;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Implementation of {@link ComplexKernels} built on the incubating JDK Vector API ({@code jdk.incubator.vector}).
+ * <p>
+ * Each loop processes as many complex numbers per iteration as the preferred {@code int} vector species holds, and
+ * finishes the remaining tail elements with the scalar formulas. Lane-wise {@code int} arithmetic wraps around and
+ * lane-wise division truncates exactly like the scalar operators, so results are identical to
+ * {@link ScalarComplexKernels}. This class must only be loaded when the Vector API module is present; use
+ * {@link ComplexKernels#preferred()} instead of instantiating it directly.
+ */
+public class VectorComplexKernels implements ComplexKernels {
+
+    /** The vector shape used by all kernels */
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public String name() {
+        return "vector (" + SPECIES.length() + " lanes)";
+    }
+
+    @Override
+    public void add(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        int length = outRe.length;
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, aRe, i).add(IntVector.fromArray(SPECIES, bRe, i)).intoArray(outRe, i);
+            IntVector.fromArray(SPECIES, aIm, i).add(IntVector.fromArray(SPECIES, bIm, i)).intoArray(outIm, i);
+        }
+
+        for (; i < length; i++) {
+            outRe[i] = aRe[i] + bRe[i];
+            outIm[i] = aIm[i] + bIm[i];
+        }
+    }
+
+    @Override
+    public void subtract(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        int length = outRe.length;
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector.fromArray(SPECIES, aRe, i).sub(IntVector.fromArray(SPECIES, bRe, i)).intoArray(outRe, i);
+            IntVector.fromArray(SPECIES, aIm, i).sub(IntVector.fromArray(SPECIES, bIm, i)).intoArray(outIm, i);
+        }
+
+        for (; i < length; i++) {
+            outRe[i] = aRe[i] - bRe[i];
+            outIm[i] = aIm[i] - bIm[i];
+        }
+    }
+
+    @Override
+    public void multiply(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        int length = outRe.length;
+        int bound = SPECIES.loopBound(length);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector ar = IntVector.fromArray(SPECIES, aRe, i);
+            IntVector ai = IntVector.fromArray(SPECIES, aIm, i);
+            IntVector br = IntVector.fromArray(SPECIES, bRe, i);
+            IntVector bi = IntVector.fromArray(SPECIES, bIm, i);
+
+            ar.mul(br).sub(ai.mul(bi)).intoArray(outRe, i);
+            ar.mul(bi).add(ai.mul(br)).intoArray(outIm, i);
+        }
+
+        for (; i < length; i++) {
+            int realPart = aRe[i] * bRe[i] - aIm[i] * bIm[i];
+            int imaginaryPart = aRe[i] * bIm[i] + aIm[i] * bRe[i];
+
+            outRe[i] = realPart;
+            outIm[i] = imaginaryPart;
+        }
+    }
+
+    @Override
+    public void divide(int[] aRe, int[] aIm, int[] bRe, int[] bIm, int[] outRe, int[] outIm) {
+        int length = outRe.length;
+        int bound = SPECIES.loopBound(length);
+
+        int i = 0;
+
+        // Validate divisors first so a failing division leaves the output untouched
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector br = IntVector.fromArray(SPECIES, bRe, i);
+            IntVector bi = IntVector.fromArray(SPECIES, bIm, i);
+
+            if (br.mul(br).add(bi.mul(bi)).compare(VectorOperators.EQ, 0).anyTrue()) {
+                throw new ArithmeticException("Division by zero");
+            }
+        }
+
+        for (; i < length; i++) {
+            if (bRe[i] * bRe[i] + bIm[i] * bIm[i] == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+        }
+
+        for (i = 0; i < bound; i += SPECIES.length()) {
+            IntVector ar = IntVector.fromArray(SPECIES, aRe, i);
+            IntVector ai = IntVector.fromArray(SPECIES, aIm, i);
+            IntVector br = IntVector.fromArray(SPECIES, bRe, i);
+            IntVector bi = IntVector.fromArray(SPECIES, bIm, i);
+            IntVector denominator = br.mul(br).add(bi.mul(bi));
+
+            ar.mul(br).add(ai.mul(bi)).lanewise(VectorOperators.DIV, denominator).intoArray(outRe, i);
+            ai.mul(br).sub(ar.mul(bi)).lanewise(VectorOperators.DIV, denominator).intoArray(outIm, i);
+        }
+
+        for (; i < length; i++) {
+            int denominator = bRe[i] * bRe[i] + bIm[i] * bIm[i];
+            int realPart = (aRe[i] * bRe[i] + aIm[i] * bIm[i]) / denominator;
+            int imaginaryPart = (aIm[i] * bRe[i] - aRe[i] * bIm[i]) / denominator;
+
+            outRe[i] = realPart;
+            outIm[i] = imaginaryPart;
+        }
+    }
+
+    @Override
+    public ComplexNumber sum(int[] re, int[] im, int length) {
+        int bound = SPECIES.loopBound(length);
+        IntVector sumRe = IntVector.zero(SPECIES);
+        IntVector sumIm = IntVector.zero(SPECIES);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            sumRe = sumRe.add(IntVector.fromArray(SPECIES, re, i));
+            sumIm = sumIm.add(IntVector.fromArray(SPECIES, im, i));
+        }
+
+        // Integer addition is associative even when it wraps, so reordering the sum does not change the result
+        int resultRe = sumRe.reduceLanes(VectorOperators.ADD);
+        int resultIm = sumIm.reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {
+            resultRe += re[i];
+            resultIm += im[i];
+        }
+
+        return new ComplexNumber(resultRe, resultIm);
+    }
+
+    @Override
+    public ComplexNumber product(int[] re, int[] im, int length) {
+        int bound = SPECIES.loopBound(length);
+        IntVector productRe = IntVector.broadcast(SPECIES, 1);
+        IntVector productIm = IntVector.zero(SPECIES);
+        int i = 0;
+
+        // Each lane accumulates the product of every SPECIES.length()-th element
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector xr = IntVector.fromArray(SPECIES, re, i);
+            IntVector xi = IntVector.fromArray(SPECIES, im, i);
+            IntVector realPart = productRe.mul(xr).sub(productIm.mul(xi));
+
+            productIm = productRe.mul(xi).add(productIm.mul(xr));
+            productRe = realPart;
+        }
+
+        // Complex multiplication of wrapping integers is associative and commutative, so combining the lanes and the
+        // tail in any order gives the same result as the sequential product
+        int[] laneRe = productRe.toArray();
+        int[] laneIm = productIm.toArray();
+
+        return productOfRange(laneRe, laneIm, 0, laneRe.length).multiply(productOfRange(re, im, i, length));
+    }
+
+    @Override
+    public ComplexNumber sum(ByteBuffer re, ByteBuffer im, int length) {
+        int bound = SPECIES.loopBound(length);
+        IntVector sumRe = IntVector.zero(SPECIES);
+        IntVector sumIm = IntVector.zero(SPECIES);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            sumRe = sumRe.add(IntVector.fromByteBuffer(SPECIES, re, i * Integer.BYTES, re.order()));
+            sumIm = sumIm.add(IntVector.fromByteBuffer(SPECIES, im, i * Integer.BYTES, im.order()));
+        }
+
+        int resultRe = sumRe.reduceLanes(VectorOperators.ADD);
+        int resultIm = sumIm.reduceLanes(VectorOperators.ADD);
+
+        for (; i < length; i++) {
+            resultRe += re.getInt(i * Integer.BYTES);
+            resultIm += im.getInt(i * Integer.BYTES);
+        }
+
+        return new ComplexNumber(resultRe, resultIm);
+    }
+
+    @Override
+    public ComplexNumber product(ByteBuffer re, ByteBuffer im, int length) {
+        int bound = SPECIES.loopBound(length);
+        IntVector productRe = IntVector.broadcast(SPECIES, 1);
+        IntVector productIm = IntVector.zero(SPECIES);
+        int i = 0;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector xr = IntVector.fromByteBuffer(SPECIES, re, i * Integer.BYTES, re.order());
+            IntVector xi = IntVector.fromByteBuffer(SPECIES, im, i * Integer.BYTES, im.order());
+            IntVector realPart = productRe.mul(xr).sub(productIm.mul(xi));
+
+            productIm = productRe.mul(xi).add(productIm.mul(xr));
+            productRe = realPart;
+        }
+
+        int[] laneRe = productRe.toArray();
+        int[] laneIm = productIm.toArray();
+        ComplexNumber product = productOfRange(laneRe, laneIm, 0, laneRe.length);
+
+        // Multiply the tail in directly, since the buffers cannot be handed to the array-based helper
+        for (; i < length; i++) {
+            product = product.multiply(new ComplexNumber(re.getInt(i * Integer.BYTES), im.getInt(i * Integer.BYTES)));
+        }
+
+        return product;
+    }
+
+    @Override
+    public void multiplyAccumulate(int xRe, int xIm, int[] bRe, int[] bIm, int bOffset, int[] outRe, int[] outIm,
+                                   int outOffset, int length) {
+        int bound = SPECIES.loopBound(length);
+        int j = 0;
+
+        for (; j < bound; j += SPECIES.length()) {
+            IntVector br = IntVector.fromArray(SPECIES, bRe, bOffset + j);
+            IntVector bi = IntVector.fromArray(SPECIES, bIm, bOffset + j);
+
+            IntVector.fromArray(SPECIES, outRe, outOffset + j).add(br.mul(xRe).sub(bi.mul(xIm)))
+                    .intoArray(outRe, outOffset + j);
+            IntVector.fromArray(SPECIES, outIm, outOffset + j).add(bi.mul(xRe).add(br.mul(xIm)))
+                    .intoArray(outIm, outOffset + j);
+        }
+
+        for (; j < length; j++) {
+            int br = bRe[bOffset + j];
+            int bi = bIm[bOffset + j];
+
+            outRe[outOffset + j] += xRe * br - xIm * bi;
+            outIm[outOffset + j] += xRe * bi + xIm * br;
+        }
+    }
+
+    @Override
+    public void multiplyAccumulateGauss(int xRe, int xIm, int[] bRe, int[] bIm, int[] bSum, int bOffset, int[] outRe,
+                                        int[] outIm, int outOffset, int length) {
+        int xSum = xRe + xIm;
+        int bound = SPECIES.loopBound(length);
+        int j = 0;
+
+        for (; j < bound; j += SPECIES.length()) {
+            IntVector p = IntVector.fromArray(SPECIES, bRe, bOffset + j).mul(xRe);
+            IntVector q = IntVector.fromArray(SPECIES, bIm, bOffset + j).mul(xIm);
+            IntVector s = IntVector.fromArray(SPECIES, bSum, bOffset + j).mul(xSum);
+
+            IntVector.fromArray(SPECIES, outRe, outOffset + j).add(p.sub(q)).intoArray(outRe, outOffset + j);
+            IntVector.fromArray(SPECIES, outIm, outOffset + j).add(s.sub(p).sub(q)).intoArray(outIm, outOffset + j);
+        }
+
+        for (; j < length; j++) {
+            int p = xRe * bRe[bOffset + j];
+            int q = xIm * bIm[bOffset + j];
+
+            outRe[outOffset + j] += p - q;
+            outIm[outOffset + j] += xSum * bSum[bOffset + j] - p - q;
+        }
+    }
+
+    @Override
+    public void multiplyAdd(int[] accRe, int[] accIm, int[] zRe, int[] zIm, int cRe, int cIm, int from, int to) {
+        int bound = from + SPECIES.loopBound(to - from);
+        int i = from;
+
+        for (; i < bound; i += SPECIES.length()) {
+            IntVector ar = IntVector.fromArray(SPECIES, accRe, i);
+            IntVector ai = IntVector.fromArray(SPECIES, accIm, i);
+            IntVector zr = IntVector.fromArray(SPECIES, zRe, i);
+            IntVector zi = IntVector.fromArray(SPECIES, zIm, i);
+
+            ar.mul(zr).sub(ai.mul(zi)).add(cRe).intoArray(accRe, i);
+            ar.mul(zi).add(ai.mul(zr)).add(cIm).intoArray(accIm, i);
+        }
+
+        for (; i < to; i++) {
+            int realPart = accRe[i] * zRe[i] - accIm[i] * zIm[i] + cRe;
+            int imaginaryPart = accRe[i] * zIm[i] + accIm[i] * zRe[i] + cIm;
+
+            accRe[i] = realPart;
+            accIm[i] = imaginaryPart;
+        }
+    }
+
+    /**
+     * Returns the product of the elements in the range {@code [from, to)} using the scalar formulas.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param from the first index, inclusive
+     * @param to the last index, exclusive
+     * @return the product of the range
+     */
+    private static ComplexNumber productOfRange(int[] re, int[] im, int from, int to) {
+        int productRe = 1;
+        int productIm = 0;
+
+        for (int i = from; i < to; i++) {
+            int realPart = productRe * re[i] - productIm * im[i];
+            int imaginaryPart = productRe * im[i] + productIm * re[i];
+
+            productRe = realPart;
+            productIm = imaginaryPart;
+        }
+
+        return new ComplexNumber(productRe, productIm);
+    }
+}
@@ -0,0 +1,210 @@
+package metrics;
+
+import enums.Operation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Singleton collecting the hot-path metrics of parsing and evaluation: invocation counts per {@link Operation},
+ * operand-count distribution, parse and evaluation latency histograms, and parse-error, arithmetic-error and
+ * division-by-zero counts.
+ * <p>
+ * Recording is disabled by default, and instrumented code checks {@link #isEnabled()} (a single volatile read) before
+ * doing any work, including reading the clock, so disabled metrics cost close to nothing. When enabled, every record
+ * is lock-free and allocation-free. Recording can be enabled at startup with {@code -Dcomplex.metrics=true}, or at
+ * runtime through {@link #setEnabled(boolean)} or JMX.
+ */
+public final class EvaluationMetrics implements EvaluationMetricsMXBean {
+
+    /** System property enabling the recording at startup */
+    public static final String ENABLED_PROPERTY = "complex.metrics";
+
+    /** Message of the {@link ArithmeticException} thrown by every arithmetic on a division by zero */
+    private static final String DIVISION_BY_ZERO = "Division by zero";
+
+    /** The operations, cached to avoid cloning the values array on every read */
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /** The single instance of the metrics, created after {@link #OPERATIONS} which its constructor uses */
+    private static final EvaluationMetrics INSTANCE = new EvaluationMetrics();
+
+    private final LongAdder[] operationCounts = new LongAdder[OPERATIONS.length];  // Invocations, by ordinal
+    private final LogHistogram operandCounts = new LogHistogram();  // Number of operands per applied operation
+    private final LogHistogram parseLatency = new LogHistogram();  // Parse latency, in nanoseconds
+    private final LogHistogram evaluationLatency = new LogHistogram();  // Evaluation latency, in nanoseconds
+    private final LongAdder parseErrors = new LongAdder();  // Number of expressions that failed to parse
+    private final LongAdder arithmeticErrors = new LongAdder();  // Number of evaluations failed with an arithmetic error
+    private final LongAdder divisionsByZero = new LongAdder();  // Number of evaluations failed with a division by zero
+    private volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);  // Whether recording is enabled
+
+    /**
+     * Private constructor to prevent external instantiation.
+     */
+    private EvaluationMetrics() {
+        for (int i = 0; i < operationCounts.length; i++) {
+            operationCounts[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Returns the single instance of the {@code EvaluationMetrics} class.
+     *
+     * @return the singleton instance of {@code EvaluationMetrics}
+     */
+    public static EvaluationMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records the application of an operation, whichever arithmetic or evaluator applies it.
+     *
+     * @param operation the operation applied
+     * @param operandCount the number of operands the operation is applied on
+     */
+    public void recordOperation(@NotNull Operation operation, int operandCount) {
+        operationCounts[operation.ordinal()].increment();
+        operandCounts.record(operandCount);
+    }
+
+    /**
+     * Records several applications of the same operation on the same number of operands at once.
+     *
+     * @param operation the operation applied
+     * @param operandCount the number of operands the operation is applied on
+     * @param count the number of applications
+     */
+    public void recordOperations(@NotNull Operation operation, int operandCount, long count) {
+        operationCounts[operation.ordinal()].add(count);
+        operandCounts.record(operandCount, count);
+    }
+
+    /**
+     * Records a successful parse.
+     *
+     * @param nanos the parse latency, in nanoseconds
+     */
+    public void recordParse(long nanos) {
+        parseLatency.record(nanos);
+    }
+
+    /**
+     * Records an expression that failed to parse.
+     */
+    public void recordParseError() {
+        parseErrors.increment();
+    }
+
+    /**
+     * Records a completed evaluation, successful or not.
+     *
+     * @param nanos the evaluation latency, in nanoseconds
+     */
+    public void recordEvaluation(long nanos) {
+        evaluationLatency.record(nanos);
+    }
+
+    /**
+     * Records an evaluation that failed with an {@link ArithmeticException}, e.g. a division by zero, an invalid
+     * exponent or a result too large to compute. Divisions by zero are also counted separately.
+     *
+     * @param error the error the evaluation failed with
+     */
+    public void recordArithmeticError(@NotNull ArithmeticException error) {
+        arithmeticErrors.increment();
+
+        if (DIVISION_BY_ZERO.equals(error.getMessage())) {
+            divisionsByZero.increment();
+        }
+    }
+
+    @Override
+    public Map<String, Long> getOperationCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+
+        for (Operation operation : OPERATIONS) {
+            counts.put(operation.name(), operationCounts[operation.ordinal()].sum());
+        }
+
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getOperandCounts() {
+        return operandCounts.summary();
+    }
+
+    @Override
+    public Map<String, Long> getParseLatency() {
+        return parseLatency.summary();
+    }
+
+    @Override
+    public Map<String, Long> getEvaluationLatency() {
+        return evaluationLatency.summary();
+    }
+
+    @Override
+    public long getParseErrorCount() {
+        return parseErrors.sum();
+    }
+
+    @Override
+    public long getArithmeticErrorCount() {
+        return arithmeticErrors.sum();
+    }
+
+    @Override
+    public long getDivisionByZeroCount() {
+        return divisionsByZero.sum();
+    }
+
+    @Override
+    public void reset() {
+        for (LongAdder count : operationCounts) {
+            count.reset();
+        }
+
+        operandCounts.reset();
+        parseLatency.reset();
+        evaluationLatency.reset();
+        parseErrors.reset();
+        arithmeticErrors.reset();
+        divisionsByZero.reset();
+    }
+
+    /**
+     * Returns a multi-line text dump of all metrics, with latencies in nanoseconds.
+     *
+     * @return the text dump
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[METRICS] enabled=").append(enabled).append('\n');
+
+        builder.append("  operations: ");
+        getOperationCounts().forEach((name, count) -> builder.append(name).append('=').append(count).append(' '));
+        builder.setLength(builder.length() - 1);
+
+        return builder.append('\n')
+                .append("  operands:   ").append(operandCounts).append('\n')
+                .append("  parse ns:   ").append(parseLatency).append('\n')
+                .append("  eval ns:    ").append(evaluationLatency).append('\n')
+                .append("  errors:     parse=").append(getParseErrorCount())
+                .append(" arithmetic=").append(getArithmeticErrorCount())
+                .append(" divisionByZero=").append(getDivisionByZeroCount())
+                .toString();
+    }
+}
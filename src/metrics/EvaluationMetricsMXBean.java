@@ -0,0 +1,81 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link EvaluationMetrics}, exposed over JMX by {@link MetricsReporter#registerMBean}.
+ * <p>
+ * Latency statistics are in nanoseconds; every statistics map holds the count, mean, 50th, 90th, 99th and 99.9th
+ * percentiles and max of the underlying {@link LogHistogram}.
+ */
+public interface EvaluationMetricsMXBean {
+
+    /**
+     * Indicates whether metrics are being recorded.
+     *
+     * @return true if recording is enabled, false otherwise
+     */
+    boolean isEnabled();
+
+    /**
+     * Enables or disables the recording of metrics.
+     *
+     * @param enabled true to record metrics, false to stop recording
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Returns the number of times each operation was applied, in any numeric mode and by any evaluator.
+     *
+     * @return the number of invocations, by operation name
+     */
+    Map<String, Long> getOperationCounts();
+
+    /**
+     * Returns the distribution of the number of operands of the applied operations.
+     *
+     * @return the statistics of the operand counts
+     */
+    Map<String, Long> getOperandCounts();
+
+    /**
+     * Returns the distribution of the parse latency.
+     *
+     * @return the statistics of the parse latency, in nanoseconds
+     */
+    Map<String, Long> getParseLatency();
+
+    /**
+     * Returns the distribution of the evaluation latency.
+     *
+     * @return the statistics of the evaluation latency, in nanoseconds
+     */
+    Map<String, Long> getEvaluationLatency();
+
+    /**
+     * Returns the number of expressions that failed to parse.
+     *
+     * @return the number of parse errors
+     */
+    long getParseErrorCount();
+
+    /**
+     * Returns the number of evaluations that failed with an arithmetic error, such as a division by zero or an
+     * invalid exponent.
+     *
+     * @return the number of arithmetic errors
+     */
+    long getArithmeticErrorCount();
+
+    /**
+     * Returns the number of evaluations that failed with a division by zero, also counted among the arithmetic errors.
+     *
+     * @return the number of divisions by zero
+     */
+    long getDivisionByZeroCount();
+
+    /**
+     * Discards all recorded metrics.
+     */
+    void reset();
+}
@@ -0,0 +1,220 @@
+package metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative {@code long} values with log-linear buckets, in the style of HdrHistogram.
+ * <p>
+ * Values below {@value #SUB_BUCKET_COUNT} have a bucket each; above, every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} equal buckets, so any recorded value is known within {@code 1/}{@value #SUB_BUCKET_COUNT}
+ * of its magnitude while the whole {@code long} range fits in under a thousand counters. Recording is a single atomic
+ * increment plus a striped adder, and never allocates.
+ * <p>
+ * Readings are not atomic snapshots: a value recorded concurrently may be visible in some statistics and not yet in
+ * others.
+ */
+public class LogHistogram {
+
+    /** Number of bits of precision kept within each power of two */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /** Number of buckets per power of two */
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /** Number of buckets needed to cover every non-negative long */
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    /** Percentiles reported by {@link #summary()} */
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 99, 99.9};
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);  // Number of values per bucket
+    private final LongAdder sum = new LongAdder();  // Sum of the recorded values
+    private final AtomicLong max = new AtomicLong();  // Largest recorded value
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records the same value several times at once. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     * @param count the number of times the value is recorded, zero or more
+     */
+    public void record(long value, long count) {
+        if (count <= 0) {
+            return;
+        }
+
+        long clamped = Math.max(value, 0);
+
+        buckets.addAndGet(bucketIndex(clamped), count);
+        sum.add(clamped * count);
+
+        if (clamped > max.get()) {
+            max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        long total = 0;
+
+        // Derived from the buckets rather than kept in a counter, which keeps recording to two atomic updates
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += buckets.get(i);
+        }
+
+        return total;
+    }
+
+    /**
+     * Returns the mean of the recorded values.
+     *
+     * @return the mean, or zero if no value was recorded
+     */
+    public double getMean() {
+        long n = getCount();
+
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return the largest value, or zero if no value was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the value below which the given percentage of the recorded values fall, as the highest value of the
+     * bucket holding that percentile.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the percentile, or zero if no value was recorded
+     * @throws IllegalArgumentException if the percentile is not between 0 and 100
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+
+        long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+
+        return max.get();
+    }
+
+    /**
+     * Returns the main statistics of the histogram: count, mean, 50th, 90th, 99th and 99.9th percentiles, and max.
+     *
+     * @return the statistics, by name, in that order
+     */
+    public Map<String, Long> summary() {
+        Map<String, Long> summary = new LinkedHashMap<>();
+
+        summary.put("count", getCount());
+        summary.put("mean", Math.round(getMean()));
+        for (double percentile : SUMMARY_PERCENTILES) {
+            summary.put("p" + (percentile == Math.rint(percentile) ? String.valueOf((long) percentile)
+                    : String.valueOf(percentile)), getValueAtPercentile(percentile));
+        }
+        summary.put("max", getMax());
+
+        return summary;
+    }
+
+    /**
+     * Discards every recorded value.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Returns the statistics of {@link #summary()} on a single line.
+     *
+     * @return a string in the form "count=n mean=m p50=a ... max=b"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        summary().forEach((name, value) -> {
+            if (builder.length() > 0) {
+                builder.append(' ');
+            }
+            builder.append(name).append('=').append(value);
+        });
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the index of the bucket holding the given value.
+     *
+     * @param value the non-negative value
+     * @return the bucket index
+     */
+    private static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        // Position of the highest set bit; the next SUB_BUCKET_BITS bits select the bucket within that power of two
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    /**
+     * Returns the highest value held by the given bucket.
+     *
+     * @param index the bucket index
+     * @return the highest value of the bucket
+     */
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+
+        return lowest + (1L << shift) - 1;
+    }
+}
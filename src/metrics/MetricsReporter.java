@@ -0,0 +1,101 @@
+package metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link EvaluationMetrics} as a JMX MBean and as a periodic text dump.
+ */
+public final class MetricsReporter {
+
+    /** Name under which the metrics are registered with the platform MBean server */
+    public static final String OBJECT_NAME = "complexnumbers:type=EvaluationMetrics";
+
+    /** System property giving the period of the text dump to the standard error, in seconds */
+    public static final String DUMP_INTERVAL_PROPERTY = "complex.metrics.dumpInterval";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MetricsReporter() {}
+
+    /**
+     * Configures the reporting from the system properties: when {@code -Dcomplex.metrics=true} is set, registers the
+     * metrics MBean, and when {@code -Dcomplex.metrics.dumpInterval=<seconds>} is also set, starts dumping the metrics
+     * to the standard error at that period.
+     *
+     * @throws IllegalArgumentException if the dump interval is not a positive number of seconds
+     */
+    public static void configureFromSystemProperties() {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (!metrics.isEnabled()) {
+            return;
+        }
+
+        registerMBean(metrics);
+
+        String interval = System.getProperty(DUMP_INTERVAL_PROPERTY);
+        if (interval != null) {
+            try {
+                startDump(metrics, System.err, Long.parseLong(interval.trim()), TimeUnit.SECONDS);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid metrics dump interval: " + interval);
+            }
+        }
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server under {@value #OBJECT_NAME}. Registering again is a no-op.
+     *
+     * @param metrics the metrics to register
+     * @throws IllegalStateException if the registration fails
+     */
+    public static void registerMBean(@NotNull EvaluationMetrics metrics) {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        try {
+            server.registerMBean(metrics, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException e) {
+            // Already registered
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register the metrics MBean", e);
+        }
+    }
+
+    /**
+     * Starts dumping the metrics to the given stream at a fixed period, from a daemon thread.
+     *
+     * @param metrics the metrics to dump
+     * @param out the stream receiving the dumps
+     * @param period the period between two dumps
+     * @param unit the unit of the period
+     * @return the scheduler running the dumps; shut it down to stop dumping
+     * @throws IllegalArgumentException if the period is not positive
+     */
+    public static ScheduledExecutorService startDump(@NotNull EvaluationMetrics metrics, @NotNull PrintStream out,
+                                                     long period, @NotNull TimeUnit unit) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Metrics dump period must be positive: " + period);
+        }
+
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-dump");
+            thread.setDaemon(true);
+
+            return thread;
+        });
+
+        scheduler.scheduleAtFixedRate(() -> out.println(metrics), period, period, unit);
+
+        return scheduler;
+    }
+}
@@ -0,0 +1,66 @@
+package models;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task that computes one Aberth iteration for a range of the root approximations of a
+ * {@link ComplexPolynomial}.
+ * <p>
+ * Every new approximation depends only on the approximations of the previous iteration, which are not modified during
+ * the iteration, so ranges larger than the threshold are split in two halves computed concurrently, and the result
+ * does not depend on the scheduling.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class AberthIterationTask extends RecursiveAction {
+    private final ComplexPolynomial polynomial;  // Polynomial whose roots are searched
+    private final double[] zr;  // Real parts of the previous approximations
+    private final double[] zi;  // Imaginary parts of the previous approximations
+    private final double[] nextRe;  // Real parts of the new approximations
+    private final double[] nextIm;  // Imaginary parts of the new approximations
+    private final double[] corrections;  // Relative size of each correction
+    private final int from;  // Index of the first approximation, inclusive
+    private final int to;  // Index of the last approximation, exclusive
+    private final int threshold;  // Maximum range size computed sequentially
+
+    /**
+     * Constructs a task computing the new approximations in the range {@code [from, to)}.
+     *
+     * @param polynomial the polynomial whose roots are searched
+     * @param zr the real parts of the previous approximations
+     * @param zi the imaginary parts of the previous approximations
+     * @param nextRe the array receiving the real parts of the new approximations
+     * @param nextIm the array receiving the imaginary parts of the new approximations
+     * @param corrections the array receiving the relative size of each correction
+     * @param from the index of the first approximation, inclusive
+     * @param to the index of the last approximation, exclusive
+     * @param threshold the maximum range size computed sequentially
+     */
+    AberthIterationTask(ComplexPolynomial polynomial, double[] zr, double[] zi, double[] nextRe, double[] nextIm,
+                        double[] corrections, int from, int to, int threshold) {
+        this.polynomial = polynomial;
+        this.zr = zr;
+        this.zi = zi;
+        this.nextRe = nextRe;
+        this.nextIm = nextIm;
+        this.corrections = corrections;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Computes the range, splitting it when it is larger than the threshold.
+     */
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            polynomial.aberthStep(zr, zi, nextRe, nextIm, corrections, from, to);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+
+        invokeAll(new AberthIterationTask(polynomial, zr, zi, nextRe, nextIm, corrections, from, middle, threshold),
+                new AberthIterationTask(polynomial, zr, zi, nextRe, nextIm, corrections, middle, to, threshold));
+    }
+}
@@ -39,4 +39,28 @@ public class AdditionExpression extends ComplexExpression {
     protected ComplexNumber executeOneOperation(@NotNull ComplexNumber c1, ComplexNumber c2) {
         return c1.add(c2);
     }
+
+    /**
+     * Performs the addition in place, by adding the complex number to the accumulated value.
+     * <p>
+     * This method overrides the {@link ComplexExpression#accumulateOneOperation(ComplexAccumulator, ComplexNumber)}
+     * method using the {@link ComplexAccumulator#addInPlace(ComplexNumber)} method.
+     *
+     * @param accumulator the accumulated value, updated with the result
+     * @param operand the complex number applied on the accumulated value
+     */
+    @Override
+    protected void accumulateOneOperation(@NotNull ComplexAccumulator accumulator, ComplexNumber operand) {
+        accumulator.addInPlace(operand);
+    }
+
+    /**
+     * Indicates that complex addition is associative, so the expression can be executed in parallel.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean isAssociative() {
+        return true;
+    }
 }
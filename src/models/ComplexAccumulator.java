@@ -0,0 +1,286 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Mutable complex number used to accumulate the result of a chain of operations without allocating an intermediate
+ * {@link ComplexNumber} per step.
+ * <p>
+ * Every in-place operation uses the same formulas as the corresponding {@link ComplexNumber} method, so accumulating a
+ * chain gives exactly the result of folding it with immutable complex numbers. Instances are not thread-safe.
+ */
+public class ComplexAccumulator {
+    private int re;  // Real part of the accumulated value
+    private int im;  // Imaginary part of the accumulated value
+
+    /**
+     * Constructs an accumulator holding zero.
+     */
+    public ComplexAccumulator() {}
+
+    /**
+     * Constructs an accumulator holding the given complex number.
+     *
+     * @param value the initial value
+     */
+    public ComplexAccumulator(@NotNull ComplexNumber value) {
+        set(value);
+    }
+
+    /**
+     * Returns the real part of the accumulated value.
+     *
+     * @return the real part
+     */
+    public int getRe() {
+        return re;
+    }
+
+    /**
+     * Returns the imaginary part of the accumulated value.
+     *
+     * @return the imaginary part
+     */
+    public int getIm() {
+        return im;
+    }
+
+    /**
+     * Replaces the accumulated value by the given complex number.
+     *
+     * @param value the new value
+     * @return this accumulator
+     */
+    public ComplexAccumulator set(@NotNull ComplexNumber value) {
+        return set(value.getRe(), value.getIm());
+    }
+
+    /**
+     * Replaces the accumulated value by the complex number with the given parts.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     * @return this accumulator
+     */
+    public ComplexAccumulator set(int re, int im) {
+        this.re = re;
+        this.im = im;
+
+        return this;
+    }
+
+    /**
+     * Adds a complex number to the accumulated value.
+     *
+     * @param other the complex number to add
+     * @return this accumulator
+     */
+    public ComplexAccumulator addInPlace(@NotNull ComplexNumber other) {
+        return addInPlace(other.getRe(), other.getIm());
+    }
+
+    /**
+     * Adds the complex number with the given parts to the accumulated value.
+     *
+     * @param otherRe the real part of the complex number to add
+     * @param otherIm the imaginary part of the complex number to add
+     * @return this accumulator
+     */
+    public ComplexAccumulator addInPlace(int otherRe, int otherIm) {
+        re += otherRe;
+        im += otherIm;
+
+        return this;
+    }
+
+    /**
+     * Subtracts a complex number from the accumulated value.
+     *
+     * @param other the complex number to subtract
+     * @return this accumulator
+     */
+    public ComplexAccumulator subtractInPlace(@NotNull ComplexNumber other) {
+        return subtractInPlace(other.getRe(), other.getIm());
+    }
+
+    /**
+     * Subtracts the complex number with the given parts from the accumulated value.
+     *
+     * @param otherRe the real part of the complex number to subtract
+     * @param otherIm the imaginary part of the complex number to subtract
+     * @return this accumulator
+     */
+    public ComplexAccumulator subtractInPlace(int otherRe, int otherIm) {
+        re -= otherRe;
+        im -= otherIm;
+
+        return this;
+    }
+
+    /**
+     * Multiplies the accumulated value by a complex number.
+     *
+     * @param other the complex number to multiply by
+     * @return this accumulator
+     */
+    public ComplexAccumulator multiplyInPlace(@NotNull ComplexNumber other) {
+        return multiplyInPlace(other.getRe(), other.getIm());
+    }
+
+    /**
+     * Multiplies the accumulated value by the complex number with the given parts.
+     *
+     * @param otherRe the real part of the complex number to multiply by
+     * @param otherIm the imaginary part of the complex number to multiply by
+     * @return this accumulator
+     */
+    public ComplexAccumulator multiplyInPlace(int otherRe, int otherIm) {
+        int realPart = re * otherRe - im * otherIm;
+        int imaginaryPart = re * otherIm + im * otherRe;
+
+        re = realPart;
+        im = imaginaryPart;
+
+        return this;
+    }
+
+    /**
+     * Divides the accumulated value by a complex number.
+     *
+     * @param other the complex number to divide by
+     * @return this accumulator
+     * @throws ArithmeticException if attempting to divide by zero, in which case the accumulated value is unchanged
+     */
+    public ComplexAccumulator divideInPlace(@NotNull ComplexNumber other) {
+        return divideInPlace(other.getRe(), other.getIm());
+    }
+
+    /**
+     * Divides the accumulated value by the complex number with the given parts.
+     *
+     * @param otherRe the real part of the complex number to divide by
+     * @param otherIm the imaginary part of the complex number to divide by
+     * @return this accumulator
+     * @throws ArithmeticException if attempting to divide by zero, in which case the accumulated value is unchanged
+     */
+    public ComplexAccumulator divideInPlace(int otherRe, int otherIm) {
+        int denominator = otherRe * otherRe + otherIm * otherIm;
+        if (denominator == 0) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        int realPart = (re * otherRe + im * otherIm) / denominator;
+        int imaginaryPart = (im * otherRe - re * otherIm) / denominator;
+
+        re = realPart;
+        im = imaginaryPart;
+
+        return this;
+    }
+
+    /**
+     * Raises the accumulated value to the power of the given complex number, which must be a real integer.
+     *
+     * @param exponent the exponent, with a zero imaginary part
+     * @return this accumulator
+     * @throws ArithmeticException if the exponent is not real, or if it is negative and the power is zero, in which
+     *                             case the accumulated value is unchanged
+     */
+    public ComplexAccumulator powerInPlace(@NotNull ComplexNumber exponent) {
+        return powerInPlace(ComplexNumber.exponentOf(exponent));
+    }
+
+    /**
+     * Raises the accumulated value to the power of the complex number with the given parts, which must be a real
+     * integer.
+     *
+     * @param exponentRe the real part of the exponent
+     * @param exponentIm the imaginary part of the exponent, which must be zero
+     * @return this accumulator
+     * @throws ArithmeticException if the exponent is not real, or if it is negative and the power is zero, in which
+     *                             case the accumulated value is unchanged
+     */
+    public ComplexAccumulator powerInPlace(int exponentRe, int exponentIm) {
+        if (exponentIm != 0) {
+            // Builds the same message as ComplexNumber#power, allocating only on failure
+            return powerInPlace(new ComplexNumber(exponentRe, exponentIm));
+        }
+
+        return powerInPlace(exponentRe);
+    }
+
+    /**
+     * Raises the accumulated value to the given power by binary exponentiation, with the same result as
+     * {@link ComplexNumber#power(int)}.
+     *
+     * @param exponent the exponent
+     * @return this accumulator
+     * @throws ArithmeticException if the exponent is negative and the power is zero, in which case the accumulated
+     *                             value is unchanged
+     */
+    public ComplexAccumulator powerInPlace(int exponent) {
+        int resultRe = 1;
+        int resultIm = 0;
+        int baseRe = re;
+        int baseIm = im;
+
+        for (long remaining = Math.abs((long) exponent); remaining > 0; remaining >>= 1) {
+            if ((remaining & 1) != 0) {
+                int realPart = resultRe * baseRe - resultIm * baseIm;
+                resultIm = resultRe * baseIm + resultIm * baseRe;
+                resultRe = realPart;
+            }
+
+            int realPart = baseRe * baseRe - baseIm * baseIm;
+            baseIm = 2 * baseRe * baseIm;
+            baseRe = realPart;
+        }
+
+        if (exponent < 0) {
+            // Reciprocal, dividing one by the power like divideInPlace
+            int denominator = resultRe * resultRe + resultIm * resultIm;
+            if (denominator == 0) {
+                throw new ArithmeticException("Division by zero");
+            }
+
+            int realPart = resultRe / denominator;
+            resultIm = -resultIm / denominator;
+            resultRe = realPart;
+        }
+
+        re = resultRe;
+        im = resultIm;
+
+        return this;
+    }
+
+    /**
+     * Replaces the accumulated value by its conjugate.
+     *
+     * @return this accumulator
+     */
+    public ComplexAccumulator conjugateInPlace() {
+        im = -im;
+
+        return this;
+    }
+
+    /**
+     * Returns the accumulated value as a new immutable complex number.
+     *
+     * @return a new {@link ComplexNumber} with the accumulated value
+     */
+    public ComplexNumber toComplexNumber() {
+        return new ComplexNumber(re, im);
+    }
+
+    /**
+     * Returns a string representation of the accumulated value.
+     *
+     * @return a string in the form "a+b*i" or "a-b*i"
+     */
+    @Override
+    public String toString() {
+        return re + (im >= 0 ? "+" : "-") + Math.abs(im) + "*i";
+    }
+}
@@ -0,0 +1,451 @@
+package models;
+
+import enums.Operation;
+import kernels.ComplexKernels;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Fixed-size array of complex numbers stored as two parallel primitive arrays (struct-of-arrays layout).
+ * <p>
+ * Real parts live in one {@code int[]} and imaginary parts in another, so bulk operations run over contiguous
+ * primitive memory and never allocate a {@link ComplexNumber} per element. Every element-wise operation mirrors the
+ * semantics of the corresponding {@link ComplexNumber} method exactly, including {@code int} overflow wrap-around and
+ * the truncating integer division performed by {@link ComplexNumber#divide(ComplexNumber)}.
+ * <p>
+ * Bulk operations delegate to the {@link ComplexKernels#preferred() preferred} kernels, which are vectorized when the
+ * JVM provides the Vector API.
+ */
+public class ComplexArray {
+    private final int[] re;  // Real parts of the complex numbers
+    private final int[] im;  // Imaginary parts of the complex numbers
+
+    /** The arithmetic kernels used for all bulk operations */
+    private static final ComplexKernels KERNELS = ComplexKernels.preferred();
+
+    /**
+     * Constructs a new array of the given length with all elements set to zero.
+     *
+     * @param length the number of complex numbers in the array
+     * @throws IllegalArgumentException if the length is negative
+     */
+    public ComplexArray(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Negative length: " + length);
+        }
+
+        this.re = new int[length];
+        this.im = new int[length];
+    }
+
+    /**
+     * Constructs a new array backed by the given real and imaginary part arrays. The arrays are not copied.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public ComplexArray(int @NotNull [] re, int @NotNull [] im) {
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("Real and imaginary parts differ in length: " + re.length + " != "
+                    + im.length);
+        }
+
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Creates a new array holding the values of the given complex numbers.
+     *
+     * @param numbers the complex numbers to copy
+     * @return a new {@code ComplexArray} with the same values
+     */
+    public static ComplexArray fromComplexNumbers(ComplexNumber @NotNull [] numbers) {
+        ComplexArray array = new ComplexArray(numbers.length);
+
+        for (int i = 0; i < numbers.length; i++) {
+            array.re[i] = numbers[i].getRe();
+            array.im[i] = numbers[i].getIm();
+        }
+
+        return array;
+    }
+
+    /**
+     * Converts this array into an array of {@link ComplexNumber} objects, e.g. to feed the arguments of a
+     * {@link ComplexExpression}.
+     *
+     * @return a new array of complex numbers with the same values
+     */
+    public ComplexNumber[] toComplexNumbers() {
+        ComplexNumber[] numbers = new ComplexNumber[re.length];
+
+        for (int i = 0; i < re.length; i++) {
+            numbers[i] = new ComplexNumber(re[i], im[i]);
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Returns the number of complex numbers in this array.
+     *
+     * @return the length of the array
+     */
+    public int length() {
+        return re.length;
+    }
+
+    /**
+     * Returns the backing array of real parts. Changes to the returned array are reflected in this array.
+     *
+     * @return the real parts
+     */
+    public int[] realParts() {
+        return re;
+    }
+
+    /**
+     * Returns the backing array of imaginary parts. Changes to the returned array are reflected in this array.
+     *
+     * @return the imaginary parts
+     */
+    public int[] imaginaryParts() {
+        return im;
+    }
+
+    /**
+     * Returns the element at the given index as a new {@link ComplexNumber}.
+     *
+     * @param index the index of the element
+     * @return the complex number stored at the index
+     */
+    public ComplexNumber get(int index) {
+        return new ComplexNumber(re[index], im[index]);
+    }
+
+    /**
+     * Stores the given complex number at the given index.
+     *
+     * @param index the index of the element
+     * @param value the complex number to store
+     */
+    public void set(int index, @NotNull ComplexNumber value) {
+        re[index] = value.getRe();
+        im[index] = value.getIm();
+    }
+
+    /**
+     * Stores the complex number with the given parts at the given index.
+     *
+     * @param index the index of the element
+     * @param re the real part
+     * @param im the imaginary part
+     */
+    public void set(int index, int re, int im) {
+        this.re[index] = re;
+        this.im[index] = im;
+    }
+
+    /**
+     * Returns a copy of this array.
+     *
+     * @return a new {@code ComplexArray} with the same values
+     */
+    public ComplexArray copy() {
+        return new ComplexArray(re.clone(), im.clone());
+    }
+
+    /**
+     * Adds the elements of another array to the elements of this array, in place.
+     *
+     * @param other the array to add
+     * @return this array
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public ComplexArray addInPlace(@NotNull ComplexArray other) {
+        checkLength(other);
+        KERNELS.add(re, im, other.re, other.im, re, im);
+
+        return this;
+    }
+
+    /**
+     * Subtracts the elements of another array from the elements of this array, in place.
+     *
+     * @param other the array to subtract
+     * @return this array
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public ComplexArray subtractInPlace(@NotNull ComplexArray other) {
+        checkLength(other);
+        KERNELS.subtract(re, im, other.re, other.im, re, im);
+
+        return this;
+    }
+
+    /**
+     * Multiplies the elements of this array by the elements of another array, in place.
+     *
+     * @param other the array to multiply by
+     * @return this array
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public ComplexArray multiplyInPlace(@NotNull ComplexArray other) {
+        checkLength(other);
+        KERNELS.multiply(re, im, other.re, other.im, re, im);
+
+        return this;
+    }
+
+    /**
+     * Divides the elements of this array by the elements of another array, in place.
+     * <p>
+     * All divisors are checked before any element is written, so this array is left unchanged when an exception is
+     * thrown.
+     *
+     * @param other the array to divide by
+     * @return this array
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if any element of the other array is zero
+     */
+    public ComplexArray divideInPlace(@NotNull ComplexArray other) {
+        checkLength(other);
+        KERNELS.divide(re, im, other.re, other.im, re, im);
+
+        return this;
+    }
+
+    /**
+     * Raises the elements of this array to the powers given by the elements of another array, in place, with the
+     * semantics of {@link ComplexNumber#power(ComplexNumber)}. All exponents are validated before any element is
+     * written, but a negative exponent of an element whose power is zero fails after the preceding elements have been
+     * raised.
+     *
+     * @param exponents the exponents, real integers
+     * @return this array
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if an exponent is not real, or if it is negative and the power is zero
+     */
+    public ComplexArray powerInPlace(@NotNull ComplexArray exponents) {
+        checkLength(exponents);
+
+        for (int i = 0; i < re.length; i++) {
+            ComplexNumber.exponentOf(exponents.get(i));
+        }
+
+        ComplexAccumulator accumulator = new ComplexAccumulator();
+        for (int i = 0; i < re.length; i++) {
+            accumulator.set(re[i], im[i]).powerInPlace(exponents.re[i]);
+            re[i] = accumulator.getRe();
+            im[i] = accumulator.getIm();
+        }
+
+        return this;
+    }
+
+    /**
+     * Replaces every element of this array by its conjugate, in place.
+     *
+     * @return this array
+     */
+    public ComplexArray conjugateInPlace() {
+        for (int i = 0; i < im.length; i++) {
+            im[i] = -im[i];
+        }
+
+        return this;
+    }
+
+    /**
+     * Adds the elements of another array to the elements of this array.
+     *
+     * @param other the array to add
+     * @return a new {@code ComplexArray} holding the element-wise sums
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public ComplexArray add(@NotNull ComplexArray other) {
+        checkLength(other);
+        ComplexArray result = new ComplexArray(re.length);
+        KERNELS.add(re, im, other.re, other.im, result.re, result.im);
+
+        return result;
+    }
+
+    /**
+     * Subtracts the elements of another array from the elements of this array.
+     *
+     * @param other the array to subtract
+     * @return a new {@code ComplexArray} holding the element-wise differences
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public ComplexArray subtract(@NotNull ComplexArray other) {
+        checkLength(other);
+        ComplexArray result = new ComplexArray(re.length);
+        KERNELS.subtract(re, im, other.re, other.im, result.re, result.im);
+
+        return result;
+    }
+
+    /**
+     * Multiplies the elements of this array by the elements of another array.
+     *
+     * @param other the array to multiply by
+     * @return a new {@code ComplexArray} holding the element-wise products
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public ComplexArray multiply(@NotNull ComplexArray other) {
+        checkLength(other);
+        ComplexArray result = new ComplexArray(re.length);
+        KERNELS.multiply(re, im, other.re, other.im, result.re, result.im);
+
+        return result;
+    }
+
+    /**
+     * Divides the elements of this array by the elements of another array.
+     *
+     * @param other the array to divide by
+     * @return a new {@code ComplexArray} holding the element-wise quotients
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if any element of the other array is zero
+     */
+    public ComplexArray divide(@NotNull ComplexArray other) {
+        checkLength(other);
+        ComplexArray result = new ComplexArray(re.length);
+        KERNELS.divide(re, im, other.re, other.im, result.re, result.im);
+
+        return result;
+    }
+
+    /**
+     * Raises the elements of this array to the powers given by the elements of another array.
+     *
+     * @param exponents the exponents, real integers
+     * @return a new {@code ComplexArray} holding the element-wise powers
+     * @throws IllegalArgumentException if the arrays differ in length
+     * @throws ArithmeticException if an exponent is not real, or if it is negative and the power is zero
+     */
+    public ComplexArray power(@NotNull ComplexArray exponents) {
+        return copy().powerInPlace(exponents);
+    }
+
+    /**
+     * Returns the conjugates of the elements of this array.
+     *
+     * @return a new {@code ComplexArray} holding the conjugates
+     */
+    public ComplexArray conjugate() {
+        return copy().conjugateInPlace();
+    }
+
+    /**
+     * Returns the sum of all elements of this array.
+     *
+     * @return the sum, or zero if the array is empty
+     */
+    public ComplexNumber sum() {
+        return KERNELS.sum(re, im, re.length);
+    }
+
+    /**
+     * Returns the product of all elements of this array.
+     *
+     * @return the product, or one if the array is empty
+     */
+    public ComplexNumber product() {
+        return KERNELS.product(re, im, re.length);
+    }
+
+    /**
+     * Folds all elements of this array from left to right using the given operation.
+     * <p>
+     * The result is identical to executing the {@link ComplexExpression} created for the same operation over
+     * {@link #toComplexNumbers()}, but no intermediate objects are allocated.
+     *
+     * @param operation the operation to apply between consecutive elements
+     * @return the result of the fold
+     * @throws IllegalStateException if the array is empty
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber reduce(@NotNull Operation operation) {
+        if (re.length == 0) {
+            throw new IllegalStateException("Cannot reduce an empty array");
+        }
+
+        return switch (operation) {
+            case ADDITION -> sum();
+            case MULTIPLICATION -> product();
+            case SUBTRACTION -> {
+                int resultRe = re[0];
+                int resultIm = im[0];
+
+                for (int i = 1; i < re.length; i++) {
+                    resultRe -= re[i];
+                    resultIm -= im[i];
+                }
+
+                yield new ComplexNumber(resultRe, resultIm);
+            }
+            case DIVISION -> {
+                int resultRe = re[0];
+                int resultIm = im[0];
+
+                for (int i = 1; i < re.length; i++) {
+                    int denominator = re[i] * re[i] + im[i] * im[i];
+                    if (denominator == 0) {
+                        throw new ArithmeticException("Division by zero");
+                    }
+
+                    int realPart = (resultRe * re[i] + resultIm * im[i]) / denominator;
+                    int imaginaryPart = (resultIm * re[i] - resultRe * im[i]) / denominator;
+
+                    resultRe = realPart;
+                    resultIm = imaginaryPart;
+                }
+
+                yield new ComplexNumber(resultRe, resultIm);
+            }
+            case POWER -> {
+                ComplexAccumulator result = new ComplexAccumulator().set(re[0], im[0]);
+
+                for (int i = 1; i < re.length; i++) {
+                    result.powerInPlace(get(i));
+                }
+
+                yield result.toComplexNumber();
+            }
+        };
+    }
+
+    /**
+     * Returns a string representation of the array, using the {@link ComplexNumber#toString()} format per element.
+     *
+     * @return a string in the form "[a+b*i, c-d*i, ...]"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < re.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(re[i]).append(im[i] >= 0 ? "+" : "-").append(Math.abs(im[i])).append("*i");
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Checks that another array has the same length as this array.
+     *
+     * @param other the array to check
+     * @throws IllegalArgumentException if the lengths differ
+     */
+    private void checkLength(@NotNull ComplexArray other) {
+        if (other.re.length != re.length) {
+            throw new IllegalArgumentException("Array length mismatch: " + re.length + " != " + other.re.length);
+        }
+    }
+}
@@ -1,16 +1,27 @@
 package models;
 
 import enums.Operation;
+import numeric.ComplexArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Abstract class representing an arithmetic expression involving complex numbers.
  * <p>
  * The class follows the Template Method Design Pattern, where the method {@link #execute()} implements a general
  * algorithm that sequentially applies operations on complex numbers, delegating the actual operation to the subclass
- * through the {@link #executeOneOperation(ComplexNumber, ComplexNumber)} method.
+ * through the {@link #executeOneOperation(ComplexNumber, ComplexNumber)} method and its in-place counterpart
+ * {@link #accumulateOneOperation(ComplexAccumulator, ComplexNumber)}.
+ * <p>
+ * Expressions whose operation is associative can also be executed in parallel with {@link #executeParallel()}, which
+ * reduces chunks of the arguments on the common {@link ForkJoinPool} and combines the partial results in a tree.
  */
 public abstract class ComplexExpression {
 
+    /** Default number of arguments at or below which a parallel execution reduces sequentially */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+
     /** The operation to be performed on the complex numbers */
     protected Operation operation;
 
@@ -34,22 +45,119 @@ public abstract class ComplexExpression {
      * as arguments.
      * <p>
      * This method starts with the first complex number in the array and applies the operation pairwise on the
-     * remaining numbers.
+     * remaining numbers. The intermediate results are kept in a {@link ComplexAccumulator}, so only the final result is
+     * allocated.
      *
      * @return the result of the complex expression after applying the operatios on all provided complex numbers
      */
     public ComplexNumber execute() {
-        // Initialize result with the first complex number
-        ComplexNumber result = args[0];
+        return executeInto(new ComplexAccumulator()).toComplexNumber();
+    }
+
+    /**
+     * Executes the complex expression like {@link #execute()}, but stores the result in the given accumulator instead
+     * of allocating a new complex number. Reusing the same accumulator across calls makes the evaluation
+     * allocation-free.
+     *
+     * @param accumulator the accumulator receiving the result; its previous value is discarded
+     * @return the given accumulator, holding the result of the complex expression
+     */
+    public ComplexAccumulator executeInto(@NotNull ComplexAccumulator accumulator) {
+        // Initialize the accumulator with the first complex number
+        accumulator.set(args[0]);
 
         // Sequentially apply the operation on the remaining complex numbers
         for (int i = 1; i < args.length; i++) {
-            result = executeOneOperation(result, args[i]);
+            accumulateOneOperation(accumulator, args[i]);
+        }
+
+        return accumulator;
+    }
+
+    /**
+     * Executes the complex expression with the given arithmetic, e.g. exactly with the tiered arithmetic instead of
+     * the wrapping {@code int} arithmetic of {@link #execute()}, by sequentially applying the operation on the
+     * arguments converted to the representation of the arithmetic.
+     *
+     * @param arithmetic the arithmetic used for the execution
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the result of the complex expression in the representation of the arithmetic
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public <T> T execute(@NotNull ComplexArithmetic<T> arithmetic) {
+        T result = arithmetic.valueOf(args[0]);
+
+        for (int i = 1; i < args.length; i++) {
+            result = arithmetic.apply(operation, result, arithmetic.valueOf(args[i]));
         }
 
         return result;
     }
 
+    /**
+     * Executes the complex expression in parallel using the {@link #DEFAULT_PARALLEL_THRESHOLD default threshold}.
+     *
+     * @return the result of the complex expression, identical to the result of {@link #execute()}
+     * @see #executeParallel(int)
+     */
+    public ComplexNumber executeParallel() {
+        return executeParallel(DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Executes the complex expression by splitting the arguments into chunks, reducing the chunks on the common
+     * {@link ForkJoinPool} and combining the partial results pairwise, preserving the order of the arguments.
+     * <p>
+     * Only associative operations are reduced in parallel; for other operations, or when there are no more arguments
+     * than the threshold, this method falls back to the ordered fold of {@link #execute()}. Because {@code int}
+     * arithmetic wraps around, addition and multiplication of complex numbers stay exactly associative, so the result
+     * is identical to the sequential one.
+     *
+     * @param threshold the maximum number of arguments reduced sequentially by a single task
+     * @return the result of the complex expression, identical to the result of {@link #execute()}
+     * @throws IllegalArgumentException if the threshold is less than one
+     */
+    public ComplexNumber executeParallel(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Parallel threshold must be positive: " + threshold);
+        }
+
+        if (!isAssociative() || args.length <= threshold) {
+            return execute();
+        }
+
+        return ForkJoinPool.commonPool().invoke(new ParallelReductionTask(this, 0, args.length, threshold));
+    }
+
+    /**
+     * Sequentially applies the operation on the arguments in the range {@code [from, to)}.
+     *
+     * @param from the index of the first argument, inclusive
+     * @param to the index of the last argument, exclusive
+     * @return the result of applying the operation on the range of arguments
+     */
+    ComplexNumber executeRange(int from, int to) {
+        ComplexAccumulator accumulator = new ComplexAccumulator(args[from]);
+
+        for (int i = from + 1; i < to; i++) {
+            accumulateOneOperation(accumulator, args[i]);
+        }
+
+        return accumulator.toComplexNumber();
+    }
+
+    /**
+     * Indicates whether the operation of this expression is associative, i.e. whether the arguments may be grouped
+     * arbitrarily (while keeping their order) without changing the result.
+     * <p>
+     * The default implementation returns {@code false}, which keeps the ordered left fold.
+     *
+     * @return true if the operation is associative, false otherwise
+     */
+    protected boolean isAssociative() {
+        return false;
+    }
+
     /**
      * Abstract method to perform a single operation between two complex numbers.
      *
@@ -58,4 +166,12 @@ public abstract class ComplexExpression {
      * @return the result of applying the operation on c1 and c2
      */
     protected abstract ComplexNumber executeOneOperation(ComplexNumber c1, ComplexNumber c2);
+
+    /**
+     * Abstract method to apply a single operation in place, between the accumulated value and a complex number.
+     *
+     * @param accumulator the accumulated value, updated with the result
+     * @param operand the complex number applied on the accumulated value
+     */
+    protected abstract void accumulateOneOperation(ComplexAccumulator accumulator, ComplexNumber operand);
 }
@@ -0,0 +1,426 @@
+package models;
+
+import enums.MatrixProduct;
+import kernels.ComplexKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Fixed-size matrix of complex numbers stored as two parallel primitive arrays of real and imaginary parts, in
+ * row-major order.
+ * <p>
+ * Matrix products never allocate a {@link ComplexNumber} per step: they run over the primitive arrays in
+ * {@value #TILE_SIZE}x{@value #TILE_SIZE} output tiles, accumulating over blocks of the inner dimension so that the
+ * rows of both operands in use stay in cache. The inner steps run on the {@link ComplexKernels#preferred() preferred}
+ * kernels, which are vectorized when the JVM provides the Vector API. Large products compute their tiles in parallel
+ * on the common {@link ForkJoinPool}; every tile is written by a single task, so the result does not depend on the
+ * scheduling. Arithmetic wraps around like {@link ComplexNumber}'s, and each element of a product is exactly the sum
+ * that {@link ComplexNumber#multiply} and {@link ComplexNumber#add} would give.
+ */
+public class ComplexMatrix {
+
+    /** Number of rows and columns of the output tiles of a product */
+    public static final int TILE_SIZE = 128;
+
+    /** Number of inner-dimension steps accumulated into a tile before moving to the next block */
+    private static final int DEPTH_SIZE = 128;
+
+    /** Number of complex multiply-adds above which a product runs in parallel */
+    private static final long PARALLEL_THRESHOLD = 1L << 20;
+
+    /** The arithmetic kernels used for the inner steps of the products */
+    private static final ComplexKernels KERNELS = ComplexKernels.preferred();
+
+    private final int rows;  // Number of rows of the matrix
+    private final int columns;  // Number of columns of the matrix
+    private final int[] re;  // Real parts of the elements, row by row
+    private final int[] im;  // Imaginary parts of the elements, row by row
+
+    /**
+     * Constructs a new matrix of the given size with all elements set to zero.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @throws IllegalArgumentException if a dimension is negative
+     */
+    public ComplexMatrix(int rows, int columns) {
+        this(rows, columns, new int[checkSize(rows, columns)], new int[rows * columns]);
+    }
+
+    /**
+     * Constructs a new matrix backed by the given real and imaginary part arrays, in row-major order. The arrays are
+     * not copied.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @param re the real parts, row by row
+     * @param im the imaginary parts, row by row
+     * @throws IllegalArgumentException if a dimension is negative or an array does not hold {@code rows * columns}
+     *                                  elements
+     */
+    public ComplexMatrix(int rows, int columns, int @NotNull [] re, int @NotNull [] im) {
+        int size = checkSize(rows, columns);
+
+        if (re.length != size || im.length != size) {
+            throw new IllegalArgumentException("Parts do not hold " + rows + "x" + columns + " elements: "
+                    + re.length + ", " + im.length);
+        }
+
+        this.rows = rows;
+        this.columns = columns;
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Creates a new matrix holding the values of the given rows of complex numbers.
+     *
+     * @param numbers the rows of complex numbers to copy, all of the same length
+     * @return a new {@code ComplexMatrix} with the same values
+     * @throws IllegalArgumentException if the rows differ in length
+     */
+    public static ComplexMatrix fromComplexNumbers(ComplexNumber @NotNull [] @NotNull [] numbers) {
+        int columns = numbers.length == 0 ? 0 : numbers[0].length;
+        ComplexMatrix matrix = new ComplexMatrix(numbers.length, columns);
+
+        for (int i = 0; i < numbers.length; i++) {
+            if (numbers[i].length != columns) {
+                throw new IllegalArgumentException("Row length mismatch: " + columns + " != " + numbers[i].length);
+            }
+
+            for (int j = 0; j < columns; j++) {
+                matrix.set(i, j, numbers[i][j]);
+            }
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Creates the identity matrix of the given size.
+     *
+     * @param size the number of rows and columns
+     * @return a new identity matrix
+     */
+    public static ComplexMatrix identity(int size) {
+        ComplexMatrix matrix = new ComplexMatrix(size, size);
+
+        for (int i = 0; i < size; i++) {
+            matrix.re[i * size + i] = 1;
+        }
+
+        return matrix;
+    }
+
+    /**
+     * Converts this matrix into rows of {@link ComplexNumber} objects.
+     *
+     * @return new rows of complex numbers with the same values
+     */
+    public ComplexNumber[][] toComplexNumbers() {
+        ComplexNumber[][] numbers = new ComplexNumber[rows][columns];
+
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                numbers[i][j] = get(i, j);
+            }
+        }
+
+        return numbers;
+    }
+
+    /**
+     * Returns the number of rows of this matrix.
+     *
+     * @return the number of rows
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this matrix.
+     *
+     * @return the number of columns
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Returns the backing array of real parts, row by row. Changes to the returned array are reflected in this matrix.
+     *
+     * @return the real parts
+     */
+    public int[] realParts() {
+        return re;
+    }
+
+    /**
+     * Returns the backing array of imaginary parts, row by row. Changes to the returned array are reflected in this
+     * matrix.
+     *
+     * @return the imaginary parts
+     */
+    public int[] imaginaryParts() {
+        return im;
+    }
+
+    /**
+     * Returns the element at the given position as a new {@link ComplexNumber}.
+     *
+     * @param row the row of the element
+     * @param column the column of the element
+     * @return the complex number stored at the position
+     */
+    public ComplexNumber get(int row, int column) {
+        int index = index(row, column);
+
+        return new ComplexNumber(re[index], im[index]);
+    }
+
+    /**
+     * Stores the given complex number at the given position.
+     *
+     * @param row the row of the element
+     * @param column the column of the element
+     * @param value the complex number to store
+     */
+    public void set(int row, int column, @NotNull ComplexNumber value) {
+        set(row, column, value.getRe(), value.getIm());
+    }
+
+    /**
+     * Stores the complex number with the given parts at the given position.
+     *
+     * @param row the row of the element
+     * @param column the column of the element
+     * @param re the real part
+     * @param im the imaginary part
+     */
+    public void set(int row, int column, int re, int im) {
+        int index = index(row, column);
+
+        this.re[index] = re;
+        this.im[index] = im;
+    }
+
+    /**
+     * Multiplies this matrix by another matrix with the {@link MatrixProduct#STANDARD standard} complex product.
+     *
+     * @param other the right-hand matrix
+     * @return a new matrix holding the product
+     * @throws IllegalArgumentException if the number of columns of this matrix differs from the number of rows of the
+     *                                  other matrix
+     */
+    public ComplexMatrix multiply(@NotNull ComplexMatrix other) {
+        return multiply(other, MatrixProduct.STANDARD);
+    }
+
+    /**
+     * Multiplies this matrix by another matrix with the given complex product algorithm, in parallel when the product
+     * is large enough to benefit from it.
+     *
+     * @param other the right-hand matrix
+     * @param product the algorithm of the complex products
+     * @return a new matrix holding the product
+     * @throws IllegalArgumentException if the number of columns of this matrix differs from the number of rows of the
+     *                                  other matrix
+     */
+    public ComplexMatrix multiply(@NotNull ComplexMatrix other, @NotNull MatrixProduct product) {
+        if (columns != other.rows) {
+            throw new IllegalArgumentException("Matrix dimension mismatch: " + rows + "x" + columns + " * "
+                    + other.rows + "x" + other.columns);
+        }
+
+        ComplexMatrix result = new ComplexMatrix(rows, other.columns);
+
+        // Gauss's product multiplies by the sums of the parts of the right-hand elements, computed once for all rows
+        int[] sums = null;
+        if (product == MatrixProduct.GAUSS) {
+            sums = new int[other.re.length];
+            for (int i = 0; i < sums.length; i++) {
+                sums[i] = other.re[i] + other.im[i];
+            }
+        }
+
+        if ((long) rows * columns * other.columns < PARALLEL_THRESHOLD) {
+            for (int i = 0; i < rows; i += TILE_SIZE) {
+                for (int j = 0; j < other.columns; j += TILE_SIZE) {
+                    multiplyTile(other, sums, result, i, Math.min(i + TILE_SIZE, rows), j,
+                            Math.min(j + TILE_SIZE, other.columns));
+                }
+            }
+        } else {
+            ForkJoinPool.commonPool().invoke(new MatrixMultiplicationTask(this, other, sums, result, 0, rows, 0,
+                    other.columns));
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by a column vector.
+     *
+     * @param vector the vector, with one element per column of this matrix
+     * @return a new array holding the product, with one element per row of this matrix
+     * @throws IllegalArgumentException if the length of the vector differs from the number of columns
+     */
+    public ComplexArray multiply(@NotNull ComplexArray vector) {
+        if (vector.length() != columns) {
+            throw new IllegalArgumentException("Matrix dimension mismatch: " + rows + "x" + columns + " * "
+                    + vector.length());
+        }
+
+        int[] xr = vector.realParts();
+        int[] xi = vector.imaginaryParts();
+        ComplexArray result = new ComplexArray(rows);
+
+        for (int i = 0; i < rows; i++) {
+            int offset = i * columns;
+            int sumRe = 0;
+            int sumIm = 0;
+
+            for (int k = 0; k < columns; k++) {
+                int ar = re[offset + k];
+                int ai = im[offset + k];
+
+                sumRe += ar * xr[k] - ai * xi[k];
+                sumIm += ar * xi[k] + ai * xr[k];
+            }
+
+            result.set(i, sumRe, sumIm);
+        }
+
+        return result;
+    }
+
+    /**
+     * Computes one tile of the product of this matrix by another matrix.
+     *
+     * @param other the right-hand matrix
+     * @param sums the sums of the real and imaginary parts of the right-hand elements for Gauss's product, or
+     *             {@code null} for the standard product
+     * @param result the matrix receiving the product
+     * @param rowFrom the first row of the tile, inclusive
+     * @param rowTo the last row of the tile, exclusive
+     * @param columnFrom the first column of the tile, inclusive
+     * @param columnTo the last column of the tile, exclusive
+     */
+    void multiplyTile(ComplexMatrix other, int[] sums, ComplexMatrix result, int rowFrom, int rowTo, int columnFrom,
+                      int columnTo) {
+        int n = other.columns;
+        int[] bRe = other.re;
+        int[] bIm = other.im;
+        int[] cRe = result.re;
+        int[] cIm = result.im;
+
+        for (int depthFrom = 0; depthFrom < columns; depthFrom += DEPTH_SIZE) {
+            int depthTo = Math.min(depthFrom + DEPTH_SIZE, columns);
+
+            for (int i = rowFrom; i < rowTo; i++) {
+                int c = i * n;
+
+                for (int k = depthFrom; k < depthTo; k++) {
+                    int a = i * columns + k;
+
+                    // Each step updates a contiguous row segment of the tile with a single vectorizable kernel call
+                    if (sums == null) {
+                        KERNELS.multiplyAccumulate(re[a], im[a], bRe, bIm, k * n + columnFrom, cRe, cIm,
+                                c + columnFrom, columnTo - columnFrom);
+                    } else {
+                        KERNELS.multiplyAccumulateGauss(re[a], im[a], bRe, bIm, sums, k * n + columnFrom, cRe, cIm,
+                                c + columnFrom, columnTo - columnFrom);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks if this matrix is equal to another object.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a matrix of the same size with the same elements, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ComplexMatrix matrix && rows == matrix.rows && columns == matrix.columns
+                && Arrays.equals(re, matrix.re) && Arrays.equals(im, matrix.im);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the matrix
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * (31 * rows + columns) + Arrays.hashCode(re)) + Arrays.hashCode(im);
+    }
+
+    /**
+     * Returns a string representation of the matrix, using the {@link ComplexNumber#toString()} format per element.
+     *
+     * @return a string in the form "[[a+b*i, c-d*i], [e+f*i, g-h*i]]"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+
+        for (int i = 0; i < rows; i++) {
+            builder.append(i > 0 ? ", [" : "[");
+
+            for (int j = 0; j < columns; j++) {
+                if (j > 0) {
+                    builder.append(", ");
+                }
+                builder.append(get(i, j));
+            }
+
+            builder.append(']');
+        }
+
+        return builder.append(']').toString();
+    }
+
+    /**
+     * Returns the index of the element at the given position in the backing arrays.
+     *
+     * @param row the row of the element
+     * @param column the column of the element
+     * @return the index of the element
+     * @throws IndexOutOfBoundsException if the position is outside the matrix
+     */
+    private int index(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("Position (" + row + ", " + column + ") outside " + rows + "x"
+                    + columns + " matrix");
+        }
+
+        return row * columns + column;
+    }
+
+    /**
+     * Checks the dimensions of a matrix.
+     *
+     * @param rows the number of rows
+     * @param columns the number of columns
+     * @return the number of elements of the matrix
+     * @throws IllegalArgumentException if a dimension is negative or the matrix is too large
+     */
+    private static int checkSize(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Negative dimension: " + rows + "x" + columns);
+        }
+
+        long size = (long) rows * columns;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Matrix too large: " + rows + "x" + columns);
+        }
+
+        return (int) size;
+    }
+}
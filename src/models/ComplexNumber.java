@@ -20,6 +20,24 @@ public class ComplexNumber {
         this.im = im;
     }
 
+    /**
+     * Returns the real part of this complex number.
+     *
+     * @return the real part
+     */
+    public int getRe() {
+        return re;
+    }
+
+    /**
+     * Returns the imaginary part of this complex number.
+     *
+     * @return the imaginary part
+     */
+    public int getIm() {
+        return im;
+    }
+
     /**
      * Adds this complex number to another complex number.
      *
@@ -72,6 +90,54 @@ public class ComplexNumber {
         return new ComplexNumber(realPart, imaginaryPart);
     }
 
+    /**
+     * Raises this complex number to the given power by binary exponentiation (repeated squaring), with
+     * {@code O(log |exponent|)} multiplications.
+     * <p>
+     * Since {@code int} multiplication wraps around exactly, the result is identical to multiplying the complex number
+     * by itself {@code exponent} times. A negative exponent gives the reciprocal {@code 1 / z ^ -exponent}, divided
+     * like {@link #divide(ComplexNumber)}, and any complex number to the power zero is one.
+     *
+     * @param exponent the exponent
+     * @return a new models.ComplexNumber representing the power
+     * @throws ArithmeticException if the exponent is negative and the power of this complex number is zero
+     */
+    public ComplexNumber power(int exponent) {
+        int resultRe = 1;
+        int resultIm = 0;
+        int baseRe = re;
+        int baseIm = im;
+
+        // Work on the magnitude as a long, so that Integer.MIN_VALUE can be negated
+        for (long remaining = Math.abs((long) exponent); remaining > 0; remaining >>= 1) {
+            if ((remaining & 1) != 0) {
+                int realPart = resultRe * baseRe - resultIm * baseIm;
+                resultIm = resultRe * baseIm + resultIm * baseRe;
+                resultRe = realPart;
+            }
+
+            int realPart = baseRe * baseRe - baseIm * baseIm;
+            baseIm = 2 * baseRe * baseIm;
+            baseRe = realPart;
+        }
+
+        ComplexNumber result = new ComplexNumber(resultRe, resultIm);
+
+        return exponent >= 0 ? result : new ComplexNumber(1, 0).divide(result);
+    }
+
+    /**
+     * Raises this complex number to the power of another complex number, which must be a real integer.
+     *
+     * @param exponent the exponent, with a zero imaginary part
+     * @return a new models.ComplexNumber representing the power
+     * @throws ArithmeticException if the exponent is not real, or if it is negative and the power is zero
+     * @see #power(int)
+     */
+    public ComplexNumber power(@NotNull ComplexNumber exponent) {
+        return power(exponentOf(exponent));
+    }
+
     /**
      * Returns the conjugate of this complex number.
      *
@@ -81,6 +147,42 @@ public class ComplexNumber {
         return new ComplexNumber(re, -im);
     }
 
+    /**
+     * Returns the integer exponent represented by the given complex number.
+     *
+     * @param exponent the exponent, with a zero imaginary part
+     * @return the real part of the exponent
+     * @throws ArithmeticException if the exponent is not real
+     */
+    static int exponentOf(@NotNull ComplexNumber exponent) {
+        if (exponent.im != 0) {
+            throw new ArithmeticException("Exponent must be a real integer: " + exponent);
+        }
+
+        return exponent.re;
+    }
+
+    /**
+     * Checks if this complex number is equal to another object.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a complex number with the same parts, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ComplexNumber number && re == number.re && im == number.im;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the complex number
+     */
+    @Override
+    public int hashCode() {
+        return 31 * re + im;
+    }
+
     /**
      * Returns a string representation of the complex number.
      *
@@ -0,0 +1,457 @@
+package models;
+
+import kernels.ComplexKernels;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Immutable polynomial with complex integer coefficients, {@code c0 + c1 * z + ... + cn * z^n}.
+ * <p>
+ * Polynomials are evaluated with Horner's scheme. Evaluating at a whole {@link ComplexArray} of points runs Horner's
+ * scheme across the points rather than along the coefficients: for each chunk of points, the output array itself
+ * accumulates one coefficient after the other through the {@link ComplexKernels#preferred() preferred} kernels, so
+ * the evaluation is vectorized and allocates nothing per point. Arithmetic wraps around like {@link ComplexNumber}'s,
+ * and the value at each point is exactly the sum of {@code ck * z^k} terms that chained {@link MultiplicationExpression}
+ * and {@link AdditionExpression} objects would give.
+ * <p>
+ * Roots are found in floating point with the Aberth method, which updates every approximation from the previous ones
+ * at each iteration, so the updates of one iteration run concurrently for polynomials of large degree.
+ */
+public class ComplexPolynomial {
+
+    /** Default relative tolerance of the root search */
+    public static final double DEFAULT_TOLERANCE = 1e-12;
+
+    /** Default maximum number of iterations of the root search */
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    /** Default maximum number of points evaluated sequentially by a single task of a parallel evaluation */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 14;
+
+    /** Number of points evaluated together, small enough for their accumulators to stay in cache */
+    private static final int CHUNK_SIZE = 1024;
+
+    /** Maximum number of roots updated sequentially by a single task of the root search */
+    private static final int ROOTS_PER_TASK = 16;
+
+    /** The arithmetic kernels used for the evaluations over arrays */
+    private static final ComplexKernels KERNELS = ComplexKernels.preferred();
+
+    private final int[] re;  // Real parts of the coefficients, constant term first, without leading zeros
+    private final int[] im;  // Imaginary parts of the coefficients, constant term first, without leading zeros
+
+    /**
+     * Constructs a polynomial from the parts of its coefficients, constant term first. The arrays are copied, and
+     * zero coefficients of the highest degrees are dropped.
+     *
+     * @param re the real parts of the coefficients
+     * @param im the imaginary parts of the coefficients
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public ComplexPolynomial(int @NotNull [] re, int @NotNull [] im) {
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("Real and imaginary parts differ in length: " + re.length + " != "
+                    + im.length);
+        }
+
+        int length = re.length;
+        while (length > 0 && re[length - 1] == 0 && im[length - 1] == 0) {
+            length--;
+        }
+
+        this.re = Arrays.copyOf(re, length);
+        this.im = Arrays.copyOf(im, length);
+    }
+
+    /**
+     * Creates a polynomial from its coefficients, constant term first.
+     *
+     * @param coefficients the coefficients
+     * @return the polynomial
+     */
+    public static ComplexPolynomial of(ComplexNumber @NotNull ... coefficients) {
+        ComplexArray array = ComplexArray.fromComplexNumbers(coefficients);
+
+        return new ComplexPolynomial(array.realParts(), array.imaginaryParts());
+    }
+
+    /**
+     * Returns the degree of this polynomial.
+     *
+     * @return the degree, or -1 for the zero polynomial
+     */
+    public int degree() {
+        return re.length - 1;
+    }
+
+    /**
+     * Returns the coefficient of the given degree.
+     *
+     * @param degree the degree of the term
+     * @return the coefficient, zero beyond the degree of the polynomial
+     * @throws IllegalArgumentException if the degree is negative
+     */
+    public ComplexNumber getCoefficient(int degree) {
+        if (degree < 0) {
+            throw new IllegalArgumentException("Negative degree: " + degree);
+        }
+
+        return degree < re.length ? new ComplexNumber(re[degree], im[degree]) : new ComplexNumber(0, 0);
+    }
+
+    /**
+     * Evaluates this polynomial at a point.
+     *
+     * @param z the point
+     * @return the value of the polynomial at the point
+     */
+    public ComplexNumber evaluate(@NotNull ComplexNumber z) {
+        int zr = z.getRe();
+        int zi = z.getIm();
+        int accRe = 0;
+        int accIm = 0;
+
+        for (int k = re.length - 1; k >= 0; k--) {
+            int realPart = accRe * zr - accIm * zi + re[k];
+            int imaginaryPart = accRe * zi + accIm * zr + im[k];
+
+            accRe = realPart;
+            accIm = imaginaryPart;
+        }
+
+        return new ComplexNumber(accRe, accIm);
+    }
+
+    /**
+     * Evaluates this polynomial at a point, in floating point.
+     *
+     * @param z the point
+     * @return the value of the polynomial at the point
+     */
+    public DoubleComplexNumber evaluate(@NotNull DoubleComplexNumber z) {
+        double zr = z.getRe();
+        double zi = z.getIm();
+        double accRe = 0;
+        double accIm = 0;
+
+        for (int k = re.length - 1; k >= 0; k--) {
+            double realPart = accRe * zr - accIm * zi + re[k];
+
+            accIm = accRe * zi + accIm * zr + im[k];
+            accRe = realPart;
+        }
+
+        return new DoubleComplexNumber(accRe, accIm);
+    }
+
+    /**
+     * Evaluates this polynomial at every point of an array.
+     *
+     * @param points the points
+     * @return a new array holding the value at each point
+     */
+    public ComplexArray evaluate(@NotNull ComplexArray points) {
+        ComplexArray values = new ComplexArray(points.length());
+
+        evaluate(points, values);
+
+        return values;
+    }
+
+    /**
+     * Evaluates this polynomial at every point of an array, writing the values into another array without allocating.
+     *
+     * @param points the points
+     * @param values the array receiving the value at each point, distinct from the points
+     * @throws IllegalArgumentException if the arrays differ in length or share their storage
+     */
+    public void evaluate(@NotNull ComplexArray points, @NotNull ComplexArray values) {
+        checkArrays(points, values);
+
+        evaluateRange(points.realParts(), points.imaginaryParts(), values.realParts(), values.imaginaryParts(), 0,
+                points.length());
+    }
+
+    /**
+     * Evaluates this polynomial at every point of an array in parallel, splitting the points into ranges of at most
+     * the {@link #DEFAULT_PARALLEL_THRESHOLD default threshold} evaluated on the common {@link ForkJoinPool}. The
+     * values are identical to the ones of {@link #evaluate(ComplexArray, ComplexArray)}.
+     *
+     * @param points the points
+     * @param values the array receiving the value at each point, distinct from the points
+     * @throws IllegalArgumentException if the arrays differ in length or share their storage
+     */
+    public void evaluateParallel(@NotNull ComplexArray points, @NotNull ComplexArray values) {
+        checkArrays(points, values);
+
+        if (points.length() <= DEFAULT_PARALLEL_THRESHOLD) {
+            evaluate(points, values);
+            return;
+        }
+
+        ForkJoinPool.commonPool().invoke(new PolynomialEvaluationTask(this, points.realParts(),
+                points.imaginaryParts(), values.realParts(), values.imaginaryParts(), 0, points.length(),
+                DEFAULT_PARALLEL_THRESHOLD));
+    }
+
+    /**
+     * Finds the roots of this polynomial with the {@link #DEFAULT_TOLERANCE default tolerance} and
+     * {@link #DEFAULT_MAX_ITERATIONS iteration cap}.
+     *
+     * @return the roots and the outcome of the search
+     * @throws IllegalArgumentException if this is the zero polynomial
+     * @see #roots(double, int)
+     */
+    public PolynomialRoots roots() {
+        return roots(DEFAULT_TOLERANCE, DEFAULT_MAX_ITERATIONS);
+    }
+
+    /**
+     * Finds the roots of this polynomial with the Aberth method.
+     * <p>
+     * The approximations start evenly spread on a circle whose radius is the geometric mean of the moduli of the
+     * roots. Each iteration moves every approximation {@code z} by {@code w = p(z) / (p'(z) - p(z) * s)}, where
+     * {@code s} is the sum of {@code 1 / (z - zj)} over the other approximations of the previous iteration, which
+     * converges cubically to simple roots. The search stops when every correction is at most {@code tolerance} times
+     * the modulus of its root (or {@code tolerance} itself for roots of modulus below one), or after the maximum number
+     * of iterations.
+     *
+     * @param tolerance the relative tolerance of the roots
+     * @param maxIterations the maximum number of iterations
+     * @return the roots, repeated according to their multiplicity, and the outcome of the search
+     * @throws IllegalArgumentException if this is the zero polynomial, the tolerance is not positive or the maximum
+     *                                  number of iterations is negative
+     */
+    public PolynomialRoots roots(double tolerance, int maxIterations) {
+        if (re.length == 0) {
+            throw new IllegalArgumentException("The zero polynomial has infinitely many roots");
+        }
+        if (!(tolerance > 0) || maxIterations < 0) {
+            throw new IllegalArgumentException("Invalid root search parameters: tolerance " + tolerance
+                    + ", maximum iterations " + maxIterations);
+        }
+
+        int n = degree();
+        double[] zr = new double[n];
+        double[] zi = new double[n];
+        double[] nextRe = new double[n];
+        double[] nextIm = new double[n];
+        double[] corrections = new double[n];
+
+        double radius = Math.pow(Math.hypot(re[0], im[0]) / Math.hypot(re[n], im[n]), 1.0 / n);
+        if (!(radius > 0) || Double.isInfinite(radius)) {
+            radius = 1;
+        }
+
+        // The offset keeps the starting points off the symmetry axes of polynomials with real coefficients
+        for (int k = 0; k < n; k++) {
+            double angle = 2 * Math.PI * k / n + 0.4;
+
+            zr[k] = radius * Math.cos(angle);
+            zi[k] = radius * Math.sin(angle);
+        }
+
+        int iterations = 0;
+        boolean converged = n == 0;
+
+        while (!converged && iterations < maxIterations) {
+            if (n > ROOTS_PER_TASK) {
+                ForkJoinPool.commonPool().invoke(new AberthIterationTask(this, zr, zi, nextRe, nextIm, corrections, 0,
+                        n, ROOTS_PER_TASK));
+            } else {
+                aberthStep(zr, zi, nextRe, nextIm, corrections, 0, n);
+            }
+
+            System.arraycopy(nextRe, 0, zr, 0, n);
+            System.arraycopy(nextIm, 0, zi, 0, n);
+            iterations++;
+
+            converged = true;
+            for (double correction : corrections) {
+                if (!(correction <= tolerance)) {
+                    converged = false;
+                    break;
+                }
+            }
+        }
+
+        DoubleComplexNumber[] roots = new DoubleComplexNumber[n];
+        for (int k = 0; k < n; k++) {
+            roots[k] = new DoubleComplexNumber(zr[k], zi[k]);
+        }
+
+        return new PolynomialRoots(roots, iterations, converged);
+    }
+
+    /**
+     * Evaluates this polynomial at a range of points, chunk by chunk, accumulating in the output arrays.
+     *
+     * @param zRe the real parts of the points
+     * @param zIm the imaginary parts of the points
+     * @param outRe the array receiving the real parts of the values
+     * @param outIm the array receiving the imaginary parts of the values
+     * @param from the index of the first point, inclusive
+     * @param to the index of the last point, exclusive
+     */
+    void evaluateRange(int[] zRe, int[] zIm, int[] outRe, int[] outIm, int from, int to) {
+        int n = re.length - 1;
+
+        if (n < 0) {
+            Arrays.fill(outRe, from, to, 0);
+            Arrays.fill(outIm, from, to, 0);
+            return;
+        }
+
+        for (int start = from; start < to; start += CHUNK_SIZE) {
+            int end = Math.min(start + CHUNK_SIZE, to);
+
+            Arrays.fill(outRe, start, end, re[n]);
+            Arrays.fill(outIm, start, end, im[n]);
+
+            for (int k = n - 1; k >= 0; k--) {
+                KERNELS.multiplyAdd(outRe, outIm, zRe, zIm, re[k], im[k], start, end);
+            }
+        }
+    }
+
+    /**
+     * Computes one Aberth iteration for a range of the approximations, from the approximations of the previous
+     * iteration.
+     *
+     * @param zr the real parts of the previous approximations
+     * @param zi the imaginary parts of the previous approximations
+     * @param nextRe the array receiving the real parts of the new approximations
+     * @param nextIm the array receiving the imaginary parts of the new approximations
+     * @param corrections the array receiving the relative size of each correction
+     * @param from the index of the first approximation, inclusive
+     * @param to the index of the last approximation, exclusive
+     */
+    void aberthStep(double[] zr, double[] zi, double[] nextRe, double[] nextIm, double[] corrections, int from,
+                    int to) {
+        for (int k = from; k < to; k++) {
+            double xr = zr[k];
+            double xi = zi[k];
+
+            // Value and derivative together with Horner's scheme
+            double pr = 0;
+            double pi = 0;
+            double dr = 0;
+            double di = 0;
+            for (int j = re.length - 1; j >= 0; j--) {
+                double t = dr * xr - di * xi + pr;
+                di = dr * xi + di * xr + pi;
+                dr = t;
+
+                t = pr * xr - pi * xi + re[j];
+                pi = pr * xi + pi * xr + im[j];
+                pr = t;
+            }
+
+            double wr = 0;
+            double wi = 0;
+
+            if (pr != 0 || pi != 0) {
+                // Sum of 1 / (z - zj) over the other approximations
+                double sr = 0;
+                double si = 0;
+                for (int j = 0; j < zr.length; j++) {
+                    if (j != k) {
+                        double ar = xr - zr[j];
+                        double ai = xi - zi[j];
+                        double norm = ar * ar + ai * ai;
+
+                        sr += ar / norm;
+                        si -= ai / norm;
+                    }
+                }
+
+                // w = p / (p' - p * s)
+                DoubleComplexNumber w = new DoubleComplexNumber(pr, pi).divide(new DoubleComplexNumber(
+                        dr - (pr * sr - pi * si), di - (pr * si + pi * sr)));
+
+                if (Double.isFinite(w.getRe()) && Double.isFinite(w.getIm())) {
+                    wr = w.getRe();
+                    wi = w.getIm();
+                }
+            }
+
+            nextRe[k] = xr - wr;
+            nextIm[k] = xi - wi;
+            corrections[k] = Math.hypot(wr, wi) / Math.max(1, Math.hypot(nextRe[k], nextIm[k]));
+        }
+    }
+
+    /**
+     * Checks if this polynomial is equal to another object.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a polynomial with the same coefficients, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof ComplexPolynomial polynomial && Arrays.equals(re, polynomial.re)
+                && Arrays.equals(im, polynomial.im);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the polynomial
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(re) + Arrays.hashCode(im);
+    }
+
+    /**
+     * Returns a string representation of the polynomial, using the {@link ComplexNumber#toString()} format per
+     * coefficient.
+     *
+     * @return a string in the form "(a+b*i) + (c-d*i)*z + (e+f*i)*z^2"
+     */
+    @Override
+    public String toString() {
+        if (re.length == 0) {
+            return "0+0*i";
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        for (int k = 0; k < re.length; k++) {
+            if (k > 0) {
+                builder.append(" + ");
+            }
+            builder.append('(').append(getCoefficient(k)).append(')');
+
+            if (k == 1) {
+                builder.append("*z");
+            } else if (k > 1) {
+                builder.append("*z^").append(k);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Checks that an array of points and an array of values can be used together.
+     *
+     * @param points the points
+     * @param values the array receiving the values
+     * @throws IllegalArgumentException if the arrays differ in length or share their storage
+     */
+    private static void checkArrays(ComplexArray points, ComplexArray values) {
+        if (points.length() != values.length()) {
+            throw new IllegalArgumentException("Array length mismatch: " + points.length() + " != "
+                    + values.length());
+        }
+
+        // The points are read at every step of Horner's scheme, so the values cannot overwrite them
+        if (points.realParts() == values.realParts() || points.imaginaryParts() == values.imaginaryParts()
+                || points.realParts() == values.imaginaryParts() || points.imaginaryParts() == values.realParts()) {
+            throw new IllegalArgumentException("Values cannot be written over the points");
+        }
+    }
+}
@@ -40,4 +40,19 @@ public class DivisionExpression extends ComplexExpression {
     protected ComplexNumber executeOneOperation(@NotNull ComplexNumber c1, ComplexNumber c2) {
         return c1.divide(c2);
     }
+
+    /**
+     * Performs the division in place, by dividing the accumulated value by the complex number.
+     * <p>
+     * This method overrides the {@link ComplexExpression#accumulateOneOperation(ComplexAccumulator, ComplexNumber)}
+     * method using the {@link ComplexAccumulator#divideInPlace(ComplexNumber)} method.
+     *
+     * @param accumulator the accumulated value, updated with the result
+     * @param operand the complex number applied on the accumulated value
+     * @throws ArithmeticException if the operand is zero (division by zero)
+     */
+    @Override
+    protected void accumulateOneOperation(@NotNull ComplexAccumulator accumulator, ComplexNumber operand) {
+        accumulator.divideInPlace(operand);
+    }
 }
@@ -0,0 +1,198 @@
+package models;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Defines a floating-point complex number with real and imaginary parts, for computations such as Fourier transforms
+ * and root finding that do not fit the integer {@link ComplexNumber}.
+ */
+public final class DoubleComplexNumber {
+
+    /** The complex number zero */
+    public static final DoubleComplexNumber ZERO = new DoubleComplexNumber(0, 0);
+
+    private final double re;  // Real part of the complex number
+    private final double im;  // Imaginary part of the complex number
+
+    /**
+     * Constructs a new DoubleComplexNumber with the specified real and imaginary parts.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     */
+    public DoubleComplexNumber(double re, double im) {
+        this.re = re;
+        this.im = im;
+    }
+
+    /**
+     * Converts an integer complex number, exactly.
+     *
+     * @param number the integer complex number
+     * @return the equal floating-point complex number
+     */
+    public static DoubleComplexNumber valueOf(@NotNull ComplexNumber number) {
+        return new DoubleComplexNumber(number.getRe(), number.getIm());
+    }
+
+    /**
+     * Returns the complex number of the given magnitude and angle.
+     *
+     * @param magnitude the magnitude
+     * @param angle the angle, in radians
+     * @return the complex number {@code magnitude * e^(i * angle)}
+     */
+    public static DoubleComplexNumber fromPolar(double magnitude, double angle) {
+        return new DoubleComplexNumber(magnitude * Math.cos(angle), magnitude * Math.sin(angle));
+    }
+
+    /**
+     * Returns the real part of this complex number.
+     *
+     * @return the real part
+     */
+    public double getRe() {
+        return re;
+    }
+
+    /**
+     * Returns the imaginary part of this complex number.
+     *
+     * @return the imaginary part
+     */
+    public double getIm() {
+        return im;
+    }
+
+    /**
+     * Adds this complex number to another complex number.
+     *
+     * @param other the complex number to add
+     * @return a new DoubleComplexNumber representing the sum
+     */
+    public DoubleComplexNumber add(@NotNull DoubleComplexNumber other) {
+        return new DoubleComplexNumber(re + other.re, im + other.im);
+    }
+
+    /**
+     * Subtracts another complex number from this complex number.
+     *
+     * @param other the complex number to subtract
+     * @return a new DoubleComplexNumber representing the difference
+     */
+    public DoubleComplexNumber subtract(@NotNull DoubleComplexNumber other) {
+        return new DoubleComplexNumber(re - other.re, im - other.im);
+    }
+
+    /**
+     * Multiplies this complex number by another complex number.
+     *
+     * @param other the complex number to multiply by
+     * @return a new DoubleComplexNumber representing the product
+     */
+    public DoubleComplexNumber multiply(@NotNull DoubleComplexNumber other) {
+        return new DoubleComplexNumber(re * other.re - im * other.im, re * other.im + im * other.re);
+    }
+
+    /**
+     * Multiplies this complex number by a real factor.
+     *
+     * @param factor the real factor
+     * @return a new DoubleComplexNumber representing the product
+     */
+    public DoubleComplexNumber scale(double factor) {
+        return new DoubleComplexNumber(re * factor, im * factor);
+    }
+
+    /**
+     * Divides this complex number by another complex number. Unlike the integer division, dividing by zero does not
+     * throw but yields infinite or NaN parts, following IEEE 754.
+     *
+     * @param other the complex number to divide by
+     * @return a new DoubleComplexNumber representing the quotient
+     */
+    public DoubleComplexNumber divide(@NotNull DoubleComplexNumber other) {
+        // Smith's algorithm: scaling by the larger part of the divisor avoids overflow in the squared magnitude
+        if (Math.abs(other.re) >= Math.abs(other.im)) {
+            double ratio = other.im / other.re;
+            double denominator = other.re + other.im * ratio;
+
+            return new DoubleComplexNumber((re + im * ratio) / denominator, (im - re * ratio) / denominator);
+        }
+
+        double ratio = other.re / other.im;
+        double denominator = other.re * ratio + other.im;
+
+        return new DoubleComplexNumber((re * ratio + im) / denominator, (im * ratio - re) / denominator);
+    }
+
+    /**
+     * Returns the conjugate of this complex number.
+     *
+     * @return a new DoubleComplexNumber representing the conjugate
+     */
+    public DoubleComplexNumber conjugate() {
+        return new DoubleComplexNumber(re, -im);
+    }
+
+    /**
+     * Returns the magnitude of this complex number, without intermediate overflow.
+     *
+     * @return the magnitude
+     */
+    public double abs() {
+        return Math.hypot(re, im);
+    }
+
+    /**
+     * Returns the angle of this complex number.
+     *
+     * @return the angle, in radians, between -pi and pi
+     */
+    public double arg() {
+        return Math.atan2(im, re);
+    }
+
+    /**
+     * Rounds both parts to the nearest integers, e.g. to recover the exact result of a transform-based convolution of
+     * integer sequences.
+     *
+     * @return the nearest integer complex number
+     * @throws ArithmeticException if a rounded part is out of int range
+     */
+    public ComplexNumber round() {
+        return new ComplexNumber(Math.toIntExact(Math.round(re)), Math.toIntExact(Math.round(im)));
+    }
+
+    /**
+     * Checks if this complex number is equal to another object, comparing the parts as {@link Double#equals} does.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a complex number with the same parts, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof DoubleComplexNumber number && Double.compare(re, number.re) == 0
+                && Double.compare(im, number.im) == 0;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the complex number
+     */
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(re) + Double.hashCode(im);
+    }
+
+    /**
+     * Returns a string representation of the complex number.
+     *
+     * @return a string in the form "a + b * i" or "a - b * i"
+     */
+    @Override
+    public String toString() {
+        return re + (im >= 0 || Double.isNaN(im) ? "+" : "-") + Math.abs(im) + "*i";
+    }
+}
@@ -1,119 +1,206 @@
 package models;
 
-import enums.Operation;
-import factory.ExpressionFactory;
+import cache.CachingEvaluator;
+import cache.EvaluationCache;
+import metrics.EvaluationMetrics;
+import nodes.ExpressionNode;
+import numeric.ComplexArithmetic;
 import org.jetbrains.annotations.NotNull;
-
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import parser.Lexer;
+import parser.Parser;
 
 /**
- * Class responsible for parsing complex number expressions from CLI.
+ * Class responsible for parsing complex number expressions from CLI or from text.
+ * <p>
+ * The expression is scanned in a single pass by a {@link Lexer} and turned into an expression tree by a
+ * precedence-aware {@link Parser}, so multiplication and division bind tighter than addition and subtraction, and
+ * parentheses can be used to group sub-expressions. The parser keeps no state between calls and every call uses its
+ * own lexer, parser and evaluator, so a single instance is thread-safe and can be shared between threads, including
+ * when it is configured with a (thread-safe) {@link EvaluationCache}.
+ * <p>
+ * A parser can optionally be given an {@link EvaluationCache}: results are then looked up by the canonical form of the
+ * parsed expression, and repeated sub-expressions are computed only once.
+ * <p>
+ * Expressions are evaluated with wrapping {@code int} arithmetic by default. The overloads taking a
+ * {@link ComplexArithmetic} evaluate them with another arithmetic instead, e.g. the exact tiered one, which also
+ * accepts literals beyond the {@code int} range; these evaluations do not use the cache.
+ * <p>
+ * When {@link EvaluationMetrics} are enabled, the parser records the latency of every parse and evaluation, as well as
+ * parse errors and arithmetic errors such as divisions by zero.
  */
 public class ExpressionParser {
-    private static final Pattern COMPLEX_NUMBER_PATTERN = Pattern.compile("([-+]?\\d+)([-+]?\\d+)\\*i");
+    private final EvaluationCache cache;  // Optional cache of evaluation results, may be null
+
+    /**
+     * Constructs a parser that evaluates every expression from scratch.
+     */
+    public ExpressionParser() {
+        this(null);
+    }
+
+    /**
+     * Constructs a parser that reuses results through the given cache.
+     *
+     * @param cache the cache of evaluation results, or {@code null} to disable caching
+     */
+    public ExpressionParser(EvaluationCache cache) {
+        this.cache = cache;
+    }
 
     /**
-     * Parses the command line arguments representing a complex number expression.
+     * Parses the command line arguments representing a complex number expression and evaluates it.
      *
      * @param args CLI arguments containing the complex number expression
      * @return the result of the evaluated complex number expression
      * @throws IllegalArgumentException if the input format is invalid
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
      */
     public ComplexNumber parse(String @NotNull [] args) {
-        // Initialize an array to store the complex numbers / operands
-        ComplexNumber[] numbers = new ComplexNumber[args.length / 2 + 1];
-
-        // Initialize an array to store the operators
-        String[] operators = new String[args.length / 2];
-
-        int numberIndex = 0;
-        int operatorIndex = 0;
-
-        // Iterate through the arguments to separate numbers / operands and operators
-        for (String arg : args) {
-            arg = arg.trim();  // Trim whitespace
-
-            // Check if the argument is a complex number / operand or an operator
-            if (isComplexNumber(arg)) {
-                numbers[numberIndex++] = parseComplexNumber(arg);
-            } else if (isOperator(arg)) {
-                operators[operatorIndex++] = arg;
-            } else {
-                throw new IllegalArgumentException("Invalid input format: " + arg);
-            }
-        }
+        return evaluate(parseExpression(args));
+    }
 
-        // Evaluate the expression
-        ComplexExpression expression = createExpression(numbers, operators);
+    /**
+     * Parses a complex number expression given as text and evaluates it.
+     *
+     * @param expression the complex number expression
+     * @return the result of the evaluated complex number expression
+     * @throws IllegalArgumentException if the input format is invalid
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber parse(@NotNull CharSequence expression) {
+        return evaluate(parseExpression(expression));
+    }
 
-        return expression.execute();
+    /**
+     * Parses the command line arguments representing a complex number expression and evaluates it with the given
+     * arithmetic.
+     *
+     * @param args CLI arguments containing the complex number expression
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the result of the evaluated complex number expression
+     * @throws IllegalArgumentException if the input format is invalid
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public <T> T parse(String @NotNull [] args, @NotNull ComplexArithmetic<T> arithmetic) {
+        return evaluate(parseExpression(args), arithmetic);
     }
 
     /**
-     * Checks if the given string is a valid complex number.
+     * Parses a complex number expression given as text and evaluates it with the given arithmetic.
      *
-     * @param str the string to check
-     * @return true if it matches the complex number format, false otherwise
+     * @param expression the complex number expression
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the result of the evaluated complex number expression
+     * @throws IllegalArgumentException if the input format is invalid
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
      */
-    private boolean isComplexNumber(String str) {
-        return COMPLEX_NUMBER_PATTERN.matcher(str).matches() || str.matches("[-+]?\\d+");
+    public <T> T parse(@NotNull CharSequence expression, @NotNull ComplexArithmetic<T> arithmetic) {
+        return evaluate(parseExpression(expression), arithmetic);
     }
 
     /**
-     * Parses a complex number from a string and returns a ComplexNumber object.
+     * Parses the command line arguments representing a complex number expression into an expression tree, without
+     * evaluating it. Each argument is treated as if it were separated from the next one by whitespace.
      *
-     * @param str the string representing a complex number
-     * @return the parsed models.ComplexNumber {@link ComplexNumber}
-     * @throws IllegalArgumentException if the format is invalid
+     * @param args CLI arguments containing the complex number expression
+     * @return the root of the expression tree
+     * @throws IllegalArgumentException if the input format is invalid
      */
-    private ComplexNumber parseComplexNumber(String str) {
-        Matcher matcher = COMPLEX_NUMBER_PATTERN.matcher(str);
+    public ExpressionNode parseExpression(String @NotNull [] args) {
+        return parse(new Lexer(args));
+    }
 
-        if (matcher.matches()) {
-            int re = Integer.parseInt(matcher.group(1));  // Real part
-            int im = Integer.parseInt(matcher.group(2));  // Imaginary part
+    /**
+     * Parses a complex number expression given as text into an expression tree, without evaluating it.
+     *
+     * @param expression the complex number expression
+     * @return the root of the expression tree
+     * @throws IllegalArgumentException if the input format is invalid
+     */
+    public ExpressionNode parseExpression(@NotNull CharSequence expression) {
+        return parse(new Lexer(expression));
+    }
 
-            return new ComplexNumber(re, im);
+    /**
+     * Evaluates an expression tree, through the cache if one is configured.
+     *
+     * @param expression the root of the expression tree
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the expression contains a variable
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber evaluate(@NotNull ExpressionNode expression) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (!metrics.isEnabled()) {
+            return cache == null ? expression.evaluate() : new CachingEvaluator(cache).evaluate(expression);
         }
 
-        throw new IllegalArgumentException("Invalid complex number format: " + str);
+        long start = System.nanoTime();
+        try {
+            return cache == null ? expression.evaluate() : new CachingEvaluator(cache).evaluate(expression);
+        } catch (ArithmeticException e) {
+            // The caching evaluator records its own errors
+            if (cache == null) {
+                metrics.recordArithmeticError(e);
+            }
+            throw e;
+        } finally {
+            metrics.recordEvaluation(System.nanoTime() - start);
+        }
     }
 
     /**
-     * Checks if the given string is a valid operator.
+     * Evaluates an expression tree with the given arithmetic.
      *
-     * @param str the string to check
-     * @return true if it is a valid operator, false otherwise
+     * @param expression the root of the expression tree
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the expression contains a variable or a literal that the arithmetic cannot
+     *                                  represent
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
      */
-    private boolean isOperator(@NotNull String str) {
-        return str.equals("+") || str.equals("-") || str.equals("*") || str.equals("/");
+    public <T> T evaluate(@NotNull ExpressionNode expression, @NotNull ComplexArithmetic<T> arithmetic) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (!metrics.isEnabled()) {
+            return expression.evaluate(arithmetic);
+        }
+
+        long start = System.nanoTime();
+        try {
+            return expression.evaluate(arithmetic);
+        } catch (ArithmeticException e) {
+            metrics.recordArithmeticError(e);
+            throw e;
+        } finally {
+            metrics.recordEvaluation(System.nanoTime() - start);
+        }
     }
 
     /**
-     * Creates an instance of {@link ComplexExpression} based on the parsed complex numbers and operators.
+     * Parses the tokens of the given lexer into an expression tree, recording the parse in the metrics if enabled.
      *
-     * @param numbers   the array of ComplexNumbers {@link ComplexExpression}
-     * @param operators the array of operators
-     * @return the models.ComplexExpression representing the operation to be executed
+     * @param lexer the source of tokens
+     * @return the root of the expression tree
+     * @throws IllegalArgumentException if the input format is invalid
      */
-    private ComplexExpression createExpression(ComplexNumber @NotNull [] numbers, String @NotNull [] operators) {
-        // Compose expression starting with first complex number / operand
-        ComplexExpression expression = new AdditionExpression(new ComplexNumber[]{numbers[0]});
-
-        for (int i = 0; i < operators.length; i++) {
-            String operator = operators[i];
-            ComplexNumber nextNumber = numbers[i + 1];
-
-            expression = switch (operator) {
-                case "+" -> ExpressionFactory.getInstance().createExpression(Operation.ADDITION, expression.args);
-                case "-" -> ExpressionFactory.getInstance().createExpression(Operation.SUBTRACTION, expression.args);
-                case "*" -> ExpressionFactory.getInstance().createExpression(Operation.MULTIPLICATION, expression.args);
-                case "/" -> ExpressionFactory.getInstance().createExpression(Operation.DIVISION, expression.args);
-                default -> throw new IllegalArgumentException("Unknown operator: " + operator);
-            };
+    private static ExpressionNode parse(Lexer lexer) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (!metrics.isEnabled()) {
+            return new Parser(lexer).parse();
         }
 
-        return expression;
+        long start = System.nanoTime();
+        try {
+            ExpressionNode root = new Parser(lexer).parse();
+            metrics.recordParse(System.nanoTime() - start);
+
+            return root;
+        } catch (IllegalArgumentException e) {
+            metrics.recordParseError();
+            throw e;
+        }
     }
 }
@@ -0,0 +1,383 @@
+package models;
+
+import enums.Operation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Complex expression that keeps partial results of its fold, so it can be re-evaluated cheaply after a few of its
+ * operands change.
+ * <p>
+ * The result is always identical to executing the {@link ComplexExpression} of the same operation over the current
+ * operands, but {@link ComplexExpression#execute()} recomputes the whole fold from the first operand. This class
+ * instead keeps:
+ * <ul>
+ *     <li>for addition and multiplication, which are associative for wrapping {@code int} arithmetic, a segment tree
+ *     of the partial results of ranges of operands, so changing, appending or removing the last operand costs
+ *     {@code O(log n)} and reading the result {@code O(1)};</li>
+ *     <li>for subtraction, the same addition tree, since {@code a - b - c - ...} equals
+ *     {@code a - (b + c + ...)} exactly under wrap-around;</li>
+ *     <li>for division and powers, whose results depend on the order of the operands, the prefix results of the
+ *     fold as checkpoints: changing operand {@code i} invalidates the checkpoints from {@code i} on, and reading the
+ *     result resumes the fold from the last valid checkpoint, in {@code O(n - i)}.</li>
+ * </ul>
+ * Removing an operand other than the last one shifts the following operands, and costs {@code O(n - i)} for every
+ * operation. This class is not thread-safe.
+ */
+public class IncrementalExpression {
+
+    /** Initial capacity of an expression created without operands */
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Operation operation;  // Operation applied between consecutive operands
+    private final boolean tree;  // Whether partial results are kept in a segment tree rather than as prefixes
+    private int[] re;  // Real parts of the operands
+    private int[] im;  // Imaginary parts of the operands
+    private int size;  // Number of operands
+    private int capacity;  // Number of leaves of the segment tree, a power of two, or length of the operand arrays
+    private int[] partialRe;  // Real parts of the segment tree nodes (root at 1, leaves from capacity) or prefixes
+    private int[] partialIm;  // Imaginary parts of the segment tree nodes or prefixes
+    private int valid;  // Number of valid prefixes, for division and powers
+
+    /**
+     * Constructs an empty expression with the given operation.
+     *
+     * @param operation the operation applied between consecutive operands
+     */
+    public IncrementalExpression(@NotNull Operation operation) {
+        this(operation, new ComplexNumber[0]);
+    }
+
+    /**
+     * Constructs an expression with the given operation over the given operands.
+     *
+     * @param operation the operation applied between consecutive operands
+     * @param operands the operands, copied
+     */
+    public IncrementalExpression(@NotNull Operation operation, ComplexNumber @NotNull ... operands) {
+        this.operation = operation;
+        this.tree = operation == Operation.ADDITION || operation == Operation.SUBTRACTION
+                || operation == Operation.MULTIPLICATION;
+        this.size = operands.length;
+
+        allocate(Math.max(INITIAL_CAPACITY, operands.length));
+
+        for (int i = 0; i < size; i++) {
+            re[i] = operands[i].getRe();
+            im[i] = operands[i].getIm();
+        }
+
+        if (tree) {
+            update(0, capacity);
+        }
+    }
+
+    /**
+     * Constructs an expression with the operation and the operands of the given expression.
+     *
+     * @param expression the expression to copy
+     */
+    public IncrementalExpression(@NotNull ComplexExpression expression) {
+        this(expression.operation, expression.args);
+    }
+
+    /**
+     * Returns the operation applied between consecutive operands.
+     *
+     * @return the operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the number of operands.
+     *
+     * @return the number of operands
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the operand at the given index.
+     *
+     * @param index the index of the operand
+     * @return the operand
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ComplexNumber get(int index) {
+        checkIndex(index, size);
+        return new ComplexNumber(re[index], im[index]);
+    }
+
+    /**
+     * Replaces the operand at the given index.
+     *
+     * @param index the index of the operand
+     * @param value the new operand
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(int index, @NotNull ComplexNumber value) {
+        set(index, value.getRe(), value.getIm());
+    }
+
+    /**
+     * Replaces the operand at the given index by the complex number with the given parts.
+     *
+     * @param index the index of the operand
+     * @param realPart the real part of the new operand
+     * @param imaginaryPart the imaginary part of the new operand
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public void set(int index, int realPart, int imaginaryPart) {
+        checkIndex(index, size);
+
+        re[index] = realPart;
+        im[index] = imaginaryPart;
+
+        invalidate(index, index + 1);
+    }
+
+    /**
+     * Appends an operand at the end of the expression.
+     *
+     * @param value the operand to append
+     */
+    public void append(@NotNull ComplexNumber value) {
+        append(value.getRe(), value.getIm());
+    }
+
+    /**
+     * Appends the complex number with the given parts at the end of the expression.
+     *
+     * @param realPart the real part of the operand
+     * @param imaginaryPart the imaginary part of the operand
+     */
+    public void append(int realPart, int imaginaryPart) {
+        if (size == capacity) {
+            grow();
+        }
+
+        re[size] = realPart;
+        im[size] = imaginaryPart;
+        size++;
+
+        invalidate(size - 1, size);
+    }
+
+    /**
+     * Removes the operand at the given index, shifting the following operands to the left.
+     *
+     * @param index the index of the operand
+     * @return the removed operand
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public ComplexNumber remove(int index) {
+        checkIndex(index, size);
+        ComplexNumber removed = new ComplexNumber(re[index], im[index]);
+
+        System.arraycopy(re, index + 1, re, index, size - index - 1);
+        System.arraycopy(im, index + 1, im, index, size - index - 1);
+        size--;
+
+        // The vacated last slot changes too, back to the identity in the tree
+        invalidate(index, size + 1);
+
+        return removed;
+    }
+
+    /**
+     * Returns the result of the expression, identical to executing the {@link ComplexExpression} of the same operation
+     * over the current operands.
+     *
+     * @return the result of the fold of the operands
+     * @throws IllegalStateException if the expression has no operands
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber result() {
+        if (size == 0) {
+            throw new IllegalStateException("Cannot evaluate an empty expression");
+        }
+
+        return switch (operation) {
+            case ADDITION, MULTIPLICATION -> new ComplexNumber(partialRe[1], partialIm[1]);
+            case SUBTRACTION -> new ComplexNumber(2 * re[0] - partialRe[1], 2 * im[0] - partialIm[1]);
+            case DIVISION, POWER -> {
+                resumeFold();
+                yield new ComplexNumber(partialRe[size - 1], partialIm[size - 1]);
+            }
+        };
+    }
+
+    /**
+     * Returns the current operands.
+     *
+     * @return a new array holding the operands, in order
+     */
+    public ComplexNumber[] toComplexNumbers() {
+        ComplexNumber[] operands = new ComplexNumber[size];
+
+        for (int i = 0; i < size; i++) {
+            operands[i] = new ComplexNumber(re[i], im[i]);
+        }
+
+        return operands;
+    }
+
+    /**
+     * Returns a string representation of the expression.
+     *
+     * @return a string in the form "a+b*i op c+d*i op ..."
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                builder.append(' ').append(operation.getSymbol()).append(' ');
+            }
+
+            builder.append(new ComplexNumber(re[i], im[i]));
+        }
+
+        return builder.toString();
+    }
+
+    /**
+     * Refreshes the partial results after the operands in the range {@code [from, to)} changed.
+     *
+     * @param from the index of the first changed operand, inclusive
+     * @param to the index of the last changed operand, exclusive
+     */
+    private void invalidate(int from, int to) {
+        if (tree) {
+            update(from, to);
+        } else {
+            valid = Math.min(valid, from);
+        }
+    }
+
+    /**
+     * Copies the operands in the range {@code [from, to)} to the leaves of the segment tree, with the identity of the
+     * operation for the leaves past the last operand, and recomputes their ancestors level by level.
+     *
+     * @param from the index of the first changed leaf, inclusive
+     * @param to the index of the last changed leaf, exclusive
+     */
+    private void update(int from, int to) {
+        if (from >= to) {
+            return;
+        }
+
+        int identityRe = operation == Operation.MULTIPLICATION ? 1 : 0;
+
+        for (int i = from; i < to; i++) {
+            partialRe[capacity + i] = i < size ? re[i] : identityRe;
+            partialIm[capacity + i] = i < size ? im[i] : 0;
+        }
+
+        // The ancestors of a range of leaves form a range on every level above
+        for (int low = (capacity + from) >> 1, high = (capacity + to - 1) >> 1; low >= 1; low >>= 1, high >>= 1) {
+            for (int node = low; node <= high; node++) {
+                combine(node);
+            }
+        }
+    }
+
+    /**
+     * Recomputes a node of the segment tree from its two children, left operand first.
+     *
+     * @param node the index of the node
+     */
+    private void combine(int node) {
+        int leftRe = partialRe[2 * node];
+        int leftIm = partialIm[2 * node];
+        int rightRe = partialRe[2 * node + 1];
+        int rightIm = partialIm[2 * node + 1];
+
+        if (operation == Operation.MULTIPLICATION) {
+            partialRe[node] = leftRe * rightRe - leftIm * rightIm;
+            partialIm[node] = leftRe * rightIm + leftIm * rightRe;
+        } else {
+            partialRe[node] = leftRe + rightRe;
+            partialIm[node] = leftIm + rightIm;
+        }
+    }
+
+    /**
+     * Extends the valid prefixes of a division or a power up to the last operand, resuming from the last valid
+     * checkpoint. A failing step stops the fold at the offending operand, whose prefix stays invalid until it is
+     * replaced.
+     *
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    private void resumeFold() {
+        if (valid == 0) {
+            partialRe[0] = re[0];
+            partialIm[0] = im[0];
+            valid = 1;
+        }
+
+        ComplexAccumulator accumulator = new ComplexAccumulator().set(partialRe[valid - 1], partialIm[valid - 1]);
+
+        for (; valid < size; valid++) {
+            if (operation == Operation.DIVISION) {
+                accumulator.divideInPlace(re[valid], im[valid]);
+            } else {
+                accumulator.powerInPlace(new ComplexNumber(re[valid], im[valid]));
+            }
+
+            partialRe[valid] = accumulator.getRe();
+            partialIm[valid] = accumulator.getIm();
+        }
+    }
+
+    /**
+     * Doubles the capacity, rebuilding the segment tree over the new number of leaves.
+     */
+    private void grow() {
+        int[] oldRe = re;
+        int[] oldIm = im;
+        int[] oldPartialRe = partialRe;
+        int[] oldPartialIm = partialIm;
+
+        allocate(capacity * 2);
+
+        System.arraycopy(oldRe, 0, re, 0, size);
+        System.arraycopy(oldIm, 0, im, 0, size);
+
+        if (tree) {
+            update(0, capacity);
+        } else {
+            System.arraycopy(oldPartialRe, 0, partialRe, 0, valid);
+            System.arraycopy(oldPartialIm, 0, partialIm, 0, valid);
+        }
+    }
+
+    /**
+     * Allocates the operand and partial result arrays for at least the given number of operands.
+     *
+     * @param minimumCapacity the minimum number of operands
+     */
+    private void allocate(int minimumCapacity) {
+        capacity = tree ? Integer.highestOneBit(minimumCapacity - 1) << 1 : minimumCapacity;
+        re = new int[capacity];
+        im = new int[capacity];
+        partialRe = new int[tree ? 2 * capacity : capacity];
+        partialIm = new int[tree ? 2 * capacity : capacity];
+    }
+
+    /**
+     * Checks that the given index is within {@code [0, size)}.
+     *
+     * @param index the index to check
+     * @param size the number of elements
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package models;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task that computes a rectangle of output tiles of a {@link ComplexMatrix} product.
+ * <p>
+ * Rectangles spanning more than one tile are split in two along their longer side, on a tile boundary, and the halves
+ * are computed concurrently. Every output element belongs to exactly one tile, so the tasks never write the same
+ * element.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class MatrixMultiplicationTask extends RecursiveAction {
+    private final ComplexMatrix left;  // Left-hand matrix of the product
+    private final ComplexMatrix right;  // Right-hand matrix of the product
+    private final int[] sums;  // Sums of the parts of the right-hand elements for Gauss's product, or null
+    private final ComplexMatrix result;  // Matrix receiving the product
+    private final int rowFrom;  // First row of the rectangle, inclusive
+    private final int rowTo;  // Last row of the rectangle, exclusive
+    private final int columnFrom;  // First column of the rectangle, inclusive
+    private final int columnTo;  // Last column of the rectangle, exclusive
+
+    /**
+     * Constructs a task computing the rows {@code [rowFrom, rowTo)} and columns {@code [columnFrom, columnTo)} of the
+     * product.
+     *
+     * @param left the left-hand matrix of the product
+     * @param right the right-hand matrix of the product
+     * @param sums the sums of the parts of the right-hand elements for Gauss's product, or {@code null}
+     * @param result the matrix receiving the product
+     * @param rowFrom the first row of the rectangle, inclusive
+     * @param rowTo the last row of the rectangle, exclusive
+     * @param columnFrom the first column of the rectangle, inclusive
+     * @param columnTo the last column of the rectangle, exclusive
+     */
+    MatrixMultiplicationTask(ComplexMatrix left, ComplexMatrix right, int[] sums, ComplexMatrix result, int rowFrom,
+                             int rowTo, int columnFrom, int columnTo) {
+        this.left = left;
+        this.right = right;
+        this.sums = sums;
+        this.result = result;
+        this.rowFrom = rowFrom;
+        this.rowTo = rowTo;
+        this.columnFrom = columnFrom;
+        this.columnTo = columnTo;
+    }
+
+    /**
+     * Computes the rectangle, splitting it when it spans more than one tile.
+     */
+    @Override
+    protected void compute() {
+        int height = rowTo - rowFrom;
+        int width = columnTo - columnFrom;
+
+        if (height <= ComplexMatrix.TILE_SIZE && width <= ComplexMatrix.TILE_SIZE) {
+            left.multiplyTile(right, sums, result, rowFrom, rowTo, columnFrom, columnTo);
+            return;
+        }
+
+        if (height >= width) {
+            int middle = rowFrom + split(height);
+
+            invokeAll(new MatrixMultiplicationTask(left, right, sums, result, rowFrom, middle, columnFrom, columnTo),
+                    new MatrixMultiplicationTask(left, right, sums, result, middle, rowTo, columnFrom, columnTo));
+        } else {
+            int middle = columnFrom + split(width);
+
+            invokeAll(new MatrixMultiplicationTask(left, right, sums, result, rowFrom, rowTo, columnFrom, middle),
+                    new MatrixMultiplicationTask(left, right, sums, result, rowFrom, rowTo, middle, columnTo));
+        }
+    }
+
+    /**
+     * Returns the offset of the tile boundary closest to the middle of a span of more than one tile.
+     *
+     * @param span the length of the span
+     * @return the offset of the split, a positive multiple of the tile size below the span
+     */
+    private static int split(int span) {
+        int tiles = (span + ComplexMatrix.TILE_SIZE - 1) / ComplexMatrix.TILE_SIZE;
+
+        return tiles / 2 * ComplexMatrix.TILE_SIZE;
+    }
+}
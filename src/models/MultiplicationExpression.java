@@ -1,6 +1,7 @@
 package models;
 
 import enums.Operation;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Class representing a complex multiplication expression.
@@ -39,4 +40,28 @@ public class MultiplicationExpression extends ComplexExpression {
     protected ComplexNumber executeOneOperation(ComplexNumber c1, ComplexNumber c2) {
         return c1.multiply(c2);
     }
+
+    /**
+     * Performs the multiplication in place, by multiplying the accumulated value by the complex number.
+     * <p>
+     * This method overrides the {@link ComplexExpression#accumulateOneOperation(ComplexAccumulator, ComplexNumber)}
+     * method using the {@link ComplexAccumulator#multiplyInPlace(ComplexNumber)} method.
+     *
+     * @param accumulator the accumulated value, updated with the result
+     * @param operand the complex number applied on the accumulated value
+     */
+    @Override
+    protected void accumulateOneOperation(@NotNull ComplexAccumulator accumulator, ComplexNumber operand) {
+        accumulator.multiplyInPlace(operand);
+    }
+
+    /**
+     * Indicates that complex multiplication is associative, so the expression can be executed in parallel.
+     *
+     * @return true
+     */
+    @Override
+    protected boolean isAssociative() {
+        return true;
+    }
 }
@@ -0,0 +1,55 @@
+package models;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork-join task that reduces a range of the arguments of an associative {@link ComplexExpression}.
+ * <p>
+ * Ranges larger than the threshold are split in two halves that are reduced concurrently, and the two partial results
+ * are combined with the operation of the expression, left half first, so the order of the arguments is preserved.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class ParallelReductionTask extends RecursiveTask<ComplexNumber> {
+    private final ComplexExpression expression;  // Expression whose arguments are reduced
+    private final int from;  // Index of the first argument, inclusive
+    private final int to;  // Index of the last argument, exclusive
+    private final int threshold;  // Maximum range size reduced sequentially
+
+    /**
+     * Constructs a task reducing the arguments in the range {@code [from, to)} of the given expression.
+     *
+     * @param expression the expression whose arguments are reduced
+     * @param from the index of the first argument, inclusive
+     * @param to the index of the last argument, exclusive
+     * @param threshold the maximum range size reduced sequentially
+     */
+    ParallelReductionTask(ComplexExpression expression, int from, int to, int threshold) {
+        this.expression = expression;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Reduces the range, splitting it when it is larger than the threshold.
+     *
+     * @return the result of applying the operation on the range of arguments
+     */
+    @Override
+    protected ComplexNumber compute() {
+        if (to - from <= threshold) {
+            return expression.executeRange(from, to);
+        }
+
+        int middle = (from + to) >>> 1;
+        ParallelReductionTask left = new ParallelReductionTask(expression, from, middle, threshold);
+        ParallelReductionTask right = new ParallelReductionTask(expression, middle, to, threshold);
+
+        // Reduce the right half in this thread while the left half may be stolen by another worker
+        left.fork();
+        ComplexNumber rightResult = right.compute();
+        ComplexNumber leftResult = left.join();
+
+        return expression.executeOneOperation(leftResult, rightResult);
+    }
+}
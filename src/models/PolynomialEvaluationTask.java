@@ -0,0 +1,61 @@
+package models;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task that evaluates a {@link ComplexPolynomial} at a range of points.
+ * <p>
+ * Ranges larger than the threshold are split in two halves evaluated concurrently. Every point writes its own slot of
+ * the output arrays, so the tasks share no mutable state.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class PolynomialEvaluationTask extends RecursiveAction {
+    private final ComplexPolynomial polynomial;  // Polynomial being evaluated
+    private final int[] zRe;  // Real parts of the points
+    private final int[] zIm;  // Imaginary parts of the points
+    private final int[] outRe;  // Real parts of the values
+    private final int[] outIm;  // Imaginary parts of the values
+    private final int from;  // Index of the first point, inclusive
+    private final int to;  // Index of the last point, exclusive
+    private final int threshold;  // Maximum range size evaluated sequentially
+
+    /**
+     * Constructs a task evaluating the polynomial at the points in the range {@code [from, to)}.
+     *
+     * @param polynomial the polynomial being evaluated
+     * @param zRe the real parts of the points
+     * @param zIm the imaginary parts of the points
+     * @param outRe the array receiving the real parts of the values
+     * @param outIm the array receiving the imaginary parts of the values
+     * @param from the index of the first point, inclusive
+     * @param to the index of the last point, exclusive
+     * @param threshold the maximum range size evaluated sequentially
+     */
+    PolynomialEvaluationTask(ComplexPolynomial polynomial, int[] zRe, int[] zIm, int[] outRe, int[] outIm, int from,
+                             int to, int threshold) {
+        this.polynomial = polynomial;
+        this.zRe = zRe;
+        this.zIm = zIm;
+        this.outRe = outRe;
+        this.outIm = outIm;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Evaluates the range, splitting it when it is larger than the threshold.
+     */
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            polynomial.evaluateRange(zRe, zIm, outRe, outIm, from, to);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+
+        invokeAll(new PolynomialEvaluationTask(polynomial, zRe, zIm, outRe, outIm, from, middle, threshold),
+                new PolynomialEvaluationTask(polynomial, zRe, zIm, outRe, outIm, middle, to, threshold));
+    }
+}
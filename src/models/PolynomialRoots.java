@@ -0,0 +1,65 @@
+package models;
+
+import java.util.Arrays;
+
+/**
+ * Roots of a {@link ComplexPolynomial} found by {@link ComplexPolynomial#roots(double, int)}, with the outcome of the
+ * iteration that found them.
+ */
+public class PolynomialRoots {
+    private final DoubleComplexNumber[] roots;  // Approximations of the roots, one per degree
+    private final int iterations;  // Number of iterations performed
+    private final boolean converged;  // Whether every root met the tolerance
+
+    /**
+     * Constructs the result of a root search.
+     *
+     * @param roots the approximations of the roots
+     * @param iterations the number of iterations performed
+     * @param converged whether every root met the tolerance before the iteration cap
+     */
+    public PolynomialRoots(DoubleComplexNumber[] roots, int iterations, boolean converged) {
+        this.roots = roots;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    /**
+     * Returns the approximations of the roots, repeated according to their multiplicity.
+     *
+     * @return a copy of the roots
+     */
+    public DoubleComplexNumber[] getRoots() {
+        return roots.clone();
+    }
+
+    /**
+     * Returns the number of iterations performed.
+     *
+     * @return the number of iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Indicates whether every root met the tolerance before the iteration cap. When false, the roots are the last
+     * approximations, which may still be accurate for clusters of close roots that converge slowly.
+     *
+     * @return true if the search converged, false otherwise
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * Returns a string representation of the result.
+     *
+     * @return a string in the form "[roots] (n iterations, converged)"
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(roots) + " (" + iterations + " iterations, " + (converged ? "converged" : "not converged")
+                + ")";
+    }
+}
@@ -0,0 +1,61 @@
+package models;
+
+import enums.Operation;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Class representing a complex power expression.
+ * <p>
+ * This class extends the {@link ComplexExpression} class and is responsible for raising complex numbers to integer
+ * powers by binary exponentiation. It overrides the {@link #executeOneOperation(ComplexNumber, ComplexNumber)} method
+ * to raise the first complex number to the power of the second, which must be a real integer.
+ * <p>
+ * Like every {@link ComplexExpression}, the expression folds its arguments from left to right, so three arguments
+ * {@code a, b, c} give {@code (a ^ b) ^ c}. The parser, where {@code ^} is right-associative, only creates power
+ * expressions with two arguments.
+ */
+public class PowerExpression extends ComplexExpression {
+
+    /**
+     * Constructor that initializes a power expression with the given complex numbers.
+     * <p>
+     * The constructor calls the parent constructor {@link ComplexExpression#ComplexExpression(Operation,
+     * ComplexNumber[])} to set the operation to {@link Operation#POWER} and store the complex numbers as arguments.
+     *
+     * @param args the base followed by the exponents
+     */
+    public PowerExpression(ComplexNumber[] args) {
+        super(Operation.POWER, args);
+    }
+
+    /**
+     * Raises a complex number to the power of another one.
+     * <p>
+     * This method overrides the {@link ComplexExpression#executeOneOperation(ComplexNumber, ComplexNumber)} method to
+     * return the result of the {@link ComplexNumber#power(ComplexNumber)} method.
+     *
+     * @param c1 the base
+     * @param c2 the exponent, a real integer
+     * @return the result of raising c1 to the power c2
+     * @throws ArithmeticException if c2 is not real, or if it is negative and the power of c1 is zero
+     */
+    @Override
+    protected ComplexNumber executeOneOperation(@NotNull ComplexNumber c1, ComplexNumber c2) {
+        return c1.power(c2);
+    }
+
+    /**
+     * Raises the accumulated value to the power of the complex number, in place.
+     * <p>
+     * This method overrides the {@link ComplexExpression#accumulateOneOperation(ComplexAccumulator, ComplexNumber)}
+     * method using the {@link ComplexAccumulator#powerInPlace(ComplexNumber)} method.
+     *
+     * @param accumulator the accumulated value, updated with the result
+     * @param operand the exponent, a real integer
+     * @throws ArithmeticException if the operand is not real, or if it is negative and the power is zero
+     */
+    @Override
+    protected void accumulateOneOperation(@NotNull ComplexAccumulator accumulator, ComplexNumber operand) {
+        accumulator.powerInPlace(operand);
+    }
+}
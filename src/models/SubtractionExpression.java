@@ -1,6 +1,7 @@
 package models;
 
 import enums.Operation;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * Class representing a complex subtraction expression.
@@ -39,4 +40,18 @@ public class SubtractionExpression extends ComplexExpression {
     protected ComplexNumber executeOneOperation(ComplexNumber c1, ComplexNumber c2) {
         return c1.subtract(c2);
     }
+
+    /**
+     * Performs the subtraction in place, by subtracting the complex number from the accumulated value.
+     * <p>
+     * This method overrides the {@link ComplexExpression#accumulateOneOperation(ComplexAccumulator, ComplexNumber)}
+     * method using the {@link ComplexAccumulator#subtractInPlace(ComplexNumber)} method.
+     *
+     * @param accumulator the accumulated value, updated with the result
+     * @param operand the complex number applied on the accumulated value
+     */
+    @Override
+    protected void accumulateOneOperation(@NotNull ComplexAccumulator accumulator, ComplexNumber operand) {
+        accumulator.subtractInPlace(operand);
+    }
 }
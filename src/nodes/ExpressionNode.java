@@ -0,0 +1,56 @@
+package nodes;
+
+import models.ComplexNumber;
+import numeric.ComplexArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Abstract class representing a node of the expression tree built by the parser.
+ * <p>
+ * Leaves hold complex number literals or variables, and inner nodes apply an operation on their operands. Evaluating the root node
+ * evaluates the whole expression.
+ * <p>
+ * Nodes are immutable and implement structural {@code equals} and {@code hashCode}: two trees are equal if and only
+ * if they have the same canonical (fully parenthesized) form, regardless of the whitespace and literal spelling of the
+ * source text.
+ */
+public abstract class ExpressionNode {
+
+    /**
+     * Evaluates the expression represented by this node.
+     *
+     * @return the value of the expression
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public abstract ComplexNumber evaluate();
+
+    /**
+     * Evaluates the expression represented by this node with the given arithmetic, e.g. with exact tiered arithmetic
+     * instead of the wrapping {@code int} arithmetic of {@link #evaluate()}.
+     *
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the expression contains a literal that the arithmetic cannot represent
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public abstract <T> T evaluate(@NotNull ComplexArithmetic<T> arithmetic);
+
+    /**
+     * Returns the depth of the tree rooted at this node, which bounds the recursion of evaluating it.
+     *
+     * @return the number of nodes on the longest path from this node to a leaf, 1 for a leaf
+     */
+    public int getDepth() {
+        return 1;
+    }
+
+    /**
+     * Accepts a visitor by calling the visitor method matching the type of this node.
+     *
+     * @param visitor the visitor
+     * @param <R> the type of the value produced by the visitor
+     * @return the value produced by the visitor for this node
+     */
+    public abstract <R> R accept(@NotNull ExpressionVisitor<R> visitor);
+}
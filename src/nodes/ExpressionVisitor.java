@@ -0,0 +1,36 @@
+package nodes;
+
+/**
+ * Visitor over the nodes of an expression tree.
+ * <p>
+ * The class follows the Visitor Design Pattern, so passes over the tree (compilation, optimization, ...) can be
+ * implemented outside of the node classes, with one method per node type.
+ *
+ * @param <R> the type of the value produced for each visited node
+ */
+public interface ExpressionVisitor<R> {
+
+    /**
+     * Visits a complex number literal.
+     *
+     * @param node the visited node
+     * @return the value produced for the node
+     */
+    R visitNumber(NumberNode node);
+
+    /**
+     * Visits a variable.
+     *
+     * @param node the visited node
+     * @return the value produced for the node
+     */
+    R visitVariable(VariableNode node);
+
+    /**
+     * Visits an operation applied on two or more operands.
+     *
+     * @param node the visited node
+     * @return the value produced for the node
+     */
+    R visitOperation(OperationNode node);
+}
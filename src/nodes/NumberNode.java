@@ -0,0 +1,118 @@
+package nodes;
+
+import enums.NumericTier;
+import models.ComplexNumber;
+import numeric.ComplexArithmetic;
+import numeric.IntegerArithmetic;
+import numeric.TieredComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Leaf of the expression tree holding a complex number literal.
+ * <p>
+ * The literal is kept exactly, so it may exceed the {@code int} range; such a literal can only be evaluated with an
+ * arithmetic that represents it, such as the tiered one.
+ */
+public class NumberNode extends ExpressionNode {
+    private final TieredComplexNumber literal;  // The exact literal value
+    private final ComplexNumber value;  // The literal as an int complex number, null if it does not fit
+
+    /**
+     * Constructs a leaf holding the given complex number.
+     *
+     * @param value the literal value
+     */
+    public NumberNode(@NotNull ComplexNumber value) {
+        this.literal = TieredComplexNumber.valueOf(value);
+        this.value = value;
+    }
+
+    /**
+     * Constructs a leaf holding the given exact literal.
+     *
+     * @param literal the exact literal value
+     */
+    public NumberNode(@NotNull TieredComplexNumber literal) {
+        this.literal = literal;
+        this.value = literal.getTier() == NumericTier.INT ? literal.toComplexNumber() : null;
+    }
+
+    /**
+     * Returns the literal value of this leaf as an {@code int} complex number.
+     *
+     * @return the literal value
+     * @throws IllegalArgumentException if a part of the literal does not fit in an {@code int}
+     */
+    public ComplexNumber getValue() {
+        if (value == null) {
+            // Reports the range error of the integer arithmetic
+            return IntegerArithmetic.getInstance().valueOf(literal);
+        }
+
+        return value;
+    }
+
+    /**
+     * Returns the exact literal value of this leaf.
+     *
+     * @return the exact literal value
+     */
+    public TieredComplexNumber getLiteral() {
+        return literal;
+    }
+
+    /**
+     * Returns the literal value of this leaf.
+     *
+     * @return the literal value
+     * @throws IllegalArgumentException if a part of the literal does not fit in an {@code int}
+     */
+    @Override
+    public ComplexNumber evaluate() {
+        return getValue();
+    }
+
+    /**
+     * Returns the literal value of this leaf in the representation of the given arithmetic.
+     *
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the literal value
+     * @throws IllegalArgumentException if the arithmetic cannot represent the literal
+     */
+    @Override
+    public <T> T evaluate(@NotNull ComplexArithmetic<T> arithmetic) {
+        return arithmetic.valueOf(literal);
+    }
+
+    @Override
+    public <R> R accept(@NotNull ExpressionVisitor<R> visitor) {
+        return visitor.visitNumber(this);
+    }
+
+    /**
+     * Checks if this leaf holds the same literal as another node.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a literal leaf with the same value, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof NumberNode node && literal.equals(node.literal);
+    }
+
+    @Override
+    public int hashCode() {
+        return literal.hashCode();
+    }
+
+    /**
+     * Returns the literal in the {@link ComplexNumber#toString()} format.
+     *
+     * @return a string in the form "a+b*i" or "a-b*i"
+     */
+    @Override
+    public String toString() {
+        return literal.toString();
+    }
+}
@@ -0,0 +1,180 @@
+package nodes;
+
+import enums.Operation;
+import factory.ExpressionFactory;
+import metrics.EvaluationMetrics;
+import models.ComplexExpression;
+import models.ComplexNumber;
+import numeric.ComplexArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Inner node of the expression tree applying one operation, from left to right, on two or more operands.
+ * <p>
+ * A chain of the same operation at the same precedence level, such as {@code a - b - c}, is kept as a single node so
+ * it evaluates through a single {@link ComplexExpression} created by the {@link ExpressionFactory}.
+ */
+public class OperationNode extends ExpressionNode {
+    private final Operation operation;  // The operation applied on the operands
+    private final ExpressionNode[] operands;  // The operands, in evaluation order
+    private final int hash;  // Structural hash code, computed once since the node is immutable
+    private final int depth;  // Depth of the tree rooted at this node, computed once like the hash
+
+    /**
+     * Constructs an inner node applying the given operation on the given operands.
+     *
+     * @param operation the operation applied on the operands
+     * @param operands the operands, in evaluation order
+     * @throws IllegalArgumentException if fewer than two operands are given
+     */
+    public OperationNode(@NotNull Operation operation, @NotNull List<ExpressionNode> operands) {
+        if (operands.size() < 2) {
+            throw new IllegalArgumentException("An operation needs at least two operands");
+        }
+
+        this.operation = operation;
+        this.operands = operands.toArray(new ExpressionNode[0]);
+        this.hash = 31 * operation.hashCode() + Arrays.hashCode(this.operands);
+
+        int operandDepth = 0;
+        for (ExpressionNode operand : this.operands) {
+            operandDepth = Math.max(operandDepth, operand.getDepth());
+        }
+        this.depth = operandDepth + 1;
+    }
+
+    /**
+     * Returns the operation applied by this node.
+     *
+     * @return the operation
+     */
+    public Operation getOperation() {
+        return operation;
+    }
+
+    /**
+     * Returns the operands of this node, in evaluation order.
+     *
+     * @return a copy of the operands
+     */
+    public ExpressionNode[] getOperands() {
+        return operands.clone();
+    }
+
+    @Override
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the number of operands of this node.
+     *
+     * @return the number of operands, at least two
+     */
+    public int getOperandCount() {
+        return operands.length;
+    }
+
+    /**
+     * Evaluates the operands and applies the operation on them through the matching {@link ComplexExpression}.
+     * <p>
+     * Long chains of associative operations are reduced in parallel by
+     * {@link ComplexExpression#executeParallel()}, which gives the same result as the sequential fold.
+     *
+     * @return the value of the expression
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    @Override
+    public ComplexNumber evaluate() {
+        ComplexNumber[] values = new ComplexNumber[operands.length];
+
+        for (int i = 0; i < operands.length; i++) {
+            values[i] = operands[i].evaluate();
+        }
+
+        return apply(values);
+    }
+
+    /**
+     * Evaluates the operands with the given arithmetic and applies the operation on them from left to right. The
+     * operation is recorded in the {@link EvaluationMetrics} if enabled, like those created by the
+     * {@link ExpressionFactory}.
+     *
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return the value of the expression
+     * @throws IllegalArgumentException if the expression contains a literal that the arithmetic cannot represent
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    @Override
+    public <T> T evaluate(@NotNull ComplexArithmetic<T> arithmetic) {
+        EvaluationMetrics metrics = EvaluationMetrics.getInstance();
+        if (metrics.isEnabled()) {
+            metrics.recordOperation(operation, operands.length);
+        }
+
+        T result = operands[0].evaluate(arithmetic);
+
+        for (int i = 1; i < operands.length; i++) {
+            result = arithmetic.apply(operation, result, operands[i].evaluate(arithmetic));
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies the operation of this node on already evaluated operands.
+     *
+     * @param values the values of the operands, in evaluation order
+     * @return the result of the operation
+     * @throws ArithmeticException if a division by zero occurs or an exponent is invalid
+     */
+    public ComplexNumber apply(ComplexNumber @NotNull [] values) {
+        return ExpressionFactory.getInstance().createExpression(operation, values).executeParallel();
+    }
+
+    @Override
+    public <R> R accept(@NotNull ExpressionVisitor<R> visitor) {
+        return visitor.visitOperation(this);
+    }
+
+    /**
+     * Checks if this node is structurally equal to another node, i.e. applies the same operation on structurally
+     * equal operands in the same order.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a structurally equal operation node, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return this == other || (other instanceof OperationNode node && hash == node.hash
+                && operation == node.operation && Arrays.equals(operands, node.operands));
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Returns the fully parenthesized form of the expression.
+     *
+     * @return a string in the form "(a op b op c)"
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("(");
+
+        for (int i = 0; i < operands.length; i++) {
+            if (i > 0) {
+                builder.append(' ').append(operation.getSymbol()).append(' ');
+            }
+            builder.append(operands[i]);
+        }
+
+        return builder.append(')').toString();
+    }
+}
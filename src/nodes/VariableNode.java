@@ -0,0 +1,86 @@
+package nodes;
+
+import models.ComplexNumber;
+import numeric.ComplexArithmetic;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Leaf of the expression tree referring to a named variable, whose value is supplied when a compiled expression is
+ * evaluated.
+ */
+public class VariableNode extends ExpressionNode {
+    private final String name;  // The variable name
+
+    /**
+     * Constructs a leaf referring to the variable with the given name.
+     *
+     * @param name the variable name
+     */
+    public VariableNode(@NotNull String name) {
+        this.name = name;
+    }
+
+    /**
+     * Returns the name of the variable.
+     *
+     * @return the variable name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Always fails, since a variable has no value outside of a compiled expression.
+     *
+     * @return never returns normally
+     * @throws IllegalArgumentException always
+     */
+    @Override
+    public ComplexNumber evaluate() {
+        throw new IllegalArgumentException("Unbound variable: " + name);
+    }
+
+    /**
+     * Always fails, since a variable has no value outside of a compiled expression.
+     *
+     * @param arithmetic the arithmetic used for the evaluation
+     * @param <T> the type of the complex numbers handled by the arithmetic
+     * @return never returns normally
+     * @throws IllegalArgumentException always
+     */
+    @Override
+    public <T> T evaluate(@NotNull ComplexArithmetic<T> arithmetic) {
+        return arithmetic.valueOf(evaluate());
+    }
+
+    @Override
+    public <R> R accept(@NotNull ExpressionVisitor<R> visitor) {
+        return visitor.visitVariable(this);
+    }
+
+    /**
+     * Checks if this leaf refers to the same variable as another node.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a variable leaf with the same name, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof VariableNode node && name.equals(node.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+
+    /**
+     * Returns the variable name.
+     *
+     * @return the variable name
+     */
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,127 @@
+package numeric;
+
+import enums.NumericMode;
+import enums.Operation;
+import models.ComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Interface representing the arithmetic used to evaluate complex number expressions.
+ * <p>
+ * The class follows the Strategy Design Pattern: expression trees and complex expressions are evaluated against an
+ * arithmetic, which decides how complex numbers are represented and how overflow is handled, without changing the
+ * evaluation algorithm itself. The arithmetic of a {@link NumericMode} is returned by {@link #forMode(NumericMode)}.
+ *
+ * @param <T> the type of the complex numbers handled by this arithmetic
+ */
+public interface ComplexArithmetic<T> {
+
+    /**
+     * Largest estimated size of an exact power, in bits per part (about 19,700 decimal digits). The exact arithmetics
+     * reject larger powers before computing them, since a single power such as {@code 3 ^ 100000000} would otherwise
+     * keep a thread and a large amount of memory busy for minutes.
+     */
+    int MAX_POWER_BITS = 1 << 16;
+
+    /**
+     * Returns the arithmetic implementing the given numeric mode.
+     *
+     * @param mode the numeric mode
+     * @return the arithmetic of the numeric mode
+     */
+    static ComplexArithmetic<?> forMode(@NotNull NumericMode mode) {
+        return switch (mode) {
+            case INTEGER -> IntegerArithmetic.getInstance();
+            case TIERED -> TieredArithmetic.getInstance();
+            case RATIONAL -> RationalArithmetic.getInstance();
+        };
+    }
+
+    /**
+     * Converts a complex number literal to the representation of this arithmetic.
+     *
+     * @param literal the exact value of the literal
+     * @return the literal in the representation of this arithmetic
+     * @throws IllegalArgumentException if the literal cannot be represented by this arithmetic
+     */
+    T valueOf(@NotNull TieredComplexNumber literal);
+
+    /**
+     * Converts an {@code int} complex number to the representation of this arithmetic.
+     *
+     * @param value the {@code int} complex number
+     * @return the value in the representation of this arithmetic
+     */
+    default T valueOf(@NotNull ComplexNumber value) {
+        return valueOf(TieredComplexNumber.valueOf(value));
+    }
+
+    /**
+     * Adds two complex numbers.
+     *
+     * @param c1 the first complex number
+     * @param c2 the second complex number
+     * @return the sum of c1 and c2
+     */
+    T add(@NotNull T c1, @NotNull T c2);
+
+    /**
+     * Subtracts a complex number from another one.
+     *
+     * @param c1 the first complex number
+     * @param c2 the complex number subtracted from c1
+     * @return the difference of c1 and c2
+     */
+    T subtract(@NotNull T c1, @NotNull T c2);
+
+    /**
+     * Multiplies two complex numbers.
+     *
+     * @param c1 the first complex number
+     * @param c2 the second complex number
+     * @return the product of c1 and c2
+     */
+    T multiply(@NotNull T c1, @NotNull T c2);
+
+    /**
+     * Divides a complex number by another one.
+     *
+     * @param c1 the dividend
+     * @param c2 the divisor
+     * @return the quotient of c1 and c2
+     * @throws ArithmeticException if attempting to divide by zero
+     */
+    T divide(@NotNull T c1, @NotNull T c2);
+
+    /**
+     * Raises a complex number to the power of another one, which must be a real integer. A negative exponent gives
+     * the reciprocal of the power, divided like {@link #divide(Object, Object)}.
+     *
+     * @param base the base
+     * @param exponent the exponent, with a zero imaginary part
+     * @return the power of base
+     * @throws ArithmeticException if the exponent is not a real integer in the range of an {@code int}, if it is
+     *                             negative and the power is zero, or if an exact power would exceed
+     *                             {@link #MAX_POWER_BITS}
+     */
+    T power(@NotNull T base, @NotNull T exponent);
+
+    /**
+     * Applies the given operation on two complex numbers.
+     *
+     * @param operation the operation to apply
+     * @param c1 the first complex number
+     * @param c2 the second complex number
+     * @return the result of applying the operation on c1 and c2
+     * @throws ArithmeticException if attempting to divide by zero, or if an exponent is invalid
+     */
+    default T apply(@NotNull Operation operation, @NotNull T c1, @NotNull T c2) {
+        return switch (operation) {
+            case ADDITION -> add(c1, c2);
+            case SUBTRACTION -> subtract(c1, c2);
+            case MULTIPLICATION -> multiply(c1, c2);
+            case DIVISION -> divide(c1, c2);
+            case POWER -> power(c1, c2);
+        };
+    }
+}
@@ -0,0 +1,364 @@
+package numeric;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable exact fraction, one part of a {@link RationalComplexNumber}.
+ * <p>
+ * Numerators and denominators are kept as {@code long}s while they fit, with {@link Math#multiplyExact(long, long)}
+ * -style overflow checks, and fall back to {@link BigInteger}s otherwise; results that fit again return to the
+ * {@code long} path. The denominator is always positive, but operations do not reduce their results: the common
+ * factors of the numerator and the denominator are only removed by {@link #normalize()}, which lets the callers decide
+ * how often to pay for the greatest common divisor.
+ */
+final class Fraction {
+
+    /** The fraction zero */
+    static final Fraction ZERO = new Fraction(0, 1);
+
+    /** The fraction one */
+    static final Fraction ONE = new Fraction(1, 1);
+
+    private final long numerator;  // Numerator, on the long path
+    private final long denominator;  // Positive denominator, on the long path
+    private final BigInteger bigNumerator;  // Numerator, on the BigInteger path, null otherwise
+    private final BigInteger bigDenominator;  // Positive denominator, on the BigInteger path, null otherwise
+
+    /**
+     * Constructs a fraction on the {@code long} path.
+     *
+     * @param numerator the numerator
+     * @param denominator the denominator, positive
+     */
+    private Fraction(long numerator, long denominator) {
+        this.numerator = numerator;
+        this.denominator = denominator;
+        this.bigNumerator = null;
+        this.bigDenominator = null;
+    }
+
+    /**
+     * Constructs a fraction on the {@link BigInteger} path.
+     *
+     * @param numerator the numerator
+     * @param denominator the denominator, positive
+     */
+    private Fraction(BigInteger numerator, BigInteger denominator) {
+        this.numerator = 0;
+        this.denominator = 1;
+        this.bigNumerator = numerator;
+        this.bigDenominator = denominator;
+    }
+
+    /**
+     * Returns the fraction with the given numerator and denominator, not reduced.
+     *
+     * @param numerator the numerator
+     * @param denominator the denominator, non-zero
+     * @return the fraction, with a positive denominator
+     */
+    static Fraction valueOf(long numerator, long denominator) {
+        if (denominator > 0) {
+            return new Fraction(numerator, denominator);
+        }
+
+        if (numerator == Long.MIN_VALUE || denominator == Long.MIN_VALUE) {
+            return valueOf(BigInteger.valueOf(numerator), BigInteger.valueOf(denominator));
+        }
+
+        return new Fraction(-numerator, -denominator);
+    }
+
+    /**
+     * Returns the fraction with the given numerator and denominator, not reduced, on the {@code long} path if both
+     * fit.
+     *
+     * @param numerator the numerator
+     * @param denominator the denominator, non-zero
+     * @return the fraction, with a positive denominator
+     */
+    static Fraction valueOf(@NotNull BigInteger numerator, @NotNull BigInteger denominator) {
+        if (denominator.signum() < 0) {
+            numerator = numerator.negate();
+            denominator = denominator.negate();
+        }
+
+        if (numerator.bitLength() < Long.SIZE && denominator.bitLength() < Long.SIZE) {
+            return new Fraction(numerator.longValue(), denominator.longValue());
+        }
+
+        return new Fraction(numerator, denominator);
+    }
+
+    /**
+     * Checks if this fraction is on the {@link BigInteger} path.
+     *
+     * @return true if the numerator or the denominator does not fit in a {@code long}, false otherwise
+     */
+    boolean isBig() {
+        return bigNumerator != null;
+    }
+
+    /**
+     * Returns the numerator of this fraction.
+     *
+     * @return the numerator
+     */
+    BigInteger numerator() {
+        return isBig() ? bigNumerator : BigInteger.valueOf(numerator);
+    }
+
+    /**
+     * Returns the denominator of this fraction.
+     *
+     * @return the positive denominator
+     */
+    BigInteger denominator() {
+        return isBig() ? bigDenominator : BigInteger.valueOf(denominator);
+    }
+
+    /**
+     * Checks if this fraction is zero.
+     *
+     * @return true if the numerator is zero, false otherwise
+     */
+    boolean isZero() {
+        // Numerators on the BigInteger path never fit in a long, so they are never zero
+        return !isBig() && numerator == 0;
+    }
+
+    /**
+     * Returns the sign of this fraction.
+     *
+     * @return -1, 0 or 1 as this fraction is negative, zero or positive
+     */
+    int signum() {
+        return isBig() ? bigNumerator.signum() : Long.signum(numerator);
+    }
+
+    /**
+     * Adds another fraction to this fraction.
+     *
+     * @param other the fraction to add
+     * @return the sum, not reduced
+     */
+    Fraction add(@NotNull Fraction other) {
+        return sum(other, false);
+    }
+
+    /**
+     * Subtracts another fraction from this fraction.
+     *
+     * @param other the fraction to subtract
+     * @return the difference, not reduced
+     */
+    Fraction subtract(@NotNull Fraction other) {
+        return sum(other, true);
+    }
+
+    /**
+     * Multiplies this fraction by another fraction.
+     *
+     * @param other the fraction to multiply by
+     * @return the product, not reduced
+     */
+    Fraction multiply(@NotNull Fraction other) {
+        if (!isBig() && !other.isBig()) {
+            try {
+                return new Fraction(Math.multiplyExact(numerator, other.numerator),
+                        Math.multiplyExact(denominator, other.denominator));
+            } catch (ArithmeticException overflow) {
+                // Fall back to the BigInteger path below
+            }
+        }
+
+        return valueOf(numerator().multiply(other.numerator()), denominator().multiply(other.denominator()));
+    }
+
+    /**
+     * Divides this fraction by another fraction.
+     *
+     * @param other the fraction to divide by
+     * @return the quotient, not reduced
+     * @throws ArithmeticException if attempting to divide by zero
+     */
+    Fraction divide(@NotNull Fraction other) {
+        if (other.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        if (!isBig() && !other.isBig()) {
+            try {
+                return valueOf(Math.multiplyExact(numerator, other.denominator),
+                        Math.multiplyExact(denominator, other.numerator));
+            } catch (ArithmeticException overflow) {
+                // Fall back to the BigInteger path below
+            }
+        }
+
+        return valueOf(numerator().multiply(other.denominator()), denominator().multiply(other.numerator()));
+    }
+
+    /**
+     * Returns the opposite of this fraction.
+     *
+     * @return the fraction with the opposite numerator
+     */
+    Fraction negate() {
+        if (!isBig() && numerator != Long.MIN_VALUE) {
+            return new Fraction(-numerator, denominator);
+        }
+
+        return valueOf(numerator().negate(), denominator());
+    }
+
+    /**
+     * Reduces this fraction to lowest terms, with a binary GCD on the {@code long} path.
+     *
+     * @return the reduced fraction, this fraction if it is already reduced
+     */
+    Fraction normalize() {
+        if (!isBig() && numerator != Long.MIN_VALUE) {
+            long divisor = gcd(Math.abs(numerator), denominator);
+
+            return divisor == 1 ? this : new Fraction(numerator / divisor, denominator / divisor);
+        }
+
+        BigInteger a = numerator();
+        BigInteger b = denominator();
+        BigInteger divisor = a.gcd(b);
+
+        return divisor.equals(BigInteger.ONE) ? this : valueOf(a.divide(divisor), b.divide(divisor));
+    }
+
+    /**
+     * Returns the integer part of this fraction, truncated towards zero like {@code long} division.
+     *
+     * @return the truncated value
+     */
+    BigInteger truncate() {
+        return isBig() ? bigNumerator.divide(bigDenominator) : BigInteger.valueOf(numerator / denominator);
+    }
+
+    /**
+     * Checks if this fraction is equal to another object.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a fraction with the same value, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof Fraction fraction)) {
+            return false;
+        }
+
+        Fraction a = normalize();
+        Fraction b = fraction.normalize();
+
+        // Reduced fractions with positive denominators are equal if and only if their terms are
+        return a.isBig() == b.isBig() && (a.isBig()
+                ? a.bigNumerator.equals(b.bigNumerator) && a.bigDenominator.equals(b.bigDenominator)
+                : a.numerator == b.numerator && a.denominator == b.denominator);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the reduced fraction
+     */
+    @Override
+    public int hashCode() {
+        Fraction reduced = normalize();
+
+        return reduced.isBig() ? 31 * reduced.bigNumerator.hashCode() + reduced.bigDenominator.hashCode()
+                : 31 * Long.hashCode(reduced.numerator) + Long.hashCode(reduced.denominator);
+    }
+
+    /**
+     * Returns a string representation of the reduced fraction.
+     *
+     * @return a string in the form "n" for integers or "n/d" otherwise
+     */
+    @Override
+    public String toString() {
+        Fraction reduced = normalize();
+        BigInteger b = reduced.denominator();
+
+        return b.equals(BigInteger.ONE) ? reduced.numerator().toString() : reduced.numerator() + "/" + b;
+    }
+
+    /**
+     * Adds or subtracts another fraction, without multiplying the denominators when they are equal.
+     *
+     * @param other the other fraction
+     * @param negate whether the other fraction is subtracted
+     * @return the sum or the difference, not reduced
+     */
+    private Fraction sum(Fraction other, boolean negate) {
+        if (!isBig() && !other.isBig()) {
+            try {
+                if (denominator == other.denominator) {
+                    return new Fraction(negate ? Math.subtractExact(numerator, other.numerator)
+                            : Math.addExact(numerator, other.numerator), denominator);
+                }
+
+                long left = Math.multiplyExact(numerator, other.denominator);
+                long right = Math.multiplyExact(other.numerator, denominator);
+
+                return new Fraction(negate ? Math.subtractExact(left, right) : Math.addExact(left, right),
+                        Math.multiplyExact(denominator, other.denominator));
+            } catch (ArithmeticException overflow) {
+                // Fall back to the BigInteger path below
+            }
+        }
+
+        BigInteger a = numerator();
+        BigInteger b = denominator();
+        BigInteger c = other.numerator();
+        BigInteger d = other.denominator();
+
+        if (b.equals(d)) {
+            return valueOf(negate ? a.subtract(c) : a.add(c), b);
+        }
+
+        BigInteger left = a.multiply(d);
+        BigInteger right = c.multiply(b);
+
+        return valueOf(negate ? left.subtract(right) : left.add(right), b.multiply(d));
+    }
+
+    /**
+     * Computes the greatest common divisor of two non-negative {@code long}s with Stein's binary algorithm, which
+     * replaces the divisions of Euclid's algorithm by shifts and subtractions.
+     *
+     * @param a the first value, non-negative
+     * @param b the second value, non-negative
+     * @return the greatest common divisor, {@code b} if {@code a} is zero
+     */
+    static long gcd(long a, long b) {
+        if (a == 0 || b == 0) {
+            return a | b;
+        }
+
+        // Common factors of two, restored at the end
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>= Long.numberOfTrailingZeros(a);
+
+        do {
+            b >>= Long.numberOfTrailingZeros(b);
+
+            // Both are odd now, so their difference is even
+            if (a > b) {
+                long swap = a;
+                a = b;
+                b = swap;
+            }
+
+            b -= a;
+        } while (b != 0);
+
+        return a << shift;
+    }
+}
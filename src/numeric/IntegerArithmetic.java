@@ -0,0 +1,76 @@
+package numeric;
+
+import enums.NumericMode;
+import enums.NumericTier;
+import models.ComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Singleton arithmetic of the {@link NumericMode#INTEGER INTEGER} mode, on {@link ComplexNumber} values whose parts
+ * wrap around on overflow.
+ */
+public final class IntegerArithmetic implements ComplexArithmetic<ComplexNumber> {
+
+    /** The single instance of the arithmetic */
+    private static final IntegerArithmetic INSTANCE = new IntegerArithmetic();
+
+    /**
+     * Private constructor to prevent external instantiation.
+     */
+    private IntegerArithmetic() {}
+
+    /**
+     * Returns the single instance of the {@code IntegerArithmetic} class.
+     *
+     * @return the singleton instance of {@code IntegerArithmetic}
+     */
+    public static IntegerArithmetic getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Converts a literal to an {@code int} complex number.
+     *
+     * @param literal the exact value of the literal
+     * @return the {@link ComplexNumber} with the same parts
+     * @throws IllegalArgumentException if a part of the literal does not fit in an {@code int}
+     */
+    @Override
+    public ComplexNumber valueOf(@NotNull TieredComplexNumber literal) {
+        if (literal.getTier() != NumericTier.INT) {
+            throw new IllegalArgumentException("Number out of int range: " + literal);
+        }
+
+        return literal.toComplexNumber();
+    }
+
+    @Override
+    public ComplexNumber valueOf(@NotNull ComplexNumber value) {
+        return value;
+    }
+
+    @Override
+    public ComplexNumber add(@NotNull ComplexNumber c1, @NotNull ComplexNumber c2) {
+        return c1.add(c2);
+    }
+
+    @Override
+    public ComplexNumber subtract(@NotNull ComplexNumber c1, @NotNull ComplexNumber c2) {
+        return c1.subtract(c2);
+    }
+
+    @Override
+    public ComplexNumber multiply(@NotNull ComplexNumber c1, @NotNull ComplexNumber c2) {
+        return c1.multiply(c2);
+    }
+
+    @Override
+    public ComplexNumber divide(@NotNull ComplexNumber c1, @NotNull ComplexNumber c2) {
+        return c1.divide(c2);
+    }
+
+    @Override
+    public ComplexNumber power(@NotNull ComplexNumber base, @NotNull ComplexNumber exponent) {
+        return base.power(exponent);
+    }
+}
@@ -0,0 +1,108 @@
+package numeric;
+
+import enums.NumericMode;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Arithmetic of the {@link NumericMode#RATIONAL RATIONAL} mode, on exact {@link RationalComplexNumber} values whose
+ * divisions never truncate.
+ * <p>
+ * Results are reduced to lowest terms only once they are the outcome of a given number of operations since their
+ * last reduction, the normalization interval, rather than after every operation. The shared instance returned by
+ * {@link #getInstance()} uses {@link #DEFAULT_NORMALIZATION_INTERVAL}; other intervals are available through
+ * {@link #withNormalizationInterval(int)}.
+ */
+public final class RationalArithmetic implements ComplexArithmetic<RationalComplexNumber> {
+
+    /** Default number of operations between two reductions of a result */
+    public static final int DEFAULT_NORMALIZATION_INTERVAL = 8;
+
+    /** The shared instance of the arithmetic, with the default normalization interval */
+    private static final RationalArithmetic INSTANCE = new RationalArithmetic(DEFAULT_NORMALIZATION_INTERVAL);
+
+    private final int normalizationInterval;  // Number of operations between two reductions of a result
+
+    /**
+     * Private constructor to prevent external instantiation.
+     *
+     * @param normalizationInterval the number of operations between two reductions of a result
+     */
+    private RationalArithmetic(int normalizationInterval) {
+        this.normalizationInterval = normalizationInterval;
+    }
+
+    /**
+     * Returns the shared instance of the {@code RationalArithmetic} class.
+     *
+     * @return the instance of {@code RationalArithmetic} with the default normalization interval
+     */
+    public static RationalArithmetic getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns an arithmetic reducing its results after the given number of operations.
+     *
+     * @param normalizationInterval the number of operations between two reductions of a result, 1 to reduce every
+     *                              result
+     * @return the arithmetic with the given normalization interval
+     * @throws IllegalArgumentException if the normalization interval is not positive
+     */
+    public static RationalArithmetic withNormalizationInterval(int normalizationInterval) {
+        if (normalizationInterval < 1) {
+            throw new IllegalArgumentException("Normalization interval must be positive: " + normalizationInterval);
+        }
+
+        return normalizationInterval == DEFAULT_NORMALIZATION_INTERVAL ? INSTANCE
+                : new RationalArithmetic(normalizationInterval);
+    }
+
+    /**
+     * Returns the number of operations between two reductions of a result.
+     *
+     * @return the normalization interval
+     */
+    public int getNormalizationInterval() {
+        return normalizationInterval;
+    }
+
+    @Override
+    public RationalComplexNumber valueOf(@NotNull TieredComplexNumber literal) {
+        return RationalComplexNumber.valueOf(literal);
+    }
+
+    @Override
+    public RationalComplexNumber add(@NotNull RationalComplexNumber c1, @NotNull RationalComplexNumber c2) {
+        return normalizeIfDue(c1.add(c2));
+    }
+
+    @Override
+    public RationalComplexNumber subtract(@NotNull RationalComplexNumber c1, @NotNull RationalComplexNumber c2) {
+        return normalizeIfDue(c1.subtract(c2));
+    }
+
+    @Override
+    public RationalComplexNumber multiply(@NotNull RationalComplexNumber c1, @NotNull RationalComplexNumber c2) {
+        return normalizeIfDue(c1.multiply(c2));
+    }
+
+    @Override
+    public RationalComplexNumber divide(@NotNull RationalComplexNumber c1, @NotNull RationalComplexNumber c2) {
+        return normalizeIfDue(c1.divide(c2));
+    }
+
+    @Override
+    public RationalComplexNumber power(@NotNull RationalComplexNumber base, @NotNull RationalComplexNumber exponent) {
+        return normalizeIfDue(base.power(exponent));
+    }
+
+    /**
+     * Reduces a result if it is the outcome of at least a normalization interval of operations.
+     *
+     * @param result the result of an operation
+     * @return the result, reduced if its normalization is due
+     */
+    private RationalComplexNumber normalizeIfDue(RationalComplexNumber result) {
+        return result.getPendingSteps() >= normalizationInterval ? result.normalize() : result;
+    }
+}
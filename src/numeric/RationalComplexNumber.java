@@ -0,0 +1,340 @@
+package numeric;
+
+import models.ComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable complex number with exact rational parts, each a numerator over a positive denominator.
+ * <p>
+ * Unlike {@link TieredComplexNumber}, division is exact: {@code (a+b*i)/(c+d*i)} is the fraction
+ * {@code ((ac+bd) + (bc-ad)*i)/(c^2+d^2)}, so long chains of divisions keep their full value instead of truncating at
+ * every step. The parts are kept on {@code long} numerators and denominators while they fit and fall back to
+ * {@link BigInteger}s otherwise.
+ * <p>
+ * Operations do not reduce their results, since a greatest common divisor per part and per step would dominate the
+ * cost of the arithmetic. Each value instead counts the operations since its parts were last reduced, and
+ * {@link #normalize()} reduces them on demand; {@link RationalArithmetic} calls it every few steps. A result is also
+ * reduced as soon as one of its parts leaves the {@code long} path, because unreduced terms are what make them grow
+ * and reducing them often brings the part back. Equality, hash codes and strings always use the reduced parts, so the
+ * normalization schedule never changes the observable value.
+ */
+public final class RationalComplexNumber {
+    private final Fraction re;  // Real part, not necessarily reduced
+    private final Fraction im;  // Imaginary part, not necessarily reduced
+    private final int pendingSteps;  // Operations since the parts were last reduced
+
+    /**
+     * Constructs a complex number with the given parts.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     * @param pendingSteps the number of operations since the parts were last reduced
+     */
+    private RationalComplexNumber(Fraction re, Fraction im, int pendingSteps) {
+        this.re = re;
+        this.im = im;
+        this.pendingSteps = pendingSteps;
+    }
+
+    /**
+     * Returns the complex number with the given integer parts.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     * @return the complex number
+     */
+    public static RationalComplexNumber valueOf(long re, long im) {
+        return new RationalComplexNumber(Fraction.valueOf(re, 1), Fraction.valueOf(im, 1), 0);
+    }
+
+    /**
+     * Returns the complex number with the given rational parts, reduced to lowest terms.
+     *
+     * @param reNumerator the numerator of the real part
+     * @param reDenominator the denominator of the real part
+     * @param imNumerator the numerator of the imaginary part
+     * @param imDenominator the denominator of the imaginary part
+     * @return the complex number
+     * @throws IllegalArgumentException if a denominator is zero
+     */
+    public static RationalComplexNumber valueOf(long reNumerator, long reDenominator, long imNumerator,
+                                                long imDenominator) {
+        if (reDenominator == 0 || imDenominator == 0) {
+            throw new IllegalArgumentException("Denominator must not be zero");
+        }
+
+        return new RationalComplexNumber(Fraction.valueOf(reNumerator, reDenominator).normalize(),
+                Fraction.valueOf(imNumerator, imDenominator).normalize(), 0);
+    }
+
+    /**
+     * Returns the exact complex number with the same parts as the given tiered complex number.
+     *
+     * @param value the tiered complex number
+     * @return the complex number, with integer parts
+     */
+    public static RationalComplexNumber valueOf(@NotNull TieredComplexNumber value) {
+        return new RationalComplexNumber(Fraction.valueOf(value.getReal(), BigInteger.ONE),
+                Fraction.valueOf(value.getImaginary(), BigInteger.ONE), 0);
+    }
+
+    /**
+     * Returns the exact complex number with the same parts as the given {@code int} complex number.
+     *
+     * @param value the {@code int} complex number
+     * @return the complex number, with integer parts
+     */
+    public static RationalComplexNumber valueOf(@NotNull ComplexNumber value) {
+        return valueOf(value.getRe(), value.getIm());
+    }
+
+    /**
+     * Returns the numerator of the reduced real part.
+     *
+     * @return the numerator of the real part
+     */
+    public BigInteger getRealNumerator() {
+        return re.normalize().numerator();
+    }
+
+    /**
+     * Returns the denominator of the reduced real part.
+     *
+     * @return the positive denominator of the real part
+     */
+    public BigInteger getRealDenominator() {
+        return re.normalize().denominator();
+    }
+
+    /**
+     * Returns the numerator of the reduced imaginary part.
+     *
+     * @return the numerator of the imaginary part
+     */
+    public BigInteger getImaginaryNumerator() {
+        return im.normalize().numerator();
+    }
+
+    /**
+     * Returns the denominator of the reduced imaginary part.
+     *
+     * @return the positive denominator of the imaginary part
+     */
+    public BigInteger getImaginaryDenominator() {
+        return im.normalize().denominator();
+    }
+
+    /**
+     * Returns the number of operations since the parts of this complex number were last reduced.
+     *
+     * @return the number of pending steps, zero if the parts are reduced
+     */
+    public int getPendingSteps() {
+        return pendingSteps;
+    }
+
+    /**
+     * Adds this complex number to another complex number.
+     *
+     * @param other the complex number to add
+     * @return a new complex number representing the exact sum
+     */
+    public RationalComplexNumber add(@NotNull RationalComplexNumber other) {
+        return result(re.add(other.re), im.add(other.im), other);
+    }
+
+    /**
+     * Subtracts another complex number from this complex number.
+     *
+     * @param other the complex number to subtract
+     * @return a new complex number representing the exact difference
+     */
+    public RationalComplexNumber subtract(@NotNull RationalComplexNumber other) {
+        return result(re.subtract(other.re), im.subtract(other.im), other);
+    }
+
+    /**
+     * Multiplies this complex number by another complex number.
+     *
+     * @param other the complex number to multiply by
+     * @return a new complex number representing the exact product
+     */
+    public RationalComplexNumber multiply(@NotNull RationalComplexNumber other) {
+        Fraction realPart = re.multiply(other.re).subtract(im.multiply(other.im));
+        Fraction imaginaryPart = re.multiply(other.im).add(im.multiply(other.re));
+
+        return result(realPart, imaginaryPart, other);
+    }
+
+    /**
+     * Divides this complex number by another complex number, exactly.
+     *
+     * @param other the complex number to divide by
+     * @return a new complex number representing the exact quotient
+     * @throws ArithmeticException if attempting to divide by zero
+     */
+    public RationalComplexNumber divide(@NotNull RationalComplexNumber other) {
+        if (other.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        Fraction denominator = other.re.multiply(other.re).add(other.im.multiply(other.im));
+        Fraction realPart = re.multiply(other.re).add(im.multiply(other.im));
+        Fraction imaginaryPart = im.multiply(other.re).subtract(re.multiply(other.im));
+
+        return result(realPart.divide(denominator), imaginaryPart.divide(denominator), other);
+    }
+
+    /**
+     * Raises this complex number to the power of another complex number by binary exponentiation, exactly. A negative
+     * exponent gives the exact reciprocal of the power.
+     *
+     * @param exponent the exponent, a real integer in the range of an {@code int}
+     * @return a new complex number representing the exact power
+     * @throws ArithmeticException if the exponent is not a real integer in the range of an {@code int}, if it is
+     *                             negative and this complex number is zero, or if the power is estimated to exceed
+     *                             {@link ComplexArithmetic#MAX_POWER_BITS}
+     */
+    public RationalComplexNumber power(@NotNull RationalComplexNumber exponent) {
+        BigInteger numerator = exponent.getRealNumerator();
+
+        if (!exponent.im.isZero() || !exponent.getRealDenominator().equals(BigInteger.ONE)
+                || numerator.bitLength() >= Integer.SIZE) {
+            throw new ArithmeticException("Exponent must be a real integer in the int range: " + exponent);
+        }
+
+        int n = numerator.intValue();
+        RationalComplexNumber result = valueOf(1, 0);
+
+        // Squaring a reduced base keeps it reduced more often than squaring an unreduced one
+        RationalComplexNumber base = normalize();
+
+        // Over the common denominator, z^n = (p * d + q * b * i)^n / (b * d)^n, and the parts of the power have at
+        // most n times the bits of the larger of p * d, q * b and b * d, twice that for the reciprocal of a negative
+        // exponent, which divides by the squared magnitude; only 0, 1, -1, i and -i keep small powers
+        BigInteger p = base.re.numerator();
+        BigInteger q = base.im.numerator();
+        int bBits = base.re.denominator().equals(BigInteger.ONE) ? 0 : base.re.denominator().bitLength();
+        int dBits = base.im.denominator().equals(BigInteger.ONE) ? 0 : base.im.denominator().bitLength();
+        boolean unit = bBits + dBits == 0 && p.abs().add(q.abs()).compareTo(BigInteger.ONE) <= 0;
+        long bits = (long) Math.max(Math.max(p.bitLength() + dBits, q.bitLength() + bBits), bBits + dBits)
+                * (n >= 0 ? n : -2L * n);
+
+        if (!unit && bits > ComplexArithmetic.MAX_POWER_BITS) {
+            throw new ArithmeticException("Power too large: about " + bits + " bits, above the limit of "
+                    + ComplexArithmetic.MAX_POWER_BITS);
+        }
+
+        // Unreduced denominators double their share of the bits at every squaring, so the power would outgrow the
+        // estimate above exponentially; parts on the BigInteger path are therefore reduced at every step
+        for (long remaining = Math.abs((long) n); remaining > 0; remaining >>= 1) {
+            if ((remaining & 1) != 0) {
+                result = result.multiply(base);
+                result = result.isBig() ? result.normalize() : result;
+            }
+
+            // Skip the last squaring, whose result would be discarded and is the largest
+            if (remaining > 1) {
+                base = base.multiply(base);
+                base = base.isBig() ? base.normalize() : base;
+            }
+        }
+
+        return n >= 0 ? result : valueOf(1, 0).divide(result);
+    }
+
+    /**
+     * Returns the conjugate of this complex number.
+     *
+     * @return a new complex number representing the conjugate
+     */
+    public RationalComplexNumber conjugate() {
+        return new RationalComplexNumber(re, im.negate(), pendingSteps);
+    }
+
+    /**
+     * Reduces both parts of this complex number to lowest terms.
+     *
+     * @return the complex number with reduced parts, this complex number if they are already reduced
+     */
+    public RationalComplexNumber normalize() {
+        return pendingSteps == 0 ? this : new RationalComplexNumber(re.normalize(), im.normalize(), 0);
+    }
+
+    /**
+     * Truncates both parts of this complex number towards zero, which gives the same value as the truncating
+     * {@link TieredComplexNumber#divide(TieredComplexNumber)} for a single division.
+     *
+     * @return the tiered complex number with the truncated parts
+     */
+    public TieredComplexNumber truncate() {
+        return TieredComplexNumber.valueOf(re.truncate(), im.truncate());
+    }
+
+    /**
+     * Checks if this complex number is zero.
+     *
+     * @return true if both parts are zero, false otherwise
+     */
+    public boolean isZero() {
+        return re.isZero() && im.isZero();
+    }
+
+    /**
+     * Checks if this complex number is equal to another object.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a rational complex number with the same value, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof RationalComplexNumber number && re.equals(number.re) && im.equals(number.im);
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the complex number
+     */
+    @Override
+    public int hashCode() {
+        return 31 * re.hashCode() + im.hashCode();
+    }
+
+    /**
+     * Returns a string representation of the complex number, with reduced parts.
+     *
+     * @return a string in the form "a+b*i" or "a-b*i", where each part is an integer "n" or a fraction "n/d"
+     */
+    @Override
+    public String toString() {
+        return re + (im.signum() >= 0 ? "+" + im : "-" + im.negate()) + "*i";
+    }
+
+    /**
+     * Builds the result of an operation of this complex number with another one, reducing its parts if one of them
+     * has just left the {@code long} path.
+     *
+     * @param realPart the real part of the result
+     * @param imaginaryPart the imaginary part of the result
+     * @param other the other operand
+     * @return the result
+     */
+    private RationalComplexNumber result(Fraction realPart, Fraction imaginaryPart, RationalComplexNumber other) {
+        RationalComplexNumber result = new RationalComplexNumber(realPart, imaginaryPart,
+                Math.max(pendingSteps, other.pendingSteps) + 1);
+
+        return result.isBig() && !isBig() && !other.isBig() ? result.normalize() : result;
+    }
+
+    /**
+     * Checks if a part of this complex number is on the {@link BigInteger} path.
+     *
+     * @return true if a numerator or a denominator does not fit in a {@code long}, false otherwise
+     */
+    private boolean isBig() {
+        return re.isBig() || im.isBig();
+    }
+}
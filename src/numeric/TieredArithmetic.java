@@ -0,0 +1,58 @@
+package numeric;
+
+import enums.NumericMode;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Singleton arithmetic of the {@link NumericMode#TIERED TIERED} mode, on exact {@link TieredComplexNumber} values that
+ * are promoted to a wider tier only when an operation would overflow.
+ */
+public final class TieredArithmetic implements ComplexArithmetic<TieredComplexNumber> {
+
+    /** The single instance of the arithmetic */
+    private static final TieredArithmetic INSTANCE = new TieredArithmetic();
+
+    /**
+     * Private constructor to prevent external instantiation.
+     */
+    private TieredArithmetic() {}
+
+    /**
+     * Returns the single instance of the {@code TieredArithmetic} class.
+     *
+     * @return the singleton instance of {@code TieredArithmetic}
+     */
+    public static TieredArithmetic getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public TieredComplexNumber valueOf(@NotNull TieredComplexNumber literal) {
+        return literal;
+    }
+
+    @Override
+    public TieredComplexNumber add(@NotNull TieredComplexNumber c1, @NotNull TieredComplexNumber c2) {
+        return c1.add(c2);
+    }
+
+    @Override
+    public TieredComplexNumber subtract(@NotNull TieredComplexNumber c1, @NotNull TieredComplexNumber c2) {
+        return c1.subtract(c2);
+    }
+
+    @Override
+    public TieredComplexNumber multiply(@NotNull TieredComplexNumber c1, @NotNull TieredComplexNumber c2) {
+        return c1.multiply(c2);
+    }
+
+    @Override
+    public TieredComplexNumber divide(@NotNull TieredComplexNumber c1, @NotNull TieredComplexNumber c2) {
+        return c1.divide(c2);
+    }
+
+    @Override
+    public TieredComplexNumber power(@NotNull TieredComplexNumber base, @NotNull TieredComplexNumber exponent) {
+        return base.power(exponent);
+    }
+}
@@ -0,0 +1,385 @@
+package numeric;
+
+import enums.NumericTier;
+import models.ComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * Immutable complex number with exact integer parts, stored in the cheapest {@link NumericTier} that can hold them.
+ * <p>
+ * Values whose parts fit in an {@code int} stay on the {@link NumericTier#INT INT} tier, where sums and products are
+ * computed in {@code long} and can never overflow. Larger values use the {@link NumericTier#LONG LONG} tier, whose
+ * operations are guarded by {@link Math#multiplyExact(long, long)}-style checks, and only values that overflow a
+ * {@code long} are promoted to {@link NumericTier#BIG BIG} ({@link BigInteger}) parts. Results are always normalized to
+ * the smallest tier that fits, so a value that shrinks back into range returns to the cheaper path.
+ * <p>
+ * The operations follow the formulas of {@link ComplexNumber}, including the truncating division, but never wrap
+ * around: every result is the exact value of the formula.
+ */
+public final class TieredComplexNumber {
+    private final NumericTier tier;  // Smallest tier holding both parts
+    private final long re;  // Real part, for the INT and LONG tiers
+    private final long im;  // Imaginary part, for the INT and LONG tiers
+    private final BigInteger bigRe;  // Real part, for the BIG tier
+    private final BigInteger bigIm;  // Imaginary part, for the BIG tier
+
+    /**
+     * Constructs a complex number on the {@link NumericTier#INT INT} or {@link NumericTier#LONG LONG} tier.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     */
+    private TieredComplexNumber(long re, long im) {
+        this.tier = fitsInt(re) && fitsInt(im) ? NumericTier.INT : NumericTier.LONG;
+        this.re = re;
+        this.im = im;
+        this.bigRe = null;
+        this.bigIm = null;
+    }
+
+    /**
+     * Constructs a complex number on the {@link NumericTier#BIG BIG} tier.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     */
+    private TieredComplexNumber(BigInteger re, BigInteger im) {
+        this.tier = NumericTier.BIG;
+        this.re = 0;
+        this.im = 0;
+        this.bigRe = re;
+        this.bigIm = im;
+    }
+
+    /**
+     * Returns the complex number with the given parts, on the smallest tier that holds them.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     * @return the complex number
+     */
+    public static TieredComplexNumber valueOf(long re, long im) {
+        return new TieredComplexNumber(re, im);
+    }
+
+    /**
+     * Returns the complex number with the given parts, on the smallest tier that holds them.
+     *
+     * @param re the real part
+     * @param im the imaginary part
+     * @return the complex number
+     */
+    public static TieredComplexNumber valueOf(@NotNull BigInteger re, @NotNull BigInteger im) {
+        if (re.bitLength() < Long.SIZE && im.bitLength() < Long.SIZE) {
+            return new TieredComplexNumber(re.longValue(), im.longValue());
+        }
+
+        return new TieredComplexNumber(re, im);
+    }
+
+    /**
+     * Returns the exact complex number with the same parts as the given {@code int} complex number.
+     *
+     * @param value the {@code int} complex number
+     * @return the complex number, on the {@link NumericTier#INT INT} tier
+     */
+    public static TieredComplexNumber valueOf(@NotNull ComplexNumber value) {
+        return new TieredComplexNumber(value.getRe(), value.getIm());
+    }
+
+    /**
+     * Returns the tier on which this complex number is stored.
+     *
+     * @return the tier
+     */
+    public NumericTier getTier() {
+        return tier;
+    }
+
+    /**
+     * Returns the real part of this complex number.
+     *
+     * @return the real part
+     */
+    public BigInteger getReal() {
+        return tier == NumericTier.BIG ? bigRe : BigInteger.valueOf(re);
+    }
+
+    /**
+     * Returns the imaginary part of this complex number.
+     *
+     * @return the imaginary part
+     */
+    public BigInteger getImaginary() {
+        return tier == NumericTier.BIG ? bigIm : BigInteger.valueOf(im);
+    }
+
+    /**
+     * Adds this complex number to another complex number.
+     *
+     * @param other the complex number to add
+     * @return a new complex number representing the exact sum
+     */
+    public TieredComplexNumber add(@NotNull TieredComplexNumber other) {
+        if (tier == NumericTier.INT && other.tier == NumericTier.INT) {
+            return new TieredComplexNumber(re + other.re, im + other.im);
+        }
+
+        if (tier != NumericTier.BIG && other.tier != NumericTier.BIG) {
+            try {
+                return new TieredComplexNumber(Math.addExact(re, other.re), Math.addExact(im, other.im));
+            } catch (ArithmeticException overflow) {
+                // Promote to the BIG tier below
+            }
+        }
+
+        return valueOf(getReal().add(other.getReal()), getImaginary().add(other.getImaginary()));
+    }
+
+    /**
+     * Subtracts another complex number from this complex number.
+     *
+     * @param other the complex number to subtract
+     * @return a new complex number representing the exact difference
+     */
+    public TieredComplexNumber subtract(@NotNull TieredComplexNumber other) {
+        if (tier == NumericTier.INT && other.tier == NumericTier.INT) {
+            return new TieredComplexNumber(re - other.re, im - other.im);
+        }
+
+        if (tier != NumericTier.BIG && other.tier != NumericTier.BIG) {
+            try {
+                return new TieredComplexNumber(Math.subtractExact(re, other.re), Math.subtractExact(im, other.im));
+            } catch (ArithmeticException overflow) {
+                // Promote to the BIG tier below
+            }
+        }
+
+        return valueOf(getReal().subtract(other.getReal()), getImaginary().subtract(other.getImaginary()));
+    }
+
+    /**
+     * Multiplies this complex number by another complex number.
+     *
+     * @param other the complex number to multiply by
+     * @return a new complex number representing the exact product
+     */
+    public TieredComplexNumber multiply(@NotNull TieredComplexNumber other) {
+        // Products of int parts lie in [-2^62 + 2^31, 2^62], so the real part cannot overflow a long; the imaginary
+        // part only does when it sums two 2^62 products, which wraps around to exactly Long.MIN_VALUE and is promoted
+        // by the checked path below
+        if (tier == NumericTier.INT && other.tier == NumericTier.INT) {
+            long imaginaryPart = re * other.im + im * other.re;
+
+            if (imaginaryPart != Long.MIN_VALUE) {
+                return new TieredComplexNumber(re * other.re - im * other.im, imaginaryPart);
+            }
+        }
+
+        if (tier != NumericTier.BIG && other.tier != NumericTier.BIG) {
+            try {
+                long realPart = Math.subtractExact(Math.multiplyExact(re, other.re), Math.multiplyExact(im, other.im));
+                long imaginaryPart = Math.addExact(Math.multiplyExact(re, other.im), Math.multiplyExact(im, other.re));
+
+                return new TieredComplexNumber(realPart, imaginaryPart);
+            } catch (ArithmeticException overflow) {
+                // Promote to the BIG tier below
+            }
+        }
+
+        BigInteger a = getReal();
+        BigInteger b = getImaginary();
+        BigInteger c = other.getReal();
+        BigInteger d = other.getImaginary();
+
+        return valueOf(a.multiply(c).subtract(b.multiply(d)), a.multiply(d).add(b.multiply(c)));
+    }
+
+    /**
+     * Divides this complex number by another complex number, truncating each part of the quotient towards zero like
+     * {@link ComplexNumber#divide(ComplexNumber)}.
+     *
+     * @param other the complex number to divide by
+     * @return a new complex number representing the truncated quotient
+     * @throws ArithmeticException if attempting to divide by zero
+     */
+    public TieredComplexNumber divide(@NotNull TieredComplexNumber other) {
+        if (other.isZero()) {
+            throw new ArithmeticException("Division by zero");
+        }
+
+        if (tier != NumericTier.BIG && other.tier != NumericTier.BIG) {
+            try {
+                long denominator = Math.addExact(Math.multiplyExact(other.re, other.re),
+                        Math.multiplyExact(other.im, other.im));
+                long realPart = Math.addExact(Math.multiplyExact(re, other.re), Math.multiplyExact(im, other.im));
+                long imaginaryPart = Math.subtractExact(Math.multiplyExact(im, other.re),
+                        Math.multiplyExact(re, other.im));
+
+                return new TieredComplexNumber(realPart / denominator, imaginaryPart / denominator);
+            } catch (ArithmeticException overflow) {
+                // Promote to the BIG tier below
+            }
+        }
+
+        BigInteger a = getReal();
+        BigInteger b = getImaginary();
+        BigInteger c = other.getReal();
+        BigInteger d = other.getImaginary();
+        BigInteger denominator = c.multiply(c).add(d.multiply(d));
+
+        // BigInteger division truncates towards zero, like long division
+        return valueOf(a.multiply(c).add(b.multiply(d)).divide(denominator),
+                b.multiply(c).subtract(a.multiply(d)).divide(denominator));
+    }
+
+    /**
+     * Raises this complex number to the power of another complex number by binary exponentiation, exactly. A negative
+     * exponent gives the reciprocal of the power, truncated like {@link #divide(TieredComplexNumber)}.
+     *
+     * @param exponent the exponent, a real integer in the range of an {@code int}
+     * @return a new complex number representing the exact power
+     * @throws ArithmeticException if the exponent is not a real integer in the range of an {@code int}, if it is
+     *                             negative and this complex number is zero, or if the power is estimated to exceed
+     *                             {@link ComplexArithmetic#MAX_POWER_BITS}
+     */
+    public TieredComplexNumber power(@NotNull TieredComplexNumber exponent) {
+        if (exponent.tier != NumericTier.INT || exponent.im != 0) {
+            throw new ArithmeticException("Exponent must be a real integer in the int range: " + exponent);
+        }
+
+        // The parts of z^n have at most n times the bits of the parts of z, but the powers of 0, 1, -1, i and -i stay
+        // small whatever n is
+        boolean unit = tier == NumericTier.INT && Math.abs(re) + Math.abs(im) <= 1;
+        long bits = (long) bitLength() * Math.abs(exponent.re);
+
+        if (!unit && bits > ComplexArithmetic.MAX_POWER_BITS) {
+            throw new ArithmeticException("Power too large: about " + bits + " bits, above the limit of "
+                    + ComplexArithmetic.MAX_POWER_BITS);
+        }
+
+        TieredComplexNumber result = valueOf(1, 0);
+        TieredComplexNumber base = this;
+
+        for (long remaining = Math.abs(exponent.re); remaining > 0; remaining >>= 1) {
+            if ((remaining & 1) != 0) {
+                result = result.multiply(base);
+            }
+
+            // Skip the last squaring, whose result would be discarded and is the largest
+            if (remaining > 1) {
+                base = base.multiply(base);
+            }
+        }
+
+        return exponent.re >= 0 ? result : valueOf(1, 0).divide(result);
+    }
+
+    /**
+     * Returns the conjugate of this complex number.
+     *
+     * @return a new complex number representing the conjugate
+     */
+    public TieredComplexNumber conjugate() {
+        if (tier != NumericTier.BIG && im != Long.MIN_VALUE) {
+            return new TieredComplexNumber(re, -im);
+        }
+
+        return valueOf(getReal(), getImaginary().negate());
+    }
+
+    /**
+     * Converts this complex number to an {@code int} complex number.
+     *
+     * @return the {@link ComplexNumber} with the same parts
+     * @throws ArithmeticException if a part does not fit in an {@code int}
+     */
+    public ComplexNumber toComplexNumber() {
+        if (tier != NumericTier.INT) {
+            throw new ArithmeticException("Value out of int range: " + this);
+        }
+
+        return new ComplexNumber((int) re, (int) im);
+    }
+
+    /**
+     * Checks if this complex number is zero.
+     *
+     * @return true if both parts are zero, false otherwise
+     */
+    public boolean isZero() {
+        // Values on the BIG tier never fit in a long, so they are never zero
+        return tier != NumericTier.BIG && re == 0 && im == 0;
+    }
+
+    /**
+     * Checks if this complex number is equal to another object.
+     *
+     * @param other the object to compare with
+     * @return true if the other object is a tiered complex number with the same parts, false otherwise
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (!(other instanceof TieredComplexNumber number) || tier != number.tier) {
+            return false;
+        }
+
+        return tier == NumericTier.BIG ? bigRe.equals(number.bigRe) && bigIm.equals(number.bigIm)
+                : re == number.re && im == number.im;
+    }
+
+    /**
+     * Returns a hash code consistent with {@link #equals(Object)}.
+     *
+     * @return the hash code of the complex number
+     */
+    @Override
+    public int hashCode() {
+        return tier == NumericTier.BIG ? 31 * bigRe.hashCode() + bigIm.hashCode()
+                : 31 * Long.hashCode(re) + Long.hashCode(im);
+    }
+
+    /**
+     * Returns a string representation of the complex number.
+     *
+     * @return a string in the form "a+b*i" or "a-b*i"
+     */
+    @Override
+    public String toString() {
+        if (tier == NumericTier.BIG) {
+            return bigRe + (bigIm.signum() >= 0 ? "+" : "-") + bigIm.abs() + "*i";
+        }
+
+        // Formatted through the string of the imaginary part, since -Long.MIN_VALUE does not fit in a long
+        String imaginary = Long.toString(im);
+
+        return re + (im >= 0 ? "+" + imaginary : imaginary) + "*i";
+    }
+
+    /**
+     * Returns the number of bits of the larger part of this complex number, excluding the sign bit, like
+     * {@link BigInteger#bitLength()}.
+     *
+     * @return the bit length of the larger part
+     */
+    private int bitLength() {
+        if (tier == NumericTier.BIG) {
+            return Math.max(bigRe.bitLength(), bigIm.bitLength());
+        }
+
+        // Complementing negative parts gives the bit length of BigInteger, and the bits of either part give the larger
+        return Long.SIZE - Long.numberOfLeadingZeros((re ^ (re >> 63)) | (im ^ (im >> 63)));
+    }
+
+    /**
+     * Checks if the given value fits in an {@code int}.
+     *
+     * @param value the value to check
+     * @return true if the value fits in an {@code int}, false otherwise
+     */
+    private static boolean fitsInt(long value) {
+        return value == (int) value;
+    }
+}
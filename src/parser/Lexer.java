@@ -0,0 +1,366 @@
+package parser;
+
+import enums.TokenType;
+import numeric.TieredComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigInteger;
+
+/**
+ * Hand-written, single-pass lexer for complex number expressions.
+ * <p>
+ * The input is given as one or more character sequences (e.g. the CLI arguments); the boundary between two sequences
+ * acts as whitespace. The lexer scans characters directly and exposes the current token through its accessors instead
+ * of allocating token objects, and numeric literals are accumulated digit by digit without creating substrings.
+ * <p>
+ * A complex number literal has the form {@code a+b*i} or {@code a-b*i} with no whitespace inside, and may also be
+ * written as a real number {@code a} or as an imaginary number {@code b*i}. A leading sign belongs to the literal when
+ * it appears where an operand is expected, so {@code -2+1*i} is a single literal while {@code 5 - 2} is a subtraction.
+ * Since a power binds tighter than the product and the sum a literal stands for, a literal never spans a power: the
+ * suffix {@code *i} is left out of a literal followed by {@code ^}, so {@code 3*i^2} is {@code 3*(i^2)}, and an
+ * exponent is only the integer after the {@code ^}, so {@code 2^3*i} is {@code (2^3)*i}.
+ * Literals are exact: parts that fit in a {@code long} are accumulated without allocation, and larger parts are parsed
+ * as {@link BigInteger}, so every literal starts on the smallest tier of {@link TieredComplexNumber} that holds it.
+ * <p>
+ * Identifiers (a letter followed by letters, digits or underscores) are variables, except for the single letter
+ * {@code i}, which denotes the imaginary unit.
+ */
+public class Lexer {
+
+    /** The literal of the imaginary unit {@code i} */
+    private static final TieredComplexNumber IMAGINARY_UNIT = TieredComplexNumber.valueOf(0, 1);
+
+    private final CharSequence[] segments;  // Input character sequences
+    private int segmentIndex;  // Index of the sequence being scanned
+    private int position;  // Position of the next character in the sequence being scanned
+    private int segmentOffset;  // Offset of the sequence being scanned in the whole input, for error messages
+
+    private TokenType type;  // Type of the current token
+    private int tokenOffset;  // Offset of the current token in the whole input
+    private TieredComplexNumber number;  // Value of the current number token
+    private boolean negated;  // Whether a leading minus negates the whole current number token
+    private long part;  // Value of the last scanned integer, if it fits in a long
+    private BigInteger bigPart;  // Value of the last scanned integer if it does not fit in a long, null otherwise
+    private String name;  // Name of the current variable token
+
+    /**
+     * Constructs a lexer over a single character sequence.
+     *
+     * @param input the expression to scan
+     */
+    public Lexer(@NotNull CharSequence input) {
+        this(new CharSequence[]{input});
+    }
+
+    /**
+     * Constructs a lexer over several character sequences separated by implicit whitespace.
+     *
+     * @param segments the parts of the expression to scan
+     */
+    public Lexer(CharSequence @NotNull [] segments) {
+        this.segments = segments;
+    }
+
+    /**
+     * Returns the type of the current token.
+     *
+     * @return the type of the current token, or {@code null} before the first call to {@link #next()}
+     */
+    public TokenType type() {
+        return type;
+    }
+
+    /**
+     * Returns the exact value of the current {@link TokenType#NUMBER} token.
+     *
+     * @return the value of the literal
+     */
+    public TieredComplexNumber number() {
+        return number;
+    }
+
+    /**
+     * Indicates whether the current {@link TokenType#NUMBER} token starts with a minus sign that negates the whole
+     * literal, as in {@code -2} or {@code -3*i}, unlike {@code -2+3*i}, where the sign only belongs to the real part.
+     *
+     * @return true if the literal is the negation of the literal without its leading minus, false otherwise
+     */
+    public boolean isNegated() {
+        return negated;
+    }
+
+    /**
+     * Returns the name of the current {@link TokenType#VARIABLE} token.
+     *
+     * @return the variable name
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the offset of the current token in the whole input, counting one separator between sequences.
+     *
+     * @return the offset of the current token
+     */
+    public int offset() {
+        return tokenOffset;
+    }
+
+    /**
+     * Advances to the next token.
+     *
+     * @return the type of the new current token
+     * @throws IllegalArgumentException if the input contains an invalid character or a malformed number
+     */
+    public TokenType next() {
+        // An operand is expected at the start, after an operator and after an opening parenthesis
+        boolean operandExpected = type == null || (type != TokenType.NUMBER && type != TokenType.VARIABLE
+                && type != TokenType.RIGHT_PARENTHESIS);
+
+        skipWhitespace();
+        tokenOffset = segmentOffset + position;
+
+        if (segmentIndex == segments.length) {
+            return type = TokenType.END;
+        }
+
+        CharSequence segment = segments[segmentIndex];
+        char c = segment.charAt(position);
+
+        if (isDigit(c) || (operandExpected && (c == '+' || c == '-') && isDigit(segment, position + 1))) {
+            negated = c == '-';
+            scanNumber(segment, type == TokenType.CARET);
+            return type = TokenType.NUMBER;
+        }
+
+        if (Character.isLetter(c)) {
+            negated = false;
+            return type = scanIdentifier(segment);
+        }
+
+        position++;
+
+        return type = switch (c) {
+            case '+' -> TokenType.PLUS;
+            case '-' -> TokenType.MINUS;
+            case '*' -> TokenType.STAR;
+            case '/' -> TokenType.SLASH;
+            case '^' -> TokenType.CARET;
+            case '(' -> TokenType.LEFT_PARENTHESIS;
+            case ')' -> TokenType.RIGHT_PARENTHESIS;
+            default -> throw new IllegalArgumentException("Invalid input format: unexpected '" + c + "' at position "
+                    + tokenOffset);
+        };
+    }
+
+    /**
+     * Skips whitespace and exhausted sequences.
+     */
+    private void skipWhitespace() {
+        while (segmentIndex < segments.length) {
+            CharSequence segment = segments[segmentIndex];
+
+            while (position < segment.length() && Character.isWhitespace(segment.charAt(position))) {
+                position++;
+            }
+
+            if (position < segment.length()) {
+                return;
+            }
+
+            // Move to the next sequence, counting one separator between sequences
+            segmentOffset += segment.length() + 1;
+            segmentIndex++;
+            position = 0;
+        }
+    }
+
+    /**
+     * Scans a complex number literal starting at the current position and stores its value.
+     *
+     * @param segment the sequence being scanned
+     * @param exponent whether the literal directly follows a {@code ^}, in which case only its integer is scanned
+     */
+    private void scanNumber(CharSequence segment, boolean exponent) {
+        scanInteger(segment);
+        long first = part;
+        BigInteger bigFirst = bigPart;
+
+        // The power binds tighter than the rest of the literal: 2^3*i is (2^3)*i and 2^2+3*i is (2^2)+3*i
+        if (exponent) {
+            number = literal(first, bigFirst, 0, null);
+            return;
+        }
+
+        // Imaginary literal: b*i, unless a power follows, which only applies to i: 3*i^2 is 3*(i^2)
+        if (isImaginaryUnit(segment, position) && !isCaret(position + 2)) {
+            position += 2;
+            number = literal(0, null, first, bigFirst);
+            return;
+        }
+
+        // Complex literal: a+b*i or a-b*i; otherwise the sign is an operator and the literal is a real number
+        number = literal(first, bigFirst, 0, null);
+
+        if (position < segment.length() && (segment.charAt(position) == '+' || segment.charAt(position) == '-')
+                && isDigit(segment, position + 1)) {
+            int mark = position;
+            scanInteger(segment);
+
+            // Otherwise 1+1*i^2 is 1+1*(i^2), and the sign is an operator
+            if (isImaginaryUnit(segment, position) && !isCaret(position + 2)) {
+                position += 2;
+                number = literal(first, bigFirst, part, bigPart);
+                negated = false;
+            } else {
+                position = mark;
+            }
+        }
+    }
+
+    /**
+     * Scans an identifier starting at the current position.
+     *
+     * @param segment the sequence being scanned
+     * @return {@link TokenType#NUMBER} for the imaginary unit {@code i}, {@link TokenType#VARIABLE} otherwise
+     */
+    private TokenType scanIdentifier(CharSequence segment) {
+        int start = position;
+
+        while (position < segment.length() && isIdentifierPart(segment.charAt(position))) {
+            position++;
+        }
+
+        if (position - start == 1 && segment.charAt(start) == 'i') {
+            number = IMAGINARY_UNIT;
+            return TokenType.NUMBER;
+        }
+
+        name = segment.subSequence(start, position).toString();
+
+        return TokenType.VARIABLE;
+    }
+
+    /**
+     * Scans an optionally signed decimal integer starting at the current position, and stores its value in
+     * {@link #part}, or in {@link #bigPart} if it does not fit in a {@code long}.
+     *
+     * @param segment the sequence being scanned
+     */
+    private void scanInteger(CharSequence segment) {
+        int start = position;
+        boolean negative = false;
+        char c = segment.charAt(position);
+
+        if (c == '+' || c == '-') {
+            negative = c == '-';
+            position++;
+        }
+
+        // Accumulate the negated value, since the range of negative longs is the larger one
+        long value = 0;
+        boolean overflow = false;
+
+        while (position < segment.length() && isDigit(segment.charAt(position))) {
+            int digit = segment.charAt(position++) - '0';
+
+            if (!overflow && value < (Long.MIN_VALUE + digit) / 10) {
+                overflow = true;
+            }
+            value = value * 10 - digit;
+        }
+
+        if (overflow || (!negative && value == Long.MIN_VALUE)) {
+            part = 0;
+            bigPart = new BigInteger(segment.subSequence(start, position).toString());
+        } else {
+            part = negative ? value : -value;
+            bigPart = null;
+        }
+    }
+
+    /**
+     * Returns the literal with the given parts, each given either as a {@code long} or as a {@link BigInteger}.
+     *
+     * @param re the real part, if it fits in a long
+     * @param bigRe the real part if it does not fit in a long, null otherwise
+     * @param im the imaginary part, if it fits in a long
+     * @param bigIm the imaginary part if it does not fit in a long, null otherwise
+     * @return the literal, on the smallest tier that holds it
+     */
+    private static TieredComplexNumber literal(long re, BigInteger bigRe, long im, BigInteger bigIm) {
+        if (bigRe == null && bigIm == null) {
+            return TieredComplexNumber.valueOf(re, im);
+        }
+
+        return TieredComplexNumber.valueOf(bigRe != null ? bigRe : BigInteger.valueOf(re),
+                bigIm != null ? bigIm : BigInteger.valueOf(im));
+    }
+
+    /**
+     * Checks if the imaginary unit suffix {@code *i} starts at the given position and ends the literal.
+     *
+     * @param segment the sequence being scanned
+     * @param index the position to check
+     * @return true if the suffix is present, false otherwise
+     */
+    private static boolean isImaginaryUnit(CharSequence segment, int index) {
+        return index + 1 < segment.length() && segment.charAt(index) == '*' && segment.charAt(index + 1) == 'i'
+                && (index + 2 == segment.length() || !isIdentifierPart(segment.charAt(index + 2)));
+    }
+
+    /**
+     * Checks if the next character from the given position of the sequence being scanned, skipping whitespace and
+     * sequence boundaries, is a {@code ^}.
+     *
+     * @param index the position in the sequence being scanned
+     * @return true if the next non-whitespace character is a caret, false otherwise
+     */
+    private boolean isCaret(int index) {
+        for (int i = segmentIndex; i < segments.length; i++, index = 0) {
+            CharSequence segment = segments[i];
+
+            while (index < segment.length() && Character.isWhitespace(segment.charAt(index))) {
+                index++;
+            }
+
+            if (index < segment.length()) {
+                return segment.charAt(index) == '^';
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if the character can continue an identifier.
+     *
+     * @param c the character to check
+     * @return true if the character is a letter, a digit or an underscore, false otherwise
+     */
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Checks if the character at the given position is a decimal digit.
+     *
+     * @param segment the sequence to check
+     * @param index the position to check
+     * @return true if the position is inside the sequence and holds a digit, false otherwise
+     */
+    private static boolean isDigit(CharSequence segment, int index) {
+        return index < segment.length() && isDigit(segment.charAt(index));
+    }
+
+    /**
+     * Checks if the character is a decimal digit.
+     *
+     * @param c the character to check
+     * @return true if the character is a digit, false otherwise
+     */
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -0,0 +1,241 @@
+package parser;
+
+import enums.Operation;
+import enums.TokenType;
+import nodes.ExpressionNode;
+import nodes.NumberNode;
+import nodes.OperationNode;
+import nodes.VariableNode;
+import numeric.TieredComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precedence-climbing (Pratt) parser building an expression tree from the tokens of a {@link Lexer}.
+ * <p>
+ * Powers bind tightest, then multiplication and division, then addition and subtraction, and parentheses group
+ * sub-expressions. Powers associate to the right, so {@code a ^ b ^ c} is {@code a ^ (b ^ c)}, and bind tighter than a
+ * unary minus, so {@code -z ^ 2} is {@code -(z ^ 2)}; the leading minus of a literal such as {@code -2} binds the same
+ * way when a power follows, so {@code -2 ^ 2} is {@code -(2 ^ 2)}. The other operators associate to the left.
+ * Consecutive applications of the same left-associative operation at the same level are collected into a single
+ * {@link OperationNode}, so a long chain such as {@code a + b + c + ...} produces one node with many operands rather
+ * than a deeply nested tree, while every power is a node with two operands.
+ * <p>
+ * Parentheses, signs and powers nest sub-expressions, and the parser and the evaluators recurse once per nesting level;
+ * inputs nested deeper than {@link #MAX_NESTING_DEPTH} levels are rejected rather than risking a stack overflow. So are
+ * trees deeper than that many nodes, which alternating operations such as {@code 1 - 2 + 3 - 4 + ...} build without
+ * any nesting in the input.
+ */
+public class Parser {
+
+    /** Precedence of addition and subtraction */
+    private static final int ADDITIVE_PRECEDENCE = 1;
+
+    /** Precedence of multiplication and division */
+    private static final int MULTIPLICATIVE_PRECEDENCE = 2;
+
+    /** Precedence of raising to a power */
+    private static final int POWER_PRECEDENCE = 3;
+
+    /** Maximum number of nested sub-expressions accepted in an input, and maximum depth of the built tree */
+    public static final int MAX_NESTING_DEPTH = 256;
+
+    /** The zero literal used to express unary negation as a subtraction */
+    private static final NumberNode ZERO = new NumberNode(TieredComplexNumber.valueOf(0, 0));
+
+    private final Lexer lexer;  // Source of tokens
+
+    /**
+     * Constructs a parser reading tokens from the given lexer.
+     *
+     * @param lexer the source of tokens
+     */
+    public Parser(@NotNull Lexer lexer) {
+        this.lexer = lexer;
+    }
+
+    /**
+     * Parses the whole input into an expression tree.
+     *
+     * @return the root of the expression tree
+     * @throws IllegalArgumentException if the input is not a valid expression
+     */
+    public ExpressionNode parse() {
+        lexer.next();
+        ExpressionNode root = parseExpression(ADDITIVE_PRECEDENCE, 1);
+
+        if (lexer.type() != TokenType.END) {
+            throw unexpectedToken();
+        }
+
+        return root;
+    }
+
+    /**
+     * Parses an expression whose binary operators all have at least the given precedence.
+     *
+     * @param minPrecedence the minimum precedence of the operators consumed by this call
+     * @param depth the nesting depth of the expression, 1 for the whole input
+     * @return the root of the parsed sub-tree
+     * @throws IllegalArgumentException if the expression is nested deeper than {@link #MAX_NESTING_DEPTH} levels
+     */
+    private ExpressionNode parseExpression(int minPrecedence, int depth) {
+        if (depth > MAX_NESTING_DEPTH) {
+            throw new IllegalArgumentException("Expression nested too deeply");
+        }
+
+        ExpressionNode left = parseOperand(depth);
+
+        // Operands of the chain of the same operation currently being collected
+        Operation chainOperation = null;
+        List<ExpressionNode> chain = null;
+
+        while (true) {
+            Operation operation = binaryOperation(lexer.type());
+            if (operation == null || precedence(operation) < minPrecedence) {
+                break;
+            }
+
+            // The right operand of a right-associative operator takes in the following operators of the same
+            // precedence, so a chain of powers never continues at this level
+            lexer.next();
+            ExpressionNode right = parseExpression(operation == Operation.POWER ? POWER_PRECEDENCE
+                    : precedence(operation) + 1, depth + 1);
+
+            if (operation == chainOperation) {
+                chain.add(right);
+            } else {
+                // Close the previous chain, which becomes the first operand of the new one
+                if (chain != null) {
+                    left = operation(chainOperation, chain);
+                }
+
+                chainOperation = operation;
+                chain = new ArrayList<>();
+                chain.add(left);
+                chain.add(right);
+            }
+        }
+
+        return chain == null ? left : operation(chainOperation, chain);
+    }
+
+    /**
+     * Parses an operand: a number, a variable, a parenthesized expression or a signed operand.
+     *
+     * @param depth the nesting depth of the expression containing the operand
+     * @return the root of the parsed sub-tree
+     */
+    private ExpressionNode parseOperand(int depth) {
+        // Unary pluses do not change the operand, so any number of them is skipped without nesting
+        while (lexer.type() == TokenType.PLUS) {
+            lexer.next();
+        }
+
+        switch (lexer.type()) {
+            case NUMBER -> {
+                TieredComplexNumber literal = lexer.number();
+                boolean negated = lexer.isNegated();
+                lexer.next();
+
+                // Like a unary minus, the sign of a negated literal applies to the whole power: -2^2 is -(2^2)
+                if (negated && lexer.type() == TokenType.CARET) {
+                    lexer.next();
+                    ExpressionNode power = operation(Operation.POWER, List.of(
+                            new NumberNode(TieredComplexNumber.valueOf(0, 0).subtract(literal)),
+                            parseExpression(POWER_PRECEDENCE, depth + 1)));
+
+                    return operation(Operation.SUBTRACTION, List.of(ZERO, power));
+                }
+
+                return new NumberNode(literal);
+            }
+            case VARIABLE -> {
+                ExpressionNode variable = new VariableNode(lexer.name());
+                lexer.next();
+
+                return variable;
+            }
+            case LEFT_PARENTHESIS -> {
+                lexer.next();
+                ExpressionNode inner = parseExpression(ADDITIVE_PRECEDENCE, depth + 1);
+
+                if (lexer.type() != TokenType.RIGHT_PARENTHESIS) {
+                    throw unexpectedToken();
+                }
+                lexer.next();
+
+                return inner;
+            }
+            case MINUS -> {
+                lexer.next();
+
+                return operation(Operation.SUBTRACTION, List.of(ZERO, parseExpression(POWER_PRECEDENCE, depth + 1)));
+            }
+            default -> throw unexpectedToken();
+        }
+    }
+
+    /**
+     * Creates the node applying the given operation on the given operands.
+     *
+     * @param operation the operation applied on the operands
+     * @param operands the operands, in evaluation order
+     * @return the new node
+     * @throws IllegalArgumentException if the tree rooted at the node is deeper than {@link #MAX_NESTING_DEPTH}
+     */
+    private static OperationNode operation(Operation operation, List<ExpressionNode> operands) {
+        OperationNode node = new OperationNode(operation, operands);
+
+        if (node.getDepth() > MAX_NESTING_DEPTH) {
+            throw new IllegalArgumentException("Expression nested too deeply");
+        }
+
+        return node;
+    }
+
+    /**
+     * Returns the binary operation denoted by the given token type.
+     *
+     * @param type the token type
+     * @return the operation, or {@code null} if the token is not a binary operator
+     */
+    private static Operation binaryOperation(TokenType type) {
+        return switch (type) {
+            case PLUS -> Operation.ADDITION;
+            case MINUS -> Operation.SUBTRACTION;
+            case STAR -> Operation.MULTIPLICATION;
+            case SLASH -> Operation.DIVISION;
+            case CARET -> Operation.POWER;
+            default -> null;
+        };
+    }
+
+    /**
+     * Returns the precedence of the given binary operation.
+     *
+     * @param operation the operation
+     * @return the precedence, higher binding tighter
+     */
+    private static int precedence(@NotNull Operation operation) {
+        return switch (operation) {
+            case ADDITION, SUBTRACTION -> ADDITIVE_PRECEDENCE;
+            case MULTIPLICATION, DIVISION -> MULTIPLICATIVE_PRECEDENCE;
+            case POWER -> POWER_PRECEDENCE;
+        };
+    }
+
+    /**
+     * Creates the exception reported when the current token is not allowed at its position.
+     *
+     * @return the exception to throw
+     */
+    private IllegalArgumentException unexpectedToken() {
+        String found = lexer.type() == TokenType.END ? "end of input" : lexer.type().name().toLowerCase();
+
+        return new IllegalArgumentException("Invalid input format: unexpected " + found + " at position "
+                + lexer.offset());
+    }
+}
@@ -0,0 +1,51 @@
+package server;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory for the executor running one task per client connection.
+ */
+final class ConnectionExecutors {
+
+    /** Prefix of the names of the platform threads used when virtual threads are unavailable */
+    private static final String THREAD_NAME_PREFIX = "evaluation-connection-";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ConnectionExecutors() {}
+
+    /**
+     * Creates an executor starting a new virtual thread per task if the runtime supports virtual threads, otherwise an
+     * executor of daemon platform threads that are reused between connections (a {@link ThreadPoolExecutor}).
+     *
+     * @return the executor for connection tasks
+     */
+    static ExecutorService newPerConnectionExecutor() {
+        try {
+            // Looked up reflectively so that the server also runs on releases without virtual threads
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return Executors.newCachedThreadPool(new DaemonThreadFactory());
+        }
+    }
+
+    /**
+     * Thread factory creating named daemon platform threads.
+     */
+    private static class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();  // Number of threads created so far
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, THREAD_NAME_PREFIX + count.incrementAndGet());
+            thread.setDaemon(true);
+
+            return thread;
+        }
+    }
+}
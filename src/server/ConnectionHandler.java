@@ -0,0 +1,206 @@
+package server;
+
+import enums.NumericMode;
+import models.ExpressionParser;
+import numeric.ComplexArithmetic;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.Locale;
+
+/**
+ * Task serving the requests of a single client connection, in order.
+ * <p>
+ * Requests are read through a reused buffer, and the responses to every complete request of a read are written back
+ * together, so a client pipelining many requests gets them answered with few writes. The connection ends when the
+ * client closes it or when the server shuts its input down; requests already received are still answered.
+ */
+final class ConnectionHandler implements Runnable {
+
+    /** Size of the input and output buffers, in bytes */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final EvaluationServer server;  // Server owning the connection
+    private final SocketChannel channel;  // Connection to the client
+    private final ExpressionParser parser;  // Parser used to evaluate each request
+    private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);  // Bytes read from the client
+    private final ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);  // Responses not yet written to the client
+    private final StringBuilder line = new StringBuilder();  // Request being received
+    private NumericMode mode;  // Numeric mode of the connection
+    private ComplexArithmetic<?> arithmetic;  // Arithmetic of the numeric mode
+
+    /**
+     * Constructs a handler for the given connection.
+     *
+     * @param server the server owning the connection
+     * @param channel the connection to the client
+     */
+    ConnectionHandler(EvaluationServer server, SocketChannel channel) {
+        this.server = server;
+        this.channel = channel;
+        this.parser = server.getParser();
+        setMode(server.getMode());
+    }
+
+    /**
+     * Serves the requests of the connection until it ends, then releases it.
+     */
+    @Override
+    public void run() {
+        try {
+            serve();
+        } catch (IOException e) {
+            // The client went away; there is nobody left to answer
+        } finally {
+            server.connectionClosed(channel);
+        }
+    }
+
+    /**
+     * Reads requests and writes their responses until the end of the input.
+     *
+     * @throws IOException if reading from or writing to the client fails
+     */
+    private void serve() throws IOException {
+        int maxLineLength = server.getMaxLineLength();
+        boolean overflow = false;  // Whether the current request exceeded the maximum length
+
+        while (channel.read(input) != -1) {
+            input.flip();
+
+            while (input.hasRemaining()) {
+                byte b = input.get();
+
+                if (b == '\n') {
+                    handleRequest(overflow);
+                    line.setLength(0);
+                    overflow = false;
+                } else if (line.length() < maxLineLength) {
+                    line.append((char) (b & 0xFF));
+                } else {
+                    overflow = true;
+                }
+            }
+
+            input.clear();
+
+            // Answer every complete request of this read at once
+            flush();
+        }
+
+        // The last request may not be terminated by a line separator
+        if (line.length() > 0 || overflow) {
+            handleRequest(overflow);
+            flush();
+        }
+    }
+
+    /**
+     * Answers the current request: a {@code MODE <mode>} command or an expression to evaluate.
+     *
+     * @param overflow whether the request exceeded the maximum length
+     * @throws IOException if writing the response fails
+     */
+    private void handleRequest(boolean overflow) throws IOException {
+        // Drop the carriage return of a CRLF line ending
+        if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+
+        if (overflow) {
+            respond(Protocol.ERROR, "Line longer than " + server.getMaxLineLength() + " characters");
+            return;
+        }
+
+        if (Protocol.isModeCommand(line)) {
+            handleModeCommand();
+            return;
+        }
+
+        if (!server.tryAcquireRequest()) {
+            respond(Protocol.ERROR, Protocol.OVERLOADED);
+            return;
+        }
+
+        try {
+            Object result = mode == NumericMode.INTEGER ? parser.parse(line) : parser.parse(line, arithmetic);
+
+            respond(Protocol.OK, result.toString());
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            respond(Protocol.ERROR, String.valueOf(e.getMessage()));
+        } finally {
+            server.releaseRequest();
+        }
+    }
+
+    /**
+     * Switches the numeric mode of the connection as requested by the current {@code MODE} command.
+     *
+     * @throws IOException if writing the response fails
+     */
+    private void handleModeCommand() throws IOException {
+        String name = line.substring(Protocol.MODE_COMMAND.length()).trim();
+
+        try {
+            setMode(NumericMode.valueOf(name.toUpperCase(Locale.ROOT)));
+            respond(Protocol.OK, mode.name().toLowerCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            respond(Protocol.ERROR, "Unknown numeric mode: " + name);
+        }
+    }
+
+    /**
+     * Sets the numeric mode of the connection.
+     *
+     * @param mode the new numeric mode
+     */
+    private void setMode(NumericMode mode) {
+        this.mode = mode;
+        this.arithmetic = ComplexArithmetic.forMode(mode);
+    }
+
+    /**
+     * Queues a response line.
+     *
+     * @param status the status of the response
+     * @param message the result or the error message
+     * @throws IOException if the output buffer fills up and writing it fails
+     */
+    private void respond(String status, String message) throws IOException {
+        write(status);
+        write(message);
+        write("\n");
+    }
+
+    /**
+     * Queues the given characters, writing the output buffer out whenever it fills up.
+     *
+     * @param text the characters to queue, each in the range of a single byte
+     * @throws IOException if writing the output buffer fails
+     */
+    private void write(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            if (!output.hasRemaining()) {
+                flush();
+            }
+
+            output.put((byte) text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes all queued responses to the client.
+     *
+     * @throws IOException if writing fails
+     */
+    private void flush() throws IOException {
+        output.flip();
+
+        while (output.hasRemaining()) {
+            channel.write(output);
+        }
+
+        output.clear();
+    }
+}
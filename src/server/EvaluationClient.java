@@ -0,0 +1,347 @@
+package server;
+
+import enums.NumericMode;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Client of an {@link EvaluationServer}.
+ * <p>
+ * {@link #evaluate(CharSequence)} sends one request and waits for its response. To pipeline requests, {@link #send}
+ * several of them, {@link #flush()}, then {@link #receive()} the responses in the same order; since the server stops
+ * reading while its responses are not consumed, pipelines should be kept to a bounded window of requests. Instances
+ * are not thread-safe.
+ * <p>
+ * A client connected with a timeout gives up with a {@link SocketTimeoutException} when connecting, or any single wait
+ * for the server to accept or answer, takes longer than the timeout, so a process listening on the address without
+ * speaking the protocol cannot block it forever. The timeout can be changed once connected, e.g. to probe for a server
+ * with a short one and then wait longer for evaluations. Requests are ASCII text, like the expressions they hold.
+ */
+public class EvaluationClient implements Closeable {
+
+    /** Size of the input and output buffers, in bytes */
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /** Largest character allowed in a request */
+    private static final char MAX_ASCII = 0x7F;
+
+    private final SocketChannel channel;  // Non-blocking connection to the server
+    private final Selector selector;  // Selector waiting for the connection to be ready
+    private final SelectionKey key;  // Registration of the connection with the selector
+    private long timeoutMillis;  // Maximum time of a single wait for the server, 0 for no limit
+    private final ByteBuffer input = ByteBuffer.allocate(BUFFER_SIZE);  // Bytes received and not yet consumed
+    private final ByteBuffer output = ByteBuffer.allocate(BUFFER_SIZE);  // Requests not yet sent
+    private final StringBuilder line = new StringBuilder();  // Response being received
+
+    /**
+     * Constructs a client over a non-blocking connection that has not finished connecting yet.
+     *
+     * @param channel the non-blocking connection to the server
+     * @param selector the selector the connection is registered with
+     * @param key the registration of the connection with the selector
+     * @param timeoutMillis the maximum time of a single wait for the server, 0 for no limit
+     */
+    private EvaluationClient(SocketChannel channel, Selector selector, SelectionKey key, long timeoutMillis) {
+        this.channel = channel;
+        this.selector = selector;
+        this.key = key;
+        this.timeoutMillis = timeoutMillis;
+        input.flip();
+    }
+
+    /**
+     * Connects to the server at the given address, waiting for the server as long as needed. Connecting to a local
+     * address where no server is running fails immediately.
+     *
+     * @param address the TCP address or Unix-domain socket of the server
+     * @return the connected client
+     * @throws IOException if no server accepts the connection
+     */
+    public static EvaluationClient connect(@NotNull SocketAddress address) throws IOException {
+        return connect(address, 0);
+    }
+
+    /**
+     * Connects to the server at the given address, giving up on any single wait for the server longer than the given
+     * timeout. With a short timeout, this method can be used to probe for a running server.
+     *
+     * @param address the TCP address or Unix-domain socket of the server
+     * @param timeoutMillis the maximum time of connecting and of any single wait for the server, in milliseconds, or
+     *                      0 for no limit
+     * @return the connected client
+     * @throws SocketTimeoutException if the server does not accept the connection in time
+     * @throws IOException if no server accepts the connection
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public static EvaluationClient connect(@NotNull SocketAddress address, long timeoutMillis) throws IOException {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative: " + timeoutMillis);
+        }
+
+        SocketChannel channel = address instanceof UnixDomainSocketAddress
+                ? SocketChannel.open(StandardProtocolFamily.UNIX) : SocketChannel.open();
+        Selector selector = null;
+
+        try {
+            selector = Selector.open();
+            channel.configureBlocking(false);
+
+            EvaluationClient client = new EvaluationClient(channel, selector, channel.register(selector, 0),
+                    timeoutMillis);
+
+            if (!channel.connect(address)) {
+                client.await(SelectionKey.OP_CONNECT);
+                channel.finishConnect();
+            }
+
+            if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            }
+
+            return client;
+        } catch (IOException e) {
+            channel.close();
+
+            if (selector != null) {
+                selector.close();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the maximum time of any further single wait for the server.
+     *
+     * @param timeoutMillis the maximum time of a single wait for the server, in milliseconds, or 0 for no limit
+     * @throws IllegalArgumentException if the timeout is negative
+     */
+    public void setTimeout(long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Timeout must not be negative: " + timeoutMillis);
+        }
+
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Evaluates an expression on the server.
+     *
+     * @param expression the expression to evaluate, on a single line
+     * @return the result of the expression
+     * @throws IllegalArgumentException with the message of the server if the evaluation fails, or if the expression
+     *                                  is not ASCII
+     * @throws IOException if the connection fails, the server does not answer in time or is overloaded
+     */
+    public String evaluate(@NotNull CharSequence expression) throws IOException {
+        send(expression);
+        flush();
+
+        return result(served(receive()));
+    }
+
+    /**
+     * Switches the numeric mode of this connection on the server.
+     *
+     * @param mode the numeric mode of the following evaluations
+     * @throws IOException if the connection fails, the server does not answer in time or is overloaded
+     */
+    public void setMode(@NotNull NumericMode mode) throws IOException {
+        send(Protocol.MODE_COMMAND + mode.name().toLowerCase(Locale.ROOT));
+        flush();
+        result(served(receive()));
+    }
+
+    /**
+     * Queues a request, sending the queued requests whenever the output buffer fills up. Line separators inside the
+     * request are sent as spaces, so the request stays on a single line.
+     *
+     * @param request the request to queue, in ASCII
+     * @throws IllegalArgumentException if the request contains a non-ASCII character; nothing is queued then
+     * @throws IOException if the connection fails
+     */
+    public void send(@NotNull CharSequence request) throws IOException {
+        for (int i = 0; i < request.length(); i++) {
+            if (request.charAt(i) > MAX_ASCII) {
+                throw new IllegalArgumentException("Invalid input format: non-ASCII character at position " + i);
+            }
+        }
+
+        for (int i = 0; i < request.length(); i++) {
+            char c = request.charAt(i);
+            put((byte) (c == '\n' || c == '\r' ? ' ' : c));
+        }
+
+        put((byte) '\n');
+    }
+
+    /**
+     * Sends all queued requests.
+     *
+     * @throws IOException if the connection fails or the server does not read the requests in time
+     */
+    public void flush() throws IOException {
+        output.flip();
+
+        while (output.hasRemaining()) {
+            if (channel.write(output) == 0) {
+                await(SelectionKey.OP_WRITE);
+            }
+        }
+
+        output.clear();
+    }
+
+    /**
+     * Receives the next response line, e.g. {@code OK 3+4*i} or {@code ERR Division by zero}.
+     *
+     * @return the response, without its line separator
+     * @throws EOFException if the server closes the connection before a complete response
+     * @throws SocketTimeoutException if the server does not answer in time
+     * @throws IOException if the connection fails
+     */
+    public String receive() throws IOException {
+        line.setLength(0);
+
+        while (true) {
+            while (input.hasRemaining()) {
+                byte b = input.get();
+
+                if (b == '\n') {
+                    return line.toString();
+                }
+                line.append((char) (b & 0xFF));
+            }
+
+            input.clear();
+            int read = channel.read(input);
+
+            if (read == 0) {
+                await(SelectionKey.OP_READ);
+                read = channel.read(input);
+            }
+            input.flip();
+
+            if (read == -1) {
+                throw new EOFException("Connection closed by the server");
+            }
+        }
+    }
+
+    /**
+     * Extracts the result from a response.
+     *
+     * @param response the response line
+     * @return the result of a successful response
+     * @throws IllegalArgumentException with the message of the server if the response is an error
+     */
+    public static String result(@NotNull String response) {
+        if (response.startsWith(Protocol.OK)) {
+            return response.substring(Protocol.OK.length());
+        }
+
+        if (response.startsWith(Protocol.ERROR)) {
+            throw new IllegalArgumentException(response.substring(Protocol.ERROR.length()));
+        }
+
+        throw new IllegalArgumentException("Invalid response: " + response);
+    }
+
+    /**
+     * Checks if a response rejects its request because the server is overloaded, in which case the request was not
+     * evaluated and may be retried later or evaluated elsewhere.
+     *
+     * @param response the response line
+     * @return true if the server rejected the request because it is overloaded, false otherwise
+     */
+    public static boolean isOverloaded(@NotNull String response) {
+        return response.equals(Protocol.ERROR + Protocol.OVERLOADED);
+    }
+
+    /**
+     * Closes the connection to the server.
+     *
+     * @throws IOException if closing the connection fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            channel.close();
+        } finally {
+            selector.close();
+        }
+    }
+
+    /**
+     * Checks that a response does not reject its request because the server is overloaded.
+     *
+     * @param response the response line
+     * @return the response
+     * @throws IOException if the server rejected the request because it is overloaded
+     */
+    private static String served(@NotNull String response) throws IOException {
+        if (isOverloaded(response)) {
+            throw new IOException("Server " + Protocol.OVERLOADED);
+        }
+
+        return response;
+    }
+
+    /**
+     * Queues a byte, sending the queued requests first if the output buffer is full.
+     *
+     * @param b the byte to queue
+     * @throws IOException if the connection fails
+     */
+    private void put(byte b) throws IOException {
+        if (!output.hasRemaining()) {
+            flush();
+        }
+
+        output.put(b);
+    }
+
+    /**
+     * Waits until the connection is ready for the given operation.
+     *
+     * @param operation the operation, one of the {@link SelectionKey} operation bits
+     * @throws SocketTimeoutException if the connection is not ready within the timeout
+     * @throws IOException if waiting fails
+     */
+    private void await(int operation) throws IOException {
+        key.interestOps(operation);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        // A selection may also end early, e.g. on a spurious wakeup, so wait until the key is actually selected
+        while (selector.select(timeoutMillis == 0 ? 0 : remainingMillis(deadline)) == 0) {
+            if (timeoutMillis != 0 && System.nanoTime() - deadline >= 0) {
+                throw new SocketTimeoutException("Timed out waiting for the server");
+            }
+        }
+
+        selector.selectedKeys().clear();
+    }
+
+    /**
+     * Returns the time left before a deadline, rounded up to whole milliseconds.
+     *
+     * @param deadline the deadline, in {@link System#nanoTime()} units
+     * @return the remaining time, at least one millisecond so that selecting never waits forever
+     */
+    private static long remainingMillis(long deadline) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime() + 999_999));
+    }
+}
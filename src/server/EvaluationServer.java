@@ -0,0 +1,355 @@
+package server;
+
+import enums.NumericMode;
+import models.ExpressionParser;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-running evaluation server, which keeps a warm JVM so that each evaluation avoids the startup and JIT warm-up
+ * cost of a one-shot CLI run.
+ * <p>
+ * The server listens on a local TCP address or Unix-domain socket and speaks a line-delimited protocol: every request
+ * line holds an expression and gets one {@code OK <result>} or {@code ERR <message>} line back, in order, so clients
+ * may pipeline many requests per connection. Each connection is served by its own virtual thread when the runtime
+ * supports them, and by a pooled platform thread otherwise.
+ * <p>
+ * Work is bounded in two ways: connections beyond the maximum are answered {@code ERR overloaded} and closed, and
+ * requests beyond the maximum number of pending evaluations are answered {@code ERR overloaded} without being
+ * evaluated. {@link #close()} shuts the server down gracefully: it stops accepting connections, lets every connection
+ * answer the requests it has already received, and only then closes them.
+ */
+public class EvaluationServer implements Closeable {
+
+    /** Default TCP port of the server */
+    public static final int DEFAULT_PORT = 7878;
+
+    /** Default address of the server, on the loopback interface */
+    public static final String DEFAULT_ADDRESS = "127.0.0.1:" + DEFAULT_PORT;
+
+    /** Default maximum number of simultaneous connections */
+    public static final int DEFAULT_MAX_CONNECTIONS = 1024;
+
+    /**
+     * Default maximum number of requests being evaluated or waiting for a processor at the same time. Each connection
+     * evaluates one request at a time, so this limit is a quarter of the connection limit: beyond it, requests are
+     * rejected while connections are still accepted.
+     */
+    public static final int DEFAULT_MAX_PENDING_REQUESTS = DEFAULT_MAX_CONNECTIONS / 4;
+
+    /** Default maximum accepted request length, in characters */
+    public static final int DEFAULT_MAX_LINE_LENGTH = 1 << 20;
+
+    /** Prefix of the address of a Unix-domain socket */
+    private static final String UNIX_PREFIX = "unix:";
+
+    /** Time given to the connections to finish their requests on shutdown, in milliseconds */
+    private static final long SHUTDOWN_GRACE_MILLIS = 5000;
+
+    private final ExpressionParser parser;  // Parser used to evaluate the requests
+    private final NumericMode mode;  // Initial numeric mode of each connection
+    private final int maxLineLength;  // Maximum accepted request length, in characters
+    private final Semaphore connectionPermits;  // Permits for the simultaneous connections
+    private final Semaphore requestPermits;  // Permits for the pending evaluations
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();  // Open connections
+    private final ExecutorService executor = ConnectionExecutors.newPerConnectionExecutor();  // Connection tasks
+    private ServerSocketChannel listener;  // Listening channel, null before binding
+    private SocketAddress localAddress;  // Address the server is bound to
+    private volatile boolean closed;  // Whether the server has been shut down
+
+    /**
+     * Constructs a server with the default limits.
+     *
+     * @param parser the parser used to evaluate the requests
+     * @param mode the initial numeric mode of each connection
+     */
+    public EvaluationServer(@NotNull ExpressionParser parser, @NotNull NumericMode mode) {
+        this(parser, mode, DEFAULT_MAX_CONNECTIONS, DEFAULT_MAX_PENDING_REQUESTS, DEFAULT_MAX_LINE_LENGTH);
+    }
+
+    /**
+     * Constructs a server with the given limits.
+     *
+     * @param parser the parser used to evaluate the requests
+     * @param mode the initial numeric mode of each connection
+     * @param maxConnections the maximum number of simultaneous connections
+     * @param maxPendingRequests the maximum number of requests being evaluated at the same time, including the ones
+     *                           waiting for a processor; since each connection evaluates one request at a time, it
+     *                           only rejects requests when it is below the maximum number of connections
+     * @param maxLineLength the maximum accepted request length, in characters
+     * @throws IllegalArgumentException if a limit is not positive
+     */
+    public EvaluationServer(@NotNull ExpressionParser parser, @NotNull NumericMode mode, int maxConnections,
+                            int maxPendingRequests, int maxLineLength) {
+        if (maxConnections <= 0 || maxPendingRequests <= 0 || maxLineLength <= 0) {
+            throw new IllegalArgumentException("Server limits must be positive");
+        }
+
+        this.parser = parser;
+        this.mode = mode;
+        this.maxLineLength = maxLineLength;
+        this.connectionPermits = new Semaphore(maxConnections);
+        this.requestPermits = new Semaphore(maxPendingRequests);
+    }
+
+    /**
+     * Parses a server address: {@code unix:<path>} for a Unix-domain socket, {@code <host>:<port>} or {@code <port>}
+     * for a TCP address (on the loopback interface when no host is given).
+     *
+     * @param address the address to parse
+     * @return the socket address
+     * @throws IllegalArgumentException if the address is malformed
+     */
+    public static SocketAddress parseAddress(@NotNull String address) {
+        if (address.startsWith(UNIX_PREFIX)) {
+            return UnixDomainSocketAddress.of(address.substring(UNIX_PREFIX.length()));
+        }
+
+        int separator = address.lastIndexOf(':');
+        String host = separator < 0 ? "127.0.0.1" : address.substring(0, separator);
+
+        try {
+            return new InetSocketAddress(host, Integer.parseInt(address.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid server address: " + address);
+        }
+    }
+
+    /**
+     * Binds the server to the given address. Connections are accepted once {@link #serve()} is called.
+     *
+     * @param address the TCP address or Unix-domain socket to listen on
+     * @return the address the server is bound to, e.g. with the actual port when port 0 was requested
+     * @throws IOException if the address cannot be bound
+     * @throws IllegalStateException if the server is already bound
+     */
+    public SocketAddress bind(@NotNull SocketAddress address) throws IOException {
+        if (listener != null) {
+            throw new IllegalStateException("Server already bound to " + localAddress);
+        }
+
+        listener = address instanceof UnixDomainSocketAddress ? ServerSocketChannel.open(StandardProtocolFamily.UNIX)
+                : ServerSocketChannel.open();
+        listener.bind(address);
+        localAddress = listener.getLocalAddress();
+
+        return localAddress;
+    }
+
+    /**
+     * Accepts connections and hands each of them to its own thread, until the server is closed.
+     *
+     * @throws IOException if accepting a connection fails for a reason other than the server being closed
+     * @throws IllegalStateException if the server is not bound
+     */
+    public void serve() throws IOException {
+        if (listener == null) {
+            throw new IllegalStateException("Server not bound");
+        }
+
+        while (!closed) {
+            SocketChannel channel;
+
+            try {
+                channel = listener.accept();
+            } catch (ClosedChannelException e) {
+                // Closed by close(), possibly from another thread
+                break;
+            }
+
+            if (!connectionPermits.tryAcquire()) {
+                reject(channel);
+                continue;
+            }
+
+            if (channel.supportedOptions().contains(StandardSocketOptions.TCP_NODELAY)) {
+                channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+            }
+
+            connections.add(channel);
+
+            try {
+                executor.execute(new ConnectionHandler(this, channel));
+            } catch (RejectedExecutionException e) {
+                // The server is shutting down
+                connectionClosed(channel);
+            }
+        }
+    }
+
+    /**
+     * Returns the address the server is bound to.
+     *
+     * @return the local address, or {@code null} if the server is not bound
+     */
+    public SocketAddress getLocalAddress() {
+        return localAddress;
+    }
+
+    /**
+     * Indicates whether the connections are served by virtual threads.
+     *
+     * @return true if virtual threads are used, false if platform threads are used
+     */
+    public boolean usesVirtualThreads() {
+        return !(executor instanceof ThreadPoolExecutor);
+    }
+
+    /**
+     * Returns the number of open connections.
+     *
+     * @return the number of open connections
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * Shuts the server down gracefully: stops accepting connections, lets the open connections answer the requests
+     * they have already received, and closes them. Connections still busy after a grace period are closed forcibly.
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        closeQuietly(listener);
+
+        // Ending the input of a connection makes its handler answer the pending requests and return
+        for (SocketChannel channel : connections) {
+            try {
+                channel.shutdownInput();
+            } catch (IOException e) {
+                closeQuietly(channel);
+            }
+        }
+
+        executor.shutdown();
+
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_GRACE_MILLIS, TimeUnit.MILLISECONDS)) {
+                connections.forEach(EvaluationServer::closeQuietly);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            connections.forEach(EvaluationServer::closeQuietly);
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+
+        if (localAddress instanceof UnixDomainSocketAddress unixAddress) {
+            try {
+                Files.deleteIfExists(unixAddress.getPath());
+            } catch (IOException e) {
+                // Left behind; binding the same path again will fail until it is removed
+            }
+        }
+    }
+
+    /**
+     * Returns the parser used to evaluate the requests.
+     *
+     * @return the parser
+     */
+    ExpressionParser getParser() {
+        return parser;
+    }
+
+    /**
+     * Returns the initial numeric mode of each connection.
+     *
+     * @return the numeric mode
+     */
+    NumericMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the maximum accepted request length.
+     *
+     * @return the maximum request length, in characters
+     */
+    int getMaxLineLength() {
+        return maxLineLength;
+    }
+
+    /**
+     * Reserves a slot for evaluating a request, without waiting.
+     *
+     * @return true if the request may be evaluated, false if the server is overloaded
+     */
+    boolean tryAcquireRequest() {
+        return requestPermits.tryAcquire();
+    }
+
+    /**
+     * Releases the slot reserved by {@link #tryAcquireRequest()}.
+     */
+    void releaseRequest() {
+        requestPermits.release();
+    }
+
+    /**
+     * Closes a connection whose handler has finished and releases its slot.
+     *
+     * @param channel the connection
+     */
+    void connectionClosed(SocketChannel channel) {
+        closeQuietly(channel);
+
+        if (connections.remove(channel)) {
+            connectionPermits.release();
+        }
+    }
+
+    /**
+     * Rejects a connection beyond the maximum number of simultaneous connections.
+     *
+     * @param channel the rejected connection
+     */
+    private static void reject(SocketChannel channel) {
+        try (channel) {
+            channel.write(StandardCharsets.US_ASCII.encode(Protocol.ERROR + Protocol.OVERLOADED + "\n"));
+        } catch (IOException e) {
+            // The client will see the connection closed
+        }
+    }
+
+    /**
+     * Closes a channel, ignoring failures.
+     *
+     * @param channel the channel to close, may be null
+     */
+    private static void closeQuietly(Closeable channel) {
+        if (channel == null) {
+            return;
+        }
+
+        try {
+            channel.close();
+        } catch (IOException e) {
+            // Nothing left to do with a channel that fails to close
+        }
+    }
+}
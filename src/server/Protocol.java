@@ -0,0 +1,48 @@
+package server;
+
+/**
+ * Constants of the line-delimited protocol spoken between {@link EvaluationServer} and {@link EvaluationClient}.
+ * <p>
+ * Every request is one line of text holding either an expression or a command, and every request gets exactly one
+ * response line, in request order: {@code OK <result>} on success and {@code ERR <message>} on failure. The only
+ * command is {@code MODE <integer|tiered|rational>}, which switches the numeric mode of the connection.
+ */
+final class Protocol {
+
+    /** Prefix of a successful response */
+    static final String OK = "OK ";
+
+    /** Prefix of a failed response */
+    static final String ERROR = "ERR ";
+
+    /** Error message of a request rejected because the server is overloaded */
+    static final String OVERLOADED = "overloaded";
+
+    /** Prefix of the command switching the numeric mode of the connection */
+    static final String MODE_COMMAND = "MODE ";
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Protocol() {}
+
+    /**
+     * Checks if the request is a {@code MODE} command.
+     *
+     * @param request the request line
+     * @return true if the request starts with the {@code MODE} command, false otherwise
+     */
+    static boolean isModeCommand(CharSequence request) {
+        if (request.length() < MODE_COMMAND.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < MODE_COMMAND.length(); i++) {
+            if (request.charAt(i) != MODE_COMMAND.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,116 @@
+package transform;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Precomputed data of a Bluestein transform, which computes a Fourier transform of any length as a circular
+ * convolution of a power-of-two length, cached per length.
+ * <p>
+ * Writing {@code jk = (j^2 + k^2 - (k - j)^2) / 2} turns the transform {@code X[k] = sum(x[j] * w^(jk))} into
+ * {@code X[k] = c[k] * sum((x[j] * c[j]) * conj(c[k - j]))} with the chirp {@code c[k] = e^(-i * pi * k^2 / n)}: a
+ * convolution with a fixed kernel, evaluated with radix-2 transforms of length {@code m >= 2n - 1}. The plan keeps the
+ * chirp and the transform of the kernel, so each transform costs two radix-2 transforms of length {@code m}.
+ */
+final class BluesteinPlan {
+
+    /** Plans computed so far, by transform length */
+    private static final ConcurrentMap<Integer, BluesteinPlan> CACHE = new ConcurrentHashMap<>();
+
+    private final int length;  // Transform length
+    private final int paddedLength;  // Power-of-two length of the convolution
+    private final double[] chirpRe;  // Real parts of the chirp
+    private final double[] chirpIm;  // Imaginary parts of the chirp
+    private final double[] kernelRe;  // Real parts of the transformed kernel, divided by the padded length
+    private final double[] kernelIm;  // Imaginary parts of the transformed kernel, divided by the padded length
+
+    /**
+     * Computes the plan of the given length.
+     *
+     * @param length the transform length, at least two
+     */
+    private BluesteinPlan(int length) {
+        this.length = length;
+        this.paddedLength = Integer.highestOneBit(2 * length - 2) << 1;
+        this.chirpRe = new double[length];
+        this.chirpIm = new double[length];
+        this.kernelRe = new double[paddedLength];
+        this.kernelIm = new double[paddedLength];
+
+        long period = 2L * length;
+
+        for (int k = 0; k < length; k++) {
+            // The chirp has period 2n in k^2; reducing first keeps the angle small and accurate for large k
+            double angle = Math.PI * (((long) k * k) % period) / length;
+
+            chirpRe[k] = Math.cos(angle);
+            chirpIm[k] = -Math.sin(angle);
+        }
+
+        // The kernel conj(c[k]) is laid out circularly, for negative and positive offsets alike
+        kernelRe[0] = chirpRe[0];
+        kernelIm[0] = -chirpIm[0];
+        for (int k = 1; k < length; k++) {
+            kernelRe[k] = kernelRe[paddedLength - k] = chirpRe[k];
+            kernelIm[k] = kernelIm[paddedLength - k] = -chirpIm[k];
+        }
+
+        FastFourierTransform.radix2(kernelRe, kernelIm, false, false);
+
+        // Folding the scaling of the inverse transform into the kernel saves a pass per transform
+        for (int k = 0; k < paddedLength; k++) {
+            kernelRe[k] /= paddedLength;
+            kernelIm[k] /= paddedLength;
+        }
+    }
+
+    /**
+     * Returns the plan of the given length, computing it on first use.
+     *
+     * @param length the transform length, at least two
+     * @return the cached plan
+     */
+    static BluesteinPlan forLength(int length) {
+        return CACHE.computeIfAbsent(length, BluesteinPlan::new);
+    }
+
+    /**
+     * Discards every cached plan.
+     */
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Computes the forward transform of the given sequence in place.
+     *
+     * @param re the real parts, of the plan length
+     * @param im the imaginary parts, of the plan length
+     * @param parallel whether the radix-2 transforms may run in parallel
+     */
+    void transform(double[] re, double[] im, boolean parallel) {
+        double[] aRe = new double[paddedLength];
+        double[] aIm = new double[paddedLength];
+
+        for (int k = 0; k < length; k++) {
+            aRe[k] = re[k] * chirpRe[k] - im[k] * chirpIm[k];
+            aIm[k] = re[k] * chirpIm[k] + im[k] * chirpRe[k];
+        }
+
+        FastFourierTransform.radix2(aRe, aIm, false, parallel);
+
+        for (int k = 0; k < paddedLength; k++) {
+            double r = aRe[k] * kernelRe[k] - aIm[k] * kernelIm[k];
+
+            aIm[k] = aRe[k] * kernelIm[k] + aIm[k] * kernelRe[k];
+            aRe[k] = r;
+        }
+
+        FastFourierTransform.radix2(aRe, aIm, true, parallel);
+
+        for (int k = 0; k < length; k++) {
+            re[k] = aRe[k] * chirpRe[k] - aIm[k] * chirpIm[k];
+            im[k] = aRe[k] * chirpIm[k] + aIm[k] * chirpRe[k];
+        }
+    }
+}
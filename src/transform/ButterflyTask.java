@@ -0,0 +1,64 @@
+package transform;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task computing a range of the butterflies that combine the two halves of a block.
+ * <p>
+ * The butterflies of a stage touch disjoint pairs of elements, so any range of them can run concurrently with the
+ * others; ranges larger than the threshold are split in two.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class ButterflyTask extends RecursiveAction {
+    private final double[] re;  // Real parts being transformed
+    private final double[] im;  // Imaginary parts being transformed
+    private final TwiddleTable table;  // Twiddle factors of the whole transform
+    private final boolean inverse;  // Whether the inverse transform is computed
+    private final int block;  // Index of the first element of the block
+    private final int half;  // Half the size of the block
+    private final int from;  // Index of the first butterfly within the block, inclusive
+    private final int to;  // Index of the last butterfly within the block, exclusive
+    private final int threshold;  // Maximum number of butterflies computed sequentially
+
+    /**
+     * Constructs a task computing the butterflies in the range {@code [from, to)} of the given block.
+     *
+     * @param re the real parts being transformed
+     * @param im the imaginary parts being transformed
+     * @param table the twiddle factors of the whole transform
+     * @param inverse whether the inverse transform is computed
+     * @param block the index of the first element of the block
+     * @param half half the size of the block
+     * @param from the index of the first butterfly within the block, inclusive
+     * @param to the index of the last butterfly within the block, exclusive
+     * @param threshold the maximum number of butterflies computed sequentially
+     */
+    ButterflyTask(double[] re, double[] im, TwiddleTable table, boolean inverse, int block, int half, int from, int to,
+                  int threshold) {
+        this.re = re;
+        this.im = im;
+        this.table = table;
+        this.inverse = inverse;
+        this.block = block;
+        this.half = half;
+        this.from = from;
+        this.to = to;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Computes the range of butterflies, splitting it when it is larger than the threshold.
+     */
+    @Override
+    protected void compute() {
+        if (to - from <= threshold) {
+            FastFourierTransform.butterflies(re, im, table, inverse, block, half, from, to);
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+
+        invokeAll(new ButterflyTask(re, im, table, inverse, block, half, from, middle, threshold),
+                new ButterflyTask(re, im, table, inverse, block, half, middle, to, threshold));
+    }
+}
@@ -0,0 +1,230 @@
+package transform;
+
+import models.ComplexNumber;
+import models.DoubleComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * Linear convolution of complex sequences, {@code c[k] = sum(a[j] * b[k - j])}, computed with Fourier transforms.
+ * <p>
+ * Both sequences are zero-padded to a power-of-two length of at least {@code a.length + b.length - 1}, transformed,
+ * multiplied element-wise and transformed back, in {@code O(n log n)} instead of the {@code O(n * m)} of the direct
+ * sum. Short sequences, for which the transforms cost more than they save, are convolved directly.
+ */
+public final class Convolution {
+
+    /** Length of the shorter sequence up to which the direct sum is faster than the transforms */
+    private static final int DIRECT_THRESHOLD = 32;
+
+    /**
+     * Bound on the magnitude of the sums of an integer convolution below which the rounding error of the transforms
+     * stays far below one half, so that rounding recovers the exact result
+     */
+    private static final double EXACT_BOUND = 0x1p40;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private Convolution() {}
+
+    /**
+     * Convolves two sequences given as real and imaginary part arrays.
+     *
+     * @param aRe the real parts of the first sequence
+     * @param aIm the imaginary parts of the first sequence
+     * @param bRe the real parts of the second sequence
+     * @param bIm the imaginary parts of the second sequence
+     * @param outRe the array receiving the real parts of the convolution, of length at least
+     *              {@code a.length + b.length - 1}
+     * @param outIm the array receiving the imaginary parts of the convolution, of the same length
+     * @throws IllegalArgumentException if the arrays of a sequence differ in length or the output is too short
+     */
+    public static void convolve(double @NotNull [] aRe, double @NotNull [] aIm, double @NotNull [] bRe,
+                                double @NotNull [] bIm, double @NotNull [] outRe, double @NotNull [] outIm) {
+        if (aRe.length != aIm.length || bRe.length != bIm.length || outRe.length != outIm.length) {
+            throw new IllegalArgumentException("Real and imaginary parts differ in length");
+        }
+
+        if (aRe.length == 0 || bRe.length == 0) {
+            return;
+        }
+
+        int length = aRe.length + bRe.length - 1;
+        if (outRe.length < length) {
+            throw new IllegalArgumentException("Output shorter than the convolution: " + outRe.length + " < "
+                    + length);
+        }
+
+        if (Math.min(aRe.length, bRe.length) <= DIRECT_THRESHOLD) {
+            convolveDirect(aRe, aIm, bRe, bIm, outRe, outIm);
+            return;
+        }
+
+        int paddedLength = Integer.highestOneBit(length - 1) << 1;
+        double[] fRe = Arrays.copyOf(aRe, paddedLength);
+        double[] fIm = Arrays.copyOf(aIm, paddedLength);
+        double[] gRe = Arrays.copyOf(bRe, paddedLength);
+        double[] gIm = Arrays.copyOf(bIm, paddedLength);
+
+        FastFourierTransform.transform(fRe, fIm, false, true);
+        FastFourierTransform.transform(gRe, gIm, false, true);
+
+        for (int k = 0; k < paddedLength; k++) {
+            double r = fRe[k] * gRe[k] - fIm[k] * gIm[k];
+
+            fIm[k] = fRe[k] * gIm[k] + fIm[k] * gRe[k];
+            fRe[k] = r;
+        }
+
+        FastFourierTransform.transform(fRe, fIm, true, true);
+
+        System.arraycopy(fRe, 0, outRe, 0, length);
+        System.arraycopy(fIm, 0, outIm, 0, length);
+    }
+
+    /**
+     * Convolves two sequences of complex numbers.
+     *
+     * @param a the first sequence
+     * @param b the second sequence
+     * @return a new array of length {@code a.length + b.length - 1} holding the convolution, empty if either
+     *         sequence is empty
+     */
+    public static DoubleComplexNumber[] convolve(DoubleComplexNumber @NotNull [] a,
+                                                 DoubleComplexNumber @NotNull [] b) {
+        if (a.length == 0 || b.length == 0) {
+            return new DoubleComplexNumber[0];
+        }
+
+        double[] aRe = new double[a.length];
+        double[] aIm = new double[a.length];
+        double[] bRe = new double[b.length];
+        double[] bIm = new double[b.length];
+
+        for (int i = 0; i < a.length; i++) {
+            aRe[i] = a[i].getRe();
+            aIm[i] = a[i].getIm();
+        }
+        for (int i = 0; i < b.length; i++) {
+            bRe[i] = b[i].getRe();
+            bIm[i] = b[i].getIm();
+        }
+
+        double[] outRe = new double[a.length + b.length - 1];
+        double[] outIm = new double[outRe.length];
+
+        convolve(aRe, aIm, bRe, bIm, outRe, outIm);
+
+        DoubleComplexNumber[] result = new DoubleComplexNumber[outRe.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new DoubleComplexNumber(outRe[i], outIm[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Convolves two sequences of integer complex numbers. The result is exactly the one of summing the products with
+     * {@link ComplexNumber#multiply} and {@link ComplexNumber#add}, {@code int} wrap-around included: the transforms
+     * are used when the sums are small enough for their rounding to be exact, and the direct sum otherwise.
+     *
+     * @param a the first sequence
+     * @param b the second sequence
+     * @return a new array of length {@code a.length + b.length - 1} holding the convolution, empty if either
+     *         sequence is empty
+     */
+    public static ComplexNumber[] convolve(ComplexNumber @NotNull [] a, ComplexNumber @NotNull [] b) {
+        if (a.length == 0 || b.length == 0) {
+            return new ComplexNumber[0];
+        }
+
+        double[] aRe = new double[a.length];
+        double[] aIm = new double[a.length];
+        double[] bRe = new double[b.length];
+        double[] bIm = new double[b.length];
+        double aMax = 0;  // Largest part of the first sequence, in magnitude
+        double bMax = 0;  // Largest part of the second sequence, in magnitude
+
+        for (int i = 0; i < a.length; i++) {
+            aRe[i] = a[i].getRe();
+            aIm[i] = a[i].getIm();
+            aMax = Math.max(aMax, Math.max(Math.abs(aRe[i]), Math.abs(aIm[i])));
+        }
+        for (int i = 0; i < b.length; i++) {
+            bRe[i] = b[i].getRe();
+            bIm[i] = b[i].getIm();
+            bMax = Math.max(bMax, Math.max(Math.abs(bRe[i]), Math.abs(bIm[i])));
+        }
+
+        ComplexNumber[] result = new ComplexNumber[a.length + b.length - 1];
+
+        // Each part of a sum adds two products per term, over at most the length of the shorter sequence
+        if (2 * aMax * bMax * Math.min(a.length, b.length) > EXACT_BOUND) {
+            convolveDirect(a, b, result);
+            return result;
+        }
+
+        double[] outRe = new double[result.length];
+        double[] outIm = new double[result.length];
+
+        convolve(aRe, aIm, bRe, bIm, outRe, outIm);
+
+        // The exact sums fit in a long, so narrowing them wraps around exactly like int arithmetic does
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new ComplexNumber((int) Math.round(outRe[i]), (int) Math.round(outIm[i]));
+        }
+
+        return result;
+    }
+
+    /**
+     * Convolves two sequences with the direct sum.
+     *
+     * @param aRe the real parts of the first sequence
+     * @param aIm the imaginary parts of the first sequence
+     * @param bRe the real parts of the second sequence
+     * @param bIm the imaginary parts of the second sequence
+     * @param outRe the array receiving the real parts of the convolution
+     * @param outIm the array receiving the imaginary parts of the convolution
+     */
+    private static void convolveDirect(double[] aRe, double[] aIm, double[] bRe, double[] bIm, double[] outRe,
+                                       double[] outIm) {
+        Arrays.fill(outRe, 0, aRe.length + bRe.length - 1, 0);
+        Arrays.fill(outIm, 0, aRe.length + bRe.length - 1, 0);
+
+        for (int i = 0; i < aRe.length; i++) {
+            for (int j = 0; j < bRe.length; j++) {
+                outRe[i + j] += aRe[i] * bRe[j] - aIm[i] * bIm[j];
+                outIm[i + j] += aRe[i] * bIm[j] + aIm[i] * bRe[j];
+            }
+        }
+    }
+
+    /**
+     * Convolves two sequences of integer complex numbers with the direct sum, in wrapping {@code int} arithmetic.
+     *
+     * @param a the first sequence
+     * @param b the second sequence
+     * @param result the array receiving the convolution
+     */
+    private static void convolveDirect(ComplexNumber[] a, ComplexNumber[] b, ComplexNumber[] result) {
+        int[] re = new int[result.length];
+        int[] im = new int[result.length];
+
+        for (int i = 0; i < a.length; i++) {
+            int ar = a[i].getRe();
+            int ai = a[i].getIm();
+
+            for (int j = 0; j < b.length; j++) {
+                re[i + j] += ar * b[j].getRe() - ai * b[j].getIm();
+                im[i + j] += ar * b[j].getIm() + ai * b[j].getRe();
+            }
+        }
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = new ComplexNumber(re[i], im[i]);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package transform;
+
+import models.ComplexNumber;
+import models.DoubleComplexNumber;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Discrete Fourier transform of complex sequences in {@code O(n log n)}.
+ * <p>
+ * Sequences are held as two parallel {@code double[]} arrays of real and imaginary parts and transformed in place.
+ * Power-of-two lengths use an iterative radix-2 algorithm: a bit-reversal permutation followed by {@code log2(n)}
+ * stages of butterflies, with the twiddle factors of each size computed once and cached. Other lengths are reduced to
+ * a power-of-two convolution with Bluestein's algorithm, whose chirp and kernel are cached per length as well.
+ * <p>
+ * The forward transform computes {@code X[k] = sum(x[j] * e^(-2 * pi * i * j * k / n))}, and the inverse transform
+ * the same sum with a positive exponent divided by {@code n}, so that one undoes the other. Transforms of large
+ * sequences can run in parallel on the common {@link ForkJoinPool} with {@link #transformParallel}.
+ * <p>
+ * All methods are thread-safe: the caches are concurrent and every transform only writes its own arrays.
+ */
+public final class FastFourierTransform {
+
+    /**
+     * Size of the blocks transformed sequentially, in cache, before their stages are combined across blocks; longer
+     * sequences are split into blocks of this size by the parallel transforms
+     */
+    public static final int BLOCK_SIZE = 1 << 13;
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FastFourierTransform() {}
+
+    /**
+     * Computes the forward transform of a sequence in place.
+     *
+     * @param re the real parts, replaced with the real parts of the transform
+     * @param im the imaginary parts, replaced with the imaginary parts of the transform
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public static void transform(double @NotNull [] re, double @NotNull [] im) {
+        transform(re, im, false, false);
+    }
+
+    /**
+     * Computes the inverse transform of a sequence in place.
+     *
+     * @param re the real parts, replaced with the real parts of the inverse transform
+     * @param im the imaginary parts, replaced with the imaginary parts of the inverse transform
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public static void inverseTransform(double @NotNull [] re, double @NotNull [] im) {
+        transform(re, im, true, false);
+    }
+
+    /**
+     * Computes the forward transform of a sequence in place, in parallel when it is longer than the
+     * {@link #BLOCK_SIZE block size}. The result is identical to the one of
+     * {@link #transform(double[], double[])}.
+     *
+     * @param re the real parts, replaced with the real parts of the transform
+     * @param im the imaginary parts, replaced with the imaginary parts of the transform
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public static void transformParallel(double @NotNull [] re, double @NotNull [] im) {
+        transform(re, im, false, true);
+    }
+
+    /**
+     * Computes the inverse transform of a sequence in place, in parallel when it is longer than the
+     * {@link #BLOCK_SIZE block size}. The result is identical to the one of
+     * {@link #inverseTransform(double[], double[])}.
+     *
+     * @param re the real parts, replaced with the real parts of the inverse transform
+     * @param im the imaginary parts, replaced with the imaginary parts of the inverse transform
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    public static void inverseTransformParallel(double @NotNull [] re, double @NotNull [] im) {
+        transform(re, im, true, true);
+    }
+
+    /**
+     * Computes the forward transform of a sequence of integer complex numbers.
+     *
+     * @param numbers the sequence to transform
+     * @return a new array holding the transform
+     */
+    public static DoubleComplexNumber[] transform(ComplexNumber @NotNull [] numbers) {
+        double[] re = new double[numbers.length];
+        double[] im = new double[numbers.length];
+
+        for (int i = 0; i < numbers.length; i++) {
+            re[i] = numbers[i].getRe();
+            im[i] = numbers[i].getIm();
+        }
+
+        transform(re, im, false, true);
+
+        return toComplexNumbers(re, im);
+    }
+
+    /**
+     * Computes the forward transform of a sequence of complex numbers.
+     *
+     * @param numbers the sequence to transform
+     * @return a new array holding the transform
+     */
+    public static DoubleComplexNumber[] transform(DoubleComplexNumber @NotNull [] numbers) {
+        return transform(numbers, false);
+    }
+
+    /**
+     * Computes the inverse transform of a sequence of complex numbers.
+     *
+     * @param numbers the sequence to transform
+     * @return a new array holding the inverse transform
+     */
+    public static DoubleComplexNumber[] inverseTransform(DoubleComplexNumber @NotNull [] numbers) {
+        return transform(numbers, true);
+    }
+
+    /**
+     * Discards the cached twiddle tables and Bluestein plans, e.g. after transforming many distinct lengths that will
+     * not be used again.
+     */
+    public static void clearCache() {
+        TwiddleTable.clearCache();
+        BluesteinPlan.clearCache();
+    }
+
+    /**
+     * Computes the forward or inverse transform of a sequence of complex numbers.
+     *
+     * @param numbers the sequence to transform
+     * @param inverse whether the inverse transform is computed
+     * @return a new array holding the transform
+     */
+    private static DoubleComplexNumber[] transform(DoubleComplexNumber[] numbers, boolean inverse) {
+        double[] re = new double[numbers.length];
+        double[] im = new double[numbers.length];
+
+        for (int i = 0; i < numbers.length; i++) {
+            re[i] = numbers[i].getRe();
+            im[i] = numbers[i].getIm();
+        }
+
+        transform(re, im, inverse, true);
+
+        return toComplexNumbers(re, im);
+    }
+
+    /**
+     * Computes the forward or inverse transform of a sequence in place, with the algorithm suited to its length.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param inverse whether the inverse transform is computed
+     * @param parallel whether the transform may run in parallel
+     * @throws IllegalArgumentException if the two arrays have different lengths
+     */
+    static void transform(double[] re, double[] im, boolean inverse, boolean parallel) {
+        if (re.length != im.length) {
+            throw new IllegalArgumentException("Real and imaginary parts differ in length: " + re.length + " != "
+                    + im.length);
+        }
+
+        int n = re.length;
+        if (n <= 1) {
+            return;
+        }
+
+        if (Integer.bitCount(n) == 1) {
+            radix2(re, im, inverse, parallel);
+        } else if (inverse) {
+            // The inverse transform is the conjugate of the forward transform of the conjugate
+            negate(im);
+            BluesteinPlan.forLength(n).transform(re, im, parallel);
+            negate(im);
+        } else {
+            BluesteinPlan.forLength(n).transform(re, im, parallel);
+        }
+
+        if (inverse) {
+            for (int i = 0; i < n; i++) {
+                re[i] /= n;
+                im[i] /= n;
+            }
+        }
+    }
+
+    /**
+     * Computes the radix-2 transform of a power-of-two length sequence in place, without the division of the inverse
+     * transform by its length.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param inverse whether the twiddle factors of the inverse transform are used
+     * @param parallel whether the transform may run in parallel
+     */
+    static void radix2(double[] re, double[] im, boolean inverse, boolean parallel) {
+        int n = re.length;
+        TwiddleTable table = TwiddleTable.forSize(n);
+
+        bitReverse(re, im);
+
+        if (parallel && n > BLOCK_SIZE) {
+            ForkJoinPool.commonPool().invoke(new FourierTask(re, im, table, inverse, 0, n,
+                    BLOCK_SIZE));
+            return;
+        }
+
+        // Running all the stages of one cache-sized block before the next one saves a pass over memory per stage
+        int blockSize = Math.min(n, BLOCK_SIZE);
+        for (int offset = 0; offset < n; offset += blockSize) {
+            transformBlock(re, im, table, inverse, offset, blockSize);
+        }
+
+        for (int half = blockSize; half < n; half <<= 1) {
+            for (int block = 0; block < n; block += 2 * half) {
+                butterflies(re, im, table, inverse, block, half, 0, half);
+            }
+        }
+    }
+
+    /**
+     * Runs every butterfly stage on a bit-reversed block, in place.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param table the twiddle factors of the whole transform
+     * @param inverse whether the twiddle factors of the inverse transform are used
+     * @param offset the index of the first element of the block
+     * @param size the size of the block, a power of two
+     */
+    static void transformBlock(double[] re, double[] im, TwiddleTable table, boolean inverse, int offset, int size) {
+        // The first stage only multiplies by one, so it reduces to sums and differences of neighbours
+        for (int i = offset; i < offset + size; i += 2) {
+            double r = re[i + 1];
+            double m = im[i + 1];
+
+            re[i + 1] = re[i] - r;
+            im[i + 1] = im[i] - m;
+            re[i] += r;
+            im[i] += m;
+        }
+
+        for (int half = 2; half < size; half <<= 1) {
+            for (int block = offset; block < offset + size; block += 2 * half) {
+                butterflies(re, im, table, inverse, block, half, 0, half);
+            }
+        }
+    }
+
+    /**
+     * Computes a range of the butterflies combining the two halves of a block, in place: each pair {@code (p, q)} at
+     * distance {@code half} becomes {@code (p + w * q, p - w * q)} with the twiddle factor {@code w} of its index.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @param table the twiddle factors of the whole transform
+     * @param inverse whether the twiddle factors of the inverse transform are used
+     * @param block the index of the first element of the block
+     * @param half half the size of the block
+     * @param from the index of the first butterfly within the block, inclusive
+     * @param to the index of the last butterfly within the block, exclusive
+     */
+    static void butterflies(double[] re, double[] im, TwiddleTable table, boolean inverse, int block, int half,
+                            int from, int to) {
+        double[] cos = table.getCos();
+        double[] sin = table.getSin();
+        double sign = inverse ? 1 : -1;  // Sign of the exponent of the twiddle factors
+        int stride = table.getSize() / (2 * half);  // Distance between consecutive factors of this stage
+
+        for (int j = from, t = from * stride; j < to; j++, t += stride) {
+            double wr = cos[t];
+            double wi = sign * sin[t];
+            int p = block + j;
+            int q = p + half;
+
+            double r = re[q] * wr - im[q] * wi;
+            double m = re[q] * wi + im[q] * wr;
+
+            re[q] = re[p] - r;
+            im[q] = im[p] - m;
+            re[p] += r;
+            im[p] += m;
+        }
+    }
+
+    /**
+     * Reorders a power-of-two length sequence in place so that each element moves to the index with the reversed
+     * binary digits.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     */
+    private static void bitReverse(double[] re, double[] im) {
+        int shift = Integer.numberOfLeadingZeros(re.length) + 1;
+
+        for (int i = 1; i < re.length - 1; i++) {
+            int j = Integer.reverse(i) >>> shift;
+
+            // Each pair is swapped once, from its lower index
+            if (i < j) {
+                double r = re[i];
+                re[i] = re[j];
+                re[j] = r;
+
+                double m = im[i];
+                im[i] = im[j];
+                im[j] = m;
+            }
+        }
+    }
+
+    /**
+     * Negates every element of an array in place.
+     *
+     * @param values the values to negate
+     */
+    private static void negate(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = -values[i];
+        }
+    }
+
+    /**
+     * Combines real and imaginary part arrays into complex numbers.
+     *
+     * @param re the real parts
+     * @param im the imaginary parts
+     * @return a new array of complex numbers
+     */
+    private static DoubleComplexNumber[] toComplexNumbers(double[] re, double[] im) {
+        DoubleComplexNumber[] numbers = new DoubleComplexNumber[re.length];
+
+        for (int i = 0; i < re.length; i++) {
+            numbers[i] = new DoubleComplexNumber(re[i], im[i]);
+        }
+
+        return numbers;
+    }
+}
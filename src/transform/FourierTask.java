@@ -0,0 +1,61 @@
+package transform;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Fork-join task computing the radix-2 transform of a bit-reversed block.
+ * <p>
+ * After the bit-reversal permutation, the two halves of a block are independent transforms of half the size, so
+ * blocks larger than the threshold transform their halves concurrently and then combine them with a final stage of
+ * butterflies, itself split into {@link ButterflyTask ranges}. Blocks up to the threshold are transformed sequentially,
+ * which keeps them in cache for all of their stages.
+ */
+@SuppressWarnings("serial")  // Tasks only live within a pool and are never serialized
+class FourierTask extends RecursiveAction {
+    private final double[] re;  // Real parts being transformed
+    private final double[] im;  // Imaginary parts being transformed
+    private final TwiddleTable table;  // Twiddle factors of the whole transform
+    private final boolean inverse;  // Whether the inverse transform is computed
+    private final int offset;  // Index of the first element of the block
+    private final int size;  // Size of the block, a power of two
+    private final int threshold;  // Maximum block size transformed sequentially
+
+    /**
+     * Constructs a task transforming the block of the given size starting at the given offset.
+     *
+     * @param re the real parts being transformed
+     * @param im the imaginary parts being transformed
+     * @param table the twiddle factors of the whole transform
+     * @param inverse whether the inverse transform is computed
+     * @param offset the index of the first element of the block
+     * @param size the size of the block, a power of two
+     * @param threshold the maximum block size transformed sequentially
+     */
+    FourierTask(double[] re, double[] im, TwiddleTable table, boolean inverse, int offset, int size, int threshold) {
+        this.re = re;
+        this.im = im;
+        this.table = table;
+        this.inverse = inverse;
+        this.offset = offset;
+        this.size = size;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Transforms the block, splitting it when it is larger than the threshold.
+     */
+    @Override
+    protected void compute() {
+        if (size <= threshold) {
+            FastFourierTransform.transformBlock(re, im, table, inverse, offset, size);
+            return;
+        }
+
+        int half = size / 2;
+
+        invokeAll(new FourierTask(re, im, table, inverse, offset, half, threshold),
+                new FourierTask(re, im, table, inverse, offset + half, half, threshold));
+
+        new ButterflyTask(re, im, table, inverse, offset, half, 0, half, Math.max(1, threshold / 2)).invoke();
+    }
+}
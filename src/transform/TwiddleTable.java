@@ -0,0 +1,84 @@
+package transform;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Twiddle factors of a power-of-two transform size, cached per size.
+ * <p>
+ * The table of size {@code n} holds {@code cos(2 * pi * k / n)} and {@code sin(2 * pi * k / n)} for {@code k} below
+ * {@code n / 2}. Every stage of a radix-2 transform of size {@code n} reads its factors from the same table with a
+ * stride, so one table serves the whole transform. Each factor is computed directly rather than by recurrence, which
+ * keeps the table accurate to the last bit whatever the size.
+ */
+final class TwiddleTable {
+
+    /** Tables computed so far, by transform size */
+    private static final ConcurrentMap<Integer, TwiddleTable> CACHE = new ConcurrentHashMap<>();
+
+    private final int size;  // Transform size
+    private final double[] cos;  // Cosine of each twiddle angle
+    private final double[] sin;  // Sine of each twiddle angle
+
+    /**
+     * Computes the table of the given size.
+     *
+     * @param size the transform size, a power of two
+     */
+    private TwiddleTable(int size) {
+        this.size = size;
+        this.cos = new double[size / 2];
+        this.sin = new double[size / 2];
+
+        for (int k = 0; k < size / 2; k++) {
+            double angle = 2 * Math.PI * k / size;
+
+            cos[k] = Math.cos(angle);
+            sin[k] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Returns the table of the given size, computing it on first use.
+     *
+     * @param size the transform size, a power of two
+     * @return the cached table
+     */
+    static TwiddleTable forSize(int size) {
+        return CACHE.computeIfAbsent(size, TwiddleTable::new);
+    }
+
+    /**
+     * Discards every cached table.
+     */
+    static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Returns the transform size of the table.
+     *
+     * @return the transform size
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * Returns the cosines of the twiddle angles. The array is shared and must not be modified.
+     *
+     * @return the cosines, indexed by {@code k}
+     */
+    double[] getCos() {
+        return cos;
+    }
+
+    /**
+     * Returns the sines of the twiddle angles. The array is shared and must not be modified.
+     *
+     * @return the sines, indexed by {@code k}
+     */
+    double[] getSin() {
+        return sin;
+    }
+}
@@ -0,0 +1,297 @@
+package kernels;
+
+import jdk.incubator.vector.IntVector;
+import models.ComplexNumber;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that {@link VectorComplexKernels} gives exactly the results of {@link ScalarComplexKernels} and
+ * {@link ComplexNumber}, on small and wrapping operands and on every tail length around the vector width.
+ */
+class ComplexKernelsParityTest {
+
+    /** Seed of the random operands, fixed so that failures are reproducible */
+    private static final long SEED = 7;
+
+    /** Operands whose products and sums wrap around */
+    private static final int[] EXTREMES = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -65536, -1, 0, 1, 46341, 65536,
+            Integer.MAX_VALUE};
+
+    private final ComplexKernels scalar = new ScalarComplexKernels();
+    private final ComplexKernels vector = new VectorComplexKernels();
+    private final Random random = new Random(SEED);
+
+    @Test
+    void elementWiseKernelsMatch() {
+        for (int length : lengths()) {
+            for (boolean wrapping : new boolean[] {false, true}) {
+                int[] aRe = operands(length, wrapping);
+                int[] aIm = operands(length, wrapping);
+                int[] bRe = nonZero(operands(length, wrapping));
+                int[] bIm = operands(length, wrapping);
+
+                assertElementWise(length, aRe, aIm, bRe, bIm);
+            }
+        }
+    }
+
+    @Test
+    void divisionByZeroLeavesOutputUntouched() {
+        for (int length : lengths()) {
+            if (length == 0) {
+                continue;
+            }
+
+            int[] bRe = nonZero(operands(length, false));
+            int[] bIm = operands(length, false);
+
+            // 65536^2 wraps around to zero, like the denominator of ComplexNumber.divide
+            bRe[length - 1] = length % 2 == 0 ? 0 : 65536;
+            bIm[length - 1] = 0;
+
+            for (ComplexKernels kernels : new ComplexKernels[] {scalar, vector}) {
+                int[] outRe = new int[length];
+                int[] outIm = new int[length];
+
+                assertThrows(ArithmeticException.class,
+                        () -> kernels.divide(bRe, bIm, bRe, bIm, outRe, outIm), kernels.name());
+                assertArrayEquals(new int[length], outRe, kernels.name());
+                assertArrayEquals(new int[length], outIm, kernels.name());
+            }
+        }
+    }
+
+    @Test
+    void reductionsMatch() {
+        for (int length : lengths()) {
+            for (boolean wrapping : new boolean[] {false, true}) {
+                int[] re = operands(length, wrapping);
+                int[] im = operands(length, wrapping);
+
+                ComplexNumber sum = new ComplexNumber(0, 0);
+                ComplexNumber product = new ComplexNumber(1, 0);
+
+                for (int i = 0; i < length; i++) {
+                    sum = sum.add(new ComplexNumber(re[i], im[i]));
+                    product = product.multiply(new ComplexNumber(re[i], im[i]));
+                }
+
+                assertEquals(sum, scalar.sum(re, im, length), "scalar sum of " + length);
+                assertEquals(sum, vector.sum(re, im, length), "vector sum of " + length);
+                assertEquals(product, scalar.product(re, im, length), "scalar product of " + length);
+                assertEquals(product, vector.product(re, im, length), "vector product of " + length);
+
+                for (ByteOrder order : new ByteOrder[] {ByteOrder.LITTLE_ENDIAN, ByteOrder.BIG_ENDIAN}) {
+                    ByteBuffer reBuffer = buffer(re, order);
+                    ByteBuffer imBuffer = buffer(im, order);
+
+                    assertEquals(sum, scalar.sum(reBuffer, imBuffer, length), "scalar buffer sum of " + length);
+                    assertEquals(sum, vector.sum(reBuffer, imBuffer, length), "vector buffer sum of " + length);
+                    assertEquals(product, scalar.product(reBuffer, imBuffer, length),
+                            "scalar buffer product of " + length);
+                    assertEquals(product, vector.product(reBuffer, imBuffer, length),
+                            "vector buffer product of " + length);
+                    assertEquals(0, reBuffer.position());
+                }
+            }
+        }
+    }
+
+    @Test
+    void accumulatingKernelsMatch() {
+        for (int length : lengths()) {
+            for (boolean wrapping : new boolean[] {false, true}) {
+                int offset = length % 3;
+                int[] bRe = operands(length + offset, wrapping);
+                int[] bIm = operands(length + offset, wrapping);
+                int[] bSum = new int[bRe.length];
+                int[] accRe = operands(length + offset, wrapping);
+                int[] accIm = operands(length + offset, wrapping);
+                int xRe = wrapping ? EXTREMES[random.nextInt(EXTREMES.length)] : random.nextInt(19) - 9;
+                int xIm = random.nextInt(19) - 9;
+
+                for (int i = 0; i < bSum.length; i++) {
+                    bSum[i] = bRe[i] + bIm[i];
+                }
+
+                int[][] expected = {accRe.clone(), accIm.clone()};
+
+                for (int j = 0; j < length; j++) {
+                    ComplexNumber step = new ComplexNumber(expected[0][offset + j], expected[1][offset + j])
+                            .add(new ComplexNumber(xRe, xIm).multiply(new ComplexNumber(bRe[offset + j],
+                                    bIm[offset + j])));
+
+                    expected[0][offset + j] = step.getRe();
+                    expected[1][offset + j] = step.getIm();
+                }
+
+                for (ComplexKernels kernels : new ComplexKernels[] {scalar, vector}) {
+                    int[] outRe = accRe.clone();
+                    int[] outIm = accIm.clone();
+
+                    kernels.multiplyAccumulate(xRe, xIm, bRe, bIm, offset, outRe, outIm, offset, length);
+                    assertArrayEquals(expected[0], outRe, kernels.name() + " multiplyAccumulate of " + length);
+                    assertArrayEquals(expected[1], outIm, kernels.name() + " multiplyAccumulate of " + length);
+
+                    outRe = accRe.clone();
+                    outIm = accIm.clone();
+
+                    kernels.multiplyAccumulateGauss(xRe, xIm, bRe, bIm, bSum, offset, outRe, outIm, offset, length);
+                    assertArrayEquals(expected[0], outRe, kernels.name() + " Gauss of " + length);
+                    assertArrayEquals(expected[1], outIm, kernels.name() + " Gauss of " + length);
+                }
+
+                assertMultiplyAdd(accRe, accIm, bRe, bIm, xRe, xIm, offset, offset + length);
+            }
+        }
+    }
+
+    /**
+     * Checks the element-wise kernels of both implementations against {@link ComplexNumber}.
+     */
+    private void assertElementWise(int length, int[] aRe, int[] aIm, int[] bRe, int[] bIm) {
+        int[][] sum = new int[2][length];
+        int[][] difference = new int[2][length];
+        int[][] product = new int[2][length];
+        int[][] quotient = new int[2][length];
+
+        for (int i = 0; i < length; i++) {
+            ComplexNumber a = new ComplexNumber(aRe[i], aIm[i]);
+            ComplexNumber b = new ComplexNumber(bRe[i], bIm[i]);
+
+            store(sum, i, a.add(b));
+            store(difference, i, a.subtract(b));
+            store(product, i, a.multiply(b));
+            store(quotient, i, a.divide(b));
+        }
+
+        for (ComplexKernels kernels : new ComplexKernels[] {scalar, vector}) {
+            String name = kernels.name() + " on " + length + " elements";
+            int[] outRe = new int[length];
+            int[] outIm = new int[length];
+
+            kernels.add(aRe, aIm, bRe, bIm, outRe, outIm);
+            assertArrayEquals(sum[0], outRe, name);
+            assertArrayEquals(sum[1], outIm, name);
+
+            kernels.subtract(aRe, aIm, bRe, bIm, outRe, outIm);
+            assertArrayEquals(difference[0], outRe, name);
+            assertArrayEquals(difference[1], outIm, name);
+
+            kernels.multiply(aRe, aIm, bRe, bIm, outRe, outIm);
+            assertArrayEquals(product[0], outRe, name);
+            assertArrayEquals(product[1], outIm, name);
+
+            kernels.divide(aRe, aIm, bRe, bIm, outRe, outIm);
+            assertArrayEquals(quotient[0], outRe, name);
+            assertArrayEquals(quotient[1], outIm, name);
+
+            // Outputs may alias the inputs
+            int[] aliasRe = aRe.clone();
+            int[] aliasIm = aIm.clone();
+
+            kernels.multiply(aliasRe, aliasIm, bRe, bIm, aliasRe, aliasIm);
+            assertArrayEquals(product[0], aliasRe, name);
+            assertArrayEquals(product[1], aliasIm, name);
+        }
+    }
+
+    /**
+     * Checks one Horner step of both implementations against {@link ComplexNumber}.
+     */
+    private void assertMultiplyAdd(int[] accRe, int[] accIm, int[] zRe, int[] zIm, int cRe, int cIm, int from,
+                                   int to) {
+        int[] expectedRe = accRe.clone();
+        int[] expectedIm = accIm.clone();
+
+        for (int i = from; i < to; i++) {
+            ComplexNumber step = new ComplexNumber(accRe[i], accIm[i]).multiply(new ComplexNumber(zRe[i], zIm[i]))
+                    .add(new ComplexNumber(cRe, cIm));
+
+            expectedRe[i] = step.getRe();
+            expectedIm[i] = step.getIm();
+        }
+
+        for (ComplexKernels kernels : new ComplexKernels[] {scalar, vector}) {
+            int[] outRe = accRe.clone();
+            int[] outIm = accIm.clone();
+
+            kernels.multiplyAdd(outRe, outIm, zRe, zIm, cRe, cIm, from, to);
+            assertArrayEquals(expectedRe, outRe, kernels.name() + " multiplyAdd");
+            assertArrayEquals(expectedIm, outIm, kernels.name() + " multiplyAdd");
+        }
+    }
+
+    /**
+     * Returns every length up to three vector widths, so that each tail length is covered, and a long one.
+     */
+    private static int[] lengths() {
+        int lanes = IntVector.SPECIES_PREFERRED.length();
+        int[] lengths = new int[3 * lanes + 2];
+
+        for (int i = 0; i < lengths.length - 1; i++) {
+            lengths[i] = i;
+        }
+
+        lengths[lengths.length - 1] = 1000 + lanes - 1;
+
+        return lengths;
+    }
+
+    /**
+     * Generates small operands, or operands mixing small values and values whose arithmetic wraps around.
+     */
+    private int[] operands(int length, boolean wrapping) {
+        int[] operands = new int[length];
+
+        for (int i = 0; i < length; i++) {
+            operands[i] = wrapping && random.nextBoolean() ? EXTREMES[random.nextInt(EXTREMES.length)]
+                    : random.nextInt(19) - 9;
+        }
+
+        return operands;
+    }
+
+    /**
+     * Replaces the zero real parts of divisors by one; together with real parts below 65536 in absolute value, this
+     * keeps every wrapped denominator non-zero.
+     */
+    private static int[] nonZero(int[] re) {
+        for (int i = 0; i < re.length; i++) {
+            if (re[i] == 0 || Math.abs((long) re[i]) >= 65536) {
+                re[i] = re[i] < 0 ? -3 : 1;
+            }
+        }
+
+        return re;
+    }
+
+    /**
+     * Stores a complex number in the given index of a pair of part arrays.
+     */
+    private static void store(int[][] parts, int index, ComplexNumber value) {
+        parts[0][index] = value.getRe();
+        parts[1][index] = value.getIm();
+    }
+
+    /**
+     * Copies {@code int}s into a heap buffer of the given byte order, rewound to position zero.
+     */
+    private static ByteBuffer buffer(int[] values, ByteOrder order) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length * Integer.BYTES).order(order);
+
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+
+        return buffer.clear();
+    }
+}
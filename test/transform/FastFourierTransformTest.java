@@ -0,0 +1,253 @@
+package transform;
+
+import models.ComplexNumber;
+import models.DoubleComplexNumber;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks {@link FastFourierTransform} against a naive {@code O(n^2)} discrete Fourier transform, and
+ * {@link Convolution} against the direct sum of {@link ComplexNumber} products.
+ */
+class FastFourierTransformTest {
+
+    /** Seed of the random sequences, fixed so that failures are reproducible */
+    private static final long SEED = 11;
+
+    /** Relative error allowed per element, scaled by the magnitude of the sequence */
+    private static final double TOLERANCE = 1e-9;
+
+    /** Power-of-two lengths, transformed with the radix-2 algorithm */
+    private static final int[] RADIX_2_LENGTHS = {1, 2, 4, 8, 16, 64, 256, 1024};
+
+    /** Other lengths, transformed with Bluestein's algorithm, including primes and lengths next to powers of two */
+    private static final int[] BLUESTEIN_LENGTHS = {3, 5, 6, 7, 12, 15, 17, 100, 257, 1000, 1023};
+
+    private final Random random = new Random(SEED);
+
+    @Test
+    void radix2MatchesNaiveDft() {
+        for (int length : RADIX_2_LENGTHS) {
+            assertMatchesNaiveDft(length);
+        }
+    }
+
+    @Test
+    void bluesteinMatchesNaiveDft() {
+        for (int length : BLUESTEIN_LENGTHS) {
+            assertMatchesNaiveDft(length);
+        }
+    }
+
+    @Test
+    void parallelMatchesSequential() {
+        // Longer than the block size, so that the parallel transforms actually split the work
+        int[] lengths = {FastFourierTransform.BLOCK_SIZE, 4 * FastFourierTransform.BLOCK_SIZE,
+                FastFourierTransform.BLOCK_SIZE + 1, 3 * FastFourierTransform.BLOCK_SIZE - 5};
+
+        for (int length : lengths) {
+            double[] re = sequence(length);
+            double[] im = sequence(length);
+            double[] sequentialRe = re.clone();
+            double[] sequentialIm = im.clone();
+            double[] parallelRe = re.clone();
+            double[] parallelIm = im.clone();
+
+            FastFourierTransform.transform(sequentialRe, sequentialIm);
+            FastFourierTransform.transformParallel(parallelRe, parallelIm);
+            assertArrayEquals(sequentialRe, parallelRe, "forward transform of " + length);
+            assertArrayEquals(sequentialIm, parallelIm, "forward transform of " + length);
+
+            FastFourierTransform.inverseTransform(sequentialRe, sequentialIm);
+            FastFourierTransform.inverseTransformParallel(parallelRe, parallelIm);
+            assertArrayEquals(sequentialRe, parallelRe, "inverse transform of " + length);
+            assertArrayEquals(sequentialIm, parallelIm, "inverse transform of " + length);
+        }
+    }
+
+    @Test
+    void inverseUndoesForward() {
+        for (int[] lengths : new int[][] {RADIX_2_LENGTHS, BLUESTEIN_LENGTHS}) {
+            for (int length : lengths) {
+                double[] re = sequence(length);
+                double[] im = sequence(length);
+                double[] roundTripRe = re.clone();
+                double[] roundTripIm = im.clone();
+
+                FastFourierTransform.transform(roundTripRe, roundTripIm);
+                FastFourierTransform.inverseTransform(roundTripRe, roundTripIm);
+
+                assertClose(re, im, roundTripRe, roundTripIm, "round trip of " + length);
+
+                DoubleComplexNumber[] numbers = new DoubleComplexNumber[length];
+                for (int i = 0; i < length; i++) {
+                    numbers[i] = new DoubleComplexNumber(re[i], im[i]);
+                }
+
+                DoubleComplexNumber[] roundTrip = FastFourierTransform.inverseTransform(
+                        FastFourierTransform.transform(numbers));
+
+                for (int i = 0; i < length; i++) {
+                    roundTripRe[i] = roundTrip[i].getRe();
+                    roundTripIm[i] = roundTrip[i].getIm();
+                }
+
+                assertClose(re, im, roundTripRe, roundTripIm, "round trip of " + length + " numbers");
+            }
+        }
+    }
+
+    @Test
+    void integerTransformMatchesNaiveDft() {
+        for (int length : new int[] {8, 12}) {
+            ComplexNumber[] numbers = new ComplexNumber[length];
+            double[] re = new double[length];
+            double[] im = new double[length];
+
+            for (int i = 0; i < length; i++) {
+                numbers[i] = new ComplexNumber(random.nextInt(2001) - 1000, random.nextInt(2001) - 1000);
+                re[i] = numbers[i].getRe();
+                im[i] = numbers[i].getIm();
+            }
+
+            double[][] expected = naiveDft(re, im);
+            DoubleComplexNumber[] transform = FastFourierTransform.transform(numbers);
+
+            for (int i = 0; i < length; i++) {
+                re[i] = transform[i].getRe();
+                im[i] = transform[i].getIm();
+            }
+
+            assertClose(expected[0], expected[1], re, im, "transform of " + length + " integers");
+        }
+    }
+
+    @Test
+    void integerConvolutionMatchesDirectSum() {
+        // Short and long sequences, with parts small enough for the transforms and large enough to wrap around
+        int[][] lengths = {{1, 1}, {5, 40}, {33, 33}, {100, 37}, {500, 700}};
+        int[] bounds = {10, 100_000, Integer.MAX_VALUE};
+
+        for (int[] pair : lengths) {
+            for (int bound : bounds) {
+                ComplexNumber[] a = integers(pair[0], bound);
+                ComplexNumber[] b = integers(pair[1], bound);
+                ComplexNumber[] expected = new ComplexNumber[a.length + b.length - 1];
+
+                for (int k = 0; k < expected.length; k++) {
+                    expected[k] = new ComplexNumber(0, 0);
+                }
+
+                for (int i = 0; i < a.length; i++) {
+                    for (int j = 0; j < b.length; j++) {
+                        expected[i + j] = expected[i + j].add(a[i].multiply(b[j]));
+                    }
+                }
+
+                assertArrayEquals(expected, Convolution.convolve(a, b),
+                        "convolution of " + pair[0] + " by " + pair[1] + " below " + bound);
+            }
+        }
+
+        assertEquals(0, Convolution.convolve(new ComplexNumber[0], integers(3, 10)).length);
+    }
+
+    /**
+     * Checks the forward and inverse transforms of a random sequence against the naive transform.
+     */
+    private void assertMatchesNaiveDft(int length) {
+        double[] re = sequence(length);
+        double[] im = sequence(length);
+        double[][] expected = naiveDft(re, im);
+        double[] actualRe = re.clone();
+        double[] actualIm = im.clone();
+
+        FastFourierTransform.transform(actualRe, actualIm);
+        assertClose(expected[0], expected[1], actualRe, actualIm, "forward transform of " + length);
+
+        // The inverse of the transform is the conjugated transform of the conjugate, divided by the length
+        double[] conjugateIm = expected[1].clone();
+        for (int i = 0; i < length; i++) {
+            conjugateIm[i] = -conjugateIm[i];
+        }
+
+        double[][] inverse = naiveDft(expected[0], conjugateIm);
+        for (int i = 0; i < length; i++) {
+            inverse[0][i] /= length;
+            inverse[1][i] = -inverse[1][i] / length;
+        }
+
+        FastFourierTransform.inverseTransform(actualRe, actualIm);
+        assertClose(inverse[0], inverse[1], actualRe, actualIm, "inverse transform of " + length);
+    }
+
+    /**
+     * Computes the forward transform {@code X[k] = sum(x[j] * e^(-2 * pi * i * j * k / n))} directly.
+     */
+    private static double[][] naiveDft(double[] re, double[] im) {
+        int n = re.length;
+        double[][] result = new double[2][n];
+
+        for (int k = 0; k < n; k++) {
+            for (int j = 0; j < n; j++) {
+                // Reducing j * k first keeps the angle small and accurate
+                double angle = -2 * Math.PI * (((long) j * k) % n) / n;
+                double cos = Math.cos(angle);
+                double sin = Math.sin(angle);
+
+                result[0][k] += re[j] * cos - im[j] * sin;
+                result[1][k] += re[j] * sin + im[j] * cos;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that two sequences agree within the tolerance, relative to the largest part of the expected sequence.
+     */
+    private static void assertClose(double[] expectedRe, double[] expectedIm, double[] actualRe, double[] actualIm,
+                                    String message) {
+        double scale = 1;
+
+        for (int i = 0; i < expectedRe.length; i++) {
+            scale = Math.max(scale, Math.max(Math.abs(expectedRe[i]), Math.abs(expectedIm[i])));
+        }
+
+        double delta = TOLERANCE * scale;
+
+        assertArrayEquals(expectedRe, actualRe, delta, message);
+        assertArrayEquals(expectedIm, actualIm, delta, message);
+    }
+
+    /**
+     * Generates parts uniformly distributed in {@code [-1, 1)}.
+     */
+    private double[] sequence(int length) {
+        double[] values = new double[length];
+
+        for (int i = 0; i < length; i++) {
+            values[i] = 2 * random.nextDouble() - 1;
+        }
+
+        return values;
+    }
+
+    /**
+     * Generates integer complex numbers whose parts are below the given bound in magnitude.
+     */
+    private ComplexNumber[] integers(int length, int bound) {
+        ComplexNumber[] numbers = new ComplexNumber[length];
+
+        for (int i = 0; i < length; i++) {
+            numbers[i] = new ComplexNumber(random.nextInt(bound) - random.nextInt(bound),
+                    random.nextInt(bound) - random.nextInt(bound));
+        }
+
+        return numbers;
+    }
+}